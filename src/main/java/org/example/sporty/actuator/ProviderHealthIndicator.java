@@ -0,0 +1,57 @@
+package org.example.sporty.actuator;
+
+import lombok.RequiredArgsConstructor;
+import org.example.sporty.integration.CircuitBreaker;
+import org.example.sporty.integration.ProviderRouter;
+import org.example.sporty.integration.ScoreProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Health of the external providers, as seen by their circuit breakers ({@code provider} in {@code /actuator/health}).
+ *
+ * {@code UP} while every circuit is closed, {@code DEGRADED} while one is open or half-open. A provider outage is
+ * not reported as {@code DOWN}: restarting this service would not bring the provider back, and scheduling
+ * keeps running with fetches failing fast, or over to another provider.
+ * Each provider's details also show the latency and error rate averages its calls are routed by.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProviderHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Circuit breaker of a provider is not closed");
+
+    private final ProviderRouter providerRouter;
+
+    @Override
+    public Health health() {
+        boolean allClosed = true;
+        Map<String, Object> providers = new LinkedHashMap<>();
+        for (ScoreProvider provider : providerRouter.getProviders()) {
+            CircuitBreaker circuitBreaker = provider.getCircuitBreaker();
+            CircuitBreaker.State state = circuitBreaker.getState();
+            allClosed &= state == CircuitBreaker.State.CLOSED;
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("circuitBreaker", circuitBreaker.isEnabled() ? state : "DISABLED");
+            double failureRate = circuitBreaker.getFailureRate();
+            if (circuitBreaker.isEnabled() && failureRate >= 0) {
+                details.put("failureRate", failureRate);
+            }
+            double latencyMillis = provider.getLatencyMillis();
+            if (latencyMillis >= 0) {
+                details.put("latencyMillis", latencyMillis);
+                details.put("errorRate", provider.getErrorRate());
+            }
+            providers.put(provider.getName(), details);
+        }
+        return Health.status(allClosed ? Status.UP : DEGRADED)
+                .withDetails(providers)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.sporty.actuator;
+
+import lombok.RequiredArgsConstructor;
+import org.example.sporty.scheduling.TickStatistics;
+import org.example.sporty.service.EventSchedulerService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the state of the event scheduler ({@code /actuator/scheduler}).
+ *
+ * Reports scheduled and running events, scheduled events per priority tier, the overrun policy,
+ * and per-event drift and skipped-tick counters. {@code /actuator/scheduler/{eventId}} returns a single event.
+ */
+@Component
+@Endpoint(id = "scheduler")
+@RequiredArgsConstructor
+public class SchedulerEndpoint {
+
+    private final EventSchedulerService schedulerService;
+
+    @ReadOperation
+    public Map<String, Object> scheduler() {
+        Map<String, TickStatistics> events = schedulerService.getAllTickStatistics();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scheduledEvents", schedulerService.getScheduledEventCount());
+        summary.put("runningTicks", schedulerService.getRunningTickCount());
+        summary.put("tiers", schedulerService.getScheduledCountByTier());
+        summary.put("overrunPolicy", schedulerService.getOverrunPolicy());
+        summary.put("skippedTicks", events.values().stream().mapToLong(TickStatistics::skipped).sum());
+        summary.put("maxDriftMillis",
+                events.values().stream().mapToLong(TickStatistics::maxDriftMillis).max().orElse(0));
+        summary.put("events", events);
+        return summary;
+    }
+
+    @ReadOperation
+    public TickStatistics event(@Selector String eventId) {
+        // null is rendered as 404 by the actuator infrastructure
+        return schedulerService.getTickStatistics(eventId).orElse(null);
+    }
+}
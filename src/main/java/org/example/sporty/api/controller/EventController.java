@@ -14,9 +14,11 @@ import org.example.sporty.api.dto.ErrorResponse;
 import org.example.sporty.api.dto.EventStatusRequest;
 import org.example.sporty.api.dto.EventStatusResponse;
 import org.example.sporty.domain.model.Event;
+import org.example.sporty.domain.model.ScoreData;
 import org.example.sporty.service.EventManagementService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 /**
  * REST controller for managing event status updates.
@@ -71,12 +73,15 @@ public class EventController {
 
         Event event = eventManagementService.updateEventStatus(
                 request.getEventId(),
-                request.getStatus()
+                request.getStatus(),
+                request.getSport(),
+                request.getPriority()
         );
 
         EventStatusResponse response = EventStatusResponse.builder()
                 .eventId(event.getEventId())
                 .status(event.getStatus())
+                .priority(event.getPriority())
                 .lastUpdated(event.getLastUpdated())
                 .message(buildStatusMessage(event))
                 .build();
@@ -119,6 +124,7 @@ public class EventController {
                 .map(event -> EventStatusResponse.builder()
                         .eventId(event.getEventId())
                         .status(event.getStatus())
+                        .priority(event.getPriority())
                         .lastUpdated(event.getLastUpdated())
                         .message(buildStatusMessage(event))
                         .build())
@@ -126,6 +132,48 @@ public class EventController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Fetches and publishes the current score of an event immediately.
+     *
+     * @param eventId the event ID
+     * @return the published score data
+     */
+    @Operation(
+            summary = "Refresh event score",
+            description = "Fetches the current score of an event from the provider and publishes it right away. " +
+                    "If a fetch for the event is already in flight, the refresh waits for it instead of " +
+                    "calling the provider again."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Score fetched and published",
+                    content = @Content(schema = @Schema(implementation = ScoreData.class))
+            ),
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "The provider returned no score, or the call was rate limited"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Event not found"
+            )
+    })
+    @PostMapping("/{eventId}/refresh")
+    public Mono<ResponseEntity<ScoreData>> refreshEvent(
+            @Parameter(description = "ID of the event to refresh", required = true, example = "event-123")
+            @PathVariable String eventId) {
+
+        if (eventManagementService.getEvent(eventId).isEmpty()) {
+            return Mono.just(ResponseEntity.notFound().build());
+        }
+        log.info("Received refresh request for event: {}", eventId);
+
+        return eventManagementService.refreshEvent(eventId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.noContent().build());
+    }
+
     private String buildStatusMessage(Event event) {
         if (event.isLive()) {
             return "Event is now live and being tracked";
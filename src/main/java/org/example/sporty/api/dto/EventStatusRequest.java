@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.sporty.domain.model.EventStatus;
+import org.example.sporty.domain.model.PriorityTier;
 
 /**
  * Request DTO for updating event status.
@@ -31,5 +32,15 @@ public class EventStatusRequest {
             example = "live",
             allowableValues = {"live", "not_live"})
     private EventStatus status;
-}
 
+    @JsonProperty("sport")
+    @Schema(description = "Optional sport of the event; selects sport-specific polling bounds",
+            example = "football")
+    private String sport;
+
+    @JsonProperty("priority")
+    @Schema(description = "Optional priority tier; selects the polling interval and worker budget (default standard)",
+            example = "premium",
+            allowableValues = {"premium", "standard", "low"})
+    private PriorityTier priority;
+}
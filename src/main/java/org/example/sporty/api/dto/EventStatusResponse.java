@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.sporty.domain.model.EventStatus;
+import org.example.sporty.domain.model.PriorityTier;
 
 import java.time.Instant;
 
@@ -28,6 +29,10 @@ public class EventStatusResponse {
     @Schema(description = "Current status of the event", example = "live")
     private EventStatus status;
 
+    @JsonProperty("priority")
+    @Schema(description = "Priority tier of the event, if one was given", example = "premium")
+    private PriorityTier priority;
+
     @JsonProperty("lastUpdated")
     @Schema(description = "Timestamp when the event status was last updated", example = "2025-12-17T10:30:00Z")
     private Instant lastUpdated;
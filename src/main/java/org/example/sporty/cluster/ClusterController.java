@@ -0,0 +1,63 @@
+package org.example.sporty.cluster;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.Event;
+import org.example.sporty.service.EventManagementService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Node-to-node endpoints of the event sharding layer.
+ *
+ * Only reachable with the cluster's shared secret (see {@link ClusterSecretFilter}). Membership is not
+ * changed through here: it comes from the {@link MembershipSource}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/internal/cluster")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cluster.enabled", havingValue = "true")
+@Tag(name = "Cluster", description = "Internal endpoints for event ownership across instances")
+public class ClusterController {
+
+    static final String HANDOFF_PATH = "/internal/cluster/events";
+
+    private final EventManagementService eventManagementService;
+    private final EventOwnershipService ownershipService;
+    private final MembershipSource membershipSource;
+
+    /**
+     * Accepts an event handed off by another node.
+     *
+     * @param event the event
+     * @return 202 Accepted
+     */
+    @Operation(summary = "Accept an event handed off by another node")
+    @PostMapping("/events")
+    public ResponseEntity<Void> acceptHandoff(@RequestBody Event event) {
+        log.debug("Received handoff of event {} ({})", event.getEventId(), event.getStatus());
+        eventManagementService.acceptHandoff(event);
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * Describes the current membership as seen by this node.
+     *
+     * @return local node ID and members
+     */
+    @Operation(summary = "Get cluster membership as seen by this node")
+    @GetMapping("/members")
+    public Map<String, Object> getMembers() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("localNodeId", ownershipService.getLocalNodeId());
+        view.put("members", membershipSource.getMembers());
+        return view;
+    }
+}
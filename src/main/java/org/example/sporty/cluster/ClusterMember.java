@@ -0,0 +1,24 @@
+package org.example.sporty.cluster;
+
+/**
+ * A service instance taking part in event ownership.
+ *
+ * @param nodeId stable, unique node identifier
+ * @param baseUrl base URL other nodes use to hand events off to this node
+ */
+public record ClusterMember(String nodeId, String baseUrl) {
+
+    /**
+     * Parses a member from {@code nodeId=baseUrl} notation.
+     *
+     * @param definition member definition, e.g. {@code node-1=http://10.0.0.1:8080}
+     * @return the member
+     */
+    public static ClusterMember parse(String definition) {
+        int separator = definition.indexOf('=');
+        if (separator <= 0 || separator == definition.length() - 1) {
+            throw new IllegalArgumentException("Invalid cluster member (expected nodeId=baseUrl): " + definition);
+        }
+        return new ClusterMember(definition.substring(0, separator).trim(), definition.substring(separator + 1).trim());
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.sporty.cluster;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Lets through only requests carrying the cluster's shared secret in the {@value #SECRET_HEADER} header.
+ *
+ * Guards the node-to-node endpoints under {@code /internal/cluster}, which share the public port: without
+ * it anyone reaching the load balancer could inject events. Other requests get 401 Unauthorized.
+ */
+@Slf4j
+public class ClusterSecretFilter extends OncePerRequestFilter {
+
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    private final byte[] secret;
+
+    /**
+     * Creates the filter.
+     *
+     * @param secret the shared secret of the cluster members
+     */
+    public ClusterSecretFilter(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("A cluster secret (cluster.secret) is required with clustering enabled");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(SECRET_HEADER);
+        // Constant time, so the secret cannot be guessed from response times
+        if (presented == null || !MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Rejected cluster request {} {} from {}", request.getMethod(), request.getRequestURI(),
+                    request.getRemoteAddr());
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
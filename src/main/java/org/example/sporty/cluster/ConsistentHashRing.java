@@ -0,0 +1,95 @@
+package org.example.sporty.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent hash ring mapping event IDs to cluster members.
+ *
+ * Each member is placed on the ring at {@code virtualNodes} points, so that keys are spread
+ * evenly and a membership change moves only about {@code 1/n} of the keys.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, ClusterMember> ring = new TreeMap<>();
+
+    /**
+     * Builds a ring.
+     *
+     * @param members the members to place on the ring
+     * @param virtualNodes number of points per member
+     */
+    public ConsistentHashRing(Collection<ClusterMember> members, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual node count must be positive: " + virtualNodes);
+        }
+        for (ClusterMember member : members) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(member.nodeId() + "#" + i), member);
+            }
+        }
+    }
+
+    /**
+     * Finds the owner of a key.
+     *
+     * @param key the key, e.g. an event ID
+     * @return the owning member, or null if the ring is empty
+     */
+    public ClusterMember ownerOf(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, ClusterMember> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Finds the backup of a key: the member that would own it if its owner left the ring.
+     *
+     * @param key the key, e.g. an event ID
+     * @return the next member clockwise that is not the owner, or null if the ring has fewer than two members
+     */
+    public ClusterMember backupOf(String key) {
+        ClusterMember owner = ownerOf(key);
+        if (owner == null) {
+            return null;
+        }
+        long hash = hash(key);
+        for (ClusterMember member : ring.tailMap(hash, true).values()) {
+            if (!member.equals(owner)) {
+                return member;
+            }
+        }
+        for (ClusterMember member : ring.headMap(hash, false).values()) {
+            if (!member.equals(owner)) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    /**
+     * 64-bit FNV-1a followed by a murmur finalizer; stable across JVMs and releases.
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
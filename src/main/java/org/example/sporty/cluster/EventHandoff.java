@@ -0,0 +1,20 @@
+package org.example.sporty.cluster;
+
+import org.example.sporty.domain.model.Event;
+import reactor.core.publisher.Mono;
+
+/**
+ * Transfers an event to another node: to its owner, which schedules it, or to its backup, which keeps it
+ * to take the event over if the owner leaves.
+ */
+public interface EventHandoff {
+
+    /**
+     * Hands an event (its current status, sport and tier) over to a member.
+     *
+     * @param member the owning or backup member
+     * @param event the event to hand over
+     * @return Mono completing once the member acknowledged the event; an error if it could not be reached
+     */
+    Mono<Void> handOff(ClusterMember member, Event event);
+}
@@ -0,0 +1,114 @@
+package org.example.sporty.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Decides which service instance owns (polls) which event.
+ *
+ * Event IDs are consistently hashed over the active members reported by the
+ * {@link MembershipSource}. When clustering is disabled every event is owned locally.
+ * Listeners are notified after each rebalance so that ownership changes can be acted upon.
+ */
+@Slf4j
+public class EventOwnershipService {
+
+    private final boolean enabled;
+    private final String localNodeId;
+    private final int virtualNodes;
+    private final List<Runnable> rebalanceListeners = new CopyOnWriteArrayList<>();
+    private volatile ConsistentHashRing ring;
+
+    /**
+     * Creates an ownership service.
+     *
+     * @param enabled whether events are sharded across members
+     * @param localNodeId ID of this node
+     * @param virtualNodes ring points per member
+     * @param membershipSource source of the active members
+     */
+    public EventOwnershipService(boolean enabled, String localNodeId, int virtualNodes,
+                                 MembershipSource membershipSource) {
+        this.enabled = enabled;
+        this.localNodeId = localNodeId;
+        this.virtualNodes = virtualNodes;
+        this.ring = new ConsistentHashRing(membershipSource.getMembers(), virtualNodes);
+        membershipSource.addListener(this::rebalance);
+
+        if (enabled) {
+            log.info("Event sharding enabled (node: {}, members: {})", localNodeId, membershipSource.getMembers());
+        }
+    }
+
+    /**
+     * Creates an ownership service for a single node that owns every event.
+     *
+     * @return standalone ownership service
+     */
+    public static EventOwnershipService standalone() {
+        return new EventOwnershipService(false, "standalone", 1, new InMemoryMembershipSource(Set.of()));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getLocalNodeId() {
+        return localNodeId;
+    }
+
+    /**
+     * Checks whether this node owns an event.
+     *
+     * @param eventId the event ID
+     * @return true if clustering is disabled or this node owns the event; while this node
+     *         is not (yet) a member, it owns nothing
+     */
+    public boolean isLocallyOwned(String eventId) {
+        if (!enabled) {
+            return true;
+        }
+        ClusterMember owner = ring.ownerOf(eventId);
+        return owner != null && owner.nodeId().equals(localNodeId);
+    }
+
+    /**
+     * Finds the owner of an event.
+     *
+     * @param eventId the event ID
+     * @return the owning member, or null if there are no members
+     */
+    public ClusterMember ownerOf(String eventId) {
+        return ring.ownerOf(eventId);
+    }
+
+    /**
+     * Finds the backup of an event: the member that takes it over if its owner leaves.
+     *
+     * @param eventId the event ID
+     * @return the backup member, or null if clustering is disabled or there is no other member
+     */
+    public ClusterMember backupOf(String eventId) {
+        return enabled ? ring.backupOf(eventId) : null;
+    }
+
+    /**
+     * Registers a listener called after every membership change.
+     *
+     * @param listener rebalance listener
+     */
+    public void addRebalanceListener(Runnable listener) {
+        rebalanceListeners.add(listener);
+    }
+
+    private void rebalance(Set<ClusterMember> members) {
+        ring = new ConsistentHashRing(members, virtualNodes);
+        if (enabled) {
+            log.info("Rebalancing event ownership over {} members", members.size());
+            rebalanceListeners.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.sporty.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.Event;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Hands events off by posting them to the member's {@code /internal/cluster/events} endpoint.
+ *
+ * A member that cannot be reached, e.g. still starting, is retried with exponential backoff, from
+ * {@code minBackoff} up to {@code maxBackoff}, until it acknowledges the event or the handoff is cancelled.
+ * A 4xx answer is not retried. Requests carry the cluster's shared secret.
+ */
+@Slf4j
+public class HttpEventHandoff implements EventHandoff {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+
+    public HttpEventHandoff(WebClient.Builder webClientBuilder, String secret, Duration timeout,
+                            Duration minBackoff, Duration maxBackoff) {
+        this.webClient = webClientBuilder.clone()
+                .defaultHeader(ClusterSecretFilter.SECRET_HEADER, secret)
+                .build();
+        this.timeout = timeout;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    public Mono<Void> handOff(ClusterMember member, Event event) {
+        return Mono.defer(() -> {
+                    log.info("Handing event {} ({}) off to node {}",
+                            event.getEventId(), event.getStatus(), member.nodeId());
+                    return webClient.post()
+                            .uri(URI.create(member.baseUrl() + ClusterController.HANDOFF_PATH))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(event)
+                            .retrieve()
+                            .toBodilessEntity()
+                            .timeout(timeout);
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .filter(error -> !(error instanceof WebClientResponseException response
+                                && response.getStatusCode().is4xxClientError()))
+                        .doBeforeRetry(retrySignal -> log.warn("Failed to hand event {} off to node {} (attempt {}), "
+                                        + "retrying: {}", event.getEventId(), member.nodeId(),
+                                retrySignal.totalRetries() + 1, retrySignal.failure().getMessage())))
+                .doOnSuccess(response ->
+                        log.debug("Event {} handed off to node {}", event.getEventId(), member.nodeId()))
+                .then();
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.sporty.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.Event;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Hands events off to receivers registered in the same JVM; used to run several nodes in tests.
+ */
+@Slf4j
+public class InMemoryEventHandoff implements EventHandoff {
+
+    private final Map<String, Consumer<Event>> receivers = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the receiver of a node.
+     *
+     * @param nodeId the node ID
+     * @param receiver accepts events handed to the node
+     */
+    public void register(String nodeId, Consumer<Event> receiver) {
+        receivers.put(nodeId, receiver);
+    }
+
+    /**
+     * Unregisters the receiver of a node, as if it crashed: handoffs to it fail.
+     *
+     * @param nodeId the node ID
+     */
+    public void unregister(String nodeId) {
+        receivers.remove(nodeId);
+    }
+
+    @Override
+    public Mono<Void> handOff(ClusterMember member, Event event) {
+        Consumer<Event> receiver = receivers.get(member.nodeId());
+        if (receiver == null) {
+            log.warn("No receiver registered for node {}, cannot hand event {} off", member.nodeId(),
+                    event.getEventId());
+            return Mono.error(new IllegalStateException("Node " + member.nodeId() + " is unreachable"));
+        }
+        receiver.accept(Event.builder()
+                .eventId(event.getEventId())
+                .sport(event.getSport())
+                .status(event.getStatus())
+                .priority(event.getPriority())
+                .lastUpdated(event.getLastUpdated())
+                .build());
+        return Mono.empty();
+    }
+}
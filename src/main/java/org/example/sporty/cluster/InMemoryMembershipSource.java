@@ -0,0 +1,78 @@
+package org.example.sporty.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Membership held in memory and changed explicitly.
+ *
+ * Used with the static {@code cluster.members} list and, shared by several nodes, in tests.
+ */
+@Slf4j
+public class InMemoryMembershipSource implements MembershipSource {
+
+    private final List<Consumer<Set<ClusterMember>>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Set<ClusterMember> members;
+
+    public InMemoryMembershipSource(Collection<ClusterMember> initialMembers) {
+        this.members = Set.copyOf(initialMembers);
+    }
+
+    @Override
+    public Set<ClusterMember> getMembers() {
+        return members;
+    }
+
+    @Override
+    public void addListener(Consumer<Set<ClusterMember>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Adds a member.
+     *
+     * @param member the joining member
+     */
+    public synchronized void join(ClusterMember member) {
+        Set<ClusterMember> updated = new HashSet<>(members);
+        if (updated.add(member)) {
+            update(updated);
+        }
+    }
+
+    /**
+     * Removes a member.
+     *
+     * @param nodeId ID of the leaving node
+     */
+    public synchronized void leave(String nodeId) {
+        Set<ClusterMember> updated = new HashSet<>(members);
+        if (updated.removeIf(member -> member.nodeId().equals(nodeId))) {
+            update(updated);
+        }
+    }
+
+    /**
+     * Replaces the whole member set.
+     *
+     * @param newMembers the new members
+     */
+    public synchronized void setMembers(Collection<ClusterMember> newMembers) {
+        Set<ClusterMember> updated = new HashSet<>(newMembers);
+        if (!updated.equals(members)) {
+            update(updated);
+        }
+    }
+
+    private void update(Set<ClusterMember> updated) {
+        members = Set.copyOf(updated);
+        log.info("Cluster membership changed: {}", members);
+        listeners.forEach(listener -> listener.accept(members));
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.sporty.cluster;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Source of the set of active service instances.
+ *
+ * Implementations may be backed by static configuration, a service registry or an orchestrator
+ * API; provide a bean of this type to replace the default {@link InMemoryMembershipSource}.
+ */
+public interface MembershipSource {
+
+    /**
+     * Gets the currently active members.
+     *
+     * @return immutable set of members
+     */
+    Set<ClusterMember> getMembers();
+
+    /**
+     * Registers a listener notified with the new member set after every change.
+     *
+     * @param listener membership change listener
+     */
+    void addListener(Consumer<Set<ClusterMember>> listener);
+}
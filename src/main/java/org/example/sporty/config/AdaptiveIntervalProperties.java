@@ -0,0 +1,43 @@
+package org.example.sporty.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the adaptive polling interval ({@code scheduler.adaptive.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "scheduler.adaptive")
+public class AdaptiveIntervalProperties {
+
+    private boolean enabled = false;
+
+    private Duration minInterval = Duration.ofSeconds(10);
+
+    private Duration maxInterval = Duration.ofSeconds(60);
+
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * Bounds by sport, e.g. {@code scheduler.adaptive.sports.tennis.max-interval=30s}.
+     */
+    private Map<String, Bounds> sports = new HashMap<>();
+
+    /**
+     * Bounds by event ID.
+     */
+    private Map<String, Bounds> events = new HashMap<>();
+
+    /**
+     * Override of the interval bounds; unset values fall back to the defaults.
+     */
+    @Data
+    public static class Bounds {
+        private Duration minInterval;
+        private Duration maxInterval;
+    }
+}
@@ -3,15 +3,40 @@ package org.example.sporty.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.netty.channel.ChannelOption;
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.integration.CircuitBreaker;
+import org.example.sporty.integration.ProviderRouter;
+import org.example.sporty.integration.PublishPolicy;
+import org.example.sporty.integration.RateLimitPolicy;
+import org.example.sporty.integration.RequestHedger;
+import org.example.sporty.integration.ScoreChangeDetector;
+import org.example.sporty.integration.ScoreDataDecoder;
+import org.example.sporty.integration.ScoreProvider;
+import org.example.sporty.integration.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Application-wide configuration for beans and components.
  */
 @Configuration
+@EnableConfigurationProperties({
+        ProviderHttpProperties.class, ProviderRoutingProperties.class, CircuitBreakerProperties.class})
 public class AppConfig {
 
     /**
@@ -29,24 +54,117 @@ public class AppConfig {
      * Configures the WebClient builder for making HTTP requests.
      */
     @Bean
+    @Primary
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
 
     /**
-     * Configures the task scheduler for periodic event updates.
-     *
-     * @return configured thread pool task scheduler
+     * Configures the connection pool of the score provider client.
+     * Pool gauges are published as {@code reactor.netty.connection.provider.*} with {@code name=external-api}.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider providerConnectionProvider(ProviderHttpProperties properties) {
+        return ConnectionProvider.builder("external-api")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Configures the WebClient builder of the score provider client, on its own connection pool.
+     * Score responses are read by the streaming {@link ScoreDataDecoder} rather than the generic Jackson codec.
      */
     @Bean
-    public ThreadPoolTaskScheduler taskScheduler() {
-        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(10); // Adjust based on expected concurrent live events
-        scheduler.setThreadNamePrefix("event-scheduler-");
-        scheduler.setWaitForTasksToCompleteOnShutdown(true);
-        scheduler.setAwaitTerminationSeconds(30);
-        scheduler.initialize();
-        return scheduler;
+    public WebClient.Builder providerWebClientBuilder(
+            ConnectionProvider providerConnectionProvider,
+            ProviderHttpProperties properties) {
+        HttpClient httpClient = HttpClient.create(providerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis());
+        httpClient = switch (properties.getProtocol()) {
+            case HTTP1 -> httpClient.protocol(HttpProtocol.HTTP11);
+            case H2 -> httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+            case H2C -> httpClient.protocol(HttpProtocol.H2C);
+        };
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.customCodecs().register(new ScoreDataDecoder()));
+    }
+
+    /**
+     * Configures the global rate limit of external provider calls.
+     * With priority tiers, each tier's calls are capped to its provider share of the limit.
+     */
+    @Bean
+    public TokenBucketRateLimiter providerRateLimiter(
+            @Value("${external.api.rate-limit.enabled:false}") boolean enabled,
+            @Value("${external.api.rate-limit.permits-per-second:50}") double permitsPerSecond,
+            @Value("${external.api.rate-limit.burst:50}") int burst,
+            @Value("${external.api.rate-limit.policy:delay}") RateLimitPolicy policy,
+            @Value("${external.api.rate-limit.max-wait:2s}") Duration maxWait,
+            TierProperties tiers) {
+        Map<PriorityTier, Double> tierShares = new EnumMap<>(PriorityTier.class);
+        if (tiers.isEnabled()) {
+            for (PriorityTier tier : PriorityTier.values()) {
+                tierShares.put(tier, tiers.forTier(tier).getProviderShare());
+            }
+        }
+        return new TokenBucketRateLimiter(enabled, permitsPerSecond, burst, policy, maxWait, tierShares);
+    }
+
+    /**
+     * Configures the score providers, each with its own circuit breaker, and the routing of calls across them.
+     * Without {@code external.api.routing.providers}, {@code external.api.base-url} is the only provider.
+     */
+    @Bean
+    public ProviderRouter providerRouter(
+            @Qualifier("providerWebClientBuilder") WebClient.Builder webClientBuilder,
+            @Value("${external.api.base-url}") String baseUrl,
+            ProviderRoutingProperties routing,
+            CircuitBreakerProperties circuitBreaker,
+            TokenBucketRateLimiter providerRateLimiter) {
+        List<ProviderRoutingProperties.Provider> configured = routing.getProviders().isEmpty()
+                ? List.of(new ProviderRoutingProperties.Provider("external-api", baseUrl))
+                : routing.getProviders();
+        List<ScoreProvider> providers = configured.stream()
+                .map(provider -> new ScoreProvider(
+                        provider.getName(),
+                        webClientBuilder.clone().baseUrl(provider.getBaseUrl()).build(),
+                        new CircuitBreaker(provider.getName(), circuitBreaker.isEnabled(),
+                                circuitBreaker.getSlidingWindowSize(), circuitBreaker.getMinimumCalls(),
+                                circuitBreaker.getFailureRateThreshold(), circuitBreaker.getOpenDuration(),
+                                circuitBreaker.getHalfOpenProbes()),
+                        routing.getEwmaAlpha()))
+                .toList();
+        return new ProviderRouter(providers, providerRateLimiter, routing.getExploration(), routing.isRacePremium());
     }
-}
 
+    /**
+     * Configures hedging of provider score fetches.
+     */
+    @Bean
+    public RequestHedger providerRequestHedger(
+            @Value("${external.api.hedging.enabled:false}") boolean enabled,
+            @Value("${external.api.hedging.percentile:0.95}") double percentile,
+            @Value("${external.api.hedging.min-delay:20ms}") Duration minDelay,
+            @Value("${external.api.hedging.max-delay:1s}") Duration maxDelay,
+            @Value("${external.api.hedging.budget-ratio:0.1}") double budgetRatio,
+            @Value("${external.api.hedging.window-size:1000}") int windowSize) {
+        return new RequestHedger(enabled, percentile, minDelay, maxDelay, budgetRatio, windowSize);
+    }
+
+    /**
+     * Configures which fetched scores are published to Kafka.
+     */
+    @Bean
+    public ScoreChangeDetector scoreChangeDetector(
+            @Value("${kafka.publish.policy:always}") PublishPolicy policy,
+            @Value("${kafka.publish.heartbeat:60s}") Duration heartbeat) {
+        return new ScoreChangeDetector(policy, heartbeat);
+    }
+}
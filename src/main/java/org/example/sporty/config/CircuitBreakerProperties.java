@@ -0,0 +1,38 @@
+package org.example.sporty.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the circuit breaker of each score provider ({@code external.api.circuit-breaker.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "external.api.circuit-breaker")
+public class CircuitBreakerProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Number of most recent calls the failure rate is computed over.
+     */
+    private int slidingWindowSize = 20;
+
+    /**
+     * Number of calls needed in the window before the circuit may open.
+     */
+    private int minimumCalls = 10;
+
+    /**
+     * Failure rate, in percent, at which the circuit opens.
+     */
+    private double failureRateThreshold = 50;
+
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /**
+     * Number of probe calls let through while half-open.
+     */
+    private int halfOpenProbes = 3;
+}
@@ -0,0 +1,93 @@
+package org.example.sporty.config;
+
+import org.example.sporty.cluster.ClusterMember;
+import org.example.sporty.cluster.ClusterSecretFilter;
+import org.example.sporty.cluster.EventHandoff;
+import org.example.sporty.cluster.EventOwnershipService;
+import org.example.sporty.cluster.HttpEventHandoff;
+import org.example.sporty.cluster.InMemoryMembershipSource;
+import org.example.sporty.cluster.MembershipSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Configuration of event sharding across service instances.
+ *
+ * With {@code cluster.enabled=true} every event is owned by exactly one member, chosen by
+ * consistent hashing of the event ID; only the owner polls the event. Members default to the
+ * static {@code cluster.members} list ({@code nodeId=baseUrl,...}); provide a
+ * {@link MembershipSource} bean to use a registry instead. Every event is also kept by a backup member,
+ * which takes it over if the owner leaves, crashed or not.
+ */
+@Configuration
+public class ClusterConfig {
+
+    /**
+     * Configures the default membership source from the static member list.
+     *
+     * @return in-memory membership source
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MembershipSource membershipSource(@Value("${cluster.members:}") String members) {
+        List<ClusterMember> initialMembers = Arrays.stream(members.split(","))
+                .map(String::trim)
+                .filter(member -> !member.isEmpty())
+                .map(ClusterMember::parse)
+                .toList();
+        return new InMemoryMembershipSource(initialMembers);
+    }
+
+    /**
+     * Configures event ownership; every event is owned locally unless clustering is enabled.
+     *
+     * @return event ownership service
+     */
+    @Bean
+    public EventOwnershipService eventOwnershipService(
+            @Value("${cluster.enabled:false}") boolean enabled,
+            @Value("${cluster.node-id:node-1}") String nodeId,
+            @Value("${cluster.virtual-nodes:128}") int virtualNodes,
+            MembershipSource membershipSource) {
+        return new EventOwnershipService(enabled, nodeId, virtualNodes, membershipSource);
+    }
+
+    /**
+     * Configures how events are handed to their owner.
+     *
+     * @return HTTP event handoff
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public EventHandoff eventHandoff(
+            WebClient.Builder webClientBuilder,
+            @Value("${cluster.secret:}") String secret,
+            @Value("${cluster.handoff.timeout:5s}") Duration timeout,
+            @Value("${cluster.handoff.min-backoff:500ms}") Duration minBackoff,
+            @Value("${cluster.handoff.max-backoff:30s}") Duration maxBackoff) {
+        return new HttpEventHandoff(webClientBuilder, secret, timeout, minBackoff, maxBackoff);
+    }
+
+    /**
+     * Guards the node-to-node endpoints with the cluster's shared secret; clustering does not start without one.
+     *
+     * @return filter registration for {@code /internal/cluster/*}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cluster.enabled", havingValue = "true")
+    public FilterRegistrationBean<ClusterSecretFilter> clusterSecretFilter(@Value("${cluster.secret:}") String secret) {
+        FilterRegistrationBean<ClusterSecretFilter> registration =
+                new FilterRegistrationBean<>(new ClusterSecretFilter(secret));
+        registration.addUrlPatterns("/internal/cluster/*");
+        return registration;
+    }
+}
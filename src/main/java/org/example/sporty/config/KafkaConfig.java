@@ -1,23 +1,41 @@
 package org.example.sporty.config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.example.sporty.integration.InFlightWindow;
+import org.example.sporty.integration.PublishMode;
+import org.example.sporty.integration.SpillOutbox;
+import org.example.sporty.integration.TransactionalPublishBatcher;
+import org.example.sporty.persistence.SpillLog;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.util.unit.DataSize;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.OptionalInt;
 
 /**
  * Kafka configuration for producers and topics.
  */
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(KafkaProducerProperties.class)
 public class KafkaConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
@@ -33,14 +51,37 @@ public class KafkaConfig {
     private int replicationFactor;
 
     /**
-     * Configures the Kafka producer factory.
+     * Configures the Kafka producer factory, with the producer profile of the score updates topic.
+     * Values are already serialized by the publisher, as JSON or binary (see {@code kafka.publish.format}).
+     * In transactional publish mode, the producers are transactional.
      */
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    public ProducerFactory<String, byte[]> producerFactory(
+            KafkaProducerProperties producerProperties,
+            @Value("${kafka.publish.mode:sync}") PublishMode mode,
+            @Value("${kafka.publish.transaction.id-prefix:sporty-tx-}") String transactionIdPrefix) {
+        ProducerProfile profile = producerProperties.forTopic(scoreUpdatesTopic);
+        log.info("Publishing to topic {} with producer profile {}", scoreUpdatesTopic, profile);
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory =
+                new DefaultKafkaProducerFactory<>(producerConfig(bootstrapServers, profile));
+        if (mode == PublishMode.TRANSACTIONAL) {
+            producerFactory.setTransactionIdPrefix(transactionIdPrefix);
+        }
+        return producerFactory;
+    }
+
+    /**
+     * Builds the configuration of a score producer.
+     *
+     * @param bootstrapServers the Kafka bootstrap servers
+     * @param profile the compression and batching profile
+     * @return the producer configuration
+     */
+    public static Map<String, Object> producerConfig(String bootstrapServers, ProducerProfile profile) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
 
         // Performance and reliability settings
         configProps.put(ProducerConfig.ACKS_CONFIG, "all"); // Required for idempotent producer
@@ -49,19 +90,105 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
 
-        // Batching for better performance
-        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 10);
-        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
+        // Compression and batching
+        profile.applyTo(configProps);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        return configProps;
     }
 
     /**
      * Creates the Kafka template for sending messages.
      */
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * Creates the in-flight window bounding unacknowledged score records per partition in async and
+     * transactional publish modes, sized to the partitions the score topic has on the broker. If the broker
+     * cannot be reached, the window starts with {@code kafka.topic.partitions} rather than keep the
+     * application (and its spill outbox) from starting; the count is read again every
+     * {@code kafka.publish.partition-refresh-interval} and the window resized to it.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public InFlightWindow publishInFlightWindow(
+            KafkaAdmin kafkaAdmin,
+            NewTopic scoreUpdatesTopic,
+            @Value("${kafka.publish.mode:sync}") PublishMode mode,
+            @Value("${kafka.publish.in-flight-per-partition:32}") int inFlightPerPartition,
+            @Value("${kafka.publish.partition-refresh-interval:1m}") Duration partitionRefreshInterval) {
+        if (mode == PublishMode.SYNC) {
+            return InFlightWindow.disabled();
+        }
+        String topic = scoreUpdatesTopic.name();
+        int configured = scoreUpdatesTopic.numPartitions();
+        OptionalInt onBroker = brokerPartitions(kafkaAdmin, scoreUpdatesTopic);
+        if (onBroker.isEmpty()) {
+            log.warn("Cannot read the partitions of topic {}; the in-flight window uses the {} configured until "
+                    + "the broker is reachable", topic, configured);
+        } else if (onBroker.getAsInt() != configured) {
+            log.warn("Topic {} has {} partitions, not the {} configured; the in-flight window uses {}",
+                    topic, onBroker.getAsInt(), configured, onBroker.getAsInt());
+        }
+        InFlightWindow window = new InFlightWindow(onBroker.orElse(configured), inFlightPerPartition);
+        window.startRefreshing(() -> brokerPartitions(kafkaAdmin, scoreUpdatesTopic), partitionRefreshInterval);
+        return window;
+    }
+
+    /**
+     * Gets the partition count of a topic on the broker, creating the topic first if it does not exist yet.
+     * The producer picks partitions over this count, whatever {@code kafka.topic.partitions} says; a topic
+     * created elsewhere may have more.
+     *
+     * @param kafkaAdmin the Kafka admin
+     * @param topic the topic, with its configured partition count
+     * @return the partition count on the broker, empty if the broker cannot be reached
+     */
+    static OptionalInt brokerPartitions(KafkaAdmin kafkaAdmin, NewTopic topic) {
+        try {
+            kafkaAdmin.createOrModifyTopics(topic);
+            TopicDescription description = kafkaAdmin.describeTopics(topic.name()).get(topic.name());
+            return OptionalInt.of(description.partitions().size());
+        } catch (KafkaException e) {
+            log.debug("Cannot read the partitions of topic {}: {}", topic.name(), e.getMessage());
+            return OptionalInt.empty();
+        }
+    }
+
+    /**
+     * Creates the batcher committing the score records of a time window in one transaction,
+     * in transactional publish mode.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public TransactionalPublishBatcher transactionalPublishBatcher(
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            @Value("${kafka.publish.mode:sync}") PublishMode mode,
+            @Value("${kafka.publish.transaction.max-records:500}") int maxRecords,
+            @Value("${kafka.publish.transaction.window:20ms}") Duration window) {
+        return mode == PublishMode.TRANSACTIONAL
+                ? new TransactionalPublishBatcher(kafkaTemplate, maxRecords, window)
+                : TransactionalPublishBatcher.disabled();
+    }
+
+    /**
+     * Creates the outbox spilling score records Kafka did not take to disk, when enabled.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public SpillOutbox spillOutbox(
+            @Value("${kafka.publish.spill.enabled:false}") boolean enabled,
+            @Value("${kafka.publish.spill.directory:./data/spill}") Path directory,
+            @Value("${kafka.publish.spill.segment-size:4MB}") DataSize segmentSize,
+            @Value("${kafka.publish.spill.max-segments:16}") int maxSegments,
+            @Value("${kafka.publish.spill.drop-policy:drop-oldest}") SpillLog.DropPolicy dropPolicy,
+            @Value("${kafka.publish.spill.drain-batch-size:500}") int drainBatchSize,
+            @Value("${kafka.publish.spill.drain-interval:1s}") Duration drainInterval,
+            @Value("${kafka.publish.timeout:5000}") long publishTimeoutMillis) throws IOException {
+        if (!enabled) {
+            return SpillOutbox.disabled();
+        }
+        SpillLog spillLog = new SpillLog(directory, (int) segmentSize.toBytes(), maxSegments, dropPolicy, false);
+        return new SpillOutbox(spillLog, drainBatchSize, drainInterval, Duration.ofMillis(publishTimeoutMillis));
     }
 
     /**
@@ -0,0 +1,35 @@
+package org.example.sporty.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Producer profile of each topic ({@code kafka.producer.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "kafka.producer")
+public class KafkaProducerProperties {
+
+    /**
+     * Profile of the topics not listed in {@link #topics}.
+     */
+    private ProducerProfile profile = ProducerProfile.BALANCED;
+
+    /**
+     * Profile by topic name.
+     */
+    private Map<String, ProducerProfile> topics = new HashMap<>();
+
+    /**
+     * Gets the profile of the producer publishing to a topic.
+     *
+     * @param topic the topic name
+     * @return the topic's profile, or the default one
+     */
+    public ProducerProfile forTopic(String topic) {
+        return topics.getOrDefault(topic, profile);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.sporty.config;
+
+import org.example.sporty.persistence.EventStateRestorer;
+import org.example.sporty.persistence.EventStateStore;
+import org.example.sporty.persistence.MappedEventStateStore;
+import org.example.sporty.service.EventManagementService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration of event state persistence (warm restart).
+ *
+ * With {@code persistence.enabled=true} event state is kept in a snapshot plus memory-mapped
+ * journal under {@code persistence.directory}, and live events are re-armed on startup.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    /**
+     * Configures the on-disk event state store.
+     *
+     * @return memory-mapped event state store
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "persistence.enabled", havingValue = "true")
+    public MappedEventStateStore mappedEventStateStore(
+            @Value("${persistence.directory:./data}") Path directory,
+            @Value("${persistence.journal-size:16MB}") DataSize journalSize,
+            @Value("${persistence.force-on-write:false}") boolean forceOnWrite) throws IOException {
+        return new MappedEventStateStore(directory, (int) journalSize.toBytes(), forceOnWrite);
+    }
+
+    /**
+     * Configures a store that keeps nothing when persistence is disabled.
+     *
+     * @return no-op event state store
+     */
+    @Bean
+    @ConditionalOnProperty(name = "persistence.enabled", havingValue = "false", matchIfMissing = true)
+    public EventStateStore eventStateStore() {
+        return EventStateStore.noop();
+    }
+
+    /**
+     * Restores the saved event state on startup.
+     *
+     * @return event state restorer
+     */
+    @Bean
+    @ConditionalOnProperty(name = "persistence.enabled", havingValue = "true")
+    public EventStateRestorer eventStateRestorer(EventStateStore stateStore,
+                                                 EventManagementService eventManagementService) {
+        return new EventStateRestorer(stateStore, eventManagementService);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.sporty.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Map;
+
+/**
+ * Named compression and batching settings of a Kafka producer, chosen per topic
+ * ({@code kafka.producer.*}).
+ *
+ * Score records are small, repetitive and published in bursts when many events tick together:
+ * a batch compresses well, and a longer linger fills bigger batches at the cost of latency.
+ */
+public enum ProducerProfile {
+
+    /**
+     * Sends as soon as the sender thread is free; lz4 keeps the compression cost under the network time.
+     */
+    LOW_LATENCY("lz4", 16 * 1024, 0, 32 * 1024 * 1024),
+
+    /**
+     * Waits up to 10ms for a burst to fill a batch.
+     */
+    BALANCED("lz4", 64 * 1024, 10, 32 * 1024 * 1024),
+
+    /**
+     * Large batches with the best compression ratio, for replays and backfills.
+     */
+    MAX_THROUGHPUT("zstd", 256 * 1024, 50, 64 * 1024 * 1024);
+
+    private final String compressionType;
+    private final int batchSize;
+    private final int lingerMs;
+    private final long bufferMemory;
+
+    ProducerProfile(String compressionType, int batchSize, int lingerMs, long bufferMemory) {
+        this.compressionType = compressionType;
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+        this.bufferMemory = bufferMemory;
+    }
+
+    public String getCompressionType() {
+        return compressionType;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getLingerMs() {
+        return lingerMs;
+    }
+
+    public long getBufferMemory() {
+        return bufferMemory;
+    }
+
+    /**
+     * Puts the profile's settings into a producer configuration.
+     *
+     * @param configProps the producer configuration
+     */
+    public void applyTo(Map<String, Object> configProps) {
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+    }
+}
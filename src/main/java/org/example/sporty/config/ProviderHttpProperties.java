@@ -0,0 +1,69 @@
+package org.example.sporty.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and protocol of the HTTP client calling the score provider ({@code external.api.http.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "external.api.http")
+public class ProviderHttpProperties {
+
+    private Protocol protocol = Protocol.HTTP1;
+
+    /**
+     * Maximum number of pooled connections (with HTTP/2, each carries many concurrent streams).
+     */
+    private int maxConnections = 50;
+
+    /**
+     * Maximum number of requests waiting for a connection; further requests fail at once.
+     */
+    private int pendingAcquireMaxCount = 500;
+
+    /**
+     * Longest a request waits for a connection.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Idle connections are closed after this time.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Connections are closed after this age, so load balancer changes are picked up.
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /**
+     * How often idle and expired connections are evicted in the background.
+     */
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    /**
+     * Wire protocol used towards the provider.
+     */
+    public enum Protocol {
+
+        /**
+         * HTTP/1.1, one request per connection at a time.
+         */
+        HTTP1,
+
+        /**
+         * HTTP/2 over TLS, negotiated with ALPN (falls back to HTTP/1.1); requires an https base URL.
+         */
+        H2,
+
+        /**
+         * HTTP/2 over plain text, with prior knowledge.
+         */
+        H2C
+    }
+}
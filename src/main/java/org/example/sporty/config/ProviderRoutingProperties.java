@@ -0,0 +1,48 @@
+package org.example.sporty.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Score providers and how calls are routed across them ({@code external.api.routing.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "external.api.routing")
+public class ProviderRoutingProperties {
+
+    /**
+     * The provider and its mirrors; when empty, {@code external.api.base-url} is the only provider.
+     */
+    private List<Provider> providers = new ArrayList<>();
+
+    /**
+     * Weight, between 0 and 1, of each new call in a provider's latency and error rate averages.
+     */
+    private double ewmaAlpha = 0.2;
+
+    /**
+     * Share of calls sent to a random provider first, so the averages of the others stay current.
+     */
+    private double exploration = 0.05;
+
+    /**
+     * Whether fetches of premium events are sent to all providers at once, the first valid answer winning.
+     */
+    private boolean racePremium = false;
+
+    /**
+     * Name and base URL of one provider.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Provider {
+        private String name;
+        private String baseUrl;
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.sporty.config;
+
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.scheduling.AdaptiveIntervalPolicy;
+import org.example.sporty.scheduling.ExecutionMode;
+import org.example.sporty.scheduling.HashedWheelTaskScheduler;
+import org.example.sporty.scheduling.PhaseAssigner;
+import org.example.sporty.scheduling.PhaseStrategy;
+import org.example.sporty.scheduling.PlatformTickExecutor;
+import org.example.sporty.scheduling.ReactiveTickExecutor;
+import org.example.sporty.scheduling.TickExecutor;
+import org.example.sporty.scheduling.TierBudgets;
+import org.example.sporty.scheduling.TickMetrics;
+import org.example.sporty.scheduling.VirtualThreadTickExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration of the scheduling backend used for periodic event updates.
+ *
+ * The backend is selected with {@code scheduler.backend}:
+ * <ul>
+ *   <li>{@code thread-pool} (default) - Spring's {@link ThreadPoolTaskScheduler}</li>
+ *   <li>{@code timing-wheel} - {@link HashedWheelTaskScheduler}, suited for very large numbers of live events</li>
+ * </ul>
+ *
+ * Independently, {@code scheduler.execution-mode} decides where each tick runs: on the backend's
+ * own threads ({@code platform}), on a virtual thread per tick ({@code virtual}), or not at all:
+ * in {@code reactive} mode the scheduler thread only subscribes to a non-blocking pipeline.
+ * With {@code scheduler.tiers.enabled=true} each priority tier gets its own executor of that kind
+ * (in {@code reactive} mode, a cap on the tier's pipelines in flight).
+ */
+@Configuration
+@EnableConfigurationProperties({AdaptiveIntervalProperties.class, TierProperties.class})
+public class SchedulerConfig {
+
+    @Value("${scheduler.pool-size:10}")
+    private int poolSize;
+
+    /**
+     * Configures the task scheduler for periodic event updates.
+     *
+     * @return configured thread pool task scheduler
+     */
+    @Bean(name = "taskScheduler")
+    @ConditionalOnProperty(name = "scheduler.backend", havingValue = "thread-pool", matchIfMissing = true)
+    public ThreadPoolTaskScheduler threadPoolTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize); // Adjust based on expected concurrent live events
+        scheduler.setThreadNamePrefix("event-scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * Configures the hashed timing wheel scheduler: one ticker thread plus a fixed worker pool.
+     *
+     * @return timing wheel task scheduler
+     */
+    @Bean(name = "taskScheduler", destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "scheduler.backend", havingValue = "timing-wheel")
+    public HashedWheelTaskScheduler timingWheelTaskScheduler(
+            @Value("${scheduler.timing-wheel.tick-duration:100ms}") Duration tickDuration,
+            @Value("${scheduler.timing-wheel.ticks-per-wheel:512}") int ticksPerWheel) {
+        return new HashedWheelTaskScheduler(
+                tickDuration,
+                ticksPerWheel,
+                Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("event-wheel-worker-")),
+                "event-wheel-ticker");
+    }
+
+    /**
+     * Configures where scheduled ticks are executed.
+     *
+     * @return tick executor for the configured execution mode
+     */
+    @Bean
+    public TickExecutor tickExecutor(
+            @Value("${scheduler.execution-mode:platform}") ExecutionMode executionMode,
+            @Value("${scheduler.virtual.max-concurrency:1000}") int maxConcurrency) {
+        if (executionMode == ExecutionMode.VIRTUAL) {
+            return new VirtualThreadTickExecutor(maxConcurrency, "event-tick-");
+        }
+        // Platform ticks run inline; reactive ticks only subscribe, which is cheap enough to do inline
+        return TickExecutor.callerRuns();
+    }
+
+    /**
+     * Configures how first-fire offsets are spread across the fetch interval.
+     *
+     * @return phase assigner for the configured strategy
+     */
+    @Bean
+    public PhaseAssigner phaseAssigner(
+            @Value("${scheduler.phase.strategy:none}") PhaseStrategy strategy,
+            @Value("${scheduler.phase.slots:20}") int slots) {
+        return new PhaseAssigner(strategy, slots);
+    }
+
+    /**
+     * Configures the adaptive polling interval policy.
+     *
+     * @return adaptive interval policy (disabled unless {@code scheduler.adaptive.enabled=true})
+     */
+    @Bean
+    public AdaptiveIntervalPolicy adaptiveIntervalPolicy(AdaptiveIntervalProperties properties) {
+        AdaptiveIntervalPolicy.Bounds defaults =
+                new AdaptiveIntervalPolicy.Bounds(properties.getMinInterval(), properties.getMaxInterval());
+        return new AdaptiveIntervalPolicy(
+                properties.isEnabled(),
+                defaults,
+                properties.getBackoffMultiplier(),
+                toBounds(properties.getSports(), defaults, true),
+                toBounds(properties.getEvents(), defaults, false));
+    }
+
+    /**
+     * Configures the per-tier polling intervals and worker budgets.
+     *
+     * @return tier budgets (disabled unless {@code scheduler.tiers.enabled=true})
+     */
+    @Bean(destroyMethod = "shutdown")
+    public TierBudgets tierBudgets(
+            TierProperties properties,
+            @Value("${scheduler.execution-mode:platform}") ExecutionMode executionMode) {
+        if (!properties.isEnabled()) {
+            return TierBudgets.disabled();
+        }
+        Map<PriorityTier, TierBudgets.Budget> budgets = new EnumMap<>(PriorityTier.class);
+        for (PriorityTier tier : PriorityTier.values()) {
+            TierProperties.Tier settings = properties.forTier(tier);
+            String prefix = "event-tick-" + tier.getValue() + "-";
+            TickExecutor executor = switch (executionMode) {
+                case VIRTUAL -> new VirtualThreadTickExecutor(settings.getMaxConcurrency(), prefix);
+                case PLATFORM -> new PlatformTickExecutor(settings.getMaxConcurrency(), prefix);
+                // No workers to budget: the tier caps its pipelines in flight instead
+                case REACTIVE -> new ReactiveTickExecutor(settings.getMaxConcurrency());
+            };
+            budgets.put(tier, new TierBudgets.Budget(settings.getInterval(), executor));
+        }
+        return new TierBudgets(budgets);
+    }
+
+    /**
+     * Publishes tick drift and skipped ticks as Micrometer metrics.
+     *
+     * @return tick metrics listener
+     */
+    @Bean
+    public TickMetrics tickMetrics() {
+        return new TickMetrics();
+    }
+
+    private static Map<String, AdaptiveIntervalPolicy.Bounds> toBounds(
+            Map<String, AdaptiveIntervalProperties.Bounds> overrides,
+            AdaptiveIntervalPolicy.Bounds defaults,
+            boolean lowerCaseKeys) {
+        Map<String, AdaptiveIntervalPolicy.Bounds> bounds = new HashMap<>();
+        overrides.forEach((key, override) -> bounds.put(
+                lowerCaseKeys ? key.toLowerCase() : key,
+                new AdaptiveIntervalPolicy.Bounds(
+                        override.getMinInterval() != null ? override.getMinInterval() : defaults.min(),
+                        override.getMaxInterval() != null ? override.getMaxInterval() : defaults.max())));
+        return bounds;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.sporty.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.sporty.domain.model.PriorityTier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the priority tiers ({@code scheduler.tiers.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "scheduler.tiers")
+public class TierProperties {
+
+    private boolean enabled = false;
+
+    private Tier premium = new Tier(Duration.ofSeconds(2), 20, 1.0);
+
+    private Tier standard = new Tier(Duration.ofSeconds(10), 10, 0.5);
+
+    private Tier low = new Tier(Duration.ofSeconds(30), 4, 0.2);
+
+    /**
+     * Gets the settings of a tier.
+     *
+     * @param tier the tier
+     * @return its settings
+     */
+    public Tier forTier(PriorityTier tier) {
+        return switch (tier) {
+            case PREMIUM -> premium;
+            case STANDARD -> standard;
+            case LOW -> low;
+        };
+    }
+
+    /**
+     * Polling interval, worker budget and provider share of one tier.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tier {
+        private Duration interval;
+        /**
+         * Maximum number of the tier's ticks executing at the same time (threads in platform mode,
+         * pipelines in flight in reactive mode).
+         */
+        private int maxConcurrency;
+        /**
+         * Most of the provider rate limit the tier's calls may take, between 0 and 1.
+         */
+        private double providerShare;
+    }
+}
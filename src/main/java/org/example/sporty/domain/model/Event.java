@@ -1,5 +1,6 @@
 package org.example.sporty.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,9 +18,12 @@ import java.time.Instant;
 public class Event {
 
     private String eventId;
+    private String sport;
+    private PriorityTier priority;
     private EventStatus status;
     private Instant lastUpdated;
 
+    @JsonIgnore
     public boolean isLive() {
         return status != null && status.isLive();
     }
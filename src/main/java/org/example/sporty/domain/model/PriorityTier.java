@@ -0,0 +1,44 @@
+package org.example.sporty.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Priority tier of a sports event; decides how often it is polled and which worker budget it uses.
+ */
+public enum PriorityTier {
+    PREMIUM("premium"),
+    STANDARD("standard"),
+    LOW("low");
+
+    private final String value;
+
+    PriorityTier(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    @JsonCreator
+    public static PriorityTier fromValue(String value) {
+        for (PriorityTier tier : PriorityTier.values()) {
+            if (tier.value.equalsIgnoreCase(value) || tier.name().equalsIgnoreCase(value)) {
+                return tier;
+            }
+        }
+        throw new IllegalArgumentException("Invalid priority tier: " + value);
+    }
+
+    /**
+     * Resolves an optional tier.
+     *
+     * @param tier the tier, may be null
+     * @return the tier, or {@link #STANDARD} if none was given
+     */
+    public static PriorityTier orDefault(PriorityTier tier) {
+        return tier != null ? tier : STANDARD;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.sporty.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,5 +28,12 @@ public class ScoreData {
      * Timestamp when the data was fetched (added by our service)
      */
     private Instant timestamp;
+
+    /**
+     * True if the provider answered 304 Not Modified: the score is the last one received for the event
+     * (set by our service, never serialized)
+     */
+    @JsonIgnore
+    private boolean notModified;
 }
 
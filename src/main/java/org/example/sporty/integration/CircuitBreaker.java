@@ -0,0 +1,311 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker in front of one provider.
+ *
+ * <ul>
+ *   <li>{@code CLOSED} - calls go through; the outcomes of the last {@code windowSize} calls are kept,
+ *       and once at least {@code minimumCalls} are known and {@code failureRateThreshold} percent of them
+ *       failed, the circuit opens</li>
+ *   <li>{@code OPEN} - calls fail at once with {@link CircuitOpenException}, without a connection,
+ *       timeout or retry; after {@code openDuration} the circuit turns half-open</li>
+ *   <li>{@code HALF_OPEN} - at most {@code halfOpenProbes} calls go through as probes; one failed probe
+ *       opens the circuit again, {@code halfOpenProbes} successful ones close it</li>
+ * </ul>
+ *
+ * A call counts as failed if it errors, except when it was rejected on our side
+ * ({@link ProviderCallRejectedException}) or the provider answered with a 4xx: neither says the
+ * provider is unhealthy. An outcome arriving after the state changed is not counted.
+ *
+ * <ul>
+ *   <li>{@code external.api.circuit.state} - gauge per state, 1 for the current one</li>
+ *   <li>{@code external.api.circuit.transitions} - counter of transitions, tagged with the new state</li>
+ *   <li>{@code external.api.circuit.rejected} - counter of calls refused while open</li>
+ * </ul>
+ */
+@Slf4j
+public class CircuitBreaker implements MeterBinder {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        FAILURE,
+        IGNORED
+    }
+
+    private record Permit(long generation) {
+    }
+
+    private final String name;
+    private final boolean enabled;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Outcomes of the last calls while closed (true = failed), as a ring buffer.
+     */
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCalls;
+    private int windowFailures;
+
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    /**
+     * Incremented on every transition; outcomes of calls permitted in an earlier state are dropped.
+     */
+    private long generation;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+    private volatile Counter rejected;
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param name name of the provider, used in logs and metric tags
+     * @param enabled whether calls are protected at all
+     * @param windowSize number of most recent calls the failure rate is computed over
+     * @param minimumCalls number of calls needed in the window before the circuit may open
+     * @param failureRateThreshold failure rate, in percent, at which the circuit opens
+     * @param openDuration how long the circuit stays open before probing
+     * @param halfOpenProbes number of probe calls let through while half-open
+     */
+    public CircuitBreaker(String name, boolean enabled, int windowSize, int minimumCalls,
+                          double failureRateThreshold, Duration openDuration, int halfOpenProbes) {
+        this(name, enabled, windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenProbes,
+                System::nanoTime);
+    }
+
+    CircuitBreaker(String name, boolean enabled, int windowSize, int minimumCalls,
+                   double failureRateThreshold, Duration openDuration, int halfOpenProbes, LongSupplier nanoClock) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenProbes <= 0) {
+            throw new IllegalArgumentException("Invalid circuit breaker window: size " + windowSize
+                    + ", minimum calls " + minimumCalls + ", probes " + halfOpenProbes);
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("Failure rate threshold must be in (0, 100]: " + failureRateThreshold);
+        }
+        this.name = name;
+        this.enabled = enabled;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+        this.nanoClock = nanoClock;
+
+        if (enabled) {
+            log.info("Circuit breaker of provider {}: opens at {}% failures of the last {} calls, open for {}",
+                    name, failureRateThreshold, windowSize, openDuration);
+        }
+    }
+
+    /**
+     * Creates a circuit breaker that never opens.
+     *
+     * @param name name of the provider
+     * @return disabled circuit breaker
+     */
+    public static CircuitBreaker disabled(String name) {
+        return new CircuitBreaker(name, false, 1, 1, 100, Duration.ZERO, 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the failure rate over the calls currently in the window.
+     *
+     * @return failure rate in percent, or -1 if fewer than the minimum number of calls are known
+     */
+    public synchronized double getFailureRate() {
+        return windowCalls < minimumCalls ? -1 : windowFailures * 100.0 / windowCalls;
+    }
+
+    /**
+     * Makes every subscription to {@code call} ask the circuit for permission first.
+     * Each subscription is one outcome: retries wrapped inside {@code call} count together with it.
+     *
+     * @param call the provider call
+     * @param <T> the result type
+     * @return the call, or a {@link CircuitOpenException} while the circuit is open
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            Permit permit = acquirePermission();
+            if (permit == null) {
+                Counter counter = rejected;
+                if (counter != null) {
+                    counter.increment();
+                }
+                return Mono.error(new CircuitOpenException(name));
+            }
+            AtomicBoolean recorded = new AtomicBoolean();
+            return call
+                    .doOnSuccess(result -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            record(permit, Outcome.SUCCESS);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            record(permit, isFailure(error) ? Outcome.FAILURE : Outcome.IGNORED);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            record(permit, Outcome.IGNORED);
+                        }
+                    });
+        });
+    }
+
+    private Permit acquirePermission() {
+        // Fast path while open: no lock
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt < openNanos) {
+            return null;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return null;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                    return null;
+                }
+                probesInFlight++;
+            }
+            return new Permit(generation);
+        }
+    }
+
+    private synchronized void record(Permit permit, Outcome outcome) {
+        if (permit.generation() != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (outcome == Outcome.FAILURE) {
+                transitionTo(State.OPEN);
+            } else if (outcome == Outcome.SUCCESS && ++probeSuccesses >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED && outcome != Outcome.IGNORED) {
+            boolean failed = outcome == Outcome.FAILURE;
+            if (windowCalls == window.length) {
+                windowFailures -= window[windowNext] ? 1 : 0;
+            } else {
+                windowCalls++;
+            }
+            window[windowNext] = failed;
+            windowFailures += failed ? 1 : 0;
+            windowNext = (windowNext + 1) % window.length;
+
+            if (windowCalls >= minimumCalls && windowFailures * 100.0 / windowCalls >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void transitionTo(State newState) {
+        State previous = state;
+        generation++;
+        switch (newState) {
+            case OPEN -> openedAt = nanoClock.getAsLong();
+            case HALF_OPEN -> {
+                probesInFlight = 0;
+                probeSuccesses = 0;
+            }
+            case CLOSED -> {
+                windowNext = 0;
+                windowCalls = 0;
+                windowFailures = 0;
+            }
+        }
+        state = newState;
+
+        if (newState == State.OPEN) {
+            log.warn("Circuit breaker of provider {} opened (was {}): failing fetches fast for {} ms",
+                    name, previous, openNanos / 1_000_000);
+        } else {
+            log.info("Circuit breaker of provider {} is now {} (was {})", name, newState, previous);
+        }
+        Counter counter = transitions.get(newState);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Whether an error of a provider call says the provider is unhealthy.
+     */
+    static boolean isFailure(Throwable error) {
+        Throwable cause = Exceptions.isRetryExhausted(error) ? error.getCause() : error;
+        if (cause instanceof ProviderCallRejectedException) {
+            return false;
+        }
+        return !(cause instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        for (State s : State.values()) {
+            Gauge.builder("external.api.circuit.state", this, breaker -> breaker.getState() == s ? 1 : 0)
+                    .description("Circuit breaker state of the provider (1 for the current state)")
+                    .tag("provider", name)
+                    .tag("state", s.name().toLowerCase())
+                    .register(registry);
+            transitions.put(s, Counter.builder("external.api.circuit.transitions")
+                    .description("Circuit breaker state transitions of the provider")
+                    .tag("provider", name)
+                    .tag("state", s.name().toLowerCase())
+                    .register(registry));
+        }
+        rejected = Counter.builder("external.api.circuit.rejected")
+                .description("Provider calls refused while the circuit was open")
+                .tag("provider", name)
+                .register(registry);
+    }
+}
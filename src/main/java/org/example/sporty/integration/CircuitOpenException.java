@@ -0,0 +1,11 @@
+package org.example.sporty.integration;
+
+/**
+ * Raised when a provider call is refused because the provider's {@link CircuitBreaker} is open.
+ */
+public class CircuitOpenException extends ProviderCallRejectedException {
+
+    public CircuitOpenException(String provider) {
+        super("Circuit breaker of provider " + provider + " is open");
+    }
+}
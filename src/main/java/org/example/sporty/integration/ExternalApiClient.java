@@ -1,28 +1,77 @@
 package org.example.sporty.integration;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.PriorityTier;
 import org.example.sporty.domain.model.ScoreData;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Client for calling external REST APIs to fetch event score data.
  *
- * Uses WebClient for non-blocking HTTP calls with retry logic and timeout handling.
+ * Uses WebClient for non-blocking HTTP calls with retry logic and timeout handling, on a connection pool
+ * of its own (see {@code ProviderHttpProperties}).
+ * Calls are routed by the {@link ProviderRouter} to the fastest healthy provider, failing over to its mirrors
+ * (if any are configured). Every attempt, including retries and failovers, first takes a token from the
+ * {@link TokenBucketRateLimiter}, so the requests-per-second quota holds however many events are live,
+ * and is guarded by the {@link CircuitBreaker} of its provider: while a provider is down, calls to it fail at
+ * once instead of each waiting out a timeout.
+ * Score fetches can be hedged with the {@link RequestHedger}: an attempt slower than the provider's usual tail
+ * is sent a second time, to the next provider in line, and the first answer wins. Fetches of premium events
+ * can instead be raced across all providers from the start; fetches of low-tier events are not hedged, so that
+ * they do not use up the hedge budget. Every call is made for the priority tier of its event, and takes from
+ * that tier's share of the rate limit.
+ * Concurrent fetches of the same event (an overlapping tick, a rescheduled event, a manual refresh)
+ * share one in-flight call.
+ * Score requests are conditional: the client remembers each event's {@code ETag} (or {@code Last-Modified})
+ * with the score and provider it came from, and sends it to that provider only. A 304 answer is turned into
+ * a copy of that score flagged {@link ScoreData#isNotModified() not modified}, without reading a body.
  */
 @Slf4j
 @Component
 public class ExternalApiClient {
 
-    private final WebClient webClient;
-    private final String apiBaseUrl;
+    private final ProviderRouter providerRouter;
+    private final RequestHedger requestHedger;
+    private final SingleFlight<ScoreData> scoreFetches = new SingleFlight<>();
+
+    /**
+     * Validator and score of each event's last 200 response.
+     */
+    private final Map<String, CachedScore> cachedScores = new ConcurrentHashMap<>();
+
+    /**
+     * Priority tier of each tracked event.
+     */
+    private final Map<String, PriorityTier> eventTiers = new ConcurrentHashMap<>();
+
+    private record CachedScore(String provider, String etag, String lastModified, ScoreData scoreData) {
+
+        ScoreData notModifiedCopy() {
+            return ScoreData.builder()
+                    .eventId(scoreData.getEventId())
+                    .currentScore(scoreData.getCurrentScore())
+                    .notModified(true)
+                    .build();
+        }
+    }
 
     @Value("${external.api.timeout:5000}")
     private int timeoutMillis;
@@ -30,34 +79,54 @@ public class ExternalApiClient {
     @Value("${external.api.max-retries:2}")
     private int maxRetries;
 
-    public ExternalApiClient(
-            WebClient.Builder webClientBuilder,
-            @Value("${external.api.base-url}") String apiBaseUrl) {
-        this.apiBaseUrl = apiBaseUrl;
-        this.webClient = webClientBuilder
-                .baseUrl(apiBaseUrl)
-                .build();
+    @Value("${external.api.conditional-requests:true}")
+    private boolean conditionalRequests;
+
+    public ExternalApiClient(ProviderRouter providerRouter, RequestHedger requestHedger) {
+        this.providerRouter = providerRouter;
+        this.requestHedger = requestHedger;
 
-        log.info("ExternalApiClient initialized with base URL: {}", apiBaseUrl);
+        log.info("ExternalApiClient initialized with providers: {}", providerRouter.getProviders());
     }
 
     /**
      * Fetches the current score for an event from the external API.
+     * Joins the call already in flight for the event, if any.
      *
      * @param eventId the event ID
      * @return Mono containing the score data
      */
     public Mono<ScoreData> fetchEventScore(String eventId) {
+        return scoreFetches.execute(eventId, this::callScoreEndpoint);
+    }
+
+    private Mono<ScoreData> callScoreEndpoint(String eventId) {
         log.debug("Calling external API for event: {}", eventId);
 
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/events/{eventId}/score")
-                        .build(eventId))
-                .accept(MediaType.APPLICATION_JSON)
-                .retrieve()
-                .bodyToMono(ScoreData.class)
-                .timeout(Duration.ofMillis(timeoutMillis))
+        // Deferred: each attempt sends the validator current at that time, if it came from the same provider
+        Function<ScoreProvider, Mono<ScoreData>> call = provider -> Mono.defer(() -> {
+            CachedScore cached = conditionalRequests ? cachedScores.get(eventId) : null;
+            CachedScore validator = cached != null && cached.provider().equals(provider.getName()) ? cached : null;
+            return provider.getWebClient().get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/events/{eventId}/score")
+                            .build(eventId))
+                    .accept(MediaType.APPLICATION_JSON)
+                    .headers(headers -> addValidator(headers, validator))
+                    .exchangeToMono(response -> readScore(eventId, provider, validator, response));
+        }).timeout(Duration.ofMillis(timeoutMillis));
+
+        PriorityTier tier = eventTiers.get(eventId);
+        Mono<ScoreData> routed;
+        if (providerRouter.isRacePremium() && tier == PriorityTier.PREMIUM) {
+            routed = providerRouter.race(call);
+        } else if (tier == PriorityTier.LOW) {
+            routed = providerRouter.route(call);
+        } else {
+            routed = requestHedger.hedge(providerRouter.route(call), providerRouter.route(call, 1));
+        }
+
+        return TokenBucketRateLimiter.forTier(routed, tier)
                 .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(500))
                         .filter(this::isRetryableException)
                         .doBeforeRetry(retrySignal ->
@@ -65,11 +134,117 @@ public class ExternalApiClient {
                                         eventId, retrySignal.totalRetries() + 1)))
                 .doOnSuccess(data ->
                         log.debug("Successfully fetched data from external API for event: {}", eventId))
-                .doOnError(error ->
+                .doOnError(error -> !(error instanceof ProviderCallRejectedException), error ->
                         log.error("Failed to fetch data from external API for event {}: {}",
                                 eventId, error.getMessage()));
     }
 
+    private static void addValidator(HttpHeaders headers, CachedScore cached) {
+        if (cached == null) {
+            return;
+        }
+        if (cached.etag() != null) {
+            headers.setIfNoneMatch(cached.etag());
+        } else if (cached.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+        }
+    }
+
+    private Mono<ScoreData> readScore(String eventId, ScoreProvider provider, CachedScore cached,
+                                      ClientResponse response) {
+        if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+            log.debug("Score of event {} not modified", eventId);
+            return response.releaseBody().thenReturn(cached.notModifiedCopy());
+        }
+        if (!response.statusCode().is2xxSuccessful()) {
+            return response.createError();
+        }
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        return response.bodyToMono(ScoreData.class)
+                .doOnNext(scoreData -> {
+                    if (conditionalRequests && (etag != null || lastModified != null)) {
+                        cachedScores.put(eventId,
+                                new CachedScore(provider.getName(), etag, lastModified, scoreData));
+                    }
+                });
+    }
+
+    /**
+     * Fetches the current scores of many events in one call to the external API.
+     * The batch is routed like a single fetch (it is not hedged or raced), and takes a single rate limit token
+     * and counts as a single call for the circuit breaker of each provider it is sent to. It is made for the
+     * highest tier among its events.
+     *
+     * @param eventIds the event IDs
+     * @return Flux of the score data returned; events unknown to the provider are missing
+     */
+    public Flux<ScoreData> fetchEventScores(Collection<String> eventIds) {
+        log.debug("Calling external API for {} events", eventIds.size());
+
+        // As a Flux, the array is decoded element by element
+        Function<ScoreProvider, Mono<List<ScoreData>>> call = provider -> provider.getWebClient().post()
+                .uri("/events/scores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("eventIds", eventIds))
+                .retrieve()
+                .bodyToFlux(ScoreData.class)
+                .collectList()
+                .timeout(Duration.ofMillis(timeoutMillis));
+
+        PriorityTier tier = eventIds.stream()
+                .map(eventTiers::get)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        return TokenBucketRateLimiter.forTier(providerRouter.route(call), tier)
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(500))
+                        .filter(this::isRetryableException)
+                        .doBeforeRetry(retrySignal ->
+                                log.warn("Retrying batch external API call for {} events (attempt {})",
+                                        eventIds.size(), retrySignal.totalRetries() + 1)))
+                .doOnError(error -> !(error instanceof ProviderCallRejectedException), error ->
+                        log.error("Failed to fetch batch of {} events from external API: {}",
+                                eventIds.size(), error.getMessage()))
+                .flatMapIterable(scores -> scores);
+    }
+
+    /**
+     * Sets the priority tier of an event: fetches of premium events are raced across all providers (when
+     * race mode is on), and every fetch takes from its tier's share of the rate limit.
+     *
+     * @param eventId the event ID
+     * @param tier the tier, null for none
+     */
+    public void setTier(String eventId, PriorityTier tier) {
+        if (tier != null) {
+            eventTiers.put(eventId, tier);
+        } else {
+            eventTiers.remove(eventId);
+        }
+    }
+
+    /**
+     * Forgets the validator, cached score and priority of an event that is no longer tracked.
+     *
+     * @param eventId the event ID
+     */
+    public void forget(String eventId) {
+        cachedScores.remove(eventId);
+        eventTiers.remove(eventId);
+    }
+
+    /**
+     * Gets the number of events with a score fetch in flight.
+     *
+     * @return in-flight fetch count
+     */
+    public int getInFlightFetchCount() {
+        return scoreFetches.size();
+    }
+
     /**
      * Determines if an exception should trigger a retry.
      */
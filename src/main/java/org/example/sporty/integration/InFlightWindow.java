@@ -0,0 +1,362 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.utils.Utils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the records sent to Kafka but not yet acknowledged, per partition of the score topic.
+ *
+ * A publish takes a {@link Permit} of the partition its key goes to before sending, and releases it once the
+ * send completes, acknowledged or failed. Partitions are picked as the producer's default partitioner does
+ * (murmur2 of the key), over the topic's partition count on the broker, so one slow partition leader only holds
+ * back the publishes that go to it. The count may be refreshed in the background ({@link #startRefreshing}):
+ * the window is then resized when partitions are added, or once the broker is reachable if it was not when the
+ * window was created. Permits taken before a resize are released to the partition they were taken from.
+ * When a partition's window is full:
+ * <ul>
+ *   <li>{@link #acquire} waits, without holding a thread, until a permit of that partition is released;
+ *       waiters are served in order</li>
+ *   <li>{@link #tryAcquire} returns null at once</li>
+ * </ul>
+ *
+ * <ul>
+ *   <li>{@code kafka.publish.in-flight} - gauge of unacknowledged records per partition</li>
+ *   <li>{@code kafka.publish.waiting} - gauge of publishes waiting for a permit</li>
+ *   <li>{@code kafka.publish.window.full} - counter of publishes that found their partition's window full</li>
+ * </ul>
+ */
+@Slf4j
+public class InFlightWindow implements MeterBinder {
+
+    private static final InFlightWindow DISABLED = new InFlightWindow();
+
+    /**
+     * Permit of a disabled window: not counted anywhere.
+     */
+    private static final Permit NO_PERMIT = new Permit(null);
+
+    private static final Mono<Permit> NO_PERMIT_MONO = Mono.just(NO_PERMIT);
+
+    /**
+     * One unacknowledged record; released at most once.
+     */
+    public static final class Permit {
+
+        private final Partition partition;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Partition partition) {
+            this.partition = partition;
+        }
+
+        /**
+         * Returns the permit to its partition's window, or hands it to the first publish waiting there.
+         * Calls after the first have no effect.
+         */
+        public void release() {
+            if (partition != null && released.compareAndSet(false, true)) {
+                partition.release();
+            }
+        }
+    }
+
+    private record Waiter(MonoSink<Permit> sink) {
+    }
+
+    private final class Partition {
+
+        private final Queue<Waiter> waiters = new ArrayDeque<>();
+        private int inFlight;
+
+        synchronized int getInFlight() {
+            return inFlight;
+        }
+
+        synchronized int getWaiting() {
+            return waiters.size();
+        }
+
+        synchronized boolean tryTake() {
+            if (inFlight < perPartition) {
+                inFlight++;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean takeOrWait(Waiter waiter) {
+            if (tryTake()) {
+                return true;
+            }
+            waiters.add(waiter);
+            return false;
+        }
+
+        synchronized void cancel(Waiter waiter) {
+            waiters.remove(waiter);
+        }
+
+        void release() {
+            Waiter next;
+            synchronized (this) {
+                next = waiters.poll();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            }
+            // The slot passes to the waiter as is; its sink discards the permit if it was cancelled meanwhile
+            next.sink().success(new Permit(this));
+        }
+    }
+
+    private final boolean enabled;
+    private final int perPartition;
+    private volatile Partition[] partitions;
+
+    private volatile Counter windowFull;
+    private MeterRegistry registry;
+    private int partitionGauges;
+    private ScheduledExecutorService refresher;
+
+    /**
+     * Creates an in-flight window.
+     *
+     * @param partitions number of partitions of the topic
+     * @param perPartition most unacknowledged records per partition
+     */
+    public InFlightWindow(int partitions, int perPartition) {
+        if (partitions <= 0 || perPartition <= 0) {
+            throw new IllegalArgumentException("Invalid in-flight window: " + partitions + " partitions, "
+                    + perPartition + " records per partition");
+        }
+        this.enabled = true;
+        this.perPartition = perPartition;
+        this.partitions = new Partition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new Partition();
+        }
+        log.info("Async Kafka publishing: at most {} unacknowledged records per partition ({} partitions)",
+                perPartition, partitions);
+    }
+
+    private InFlightWindow() {
+        this.enabled = false;
+        this.perPartition = Integer.MAX_VALUE;
+        this.partitions = new Partition[0];
+    }
+
+    /**
+     * Gets the window of synchronous publishing, which never runs out of permits.
+     *
+     * @return disabled window
+     */
+    public static InFlightWindow disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * Resizes the window to a new partition count. Partitions kept keep their unacknowledged records and
+     * waiting publishes; records of removed partitions still release their permits when acknowledged.
+     *
+     * @param partitionCount the topic's partition count
+     */
+    public synchronized void resize(int partitionCount) {
+        if (!enabled || partitionCount <= 0 || partitionCount == partitions.length) {
+            return;
+        }
+        log.info("Resizing the in-flight window from {} to {} partitions", partitions.length, partitionCount);
+        Partition[] resized = Arrays.copyOf(partitions, partitionCount);
+        for (int i = partitions.length; i < partitionCount; i++) {
+            resized[i] = new Partition();
+        }
+        partitions = resized;
+        registerPartitionGauges();
+    }
+
+    /**
+     * Reads the partition count periodically in the background and resizes the window to it.
+     *
+     * @param partitionCount reads the topic's partition count; empty if it cannot be read now
+     * @param interval delay between reads
+     */
+    public synchronized void startRefreshing(Supplier<OptionalInt> partitionCount, Duration interval) {
+        if (!enabled || refresher != null) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "in-flight-window-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(() -> refresh(partitionCount), interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Resizes the window to the partition count read, if it could be read.
+     *
+     * @param partitionCount reads the topic's partition count; empty if it cannot be read now
+     */
+    void refresh(Supplier<OptionalInt> partitionCount) {
+        try {
+            partitionCount.get().ifPresent(this::resize);
+        } catch (RuntimeException e) {
+            // Keeps the refresher scheduled
+            log.warn("Failed to refresh the partitions of the in-flight window: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops refreshing the partition count.
+     */
+    public synchronized void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the partition a record with the key is sent to.
+     *
+     * @param key the record key
+     * @return the partition, 0 if the window is disabled
+     */
+    public int partitionOf(String key) {
+        if (!enabled) {
+            return 0;
+        }
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % partitions.length;
+    }
+
+    /**
+     * Gets the window of a partition, wrapped around in case the window shrank since the partition was picked.
+     */
+    private Partition window(int partition) {
+        Partition[] current = partitions;
+        return current[partition % current.length];
+    }
+
+    /**
+     * Takes a permit of the partition if one is free.
+     *
+     * @param partition the partition
+     * @return the permit, or null if the partition's window is full
+     */
+    public Permit tryAcquire(int partition) {
+        if (!enabled) {
+            return NO_PERMIT;
+        }
+        Partition window = window(partition);
+        if (window.tryTake()) {
+            return new Permit(window);
+        }
+        increment(windowFull);
+        return null;
+    }
+
+    /**
+     * Takes a permit of the partition, waiting for one to be released if the window is full.
+     *
+     * @param partition the partition
+     * @return Mono of the permit; cancelling it while waiting gives up the place in line
+     */
+    public Mono<Permit> acquire(int partition) {
+        if (!enabled) {
+            return NO_PERMIT_MONO;
+        }
+        Partition window = window(partition);
+        return Mono.<Permit>create(sink -> {
+                    Waiter waiter = new Waiter(sink);
+                    sink.onCancel(() -> window.cancel(waiter));
+                    if (window.takeOrWait(waiter)) {
+                        sink.success(new Permit(window));
+                    } else {
+                        increment(windowFull);
+                    }
+                })
+                .doOnDiscard(Permit.class, Permit::release);
+    }
+
+    /**
+     * Gets the number of unacknowledged records of a partition.
+     *
+     * @param partition the partition
+     * @return records holding a permit
+     */
+    public int getInFlight(int partition) {
+        Partition[] current = partitions;
+        return enabled && partition < current.length ? current[partition].getInFlight() : 0;
+    }
+
+    private int getWaiting() {
+        int waiting = 0;
+        for (Partition partition : partitions) {
+            waiting += partition.getWaiting();
+        }
+        return waiting;
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Registers the in-flight gauges of partitions added since the last call; a removed partition reads 0.
+     */
+    private synchronized void registerPartitionGauges() {
+        if (registry == null) {
+            return;
+        }
+        for (; partitionGauges < partitions.length; partitionGauges++) {
+            int partition = partitionGauges;
+            Gauge.builder("kafka.publish.in-flight", this, window -> window.getInFlight(partition))
+                    .description("Score records sent to the partition and not yet acknowledged")
+                    .tag("partition", String.valueOf(partition))
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        this.registry = registry;
+        registerPartitionGauges();
+        Gauge.builder("kafka.publish.waiting", this, InFlightWindow::getWaiting)
+                .description("Score publishes waiting for their partition's in-flight window")
+                .register(registry);
+        windowFull = Counter.builder("kafka.publish.window.full")
+                .description("Score publishes that found their partition's in-flight window full")
+                .register(registry);
+    }
+}
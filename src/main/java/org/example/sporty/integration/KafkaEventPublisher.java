@@ -1,30 +1,73 @@
 package org.example.sporty.integration;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.example.sporty.domain.model.ScoreData;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Publisher for sending event score updates to Kafka.
  *
  * Handles serialization and publishing of messages with proper error handling and retry logic.
+ * Record values are JSON written by the {@link ScoreDataEncoder}, or with {@code kafka.publish.format=binary},
+ * the {@link ScoreDataBinaryCodec}'s compact encoding; every record carries its format in the
+ * {@value ScoreMessageFormat#CONTENT_TYPE_HEADER} header (see {@link ScoreDataDeserializer}).
+ * {@link #publishScoreUpdate} waits for the broker acknowledgement; {@link #publishScoreUpdateAsync}
+ * bridges the send future to a Mono instead, so no thread waits for it.
+ *
+ * In {@link PublishMode#ASYNC} mode, {@link #publishScoreUpdateInBackground} returns as soon as the record
+ * is handed to the producer, so its batches can fill up to {@code linger.ms}; the outcome is reported to
+ * callbacks and metrics only. Both it and {@link #publishScoreUpdateAsync} then go through the
+ * {@link InFlightWindow}, which bounds unacknowledged records per partition: when a partition's window is
+ * full, the Mono waits for a permit and the background publish is refused at once, so a slow broker slows
+ * the ticks down instead of piling up records or parking threads.
+ *
+ * {@link PublishMode#TRANSACTIONAL} mode publishes like {@link PublishMode#ASYNC}, but hands every record to
+ * the {@link TransactionalPublishBatcher}: the records of a time window are committed in one transaction,
+ * and a record counts as acknowledged once its transaction committed.
+ *
+ * With the {@link SpillOutbox} enabled, a record the broker did not acknowledge, or found its partition's
+ * in-flight window full, is spilled to disk instead of lost, and replayed in order once Kafka takes records
+ * again; while spilled records wait, new ones are spilled behind them. A spilled record counts as published.
+ * A record that fails is only spilled while it is still the newest one handed off for its event: once a newer
+ * record of the event was sent or spilled, the failed one is dropped as superseded, so the replay never puts
+ * an older score after a newer one. A record whose acknowledgement did not come within
+ * {@code kafka.publish.timeout} ({@link #publishScoreUpdate} and {@link #publishScoreUpdateAsync}) is spilled
+ * although the broker may still take it late: it is then delivered twice, the replayed copy last.
+ *
+ * <ul>
+ *   <li>{@code kafka.publish.acknowledged} - counter of records acknowledged by the broker</li>
+ *   <li>{@code kafka.publish.failed} - counter of records the broker did not acknowledge</li>
+ *   <li>{@code kafka.publish.superseded} - counter of failed records not spilled, as a newer one of their
+ *       event was already handed off</li>
+ * </ul>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class KafkaEventPublisher {
+public class KafkaEventPublisher implements MeterBinder {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final ScoreDataEncoder scoreDataEncoder;
+    private final InFlightWindow inFlightWindow;
+    private final TransactionalPublishBatcher transactionBatcher;
+    private final SpillOutbox spillOutbox;
 
     @Value("${kafka.topic.score-updates}")
     private String scoreUpdatesTopic;
@@ -32,61 +75,276 @@ public class KafkaEventPublisher {
     @Value("${kafka.publish.timeout:5000}")
     private long publishTimeoutMillis;
 
+    @Value("${kafka.publish.format:json}")
+    private ScoreMessageFormat messageFormat = ScoreMessageFormat.JSON;
+
+    /**
+     * Outcome of a failed record handed to {@link #spillIfNewest}.
+     */
+    private enum SpillOutcome {
+        SPILLED,
+        SUPERSEDED,
+        REFUSED
+    }
+
+    /**
+     * Sequence of the newest record handed off per event, while its outcome is not known; only kept with the
+     * spill outbox enabled.
+     */
+    private final ConcurrentHashMap<String, Long> newestHandedOff = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile Counter acknowledged;
+    private volatile Counter failed;
+    private volatile Counter superseded;
+
+    /**
+     * Whether ticks publish in the background ({@link PublishMode#ASYNC} or {@link PublishMode#TRANSACTIONAL}).
+     *
+     * @return true if records are bounded by an in-flight window instead of waited for
+     */
+    public boolean isAsync() {
+        return inFlightWindow.isEnabled();
+    }
+
+    /**
+     * Starts replaying the records spilled by an earlier run, or to be spilled by this one.
+     */
+    @PostConstruct
+    void startSpillDrainer() {
+        spillOutbox.startDraining(scoreData -> sendRecord(toRecord(scoreData)));
+    }
+
     /**
      * Publishes a score update to Kafka.
      *
      * @param scoreData the score data to publish
+     * @throws RuntimeException if the broker did not acknowledge it in time, and it was not spilled either
      */
     public void publishScoreUpdate(ScoreData scoreData) {
         String eventId = scoreData.getEventId();
+        long recordSequence = handOff(eventId);
+        if (spillOutbox.hasBacklog()) {
+            spillOrThrow(scoreData, recordSequence, null);
+            return;
+        }
+        ProducerRecord<String, byte[]> record = toRecord(scoreData);
+
+        log.debug("Publishing score update for event {} to topic {}", eventId, scoreUpdatesTopic);
+
+        CompletableFuture<SendResult<String, byte[]>> future = sendRecord(record);
+
+        // Add callback handlers
+        future.whenComplete((result, ex) -> {
+            if (ex == null) {
+                settle(eventId, recordSequence);
+                handleSuccess(result, eventId);
+            } else {
+                handleFailure(ex, eventId);
+            }
+        });
 
+        // Optionally wait for the send to complete (with timeout)
+        // This is synchronous but ensures we know if publishing failed
         try {
-            String message = serializeScoreData(scoreData);
+            future.get(publishTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.error("Timeout or error waiting for Kafka publish for event {}: {}",
+                    eventId, e.getMessage());
+            spillOrThrow(scoreData, recordSequence, e);
+        }
+    }
 
-            log.debug("Publishing score update for event {} to topic {}", eventId, scoreUpdatesTopic);
+    private void spillOrThrow(ScoreData scoreData, long recordSequence, Exception cause) {
+        if (spillIfNewest(scoreData, recordSequence) == SpillOutcome.REFUSED) {
+            throw new RuntimeException("Failed to publish message for event " + scoreData.getEventId(), cause);
+        }
+    }
 
-            CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(
-                    scoreUpdatesTopic,
-                    eventId,  // Use eventId as the message key for partitioning
-                    message
-            );
+    /**
+     * Publishes a score update to Kafka without waiting for the acknowledgement.
+     *
+     * @param scoreData the score data to publish
+     * @return Mono completing with the send result once the broker acknowledged the record, or empty once
+     *         the record was spilled instead; in async mode, the record is only sent once its partition's
+     *         in-flight window has room
+     */
+    public Mono<SendResult<String, byte[]>> publishScoreUpdateAsync(ScoreData scoreData) {
+        String eventId = scoreData.getEventId();
+        return Mono.defer(() -> {
+            long recordSequence = handOff(eventId);
+            if (spillOutbox.hasBacklog()) {
+                return Mono.fromRunnable(() -> spillOrThrow(scoreData, recordSequence, null));
+            }
+            return Mono.fromCallable(() -> toRecord(scoreData))
+                    .flatMap(record -> inFlightWindow.acquire(inFlightWindow.partitionOf(eventId))
+                            .flatMap(permit -> {
+                                log.debug("Publishing score update for event {} to topic {}",
+                                        eventId, scoreUpdatesTopic);
+                                // The permit is held until the broker answers, even if the Mono times out first
+                                return Mono.fromFuture(send(record, permit), true)
+                                        .timeout(Duration.ofMillis(publishTimeoutMillis))
+                                        .doOnError(TimeoutException.class, ex -> log.error(
+                                                "No acknowledgement within {} ms for score update of event {}",
+                                                publishTimeoutMillis, eventId));
+                            }))
+                    .doOnNext(result -> settle(eventId, recordSequence))
+                    .onErrorResume(error -> spillIfNewest(scoreData, recordSequence) == SpillOutcome.REFUSED
+                            ? Mono.error(error)
+                            : Mono.empty());
+        });
+    }
 
-            // Add callback handlers
-            future.whenComplete((result, ex) -> {
+    /**
+     * Publishes a score update to Kafka without waiting for, or failing on, the acknowledgement.
+     * Failures are logged and counted; nothing is thrown to the caller.
+     *
+     * @param scoreData the score data to publish
+     * @param onAcknowledged run, on the producer's thread, once the broker acknowledged the record (or on the
+     *                       caller's or producer's thread, once the record was spilled); not run for a failed
+     *                       record superseded by a newer one of its event
+     * @return true if the record was handed to the producer or spilled, false if it was not sent: its
+     *         partition's in-flight window was full, or it could not be serialized or sent
+     */
+    public boolean publishScoreUpdateInBackground(ScoreData scoreData, Runnable onAcknowledged) {
+        String eventId = scoreData.getEventId();
+        long recordSequence = handOff(eventId);
+        if (spillOutbox.hasBacklog()) {
+            return spill(scoreData, recordSequence, onAcknowledged);
+        }
+        InFlightWindow.Permit permit = inFlightWindow.tryAcquire(inFlightWindow.partitionOf(eventId));
+        if (permit == null) {
+            log.debug("In-flight window full, not publishing score update for event {}", eventId);
+            return spill(scoreData, recordSequence, onAcknowledged);
+        }
+        try {
+            log.debug("Publishing score update for event {} to topic {}", eventId, scoreUpdatesTopic);
+            send(toRecord(scoreData), permit).whenComplete((result, ex) -> {
                 if (ex == null) {
-                    handleSuccess(result, eventId);
+                    settle(eventId, recordSequence);
+                    onAcknowledged.run();
                 } else {
-                    handleFailure(ex, eventId);
+                    spill(scoreData, recordSequence, onAcknowledged);
                 }
             });
+            return true;
+        } catch (RuntimeException e) {
+            permit.release();
+            handleFailure(e, eventId);
+            return spill(scoreData, recordSequence, onAcknowledged);
+        }
+    }
+
+    private boolean spill(ScoreData scoreData, long recordSequence, Runnable onSpilled) {
+        return switch (spillIfNewest(scoreData, recordSequence)) {
+            case SPILLED -> {
+                onSpilled.run();
+                yield true;
+            }
+            case SUPERSEDED -> true;
+            case REFUSED -> false;
+        };
+    }
+
+    /**
+     * Registers a record of the event as the newest one handed off, before it is sent or spilled.
+     *
+     * @param eventId the event ID
+     * @return the record's sequence
+     */
+    private long handOff(String eventId) {
+        if (!spillOutbox.isEnabled()) {
+            return 0;
+        }
+        long recordSequence = sequence.incrementAndGet();
+        newestHandedOff.put(eventId, recordSequence);
+        return recordSequence;
+    }
+
+    /**
+     * Forgets an acknowledged record, unless a newer one of its event was handed off since.
+     */
+    private void settle(String eventId, long recordSequence) {
+        if (recordSequence != 0) {
+            newestHandedOff.remove(eventId, recordSequence);
+        }
+    }
 
-            // Optionally wait for the send to complete (with timeout)
-            // This is synchronous but ensures we know if publishing failed
-            try {
-                future.get(publishTimeoutMillis, TimeUnit.MILLISECONDS);
-            } catch (Exception e) {
-                log.error("Timeout or error waiting for Kafka publish for event {}: {}",
-                        eventId, e.getMessage());
-                throw new RuntimeException("Failed to publish message for event " + eventId, e);
+    /**
+     * Spills a record that was not sent or acknowledged, if no newer record of its event was handed off since.
+     * The check and the append are atomic with {@link #handOff} of the event, so a newer record either
+     * supersedes this one, or finds it in the spill log and is spilled behind it.
+     */
+    private SpillOutcome spillIfNewest(ScoreData scoreData, long recordSequence) {
+        if (!spillOutbox.isEnabled()) {
+            return SpillOutcome.REFUSED;
+        }
+        String eventId = scoreData.getEventId();
+        SpillOutcome[] outcome = {SpillOutcome.SUPERSEDED};
+        newestHandedOff.computeIfPresent(eventId, (id, newest) -> {
+            if (newest != recordSequence) {
+                return newest;
             }
+            outcome[0] = spillOutbox.spill(scoreData) ? SpillOutcome.SPILLED : SpillOutcome.REFUSED;
+            return null;
+        });
+        if (outcome[0] == SpillOutcome.SPILLED) {
+            log.debug("Spilled score update for event {}", eventId);
+        } else if (outcome[0] == SpillOutcome.SUPERSEDED) {
+            increment(superseded);
+            log.debug("Not spilling score update for event {}: a newer one was handed off", eventId);
+        }
+        return outcome[0];
+    }
 
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize score data for event {}: {}", eventId, e.getMessage(), e);
-            throw new RuntimeException("Serialization error for event " + eventId, e);
+    /**
+     * Sends the record; the permit is released and the outcome reported once the broker answers.
+     */
+    private CompletableFuture<SendResult<String, byte[]>> send(ProducerRecord<String, byte[]> record,
+                                                               InFlightWindow.Permit permit) {
+        String eventId = record.key();
+        CompletableFuture<SendResult<String, byte[]>> future;
+        try {
+            future = sendRecord(record);
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
         }
+        return future.whenComplete((result, ex) -> {
+            permit.release();
+            if (ex == null) {
+                handleSuccess(result, eventId);
+            } else {
+                handleFailure(ex, eventId);
+            }
+        });
     }
 
     /**
-     * Serializes score data to JSON string.
+     * Sends the record on its own, or queues it for the transaction of the current window.
      */
-    private String serializeScoreData(ScoreData scoreData) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(scoreData);
+    private CompletableFuture<SendResult<String, byte[]>> sendRecord(ProducerRecord<String, byte[]> record) {
+        return transactionBatcher.isEnabled() ? transactionBatcher.submit(record) : kafkaTemplate.send(record);
+    }
+
+    /**
+     * Serializes score data into a record keyed by event ID (for partitioning), tagged with its format.
+     */
+    private ProducerRecord<String, byte[]> toRecord(ScoreData scoreData) {
+        byte[] value = messageFormat == ScoreMessageFormat.BINARY
+                ? ScoreDataBinaryCodec.encode(scoreData)
+                : scoreDataEncoder.encodeToBytes(scoreData);
+        ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(scoreUpdatesTopic, scoreData.getEventId(), value);
+        record.headers().add(ScoreMessageFormat.CONTENT_TYPE_HEADER, messageFormat.contentTypeHeader());
+        return record;
     }
 
     /**
      * Handles successful message publishing.
      */
-    private void handleSuccess(SendResult<String, String> result, String eventId) {
+    private void handleSuccess(SendResult<String, byte[]> result, String eventId) {
+        increment(acknowledged);
         var metadata = result.getRecordMetadata();
         log.info("Successfully published score update for event {} to topic {} (partition: {}, offset: {})",
                 eventId,
@@ -99,8 +357,27 @@ public class KafkaEventPublisher {
      * Handles failed message publishing.
      */
     private void handleFailure(Throwable ex, String eventId) {
+        increment(failed);
         log.error("Failed to publish score update for event {}: {}",
                 eventId, ex.getMessage(), ex);
     }
-}
 
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        acknowledged = Counter.builder("kafka.publish.acknowledged")
+                .description("Score records acknowledged by the broker")
+                .register(registry);
+        failed = Counter.builder("kafka.publish.failed")
+                .description("Score records the broker did not acknowledge")
+                .register(registry);
+        superseded = Counter.builder("kafka.publish.superseded")
+                .description("Failed score records not spilled, as a newer one of their event was handed off")
+                .register(registry);
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.sporty.integration;
+
+/**
+ * Raised when a provider call is refused on our side, before it reaches the provider.
+ * Not retried and not logged as a provider error: the event's next tick simply tries again.
+ */
+public abstract class ProviderCallRejectedException extends RuntimeException {
+
+    protected ProviderCallRejectedException(String message) {
+        super(message);
+    }
+}
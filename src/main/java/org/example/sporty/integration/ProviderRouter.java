@@ -0,0 +1,253 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Routes provider calls across the configured {@link ScoreProvider}s (a provider and its mirrors).
+ *
+ * A call goes to the provider with the lowest expected time to a valid answer: its latency EWMA,
+ * stretched by its error rate EWMA. Providers with an open circuit come last. If the provider fails,
+ * or its circuit is open, the call fails over to the next one in the ranking, until one answers or all
+ * were tried. A 4xx answer and a call refused by the rate limiter end the call: another provider would
+ * not do better. With {@code exploration} of the calls going to a randomly picked provider first, the
+ * averages of providers out of favour stay current, so a recovered provider wins its traffic back.
+ *
+ * In race mode, the call is sent to every available provider at once, and the first valid answer wins;
+ * the other calls are cancelled.
+ *
+ * Every attempt passes, in this order, the provider's circuit breaker and the shared rate limiter:
+ * a failed-over or raced call takes one token per provider tried. A hedged call is told when it gets its
+ * token (see {@link RequestHedger}).
+ *
+ * <ul>
+ *   <li>{@code external.api.provider.latency} - latency EWMA per provider</li>
+ *   <li>{@code external.api.provider.error.rate} - error rate EWMA per provider</li>
+ *   <li>{@code external.api.provider.requests} - counter of calls sent to each provider</li>
+ *   <li>{@code external.api.provider.failovers} - counter of calls failed over from each provider</li>
+ * </ul>
+ */
+@Slf4j
+public class ProviderRouter implements MeterBinder {
+
+    private final List<ScoreProvider> providers;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final double exploration;
+    private final boolean racePremium;
+
+    private volatile Map<String, Counter> requests = Map.of();
+    private volatile Map<String, Counter> failovers = Map.of();
+
+    /**
+     * Creates a provider router.
+     *
+     * @param providers the providers, at least one
+     * @param rateLimiter rate limiter shared by all providers
+     * @param exploration share of calls, between 0 and 1, sent to a random provider first
+     * @param racePremium whether fetches of premium events are raced across providers
+     */
+    public ProviderRouter(List<ScoreProvider> providers, TokenBucketRateLimiter rateLimiter,
+                          double exploration, boolean racePremium) {
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("At least one provider is needed");
+        }
+        if (exploration < 0 || exploration > 1) {
+            throw new IllegalArgumentException("Exploration must be in [0, 1]: " + exploration);
+        }
+        this.providers = List.copyOf(providers);
+        this.rateLimiter = rateLimiter;
+        this.exploration = exploration;
+        this.racePremium = racePremium;
+
+        if (providers.size() > 1) {
+            log.info("Routing provider calls across {} (race premium events: {})", providers, racePremium);
+        }
+    }
+
+    /**
+     * Creates a router with a single provider and no rate limit.
+     *
+     * @param provider the provider
+     * @return single-provider router
+     */
+    public static ProviderRouter single(ScoreProvider provider) {
+        return new ProviderRouter(List.of(provider), TokenBucketRateLimiter.unlimited(), 0, false);
+    }
+
+    public List<ScoreProvider> getProviders() {
+        return providers;
+    }
+
+    /**
+     * Whether premium events are fetched from all providers at once.
+     *
+     * @return true if race mode is on and there is more than one provider
+     */
+    public boolean isRacePremium() {
+        return racePremium && providers.size() > 1;
+    }
+
+    /**
+     * Ranks the providers and sends the call to the best one, failing over to the others in order.
+     *
+     * @param call builds the call to one provider; subscribed to once per attempt
+     * @param <T> the result type
+     * @return the answer of the first provider that did not fail
+     */
+    public <T> Mono<T> route(Function<ScoreProvider, Mono<T>> call) {
+        return route(call, 0);
+    }
+
+    /**
+     * Like {@link #route(Function)}, but starts {@code skip} places down the ranking, wrapping around.
+     * A hedge of a routed call skips one, so that it goes to another provider than the original.
+     *
+     * @param call builds the call to one provider; subscribed to once per attempt
+     * @param skip number of best-ranked providers to try last
+     * @param <T> the result type
+     * @return the answer of the first provider that did not fail
+     */
+    public <T> Mono<T> route(Function<ScoreProvider, Mono<T>> call, int skip) {
+        return Mono.defer(() -> {
+            List<ScoreProvider> ranked = rank();
+            Collections.rotate(ranked, -(skip % ranked.size()));
+            return failover(ranked, 0, call, null);
+        });
+    }
+
+    private <T> Mono<T> failover(List<ScoreProvider> ranked, int index, Function<ScoreProvider, Mono<T>> call,
+                                 Throwable firstFailure) {
+        ScoreProvider provider = ranked.get(index);
+        return attempt(provider, call).onErrorResume(error -> {
+            if (!shouldFailOver(error)) {
+                return Mono.error(error);
+            }
+            // A provider failure says more than the open circuits tried after it
+            Throwable failure = firstFailure != null || error instanceof CircuitOpenException ? firstFailure : error;
+            if (index + 1 == ranked.size()) {
+                return Mono.error(failure != null ? failure : error);
+            }
+            increment(failovers.get(provider.getName()));
+            log.debug("Failing over from provider {} to {}: {}", provider, ranked.get(index + 1), error.toString());
+            return failover(ranked, index + 1, call, failure);
+        });
+    }
+
+    /**
+     * Sends the call to every available provider at once.
+     *
+     * @param call builds the call to one provider
+     * @param <T> the result type
+     * @return the first answer with a value; an error only if no provider answered with one
+     */
+    public <T> Mono<T> race(Function<ScoreProvider, Mono<T>> call) {
+        return Mono.defer(() -> {
+            List<ScoreProvider> available = providers.stream().filter(ScoreProvider::isAvailable).toList();
+            if (available.size() < 2) {
+                return route(call);
+            }
+            Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+            return Flux.fromIterable(available)
+                    .flatMap(provider -> attempt(provider, call).onErrorResume(error -> {
+                        errors.add(error);
+                        return Mono.empty();
+                    }))
+                    .next()
+                    .switchIfEmpty(Mono.defer(() -> errors.isEmpty()
+                            ? Mono.empty()
+                            : Mono.error(errors.stream()
+                                    .filter(error -> !(error instanceof ProviderCallRejectedException))
+                                    .findFirst()
+                                    .orElse(errors.peek()))));
+        });
+    }
+
+    private <T> Mono<T> attempt(ScoreProvider provider, Function<ScoreProvider, Mono<T>> call) {
+        return Mono.deferContextual(context -> {
+            // A hedged call is timed, and its hedge delayed, from when it gets its token
+            RequestHedger.Attempt hedged = context.getOrDefault(RequestHedger.Attempt.class, null);
+            if (hedged != null) {
+                hedged.waitForToken();
+            }
+            return provider.getCircuitBreaker().protect(rateLimiter.throttle(Mono.defer(() -> {
+                if (hedged != null) {
+                    hedged.sent();
+                }
+                increment(requests.get(provider.getName()));
+                return provider.track(call.apply(provider));
+            })));
+        });
+    }
+
+    /**
+     * Ranks the providers: available ones by cost, then those with an open circuit.
+     */
+    List<ScoreProvider> rank() {
+        List<ScoreProvider> ranked = new ArrayList<>(providers);
+        if (ranked.size() == 1) {
+            return ranked;
+        }
+        ranked.sort(Comparator.comparing((ScoreProvider provider) -> !provider.isAvailable())
+                .thenComparingDouble(ScoreProvider::cost));
+        if (exploration > 0 && ThreadLocalRandom.current().nextDouble() < exploration) {
+            Collections.swap(ranked, 0, ThreadLocalRandom.current().nextInt(ranked.size()));
+        }
+        return ranked;
+    }
+
+    private static boolean shouldFailOver(Throwable error) {
+        return error instanceof CircuitOpenException || CircuitBreaker.isFailure(error);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<String, Counter> requestCounters = new HashMap<>();
+        Map<String, Counter> failoverCounters = new HashMap<>();
+        for (ScoreProvider provider : providers) {
+            provider.getCircuitBreaker().bindTo(registry);
+            TimeGauge.builder("external.api.provider.latency", provider, TimeUnit.MILLISECONDS,
+                            ScoreProvider::getLatencyMillis)
+                    .description("Moving average of the provider's latency (-1 before its first answer)")
+                    .tag("provider", provider.getName())
+                    .register(registry);
+            Gauge.builder("external.api.provider.error.rate", provider, ScoreProvider::getErrorRate)
+                    .description("Moving average of the provider's error rate")
+                    .tag("provider", provider.getName())
+                    .register(registry);
+            requestCounters.put(provider.getName(), Counter.builder("external.api.provider.requests")
+                    .description("Calls sent to the provider")
+                    .tag("provider", provider.getName())
+                    .register(registry));
+            failoverCounters.put(provider.getName(), Counter.builder("external.api.provider.failovers")
+                    .description("Calls failed over to another provider after this one failed")
+                    .tag("provider", provider.getName())
+                    .register(registry));
+        }
+        requests = Map.copyOf(requestCounters);
+        failovers = Map.copyOf(failoverCounters);
+    }
+}
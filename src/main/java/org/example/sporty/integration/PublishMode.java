@@ -0,0 +1,24 @@
+package org.example.sporty.integration;
+
+/**
+ * Whether a tick waits for the Kafka acknowledgement of the score it publishes.
+ */
+public enum PublishMode {
+
+    /**
+     * The tick waits for the broker to acknowledge the record.
+     */
+    SYNC,
+
+    /**
+     * The tick hands the record to the producer and moves on; the acknowledgement is handled in a callback.
+     * Unacknowledged records are bounded per partition by the {@link InFlightWindow}.
+     */
+    ASYNC,
+
+    /**
+     * As {@link #ASYNC}, but the records of a time window are committed together in one Kafka transaction
+     * by the {@link TransactionalPublishBatcher}.
+     */
+    TRANSACTIONAL
+}
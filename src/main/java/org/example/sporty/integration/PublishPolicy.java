@@ -0,0 +1,23 @@
+package org.example.sporty.integration;
+
+/**
+ * Which fetched scores are published to Kafka.
+ */
+public enum PublishPolicy {
+
+    /**
+     * Publish every fetched score.
+     */
+    ALWAYS,
+
+    /**
+     * Publish a score only when it differs from the last one published for the event.
+     */
+    ON_CHANGE,
+
+    /**
+     * Publish on change, and republish an unchanged score once the heartbeat interval has passed
+     * since the last publish, so consumers can tell a quiet event from a stalled feed.
+     */
+    ON_CHANGE_HEARTBEAT
+}
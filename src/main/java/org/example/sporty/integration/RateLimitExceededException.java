@@ -0,0 +1,12 @@
+package org.example.sporty.integration;
+
+/**
+ * Raised when a provider call is dropped by the {@link TokenBucketRateLimiter}.
+ * Not retried: retrying would only add to the load the limiter is shedding.
+ */
+public class RateLimitExceededException extends ProviderCallRejectedException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
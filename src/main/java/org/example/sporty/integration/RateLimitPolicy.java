@@ -0,0 +1,17 @@
+package org.example.sporty.integration;
+
+/**
+ * What happens to a provider call made while the rate limiter has no token available.
+ */
+public enum RateLimitPolicy {
+
+    /**
+     * Wait (without blocking a thread) for the next token, up to the configured maximum wait.
+     */
+    DELAY,
+
+    /**
+     * Fail the call immediately with {@link RateLimitExceededException}.
+     */
+    SHED
+}
@@ -0,0 +1,286 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hedges provider calls against the provider's long latency tail.
+ *
+ * A call that has not answered within the hedge delay is sent a second time; whichever attempt answers
+ * first wins and the other is cancelled. The delay is the {@code percentile} of the latencies of the last
+ * {@code windowSize} answered attempts, kept between {@code minDelay} and {@code maxDelay} ({@code maxDelay}
+ * until enough latencies are known). Hedging is about latency, failures are left to the retries around it:
+ * an error of the original attempt ends the call, and a failed hedge is dropped, leaving the original
+ * attempt, bounded by its own timeout, to answer.
+ *
+ * Extra load is capped by a budget: every call earns {@code budgetRatio} of a hedge, and a hedge is only
+ * sent if a whole one has been earned, so at most {@code budgetRatio} extra calls are made per call
+ * (a ratio of 0.1 allows at most 10% more requests).
+ *
+ * Time spent waiting for a rate limit token is not provider latency: a call routed by the
+ * {@link ProviderRouter} reports, through its {@link Attempt} in the subscriber context, when its token is
+ * granted. Its latency is measured from then, and the hedge delay only starts then, so a call still waiting in
+ * the limiter is not hedged. Other calls are timed from their subscription.
+ *
+ * <ul>
+ *   <li>{@code external.api.hedge.delay} - current hedge delay</li>
+ *   <li>{@code external.api.hedge.sent} - counter of hedges sent</li>
+ *   <li>{@code external.api.hedge.won} - counter of hedges that answered first</li>
+ *   <li>{@code external.api.hedge.budget.exhausted} - counter of hedges not sent for lack of budget</li>
+ * </ul>
+ */
+@Slf4j
+public class RequestHedger implements MeterBinder {
+
+    /**
+     * Latencies needed before the hedge delay follows the percentile.
+     */
+    static final int MIN_SAMPLES = 20;
+
+    /**
+     * Most hedges that can be saved up while the provider is fast.
+     */
+    private static final double MAX_BUDGET = 10;
+
+    /**
+     * A hedged or hedging call, told by the {@link ProviderRouter} when it waits for a rate limit token and
+     * when the provider call is sent. Found in the subscriber context under its class.
+     */
+    static final class Attempt {
+
+        private final Scheduler scheduler;
+        private final Sinks.Empty<Void> sent = Sinks.empty();
+        private volatile boolean waiting;
+        private volatile long sentNanos;
+
+        private Attempt(Scheduler scheduler) {
+            this.scheduler = scheduler;
+            this.sentNanos = scheduler.now(TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * The call waits for a rate limit token before it is sent.
+         */
+        void waitForToken() {
+            waiting = true;
+        }
+
+        /**
+         * The call got its token and is sent to a provider; a failed-over call is sent once per provider.
+         */
+        void sent() {
+            sentNanos = scheduler.now(TimeUnit.NANOSECONDS);
+            sent.tryEmitEmpty();
+        }
+
+        /**
+         * Completes once the call is sent, at once if it never waited for a token.
+         */
+        private Mono<Void> whenSent() {
+            return Mono.defer(() -> waiting ? sent.asMono() : Mono.empty());
+        }
+
+        private long sinceSent() {
+            return scheduler.now(TimeUnit.NANOSECONDS) - sentNanos;
+        }
+    }
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final double budgetRatio;
+    private final Scheduler scheduler;
+
+    /**
+     * Latencies of the last answered attempts, as a ring buffer; guarded by this.
+     */
+    private final long[] latencies;
+    private int nextLatency;
+    private int latencyCount;
+    private int samplesSinceUpdate;
+    private double budget;
+
+    private volatile long delayNanos;
+
+    private volatile Counter sent;
+    private volatile Counter won;
+    private volatile Counter budgetExhausted;
+
+    /**
+     * Creates a request hedger.
+     *
+     * @param enabled whether calls are hedged at all
+     * @param percentile latency percentile, between 0 and 1, after which a call is hedged
+     * @param minDelay shortest hedge delay
+     * @param maxDelay longest hedge delay, also used until enough latencies are known
+     * @param budgetRatio hedges allowed per call
+     * @param windowSize number of most recent latencies the percentile is computed over
+     */
+    public RequestHedger(boolean enabled, double percentile, Duration minDelay, Duration maxDelay,
+                         double budgetRatio, int windowSize) {
+        this(enabled, percentile, minDelay, maxDelay, budgetRatio, windowSize, Schedulers.parallel());
+    }
+
+    RequestHedger(boolean enabled, double percentile, Duration minDelay, Duration maxDelay,
+                  double budgetRatio, int windowSize, Scheduler scheduler) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Hedge percentile must be in (0, 1): " + percentile);
+        }
+        if (minDelay.compareTo(maxDelay) > 0 || budgetRatio < 0 || windowSize < MIN_SAMPLES) {
+            throw new IllegalArgumentException("Invalid hedging settings: delay " + minDelay + ".." + maxDelay
+                    + ", budget ratio " + budgetRatio + ", window " + windowSize);
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.budgetRatio = budgetRatio;
+        this.latencies = new long[windowSize];
+        this.scheduler = scheduler;
+        this.delayNanos = maxDelayNanos;
+
+        if (enabled) {
+            log.info("Hedging provider calls after p{} latency ({}..{}), budget {} hedges per call",
+                    percentile * 100, minDelay, maxDelay, budgetRatio);
+        }
+    }
+
+    /**
+     * Creates a request hedger that never hedges.
+     *
+     * @return disabled request hedger
+     */
+    public static RequestHedger disabled() {
+        return new RequestHedger(false, 0.95, Duration.ZERO, Duration.ZERO, 0, MIN_SAMPLES);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the current hedge delay.
+     *
+     * @return how long a call may take before it is hedged
+     */
+    public Duration getDelay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    /**
+     * Hedges {@code call}: subscribes to it a second time if it has not answered within the hedge delay.
+     * The call must be safe to send twice.
+     *
+     * @param call the provider call
+     * @param <T> the result type
+     * @return the answer of whichever attempt answers first
+     */
+    public <T> Mono<T> hedge(Mono<T> call) {
+        return hedge(call, call);
+    }
+
+    /**
+     * Hedges {@code call} with {@code hedgeCall}: subscribes to the latter if the former has not answered
+     * within the hedge delay, e.g. to send the hedge to another provider.
+     *
+     * @param call the provider call
+     * @param hedgeCall the call sent as a hedge
+     * @param <T> the result type
+     * @return the answer of whichever call answers first
+     */
+    public <T> Mono<T> hedge(Mono<T> call, Mono<T> hedgeCall) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            earnBudget();
+            Attempt attempt = new Attempt(scheduler);
+            Mono<T> primary = timed(call, attempt);
+            // Subscribed after the primary attempt, so knows by then whether it waits for a token
+            Mono<T> hedge = attempt.whenSent()
+                    .then(Mono.delay(Duration.ofNanos(delayNanos), scheduler))
+                    .flatMap(tick -> {
+                        if (!spendBudget()) {
+                            increment(budgetExhausted);
+                            // Leave the call to the primary attempt
+                            return Mono.never();
+                        }
+                        increment(sent);
+                        return timed(hedgeCall, new Attempt(scheduler))
+                                .doOnNext(result -> increment(won))
+                                // Neither an empty answer nor an error wins over the primary attempt
+                                .switchIfEmpty(Mono.never())
+                                .onErrorResume(error -> Mono.never());
+                    });
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    private <T> Mono<T> timed(Mono<T> call, Attempt attempt) {
+        return call.doOnSuccess(result -> recordLatency(attempt.sinceSent()))
+                .contextWrite(Context.of(Attempt.class, attempt));
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+    }
+
+    private synchronized boolean spendBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    synchronized void recordLatency(long nanos) {
+        latencies[nextLatency] = nanos;
+        nextLatency = (nextLatency + 1) % latencies.length;
+        latencyCount = Math.min(latencyCount + 1, latencies.length);
+        samplesSinceUpdate++;
+
+        // Sorting the window on every answer would cost more than it gains
+        if (latencyCount >= MIN_SAMPLES && samplesSinceUpdate >= MIN_SAMPLES) {
+            samplesSinceUpdate = 0;
+            long[] window = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(window);
+            long quantile = window[(int) Math.ceil(percentile * latencyCount) - 1];
+            delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, quantile));
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("external.api.hedge.delay", this, TimeUnit.NANOSECONDS, hedger -> hedger.delayNanos)
+                .description("Latency after which a provider call is hedged")
+                .register(registry);
+        sent = Counter.builder("external.api.hedge.sent")
+                .description("Hedged provider calls sent")
+                .register(registry);
+        won = Counter.builder("external.api.hedge.won")
+                .description("Hedged provider calls that answered before the original call")
+                .register(registry);
+        budgetExhausted = Counter.builder("external.api.hedge.budget.exhausted")
+                .description("Provider calls not hedged because the hedging budget was used up")
+                .register(registry);
+    }
+}
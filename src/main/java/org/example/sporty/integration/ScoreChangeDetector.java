@@ -0,0 +1,148 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.ScoreData;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether a fetched score is worth publishing, following a {@link PublishPolicy}.
+ *
+ * Keeps the last published score of each event. A score is recorded only once its publish
+ * succeeded ({@link #recordPublished}), so a failed publish is retried by the next tick even
+ * if the score has not moved since. A score the provider reported as
+ * {@link ScoreData#isNotModified() not modified} is never new: under {@link PublishPolicy#ALWAYS} too,
+ * it is published only if it differs from the last published score (after a failed publish).
+ *
+ * <ul>
+ *   <li>{@code score.publish.published} - counter of scores published</li>
+ *   <li>{@code score.publish.skipped} - counter of unchanged scores not published</li>
+ * </ul>
+ */
+@Slf4j
+public class ScoreChangeDetector implements MeterBinder {
+
+    private record Published(String score, long publishedAtNanos) {
+    }
+
+    private final PublishPolicy policy;
+    private final long heartbeatNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Published> lastPublished = new ConcurrentHashMap<>();
+
+    private volatile Counter published;
+    private volatile Counter skipped;
+
+    /**
+     * Creates a change detector.
+     *
+     * @param policy which scores are published
+     * @param heartbeat longest time an unchanged score goes unpublished under
+     *                  {@link PublishPolicy#ON_CHANGE_HEARTBEAT}
+     */
+    public ScoreChangeDetector(PublishPolicy policy, Duration heartbeat) {
+        this(policy, heartbeat, System::nanoTime);
+    }
+
+    ScoreChangeDetector(PublishPolicy policy, Duration heartbeat, LongSupplier nanoClock) {
+        if (heartbeat.isNegative() || heartbeat.isZero()) {
+            throw new IllegalArgumentException("Heartbeat must be positive: " + heartbeat);
+        }
+        this.policy = policy;
+        this.heartbeatNanos = heartbeat.toNanos();
+        this.nanoClock = nanoClock;
+
+        if (policy != PublishPolicy.ALWAYS) {
+            log.info("Publishing scores {} (heartbeat: {})", policy.name().toLowerCase(), heartbeat);
+        }
+    }
+
+    /**
+     * Creates a detector that publishes every score.
+     *
+     * @return detector with {@link PublishPolicy#ALWAYS}
+     */
+    public static ScoreChangeDetector always() {
+        return new ScoreChangeDetector(PublishPolicy.ALWAYS, Duration.ofSeconds(60));
+    }
+
+    public PublishPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Checks whether a fetched score should be published. Counts the score as skipped if not.
+     *
+     * @param scoreData the fetched score
+     * @return true if the score should be published
+     */
+    public boolean shouldPublish(ScoreData scoreData) {
+        if (policy == PublishPolicy.ALWAYS && !scoreData.isNotModified()) {
+            return true;
+        }
+        Published last = lastPublished.get(scoreData.getEventId());
+        boolean publish = last == null
+                || !Objects.equals(last.score(), scoreData.getCurrentScore())
+                || (policy == PublishPolicy.ON_CHANGE_HEARTBEAT
+                        && nanoClock.getAsLong() - last.publishedAtNanos() >= heartbeatNanos);
+        if (!publish) {
+            Counter counter = skipped;
+            if (counter != null) {
+                counter.increment();
+            }
+            log.debug("Score of event {} unchanged ({}), not publishing",
+                    scoreData.getEventId(), scoreData.getCurrentScore());
+        }
+        return publish;
+    }
+
+    /**
+     * Records a score as published.
+     *
+     * @param scoreData the score the broker acknowledged
+     */
+    public void recordPublished(ScoreData scoreData) {
+        lastPublished.put(scoreData.getEventId(), new Published(scoreData.getCurrentScore(), nanoClock.getAsLong()));
+        Counter counter = published;
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Forgets the last published score of an event that is no longer tracked.
+     *
+     * @param eventId the event ID
+     */
+    public void forget(String eventId) {
+        lastPublished.remove(eventId);
+    }
+
+    /**
+     * Gets the number of events with a last published score.
+     *
+     * @return tracked event count
+     */
+    public int getTrackedEventCount() {
+        return lastPublished.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        published = Counter.builder("score.publish.published")
+                .description("Score updates published to Kafka")
+                .tag("policy", policy.name().toLowerCase())
+                .register(registry);
+        skipped = Counter.builder("score.publish.skipped")
+                .description("Unchanged score updates not published to Kafka")
+                .tag("policy", policy.name().toLowerCase())
+                .register(registry);
+    }
+}
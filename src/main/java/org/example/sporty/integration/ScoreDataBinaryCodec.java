@@ -0,0 +1,239 @@
+package org.example.sporty.integration;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.example.sporty.domain.model.ScoreData;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Compact binary encoding of {@link ScoreData} for Kafka records.
+ *
+ * <pre>
+ * magic     1 byte   0xB5, never the first byte of a JSON document
+ * version   1 byte   1
+ * flags     1 byte   which fields are present, and how the score is encoded
+ * eventId   varint length + UTF-8 bytes              (if present)
+ * score     varint home + varint away, for "home:away" scores,
+ *           otherwise varint length + UTF-8 bytes     (if present)
+ * timestamp zigzag varint of epoch milliseconds       (if present)
+ * </pre>
+ *
+ * A typical update takes about a quarter of its JSON size: no field names, and a timestamp of 6 bytes
+ * instead of a 24 to 30 character ISO-8601 string. The timestamp keeps millisecond precision only.
+ * A reader rejects versions it does not know; a new version may only add fields after the existing ones,
+ * behind new flags.
+ */
+public final class ScoreDataBinaryCodec {
+
+    public static final String CONTENT_TYPE = "application/x-score-update";
+
+    static final byte MAGIC = (byte) 0xB5;
+    static final byte VERSION = 1;
+
+    private static final int HAS_EVENT_ID = 1;
+    private static final int HAS_SCORE = 1 << 1;
+    private static final int HAS_TIMESTAMP = 1 << 2;
+    /**
+     * The score is two varints rather than text.
+     */
+    private static final int NUMERIC_SCORE = 1 << 3;
+
+    private static final int HEADER_LENGTH = 3;
+
+    private ScoreDataBinaryCodec() {
+    }
+
+    /**
+     * Encodes score data.
+     *
+     * @param scoreData the score data
+     * @return the record value
+     */
+    public static byte[] encode(ScoreData scoreData) {
+        String eventId = scoreData.getEventId();
+        String score = scoreData.getCurrentScore();
+        Instant timestamp = scoreData.getTimestamp();
+
+        // Sized exactly: one array per record
+        int flags = 0;
+        int length = HEADER_LENGTH;
+        byte[] eventIdBytes = null;
+        if (eventId != null) {
+            flags |= HAS_EVENT_ID;
+            eventIdBytes = eventId.getBytes(StandardCharsets.UTF_8);
+            length += varLongLength(eventIdBytes.length) + eventIdBytes.length;
+        }
+        int home = 0;
+        int away = 0;
+        byte[] scoreBytes = null;
+        if (score != null) {
+            flags |= HAS_SCORE;
+            int separator = numericScoreSeparator(score);
+            if (separator > 0) {
+                flags |= NUMERIC_SCORE;
+                home = Integer.parseInt(score, 0, separator, 10);
+                away = Integer.parseInt(score, separator + 1, score.length(), 10);
+                length += varLongLength(home) + varLongLength(away);
+            } else {
+                scoreBytes = score.getBytes(StandardCharsets.UTF_8);
+                length += varLongLength(scoreBytes.length) + scoreBytes.length;
+            }
+        }
+        long zigzagMillis = 0;
+        if (timestamp != null) {
+            flags |= HAS_TIMESTAMP;
+            long millis = timestamp.toEpochMilli();
+            zigzagMillis = millis << 1 ^ millis >> 63;
+            length += varLongLength(zigzagMillis);
+        }
+
+        byte[] buffer = new byte[length];
+        buffer[0] = MAGIC;
+        buffer[1] = VERSION;
+        buffer[2] = (byte) flags;
+        int position = HEADER_LENGTH;
+        if (eventIdBytes != null) {
+            position = writeBytes(buffer, position, eventIdBytes);
+        }
+        if ((flags & NUMERIC_SCORE) != 0) {
+            position = writeVarLong(buffer, position, home);
+            position = writeVarLong(buffer, position, away);
+        } else if (scoreBytes != null) {
+            position = writeBytes(buffer, position, scoreBytes);
+        }
+        if (timestamp != null) {
+            writeVarLong(buffer, position, zigzagMillis);
+        }
+        return buffer;
+    }
+
+    /**
+     * Decodes score data.
+     *
+     * @param value the record value
+     * @return the score data
+     * @throws SerializationException if the value is not in this format, of an unknown version or truncated
+     */
+    public static ScoreData decode(byte[] value) {
+        if (!isBinary(value)) {
+            throw new SerializationException("Not a binary score record");
+        }
+        if (value.length < HEADER_LENGTH || value[1] != VERSION) {
+            throw new SerializationException("Unsupported binary score record version: "
+                    + (value.length > 1 ? value[1] : "none"));
+        }
+        Reader reader = new Reader(value);
+        int flags = value[2];
+        ScoreData.ScoreDataBuilder scoreData = ScoreData.builder();
+        if ((flags & HAS_EVENT_ID) != 0) {
+            scoreData.eventId(reader.readString());
+        }
+        if ((flags & NUMERIC_SCORE) != 0) {
+            scoreData.currentScore(reader.readVarLong() + ":" + reader.readVarLong());
+        } else if ((flags & HAS_SCORE) != 0) {
+            scoreData.currentScore(reader.readString());
+        }
+        if ((flags & HAS_TIMESTAMP) != 0) {
+            long zigzag = reader.readVarLong();
+            scoreData.timestamp(Instant.ofEpochMilli(zigzag >>> 1 ^ -(zigzag & 1)));
+        }
+        return scoreData.build();
+    }
+
+    /**
+     * Whether the value starts like a binary score record.
+     *
+     * @param value the record value
+     * @return true if the value starts with the magic byte
+     */
+    public static boolean isBinary(byte[] value) {
+        return value != null && value.length > 0 && value[0] == MAGIC;
+    }
+
+    /**
+     * Gets the position of the colon of a {@code home:away} score of non-negative ints written without
+     * leading zeros, so that it reads back as the same text.
+     *
+     * @return the colon position, or -1 if the score is to be kept as text
+     */
+    private static int numericScoreSeparator(String score) {
+        int separator = score.indexOf(':');
+        if (separator < 0 || !isCanonicalInt(score, 0, separator)
+                || !isCanonicalInt(score, separator + 1, score.length())) {
+            return -1;
+        }
+        return separator;
+    }
+
+    private static boolean isCanonicalInt(String text, int start, int end) {
+        int length = end - start;
+        if (length == 0 || length > 9 || length > 1 && text.charAt(start) == '0') {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int varLongLength(long value) {
+        return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    private static int writeBytes(byte[] buffer, int position, byte[] bytes) {
+        position = writeVarLong(buffer, position, bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        return position + bytes.length;
+    }
+
+    private static int writeVarLong(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static final class Reader {
+
+        private final byte[] value;
+        private int position = HEADER_LENGTH;
+
+        Reader(byte[] value) {
+            this.value = value;
+        }
+
+        String readString() {
+            long length = readVarLong();
+            if (length > value.length - position) {
+                throw truncated();
+            }
+            String text = new String(value, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return text;
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position == value.length) {
+                    throw truncated();
+                }
+                byte b = value[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("Malformed varint in binary score record");
+        }
+
+        private SerializationException truncated() {
+            return new SerializationException("Truncated binary score record");
+        }
+    }
+}
@@ -0,0 +1,554 @@
+package org.example.sporty.integration;
+
+import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import org.example.sporty.domain.model.ScoreData;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes provider responses straight into {@link ScoreData}.
+ *
+ * The generic Jackson decoder joins the body's buffers, opens a parser on them and binds the tokens to the
+ * class through the {@code ObjectMapper}: a parser and its context, a deserialization context and a
+ * stream of tokens per response. This decoder instead scans the bytes of each network buffer in place,
+ * without copying it, and picks {@code eventId}, {@code currentScore} and {@code timestamp} off the stream
+ * as it goes: the only objects made per response are the scanner, the field values and the
+ * {@link ScoreData} itself. Field names are matched without being turned into Strings, and other fields,
+ * nested values included, are skipped. The scanner checks the JSON as strictly as Jackson does (syntax,
+ * UTF-8, nesting depth) and keeps its state across buffers, so a body may be split anywhere. Scalars bind
+ * as Jackson binds them: a timestamp may be an ISO-8601 string or epoch seconds, as a number or a string
+ * of digits, with a fraction down to nanoseconds.
+ *
+ * A body holding one object decodes to one {@link ScoreData}; a body holding an array of objects, as the
+ * batch endpoint returns, decodes to one per element, each emitted as soon as its object is complete.
+ */
+public class ScoreDataDecoder extends AbstractDecoder<ScoreData> {
+
+    public ScoreDataDecoder() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return elementType.toClass() == ScoreData.class && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<ScoreData> decode(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType,
+                                  Map<String, Object> hints) {
+        return Flux.defer(() -> {
+            ScoreDataReader reader = new ScoreDataReader();
+            return Flux.from(input)
+                    .concatMapIterable(buffer -> {
+                        try {
+                            reader.feed(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                        return reader.drain();
+                    })
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .concatWith(Mono.fromCallable(() -> {
+                        reader.endOfInput();
+                        return reader.drain();
+                    }).flatMapIterable(scores -> scores));
+        });
+    }
+
+    @Override
+    public Mono<ScoreData> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType,
+                                        Map<String, Object> hints) {
+        return Flux.from(input)
+                .collect(ScoreDataReader::new, (reader, buffer) -> {
+                    try {
+                        reader.feed(buffer);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .handle((reader, sink) -> {
+                    reader.endOfInput();
+                    List<ScoreData> scores = reader.drain();
+                    if (scores.size() > 1) {
+                        sink.error(new DecodingException("Expected one score, got " + scores.size()));
+                    } else if (!scores.isEmpty()) {
+                        sink.next(scores.get(0));
+                    }
+                });
+    }
+
+    /**
+     * Scanner state of one body; not thread-safe, buffers arrive one at a time.
+     */
+    private static final class ScoreDataReader {
+
+        private static final int MAX_DEPTH = 1000;
+
+        /**
+         * Expecting a value (or, right after {@code [}, the end of the array).
+         */
+        private static final int VALUE = 0;
+        /**
+         * Expecting a field name (or, right after <code>{</code>, the end of the object).
+         */
+        private static final int FIELD_NAME = 1;
+        private static final int COLON = 2;
+        /**
+         * Expecting a comma or the end of the enclosing object or array.
+         */
+        private static final int AFTER_VALUE = 3;
+        private static final int STRING = 4;
+        private static final int ESCAPE = 5;
+        private static final int UNICODE_ESCAPE = 6;
+        /**
+         * Inside a number, {@code true}, {@code false} or {@code null}.
+         */
+        private static final int LITERAL = 7;
+
+        private static final int NO_FIELD = 0;
+        private static final int EVENT_ID = 1;
+        private static final int CURRENT_SCORE = 2;
+        private static final int TIMESTAMP = 3;
+
+        private int state = VALUE;
+        private boolean closeAllowed;
+
+        /**
+         * Kind of each open container, by depth: true for an object, false for an array.
+         */
+        private boolean[] objects = new boolean[4];
+        private int depth;
+        private boolean topLevelArray;
+
+        /**
+         * Depth of the score object being read, -1 between objects.
+         */
+        private int objectDepth = -1;
+        private int field = NO_FIELD;
+
+        private char[] text = new char[32];
+        private int textLength;
+        private boolean readingName;
+        private int escapeDigits;
+        private int codePoint;
+        private int utf8Remaining;
+        private int utf8Minimum;
+
+        private String eventId;
+        private String currentScore;
+        private Instant timestamp;
+        private List<ScoreData> decoded = List.of();
+
+        void feed(DataBuffer buffer) {
+            int end = buffer.writePosition();
+            for (int index = buffer.readPosition(); index < end; index++) {
+                next(buffer.getByte(index) & 0xFF);
+            }
+        }
+
+        void endOfInput() {
+            // Scalars are never top-level: any state but these is inside the body
+            boolean empty = state == VALUE && depth == 0;
+            if (!empty && !(state == AFTER_VALUE && depth == 0)) {
+                throw new DecodingException("Incomplete score JSON");
+            }
+        }
+
+        /**
+         * Returns the scores completed since the last call.
+         */
+        List<ScoreData> drain() {
+            List<ScoreData> scores = decoded;
+            decoded = List.of();
+            return scores;
+        }
+
+        private void next(int b) {
+            switch (state) {
+                case STRING -> string(b);
+                case ESCAPE -> escape(b);
+                case UNICODE_ESCAPE -> unicodeEscape(b);
+                case LITERAL -> {
+                    if (isLiteralPart(b)) {
+                        append((char) b);
+                    } else {
+                        endLiteral();
+                        structural(b);
+                    }
+                }
+                default -> structural(b);
+            }
+        }
+
+        private void structural(int b) {
+            if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                return;
+            }
+            switch (state) {
+                case VALUE -> {
+                    if (b == ']' && closeAllowed) {
+                        endContainer();
+                    } else {
+                        startValue(b);
+                    }
+                }
+                case FIELD_NAME -> {
+                    if (b == '"') {
+                        startString(true);
+                    } else if (b == '}' && closeAllowed) {
+                        endContainer();
+                    } else {
+                        throw unexpected(b, "a field name");
+                    }
+                }
+                case COLON -> {
+                    if (b != ':') {
+                        throw unexpected(b, "':'");
+                    }
+                    state = VALUE;
+                    closeAllowed = false;
+                }
+                default -> {
+                    if (depth == 0) {
+                        throw unexpected(b, "the end of the body");
+                    }
+                    boolean inObject = objects[depth - 1];
+                    if (b == ',') {
+                        state = inObject ? FIELD_NAME : VALUE;
+                        closeAllowed = false;
+                    } else if (b == (inObject ? '}' : ']')) {
+                        endContainer();
+                    } else {
+                        throw unexpected(b, inObject ? "',' or '}'" : "',' or ']'");
+                    }
+                }
+            }
+        }
+
+        private void startValue(int b) {
+            if (depth == 0 && b != '{' && b != '[') {
+                throw new DecodingException("Score JSON must be an object or an array");
+            }
+            if (depth == 1 && topLevelArray && b != '{') {
+                throw new DecodingException("Score JSON array must hold objects");
+            }
+            switch (b) {
+                case '{' -> {
+                    startContainer(true);
+                    if (objectDepth < 0 && depth == (topLevelArray ? 2 : 1)) {
+                        objectDepth = depth;
+                        eventId = null;
+                        currentScore = null;
+                        timestamp = null;
+                    }
+                    state = FIELD_NAME;
+                }
+                case '[' -> {
+                    startContainer(false);
+                    topLevelArray |= depth == 1;
+                    state = VALUE;
+                }
+                case '"' -> startString(false);
+                default -> {
+                    if (b != '-' && !isLiteralPart(b)) {
+                        throw unexpected(b, "a value");
+                    }
+                    textLength = 0;
+                    append((char) b);
+                    state = LITERAL;
+                }
+            }
+        }
+
+        private void startContainer(boolean object) {
+            if (depth == MAX_DEPTH) {
+                throw new DecodingException("Score JSON nested deeper than " + MAX_DEPTH);
+            }
+            if (depth == objects.length) {
+                objects = Arrays.copyOf(objects, depth * 2);
+            }
+            objects[depth++] = object;
+            // A container is never the value of a score field
+            field = NO_FIELD;
+            closeAllowed = true;
+        }
+
+        private void endContainer() {
+            if (depth == objectDepth) {
+                if (decoded.isEmpty()) {
+                    decoded = new ArrayList<>(1);
+                }
+                decoded.add(ScoreData.builder()
+                        .eventId(eventId)
+                        .currentScore(currentScore)
+                        .timestamp(timestamp)
+                        .build());
+                objectDepth = -1;
+            }
+            depth--;
+            state = AFTER_VALUE;
+        }
+
+        private void startString(boolean name) {
+            readingName = name;
+            textLength = 0;
+            state = STRING;
+        }
+
+        private void string(int b) {
+            if (utf8Remaining > 0) {
+                if ((b & 0xC0) != 0x80) {
+                    throw new DecodingException("Invalid UTF-8 in score JSON");
+                }
+                codePoint = codePoint << 6 | b & 0x3F;
+                if (--utf8Remaining == 0) {
+                    appendCodePoint(codePoint);
+                }
+            } else if (b == '"') {
+                endString();
+            } else if (b == '\\') {
+                state = ESCAPE;
+            } else if (b < 0x20) {
+                throw new DecodingException("Unescaped control character in score JSON string");
+            } else if (b < 0x80) {
+                append((char) b);
+            } else if (b >= 0xC2 && b < 0xE0) {
+                codePoint = b & 0x1F;
+                utf8Remaining = 1;
+                utf8Minimum = 0x80;
+            } else if (b >= 0xE0 && b < 0xF0) {
+                codePoint = b & 0x0F;
+                utf8Remaining = 2;
+                utf8Minimum = 0x800;
+            } else if (b >= 0xF0 && b < 0xF5) {
+                codePoint = b & 0x07;
+                utf8Remaining = 3;
+                utf8Minimum = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+            } else {
+                throw new DecodingException("Invalid UTF-8 in score JSON");
+            }
+        }
+
+        private void escape(int b) {
+            state = STRING;
+            switch (b) {
+                case '"', '\\', '/' -> append((char) b);
+                case 'b' -> append('\b');
+                case 'f' -> append('\f');
+                case 'n' -> append('\n');
+                case 'r' -> append('\r');
+                case 't' -> append('\t');
+                case 'u' -> {
+                    codePoint = 0;
+                    escapeDigits = 0;
+                    state = UNICODE_ESCAPE;
+                }
+                default -> throw unexpected(b, "an escape character");
+            }
+        }
+
+        private void unicodeEscape(int b) {
+            int digit = Character.digit(b, 16);
+            if (digit < 0) {
+                throw unexpected(b, "a hex digit");
+            }
+            codePoint = codePoint << 4 | digit;
+            if (++escapeDigits == 4) {
+                // Surrogate pairs arrive as two escapes, one char each
+                append((char) codePoint);
+                state = STRING;
+            }
+        }
+
+        private void endString() {
+            if (readingName) {
+                field = depth == objectDepth ? fieldOf() : NO_FIELD;
+                state = COLON;
+                return;
+            }
+            if (field == TIMESTAMP) {
+                String value = new String(text, 0, textLength);
+                try {
+                    // As Jackson does, a string of digits with at most one period is an epoch timestamp too
+                    timestamp = isEpochString() ? epochTimestamp(value) : Instant.parse(value);
+                } catch (DateTimeException | ArithmeticException | NumberFormatException e) {
+                    throw new DecodingException("Invalid score timestamp: " + value, e);
+                }
+            } else if (field != NO_FIELD) {
+                setText(new String(text, 0, textLength));
+            }
+            endValue();
+        }
+
+        private void endLiteral() {
+            if (isText("null")) {
+                // The field keeps its null
+            } else if (field == TIMESTAMP && isNumber()) {
+                String value = new String(text, 0, textLength);
+                try {
+                    timestamp = epochTimestamp(value);
+                } catch (DateTimeException | ArithmeticException | NumberFormatException e) {
+                    throw new DecodingException("Invalid score timestamp: " + value, e);
+                }
+            } else if (isText("true") || isText("false") || isNumber()) {
+                if (field == TIMESTAMP) {
+                    throw new DecodingException("Score timestamp must be an ISO-8601 string or epoch seconds");
+                }
+                if (field != NO_FIELD) {
+                    // As Jackson does, a scalar read into a String field keeps its text
+                    setText(new String(text, 0, textLength));
+                }
+            } else {
+                throw new DecodingException("Invalid value in score JSON: " + new String(text, 0, textLength));
+            }
+            endValue();
+        }
+
+        private void endValue() {
+            field = NO_FIELD;
+            state = AFTER_VALUE;
+        }
+
+        private void setText(String value) {
+            if (field == EVENT_ID) {
+                eventId = value;
+            } else {
+                currentScore = value;
+            }
+        }
+
+        /**
+         * Reads a numeric timestamp as Jackson's {@code InstantDeserializer} does: epoch seconds (not
+         * milliseconds), an integer within the range of a long, or a decimal with a fraction down to nanoseconds.
+         */
+        private static Instant epochTimestamp(String value) {
+            if (value.indexOf('.') < 0 && value.indexOf('e') < 0 && value.indexOf('E') < 0) {
+                return Instant.ofEpochSecond(Long.parseLong(value));
+            }
+            return DecimalUtils.extractSecondsAndNanos(new BigDecimal(value), Instant::ofEpochSecond);
+        }
+
+        /**
+         * Whether the string value is digits with at most one period, which Jackson reads as a number.
+         */
+        private boolean isEpochString() {
+            int periods = 0;
+            for (int i = 0; i < textLength; i++) {
+                if (text[i] == '.') {
+                    periods++;
+                } else if (text[i] < '0' || text[i] > '9') {
+                    return false;
+                }
+            }
+            return textLength > 0 && periods <= 1;
+        }
+
+        private int fieldOf() {
+            if (isText("eventId")) {
+                return EVENT_ID;
+            }
+            if (isText("currentScore")) {
+                return CURRENT_SCORE;
+            }
+            return isText("timestamp") ? TIMESTAMP : NO_FIELD;
+        }
+
+        private boolean isText(String value) {
+            if (textLength != value.length()) {
+                return false;
+            }
+            for (int i = 0; i < textLength; i++) {
+                if (text[i] != value.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Whether the literal is a JSON number: {@code -?(0|[1-9]\d*)(\.\d+)?([eE][+-]?\d+)?}.
+         */
+        private boolean isNumber() {
+            int i = text[0] == '-' ? 1 : 0;
+            int integerStart = i;
+            i = skipDigits(i);
+            if (i == integerStart || text[integerStart] == '0' && i - integerStart > 1) {
+                return false;
+            }
+            if (i < textLength && text[i] == '.') {
+                int fractionStart = ++i;
+                i = skipDigits(i);
+                if (i == fractionStart) {
+                    return false;
+                }
+            }
+            if (i < textLength && (text[i] == 'e' || text[i] == 'E')) {
+                i++;
+                if (i < textLength && (text[i] == '+' || text[i] == '-')) {
+                    i++;
+                }
+                int exponentStart = i;
+                i = skipDigits(i);
+                if (i == exponentStart) {
+                    return false;
+                }
+            }
+            return i == textLength;
+        }
+
+        private int skipDigits(int i) {
+            while (i < textLength && text[i] >= '0' && text[i] <= '9') {
+                i++;
+            }
+            return i;
+        }
+
+        private void appendCodePoint(int value) {
+            // Overlong encodings, encoded surrogates and values past U+10FFFF are invalid
+            if (value < utf8Minimum || value > Character.MAX_CODE_POINT
+                    || value >= Character.MIN_SURROGATE && value <= Character.MAX_SURROGATE) {
+                throw new DecodingException("Invalid UTF-8 in score JSON");
+            }
+            if (value >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                append(Character.highSurrogate(value));
+                append(Character.lowSurrogate(value));
+            } else {
+                append((char) value);
+            }
+        }
+
+        private void append(char c) {
+            if (textLength == text.length) {
+                text = Arrays.copyOf(text, textLength * 2);
+            }
+            text[textLength++] = c;
+        }
+
+        private static boolean isLiteralPart(int b) {
+            return b >= '0' && b <= '9' || b >= 'a' && b <= 'z' || b >= 'A' && b <= 'Z'
+                    || b == '-' || b == '+' || b == '.';
+        }
+
+        private static DecodingException unexpected(int b, String expected) {
+            String found = b >= 0x20 && b < 0x7F ? "'" + (char) b + "'" : String.format("0x%02X", b);
+            return new DecodingException("Unexpected " + found + " in score JSON, expected " + expected);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.sporty.integration;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.example.sporty.domain.model.ScoreData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Kafka deserializer of score records for consumers of the score topic, in either {@link ScoreMessageFormat}.
+ *
+ * The format is taken from the record's {@value ScoreMessageFormat#CONTENT_TYPE_HEADER} header; records
+ * without it (published before the header was added, or by another producer) are told apart by their first
+ * byte, which is never the binary magic byte in JSON. Consumers can switch to this deserializer first and
+ * keep reading while the producer moves from JSON to binary.
+ */
+public class ScoreDataDeserializer implements Deserializer<ScoreData> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Override
+    public ScoreData deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public ScoreData deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header contentType = headers != null ? headers.lastHeader(ScoreMessageFormat.CONTENT_TYPE_HEADER) : null;
+        boolean binary = contentType == null
+                ? ScoreDataBinaryCodec.isBinary(data)
+                : isBinary(new String(contentType.value(), StandardCharsets.UTF_8));
+        if (binary) {
+            return ScoreDataBinaryCodec.decode(data);
+        }
+        try {
+            return objectMapper.readValue(data, ScoreData.class);
+        } catch (IOException e) {
+            throw new SerializationException("Invalid JSON score record on topic " + topic, e);
+        }
+    }
+
+    private static boolean isBinary(String contentType) {
+        if (contentType.equals(ScoreMessageFormat.BINARY.getContentType())) {
+            return true;
+        }
+        if (contentType.startsWith(ScoreMessageFormat.JSON.getContentType())) {
+            return false;
+        }
+        throw new SerializationException("Unsupported score record content type: " + contentType);
+    }
+}
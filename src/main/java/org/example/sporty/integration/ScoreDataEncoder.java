@@ -0,0 +1,228 @@
+package org.example.sporty.integration;
+
+import com.fasterxml.jackson.core.io.CharTypes;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import org.example.sporty.domain.model.ScoreData;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Encodes the {@link ScoreData} published to Kafka as JSON.
+ *
+ * Writes the same JSON the application's {@code ObjectMapper} writes ({@code timestamp} as ISO-8601, then
+ * {@code eventId} and {@code currentScore}, nulls included), but without going through serializers: the
+ * length of the UTF-8 message is worked out first, and the message is written straight into a byte array of
+ * that length, the record value, so it is never grown, copied or built as a String first.
+ */
+@Component
+public class ScoreDataEncoder {
+
+    private static final byte[] TIMESTAMP = ascii("{\"timestamp\":");
+    private static final byte[] EVENT_ID = ascii(",\"eventId\":");
+    private static final byte[] CURRENT_SCORE = ascii(",\"currentScore\":");
+    private static final byte[] NULL = ascii("null");
+
+    private static final int FIXED_LENGTH = TIMESTAMP.length + EVENT_ID.length + CURRENT_SCORE.length + 1;
+
+    /**
+     * Length of {@code yyyy-MM-ddTHH:mm:ssZ}, before any fraction of a second.
+     */
+    private static final int SECONDS_TIMESTAMP_LENGTH = 20;
+
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000,
+            100_000_000};
+
+    /**
+     * Escapes of the ASCII characters as Jackson writes them: 0 for none, the character following the
+     * backslash, or {@link CharacterEscapes#ESCAPE_STANDARD} for a hexadecimal escape of the character code.
+     */
+    private static final int[] ESCAPES = CharTypes.get7BitOutputEscapes();
+
+    private static final byte[] HEX_DIGITS = ascii("0123456789ABCDEF");
+
+    /**
+     * Encodes score data as a JSON message.
+     *
+     * @param scoreData the score data
+     * @return the JSON message
+     */
+    public String encode(ScoreData scoreData) {
+        return new String(encodeToBytes(scoreData), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes score data as a UTF-8 JSON message, the value of a Kafka record.
+     *
+     * @param scoreData the score data
+     * @return the JSON message, in an array of exactly its length
+     */
+    public byte[] encodeToBytes(ScoreData scoreData) {
+        String eventId = scoreData.getEventId();
+        String currentScore = scoreData.getCurrentScore();
+        Instant timestamp = scoreData.getTimestamp();
+
+        LocalDateTime time = null;
+        String formattedTimestamp = null;
+        int timestampLength = NULL.length;
+        if (timestamp != null) {
+            time = LocalDateTime.ofEpochSecond(timestamp.getEpochSecond(), 0, ZoneOffset.UTC);
+            if (time.getYear() < 0 || time.getYear() > 9999) {
+                // Signed or longer years, as DateTimeFormatter.ISO_INSTANT writes them
+                formattedTimestamp = DateTimeFormatter.ISO_INSTANT.format(timestamp);
+                timestampLength = formattedTimestamp.length() + 2;
+            } else {
+                timestampLength = SECONDS_TIMESTAMP_LENGTH + fractionLength(timestamp.getNano()) + 2;
+            }
+        }
+
+        byte[] json = new byte[FIXED_LENGTH + timestampLength + encodedLength(eventId)
+                + encodedLength(currentScore)];
+        int position = write(json, 0, TIMESTAMP);
+        if (timestamp == null) {
+            position = write(json, position, NULL);
+        } else {
+            json[position++] = '"';
+            position = formattedTimestamp == null
+                    ? writeInstant(json, position, time, timestamp.getNano())
+                    : write(json, position, ascii(formattedTimestamp));
+            json[position++] = '"';
+        }
+        position = writeString(json, write(json, position, EVENT_ID), eventId);
+        position = writeString(json, write(json, position, CURRENT_SCORE), currentScore);
+        json[position] = '}';
+        return json;
+    }
+
+    /**
+     * Writes the instant as {@link DateTimeFormatter#ISO_INSTANT} does, without its formatting context
+     * for years 0 to 9999.
+     */
+    private static int writeInstant(byte[] json, int position, LocalDateTime time, int nanos) {
+        position = writePadded(json, position, time.getYear(), 4);
+        json[position++] = '-';
+        position = writePadded(json, position, time.getMonthValue(), 2);
+        json[position++] = '-';
+        position = writePadded(json, position, time.getDayOfMonth(), 2);
+        json[position++] = 'T';
+        position = writePadded(json, position, time.getHour(), 2);
+        json[position++] = ':';
+        position = writePadded(json, position, time.getMinute(), 2);
+        json[position++] = ':';
+        position = writePadded(json, position, time.getSecond(), 2);
+        if (nanos > 0) {
+            json[position++] = '.';
+            // Milli-, micro- or nanosecond digits, as few as the value needs
+            if (nanos % 1_000_000 == 0) {
+                position = writePadded(json, position, nanos / 1_000_000, 3);
+            } else if (nanos % 1_000 == 0) {
+                position = writePadded(json, position, nanos / 1_000, 6);
+            } else {
+                position = writePadded(json, position, nanos, 9);
+            }
+        }
+        json[position++] = 'Z';
+        return position;
+    }
+
+    private static int fractionLength(int nanos) {
+        if (nanos == 0) {
+            return 0;
+        }
+        if (nanos % 1_000_000 == 0) {
+            return 4;
+        }
+        return nanos % 1_000 == 0 ? 7 : 10;
+    }
+
+    private static int writePadded(byte[] json, int position, int value, int digits) {
+        for (int divisor = POWERS_OF_TEN[digits - 1]; divisor > 0; divisor /= 10) {
+            json[position++] = (byte) ('0' + value / divisor % 10);
+        }
+        return position;
+    }
+
+    /**
+     * Gets the length of a string value once quoted, escaped and encoded as UTF-8.
+     */
+    private static int encodedLength(String value) {
+        if (value == null) {
+            return NULL.length;
+        }
+        int length = 2;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                int escape = ESCAPES[c];
+                length += escape == 0 ? 1 : escape > 0 ? 2 : 6;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+
+    private static int writeString(byte[] json, int position, String value) {
+        if (value == null) {
+            return write(json, position, NULL);
+        }
+        json[position++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                int escape = ESCAPES[c];
+                if (escape == 0) {
+                    json[position++] = (byte) c;
+                } else if (escape > 0) {
+                    json[position++] = '\\';
+                    json[position++] = (byte) escape;
+                } else {
+                    json[position++] = '\\';
+                    json[position++] = 'u';
+                    json[position++] = '0';
+                    json[position++] = '0';
+                    json[position++] = HEX_DIGITS[c >> 4];
+                    json[position++] = HEX_DIGITS[c & 0xF];
+                }
+            } else if (c < 0x800) {
+                json[position++] = (byte) (0xC0 | c >> 6);
+                json[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                json[position++] = (byte) (0xF0 | codePoint >> 18);
+                json[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                json[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                json[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                // An unpaired surrogate has no UTF-8 encoding; replaced as String.getBytes does
+                json[position++] = '?';
+            } else {
+                json[position++] = (byte) (0xE0 | c >> 12);
+                json[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                json[position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        json[position++] = '"';
+        return position;
+    }
+
+    private static int write(byte[] json, int position, byte[] bytes) {
+        System.arraycopy(bytes, 0, json, position, bytes.length);
+        return position + bytes.length;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.ScoreData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Groups per-event score fetches that come due together into batch provider calls.
+ *
+ * Each {@link #fetch(String)} queues the event; the queue is cut into batches of at most
+ * {@code maxSize} events, or whatever arrived within {@code maxWait} of the first queued event.
+ * Each batch is one {@link ExternalApiClient#fetchEventScores} call (one round trip, one rate limit
+ * token), and its results are fanned back out to the waiting fetches. A batch that fails fails all
+ * of its fetches; an event missing from the response completes empty. A fetch of an event that is
+ * already queued or in a batch in flight joins that fetch.
+ * The size of the batches sent is exposed as the {@code external.api.batch.size} summary.
+ *
+ * When disabled, fetches go straight to {@link ExternalApiClient#fetchEventScore}.
+ */
+@Slf4j
+@Component
+public class ScoreFetchBatcher implements MeterBinder {
+
+    private record PendingFetch(String eventId, CompletableFuture<ScoreData> result) {
+    }
+
+    private final ExternalApiClient externalApiClient;
+    private final boolean enabled;
+    private final Sinks.Many<PendingFetch> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable subscription;
+    private final SingleFlight<ScoreData> pendingFetches = new SingleFlight<>();
+
+    private volatile DistributionSummary batchSizes;
+
+    public ScoreFetchBatcher(
+            ExternalApiClient externalApiClient,
+            @Value("${external.api.batch.enabled:false}") boolean enabled,
+            @Value("${external.api.batch.max-size:100}") int maxSize,
+            @Value("${external.api.batch.max-wait:50ms}") Duration maxWait,
+            @Value("${external.api.batch.max-concurrent-batches:4}") int maxConcurrentBatches) {
+        this.externalApiClient = externalApiClient;
+        this.enabled = enabled;
+        this.subscription = enabled
+                ? queue.asFlux()
+                        // While every batch slot is busy, the next batch keeps filling instead of overflowing
+                        .bufferTimeout(maxSize, maxWait, true)
+                        .flatMap(this::fetchBatch, maxConcurrentBatches)
+                        .subscribe()
+                : null;
+
+        if (enabled) {
+            log.info("Batch score fetch enabled (max size: {}, max wait: {})", maxSize, maxWait);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Fetches the score of an event, in a batch with other events when batching is enabled.
+     *
+     * @param eventId the event ID
+     * @return Mono of the score data; empty if the provider returned none for the event
+     */
+    public Mono<ScoreData> fetch(String eventId) {
+        if (!enabled) {
+            return externalApiClient.fetchEventScore(eventId);
+        }
+        return pendingFetches.execute(eventId, this::enqueue);
+    }
+
+    private Mono<ScoreData> enqueue(String eventId) {
+        CompletableFuture<ScoreData> result = new CompletableFuture<>();
+        // Fetches come from many scheduler threads; spin on concurrent emissions, and fail the fetch
+        // rather than leave it waiting if the batcher is shut down
+        Sinks.EmitResult emitted;
+        while ((emitted = queue.tryEmitNext(new PendingFetch(eventId, result)))
+                == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+            Thread.onSpinWait();
+        }
+        if (emitted.isFailure()) {
+            result.completeExceptionally(new IllegalStateException(
+                    "Batch score fetch is shut down (" + emitted + ")"));
+        }
+        return Mono.fromFuture(result);
+    }
+
+    private Mono<Void> fetchBatch(List<PendingFetch> batch) {
+        Map<String, List<CompletableFuture<ScoreData>>> waiting = new LinkedHashMap<>();
+        batch.forEach(fetch -> waiting.computeIfAbsent(fetch.eventId(), id -> new ArrayList<>()).add(fetch.result()));
+
+        DistributionSummary summary = batchSizes;
+        if (summary != null) {
+            summary.record(waiting.size());
+        }
+        log.debug("Fetching batch of {} events", waiting.size());
+
+        return externalApiClient.fetchEventScores(waiting.keySet())
+                .collectMap(ScoreData::getEventId)
+                .doOnNext(scores -> waiting.forEach((eventId, results) ->
+                        results.forEach(result -> result.complete(scores.get(eventId)))))
+                .doOnError(error -> waiting.values().forEach(results ->
+                        results.forEach(result -> result.completeExceptionally(error))))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        batchSizes = DistributionSummary.builder("external.api.batch.size")
+                .description("Distinct events per batch provider call")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.sporty.integration;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wire format of the score records published to Kafka, announced in each record's
+ * {@value #CONTENT_TYPE_HEADER} header.
+ */
+public enum ScoreMessageFormat {
+
+    /**
+     * JSON text, as written by the {@link ScoreDataEncoder}.
+     */
+    JSON("application/json"),
+
+    /**
+     * Compact binary encoding, as written by the {@link ScoreDataBinaryCodec}.
+     */
+    BINARY(ScoreDataBinaryCodec.CONTENT_TYPE);
+
+    /**
+     * Name of the record header holding the content type (Spring's {@code contentType} message header).
+     */
+    public static final String CONTENT_TYPE_HEADER = "contentType";
+
+    private final String contentType;
+    private final byte[] contentTypeBytes;
+
+    ScoreMessageFormat(String contentType) {
+        this.contentType = contentType;
+        this.contentTypeBytes = contentType.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Gets the content type as header value; shared, not to be modified.
+     */
+    byte[] contentTypeHeader() {
+        return contentTypeBytes;
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.sporty.integration;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One source of event scores: a provider or a mirror of it, with its own client and circuit breaker.
+ *
+ * Keeps an exponentially weighted moving average (EWMA) of the latency and of the error rate of the calls
+ * made to it, which {@link ProviderRouter} ranks providers by. Every answered call moves the averages
+ * {@code ewmaAlpha} of the way towards its own outcome, so older calls weigh less and less.
+ * Only the provider's answers count: calls rejected on our side, or cancelled because another
+ * provider answered first, leave the averages as they are.
+ */
+public class ScoreProvider {
+
+    private final String name;
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final double ewmaAlpha;
+
+    /**
+     * Latency EWMA in nanoseconds, negative until the first answer; guarded by this.
+     */
+    private double latencyEwma = -1;
+    private double errorEwma;
+
+    /**
+     * Creates a score provider.
+     *
+     * @param name name of the provider, used in logs and metric tags
+     * @param webClient client with the provider's base URL
+     * @param circuitBreaker circuit breaker of the provider
+     * @param ewmaAlpha weight, between 0 and 1, of each new call in the averages
+     */
+    public ScoreProvider(String name, WebClient webClient, CircuitBreaker circuitBreaker, double ewmaAlpha) {
+        if (ewmaAlpha <= 0 || ewmaAlpha > 1) {
+            throw new IllegalArgumentException("EWMA alpha must be in (0, 1]: " + ewmaAlpha);
+        }
+        this.name = name;
+        this.webClient = webClient;
+        this.circuitBreaker = circuitBreaker;
+        this.ewmaAlpha = ewmaAlpha;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public WebClient getWebClient() {
+        return webClient;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Gets the moving average of the provider's latency.
+     *
+     * @return latency EWMA in milliseconds, or -1 if the provider has not answered yet
+     */
+    public synchronized double getLatencyMillis() {
+        return latencyEwma < 0 ? -1 : latencyEwma / 1_000_000;
+    }
+
+    /**
+     * Gets the moving average of the provider's error rate.
+     *
+     * @return error rate EWMA, between 0 and 1
+     */
+    public synchronized double getErrorRate() {
+        return errorEwma;
+    }
+
+    /**
+     * Whether calls to the provider can go through, i.e. its circuit is not open.
+     *
+     * @return false while the provider's circuit is open
+     */
+    public boolean isAvailable() {
+        return circuitBreaker.getState() != CircuitBreaker.State.OPEN;
+    }
+
+    /**
+     * Expected time to get a valid answer from the provider: its latency, stretched by the calls that
+     * fail and have to be made again. A provider that never answered costs nothing, so it is tried.
+     */
+    synchronized double cost() {
+        return Math.max(0, latencyEwma) / Math.max(0.01, 1 - errorEwma);
+    }
+
+    /**
+     * Records the latency and outcome of every subscription to {@code call} in the averages.
+     *
+     * @param call the call to the provider
+     * @param <T> the result type
+     * @return the call
+     */
+    <T> Mono<T> track(Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return call
+                    .doOnSuccess(result -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            record(System.nanoTime() - start, false);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (!(error instanceof ProviderCallRejectedException) && recorded.compareAndSet(false, true)) {
+                            record(System.nanoTime() - start, CircuitBreaker.isFailure(error));
+                        }
+                    });
+        });
+    }
+
+    synchronized void record(long latencyNanos, boolean failed) {
+        latencyEwma = latencyEwma < 0 ? latencyNanos : latencyEwma + ewmaAlpha * (latencyNanos - latencyEwma);
+        errorEwma += ewmaAlpha * ((failed ? 1 : 0) - errorEwma);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.sporty.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.ScoreData;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Client for the external API's score stream: a long-lived Server-Sent Events response carrying
+ * a {@code score} event whenever the score of one of the subscribed events changes.
+ *
+ * Every event has an id; sending the last one seen as {@code Last-Event-ID} on reconnect resumes the
+ * stream where it broke off. Comment-only events are heartbeats. Reconnecting is up to the caller
+ * ({@code ScoreStreamService}).
+ */
+@Slf4j
+@Component
+public class ScoreStreamClient {
+
+    public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<ScoreData>> SCORE_EVENT =
+            new ParameterizedTypeReference<>() { };
+
+    private final WebClient webClient;
+
+    public ScoreStreamClient(
+            @Qualifier("providerWebClientBuilder") WebClient.Builder webClientBuilder,
+            @Value("${external.api.base-url}") String apiBaseUrl) {
+        this.webClient = webClientBuilder
+                .baseUrl(apiBaseUrl)
+                .build();
+    }
+
+    /**
+     * Opens the score stream of a set of events.
+     * The event IDs are sent in the request body, as there can be more than fit in a URL.
+     *
+     * @param eventIds the event IDs
+     * @param lastEventId id of the last event received on a previous connection, or null
+     * @return Flux of the stream's events, completing when the provider closes the stream
+     */
+    public Flux<ServerSentEvent<ScoreData>> stream(Collection<String> eventIds, String lastEventId) {
+        log.debug("Opening score stream for {} events (last event id: {})", eventIds.size(), lastEventId);
+
+        return webClient.post()
+                .uri("/events/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (lastEventId != null) {
+                        headers.set(LAST_EVENT_ID, lastEventId);
+                    }
+                })
+                .bodyValue(Map.of("eventIds", eventIds))
+                .retrieve()
+                .bodyToFlux(SCORE_EVENT);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.sporty.integration;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent calls for the same key into one in-flight call.
+ *
+ * The first caller for a key starts the call; callers arriving while it runs subscribe to the
+ * same result instead of starting their own. The entry is dropped once the call terminates, so
+ * the next caller starts a fresh call. The call is cancelled only when every caller has cancelled.
+ *
+ * @param <T> result type
+ */
+final class SingleFlight<T> {
+
+    private final Map<String, Mono<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Joins the in-flight call for a key, or starts one.
+     *
+     * @param key the key calls are coalesced on
+     * @param call starts the call for a key; invoked at most once per in-flight call
+     * @return Mono of the shared result
+     */
+    Mono<T> execute(String key, Function<String, Mono<T>> call) {
+        // The entry goes before the result reaches the callers: a caller reacting to it starts afresh
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> call.apply(k)
+                .doOnTerminate(() -> inFlight.remove(k))
+                .doOnCancel(() -> inFlight.remove(k))
+                .share()));
+    }
+
+    /**
+     * Gets the number of keys with a call in flight.
+     *
+     * @return in-flight call count
+     */
+    int size() {
+        return inFlight.size();
+    }
+}
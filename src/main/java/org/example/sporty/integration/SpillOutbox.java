@@ -0,0 +1,262 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.persistence.SpillLog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Disk-backed outbox of the score updates Kafka did not take.
+ *
+ * The {@link KafkaEventPublisher} spills a record here when the broker did not acknowledge it, or when
+ * its partition's in-flight window is full; while records are spilled, new ones are spilled behind them,
+ * so that no event's score is published ahead of an older one. Records are kept in a {@link SpillLog}
+ * (memory-mapped segments, bounded on disk, with a drop policy when full), in the
+ * {@link ScoreDataBinaryCodec} encoding.
+ *
+ * A background drainer replays the records in order every {@code drainInterval}: a batch is sent, and
+ * only consumed once every record of it was acknowledged. After a failed batch, the next attempt sends a
+ * single record, so that a broker still down does not get a whole batch to time out on (and to deliver
+ * late, as duplicates of the retried batch). Delivery is at least once.
+ *
+ * <ul>
+ *   <li>{@code kafka.spill.backlog} - gauge of records waiting to be replayed</li>
+ *   <li>{@code kafka.spill.size} - gauge of disk space taken by the segments, in bytes</li>
+ *   <li>{@code kafka.spill.spilled} - counter of records spilled</li>
+ *   <li>{@code kafka.spill.drained} - counter of spilled records acknowledged by the broker</li>
+ *   <li>{@code kafka.spill.dropped} - counter of records dropped because the spill log was full</li>
+ * </ul>
+ */
+@Slf4j
+public class SpillOutbox implements MeterBinder {
+
+    private final SpillLog spillLog;
+    private final int drainBatchSize;
+    private final Duration drainInterval;
+    private final long ackTimeoutMillis;
+
+    private ScheduledExecutorService drainer;
+    private boolean brokerAvailable = true;
+
+    private volatile Counter spilled;
+    private volatile Counter drained;
+
+    /**
+     * Creates an outbox.
+     *
+     * @param spillLog the log holding spilled records
+     * @param drainBatchSize most records replayed at once
+     * @param drainInterval pause between drains, and after a failed one
+     * @param ackTimeout how long a replayed batch waits for its acknowledgements
+     */
+    public SpillOutbox(SpillLog spillLog, int drainBatchSize, Duration drainInterval, Duration ackTimeout) {
+        if (drainBatchSize <= 0) {
+            throw new IllegalArgumentException("Drain batch size must be positive: " + drainBatchSize);
+        }
+        this.spillLog = spillLog;
+        this.drainBatchSize = drainBatchSize;
+        this.drainInterval = drainInterval;
+        this.ackTimeoutMillis = ackTimeout.toMillis();
+
+        log.info("Spilling unpublished score updates to disk (drop policy: {}, {} records to replay)",
+                spillLog.getDropPolicy(), spillLog.getBacklog());
+    }
+
+    /**
+     * Creates an outbox that spills nothing.
+     *
+     * @return disabled outbox
+     */
+    public static SpillOutbox disabled() {
+        return new SpillOutbox();
+    }
+
+    private SpillOutbox() {
+        this.spillLog = null;
+        this.drainBatchSize = 0;
+        this.drainInterval = Duration.ZERO;
+        this.ackTimeoutMillis = 0;
+    }
+
+    public boolean isEnabled() {
+        return spillLog != null;
+    }
+
+    /**
+     * Whether records are waiting to be replayed; new records then have to be spilled behind them.
+     *
+     * @return true if the spill log is not empty
+     */
+    public boolean hasBacklog() {
+        return spillLog != null && spillLog.getBacklog() > 0;
+    }
+
+    /**
+     * Spills a score update, to be replayed once Kafka takes records again.
+     *
+     * @param scoreData the score data
+     * @return false if the outbox is disabled, or the record was dropped because the spill log is full
+     */
+    public boolean spill(ScoreData scoreData) {
+        if (spillLog == null) {
+            return false;
+        }
+        if (!spillLog.append(ByteBuffer.wrap(ScoreDataBinaryCodec.encode(scoreData)))) {
+            log.warn("Spill log full, dropping score update for event {}", scoreData.getEventId());
+            return false;
+        }
+        increment(spilled);
+        return true;
+    }
+
+    /**
+     * Starts replaying spilled records in the background.
+     *
+     * @param publisher sends a record to Kafka, bypassing the outbox; the future completes on acknowledgement
+     */
+    public synchronized void startDraining(Function<ScoreData, CompletableFuture<?>> publisher) {
+        if (spillLog == null || drainer != null) {
+            return;
+        }
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spill-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainer.scheduleWithFixedDelay(() -> drain(publisher), 0, drainInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Replays spilled records until none are left or Kafka fails to acknowledge a batch.
+     *
+     * @param publisher sends a record to Kafka; the future completes on acknowledgement
+     * @return number of records replayed
+     */
+    int drain(Function<ScoreData, CompletableFuture<?>> publisher) {
+        int replayed = 0;
+        try {
+            while (true) {
+                SpillLog.Batch batch = spillLog.peek(brokerAvailable ? drainBatchSize : 1);
+                if (batch.isEmpty()) {
+                    return replayed;
+                }
+                if (!replay(batch, publisher)) {
+                    return replayed;
+                }
+                spillLog.advance(batch);
+                increment(drained, batch.records().size());
+                replayed += batch.records().size();
+                if (!hasBacklog()) {
+                    log.info("Replayed all spilled score updates");
+                }
+            }
+        } catch (RuntimeException e) {
+            // Keeps the drainer scheduled
+            log.error("Failed to replay spilled score updates: {}", e.getMessage(), e);
+            return replayed;
+        }
+    }
+
+    private boolean replay(SpillLog.Batch batch, Function<ScoreData, CompletableFuture<?>> publisher) {
+        List<CompletableFuture<?>> acknowledgements = new ArrayList<>(batch.records().size());
+        for (byte[] record : batch.records()) {
+            ScoreData scoreData;
+            try {
+                scoreData = ScoreDataBinaryCodec.decode(record);
+            } catch (SerializationException e) {
+                log.error("Skipping unreadable spilled score update: {}", e.getMessage());
+                continue;
+            }
+            acknowledgements.add(publisher.apply(scoreData));
+        }
+        try {
+            CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new))
+                    .get(ackTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            if (brokerAvailable) {
+                log.warn("Kafka did not take spilled score updates ({} waiting), retrying every {}: {}",
+                        spillLog.getBacklog(), drainInterval, e.toString());
+            }
+            brokerAvailable = false;
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        brokerAvailable = true;
+        return true;
+    }
+
+    private static void increment(Counter counter) {
+        increment(counter, 1);
+    }
+
+    private static void increment(Counter counter, int amount) {
+        if (counter != null) {
+            counter.increment(amount);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (spillLog == null) {
+            return;
+        }
+        Gauge.builder("kafka.spill.backlog", spillLog, SpillLog::getBacklog)
+                .description("Spilled score updates waiting to be replayed to Kafka")
+                .register(registry);
+        Gauge.builder("kafka.spill.size", spillLog, SpillLog::getSizeBytes)
+                .description("Disk space taken by the spill log segments")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("kafka.spill.dropped", spillLog, SpillLog::getDropped)
+                .description("Score updates dropped because the spill log was full")
+                .register(registry);
+        spilled = Counter.builder("kafka.spill.spilled")
+                .description("Score updates spilled to disk")
+                .register(registry);
+        drained = Counter.builder("kafka.spill.drained")
+                .description("Spilled score updates replayed and acknowledged")
+                .register(registry);
+    }
+
+    /**
+     * Stops the drainer and closes the spill log; spilled records are replayed on the next start.
+     */
+    public synchronized void shutdown() {
+        if (spillLog == null) {
+            return;
+        }
+        if (drainer != null) {
+            drainer.shutdownNow();
+            try {
+                drainer.awaitTermination(ackTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            spillLog.close();
+        } catch (IOException e) {
+            log.warn("Failed to close spill log: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.PriorityTier;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Global token bucket in front of the external provider: at most {@code permitsPerSecond} calls per
+ * second on average, with bursts of up to {@code burst} calls.
+ *
+ * Implemented as a lock-free reservation (GCRA): a call reserves the next token with a single CAS and
+ * learns how long it has to wait for it. Under {@link RateLimitPolicy#DELAY} the call is subscribed
+ * after that wait on a Reactor timer, so no thread is held; calls that would wait longer than
+ * {@code maxWait} are dropped. Under {@link RateLimitPolicy#SHED} every call without an immediately
+ * available token is dropped. Dropped calls fail with {@link RateLimitExceededException}.
+ *
+ * With tier shares, a call made for a {@link PriorityTier} (see {@link #forTier}) also takes a token from
+ * its tier's own bucket, refilled at the tier's share of the rate. A flood of low-tier calls then uses up
+ * its share only, and the rest of the rate stays free for the other tiers: premium calls never wait behind
+ * them. Calls without a tier, or of a tier without a share, take from the shared bucket only.
+ *
+ * <ul>
+ *   <li>{@code external.api.rate-limit.tokens} - counter of tokens consumed</li>
+ *   <li>{@code external.api.rate-limit.wait} - timer of waits for a token</li>
+ *   <li>{@code external.api.rate-limit.dropped} - counter of dropped calls</li>
+ * </ul>
+ */
+@Slf4j
+public class TokenBucketRateLimiter implements MeterBinder {
+
+    private final boolean enabled;
+    private final RateLimitPolicy policy;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoClock;
+    private final Map<PriorityTier, TokenBucketRateLimiter> tierBuckets;
+
+    /**
+     * Theoretical arrival time of the next call, in {@link #nanoClock} time.
+     */
+    private final AtomicLong theoreticalArrival;
+
+    private volatile Counter tokens;
+    private volatile Timer waits;
+    private volatile Counter dropped;
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param enabled whether calls are limited at all
+     * @param permitsPerSecond sustained call rate
+     * @param burst number of calls that may be made back to back after an idle period
+     * @param policy what happens to calls over budget
+     * @param maxWait longest wait for a token under {@link RateLimitPolicy#DELAY}
+     */
+    public TokenBucketRateLimiter(boolean enabled, double permitsPerSecond, int burst,
+                                  RateLimitPolicy policy, Duration maxWait) {
+        this(enabled, permitsPerSecond, burst, policy, maxWait, Map.of(), System::nanoTime);
+    }
+
+    /**
+     * Creates a rate limiter that caps the calls of some tiers to a share of the rate.
+     *
+     * @param enabled whether calls are limited at all
+     * @param permitsPerSecond sustained call rate
+     * @param burst number of calls that may be made back to back after an idle period
+     * @param policy what happens to calls over budget
+     * @param maxWait longest wait for a token under {@link RateLimitPolicy#DELAY}
+     * @param tierShares share of the rate (and burst), between 0 and 1, each capped tier may take
+     */
+    public TokenBucketRateLimiter(boolean enabled, double permitsPerSecond, int burst,
+                                  RateLimitPolicy policy, Duration maxWait, Map<PriorityTier, Double> tierShares) {
+        this(enabled, permitsPerSecond, burst, policy, maxWait, tierShares, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(boolean enabled, double permitsPerSecond, int burst,
+                           RateLimitPolicy policy, Duration maxWait, LongSupplier nanoClock) {
+        this(enabled, permitsPerSecond, burst, policy, maxWait, Map.of(), nanoClock);
+    }
+
+    TokenBucketRateLimiter(boolean enabled, double permitsPerSecond, int burst, RateLimitPolicy policy,
+                           Duration maxWait, Map<PriorityTier, Double> tierShares, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException(
+                    "Rate and burst must be positive: " + permitsPerSecond + "/s, burst " + burst);
+        }
+        this.enabled = enabled;
+        this.policy = policy;
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxWaitNanos = policy == RateLimitPolicy.SHED ? 0 : maxWait.toNanos();
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+
+        Map<PriorityTier, TokenBucketRateLimiter> buckets = new EnumMap<>(PriorityTier.class);
+        tierShares.forEach((tier, share) -> {
+            if (share <= 0 || share > 1) {
+                throw new IllegalArgumentException("Share of tier " + tier + " must be in (0, 1]: " + share);
+            }
+            if (share < 1) {
+                // Only reserved from, never asked to throttle: disabled, so that it does not log as a limit
+                buckets.put(tier, new TokenBucketRateLimiter(false, permitsPerSecond * share,
+                        Math.max(1, (int) Math.round(burst * share)), policy, maxWait, Map.of(), nanoClock));
+            }
+        });
+        this.tierBuckets = buckets.isEmpty() ? Map.of() : Collections.unmodifiableMap(buckets);
+
+        if (enabled) {
+            log.info("Provider rate limit: {} calls/s, burst {}, policy {}, tier shares {}",
+                    permitsPerSecond, burst, policy, tierShares);
+        }
+    }
+
+    /**
+     * Creates a rate limiter that lets every call through.
+     *
+     * @return disabled rate limiter
+     */
+    public static TokenBucketRateLimiter unlimited() {
+        return new TokenBucketRateLimiter(false, 1, 1, RateLimitPolicy.DELAY, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks the provider calls made by {@code call} as made for a tier, so that they take from its share.
+     *
+     * @param call the fetch, with its retries, hedges and failovers
+     * @param tier the tier of the event fetched, may be null
+     * @param <T> the result type
+     * @return the call, with the tier in its context
+     */
+    public static <T> Mono<T> forTier(Mono<T> call, PriorityTier tier) {
+        return tier == null ? call : call.contextWrite(context -> context.put(PriorityTier.class, tier));
+    }
+
+    /**
+     * Makes every subscription to {@code call} take a token first.
+     * Retries resubscribe, so each retry takes a token of its own.
+     *
+     * @param call the provider call
+     * @param <T> the result type
+     * @return the call, delayed or failed according to the policy
+     */
+    public <T> Mono<T> throttle(Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.deferContextual(context -> {
+            long waitNanos = reserve(context.<PriorityTier>getOrDefault(PriorityTier.class, null));
+            if (waitNanos < 0) {
+                Counter counter = dropped;
+                if (counter != null) {
+                    counter.increment();
+                }
+                return Mono.error(new RateLimitExceededException("Provider rate limit exceeded"));
+            }
+
+            Counter counter = tokens;
+            if (counter != null) {
+                counter.increment();
+            }
+            Timer timer = waits;
+            if (timer != null) {
+                timer.record(Duration.ofNanos(waitNanos));
+            }
+            return waitNanos == 0 ? call : Mono.delay(Duration.ofNanos(waitNanos)).then(call);
+        });
+    }
+
+    /**
+     * Reserves the next token of a tier's bucket, if it has one, and of the shared bucket.
+     *
+     * @param tier the tier the call is made for, may be null
+     * @return nanoseconds to wait for both tokens, or -1 if the call is dropped
+     */
+    long reserve(PriorityTier tier) {
+        TokenBucketRateLimiter tierBucket = tier != null ? tierBuckets.get(tier) : null;
+        long tierWaitNanos = tierBucket != null ? tierBucket.reserve() : 0;
+        if (tierWaitNanos < 0) {
+            return -1;
+        }
+        // The shared token is taken now even if the call waits for its tier's token: its rate is what counts
+        long waitNanos = reserve();
+        if (waitNanos < 0) {
+            // A call the shared bucket drops keeps none of its tier's share either
+            if (tierBucket != null) {
+                tierBucket.release();
+            }
+            return -1;
+        }
+        return Math.max(waitNanos, tierWaitNanos);
+    }
+
+    /**
+     * Reserves the next token.
+     *
+     * @return nanoseconds to wait for the reserved token, or -1 if the call is dropped
+     */
+    long reserve() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrival.get();
+            long arrival = Math.max(current, now);
+            long waitNanos = Math.max(0, arrival - burstToleranceNanos - now);
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return waitNanos;
+            }
+        }
+    }
+
+    /**
+     * Gives back a token reserved by a call that was dropped after all.
+     */
+    void release() {
+        theoreticalArrival.addAndGet(-emissionIntervalNanos);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        tokens = Counter.builder("external.api.rate-limit.tokens")
+                .description("Tokens consumed by external provider calls")
+                .register(registry);
+        waits = Timer.builder("external.api.rate-limit.wait")
+                .description("Time provider calls waited for a rate limit token")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        dropped = Counter.builder("external.api.rate-limit.dropped")
+                .description("Provider calls dropped by the rate limiter")
+                .tag("policy", policy.name().toLowerCase())
+                .register(registry);
+    }
+}
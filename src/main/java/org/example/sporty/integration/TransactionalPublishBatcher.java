@@ -0,0 +1,195 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the score records of a time window in one Kafka transaction
+ * ({@link PublishMode#TRANSACTIONAL}).
+ *
+ * Each {@link #submit} queues the record; the queue is cut into batches of at most {@code maxRecords}
+ * records, or whatever arrived within {@code window} of the first queued record, or while the previous
+ * transaction was committing. Each batch is sent and committed in one transaction, one transaction at a
+ * time: a {@code read_committed} consumer sees all of a window's updates or none, and the producer sends
+ * them in a few large requests. A record's future completes once its transaction committed; if the
+ * transaction aborts, the futures of all its records fail with the same error.
+ *
+ * <ul>
+ *   <li>{@code kafka.publish.transaction.size} - summary of records per committed transaction</li>
+ *   <li>{@code kafka.publish.transaction.aborted} - counter of aborted transactions</li>
+ * </ul>
+ */
+@Slf4j
+public class TransactionalPublishBatcher implements MeterBinder {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private record PendingRecord(ProducerRecord<String, byte[]> record,
+                                 CompletableFuture<SendResult<String, byte[]>> result) {
+    }
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final boolean enabled;
+    private final Sinks.Many<PendingRecord> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final CompletableFuture<Void> drained;
+
+    private volatile DistributionSummary transactionSizes;
+    private volatile Counter aborted;
+
+    /**
+     * Creates a batcher.
+     *
+     * @param kafkaTemplate template of a transactional producer factory
+     * @param maxRecords most records per transaction
+     * @param window longest a record waits for its transaction to start
+     */
+    public TransactionalPublishBatcher(KafkaTemplate<String, byte[]> kafkaTemplate, int maxRecords,
+                                       Duration window) {
+        this(kafkaTemplate, true, maxRecords, window);
+    }
+
+    private TransactionalPublishBatcher(KafkaTemplate<String, byte[]> kafkaTemplate, boolean enabled,
+                                        int maxRecords, Duration window) {
+        if (enabled && maxRecords <= 0) {
+            throw new IllegalArgumentException("Records per transaction must be positive: " + maxRecords);
+        }
+        this.kafkaTemplate = kafkaTemplate;
+        this.enabled = enabled;
+        this.drained = enabled
+                ? queue.asFlux()
+                        // While a transaction commits, the next one keeps filling instead of overflowing
+                        .bufferTimeout(maxRecords, window, true)
+                        // The commit blocks until the broker answered
+                        .concatMap(batch -> Mono.fromRunnable(() -> commit(batch))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                        .then()
+                        .toFuture()
+                : CompletableFuture.completedFuture(null);
+
+        if (enabled) {
+            log.info("Transactional publishing enabled (max records: {}, window: {})", maxRecords, window);
+        }
+    }
+
+    /**
+     * Creates a batcher that is never used: records are sent one by one, outside transactions.
+     *
+     * @return disabled batcher
+     */
+    public static TransactionalPublishBatcher disabled() {
+        return new TransactionalPublishBatcher(null, false, 0, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a record for the transaction of the current window.
+     *
+     * @param record the record
+     * @return future completing once the record's transaction committed, or failing if it aborted
+     */
+    public CompletableFuture<SendResult<String, byte[]>> submit(ProducerRecord<String, byte[]> record) {
+        if (!enabled) {
+            throw new IllegalStateException("Transactional publishing is disabled");
+        }
+        CompletableFuture<SendResult<String, byte[]>> result = new CompletableFuture<>();
+        PendingRecord pending = new PendingRecord(record, result);
+        // Records come from many scheduler threads; spin on concurrent emissions. Unlike emitNext, which
+        // drops a record emitted after shutdown, this fails its future, so the caller's permit is released.
+        Sinks.EmitResult emitted;
+        while ((emitted = queue.tryEmitNext(pending)) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+            Thread.onSpinWait();
+        }
+        if (emitted.isFailure()) {
+            result.completeExceptionally(new IllegalStateException(
+                    "Transactional publisher is shut down (" + emitted + ")"));
+        }
+        return result;
+    }
+
+    private void commit(List<PendingRecord> batch) {
+        List<CompletableFuture<SendResult<String, byte[]>>> sends;
+        try {
+            sends = kafkaTemplate.executeInTransaction(operations -> {
+                List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(batch.size());
+                for (PendingRecord pending : batch) {
+                    futures.add(operations.send(pending.record()));
+                }
+                return futures;
+            });
+        } catch (RuntimeException e) {
+            increment(aborted);
+            log.warn("Aborted transaction of {} score records: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+
+        DistributionSummary summary = transactionSizes;
+        if (summary != null) {
+            summary.record(batch.size());
+        }
+        log.debug("Committed transaction of {} score records", batch.size());
+        // The commit flushed the batch: every send has completed
+        for (int i = 0; i < batch.size(); i++) {
+            CompletableFuture<SendResult<String, byte[]>> result = batch.get(i).result();
+            sends.get(i).whenComplete((sendResult, ex) -> {
+                if (ex == null) {
+                    result.complete(sendResult);
+                } else {
+                    result.completeExceptionally(ex);
+                }
+            });
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        transactionSizes = DistributionSummary.builder("kafka.publish.transaction.size")
+                .description("Score records per committed transaction")
+                .register(registry);
+        aborted = Counter.builder("kafka.publish.transaction.aborted")
+                .description("Transactions of score records aborted")
+                .register(registry);
+    }
+
+    /**
+     * Commits the records still queued, then stops accepting new ones.
+     */
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        queue.tryEmitComplete();
+        try {
+            drained.get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("Score records still queued for a transaction at shutdown: {}", e.toString());
+        }
+    }
+}
@@ -7,22 +7,39 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Mock External API Controller for testing purposes.
  *
  * This controller simulates an external sports score API by generating
  * random scores for events. It can be enabled/disabled via application properties.
+ * Each event keeps its score between calls; a call draws a new random score with probability
+ * {@code mock.external-api.score-change-probability}. Score responses carry an {@code ETag}, and a
+ * request whose {@code If-None-Match} matches the current score gets a bodiless 304.
+ * Responses are delayed by a latency drawn from {@code mock.external-api.latency} (none by default), so that
+ * provider tail latency can be reproduced locally.
+ * {@code POST /events/stream} pushes score changes as Server-Sent Events (see {@link MockScoreStream}).
  */
 @Slf4j
 @RestController
@@ -33,6 +50,43 @@ public class MockExternalApiController {
 
     private final Random random = new Random();
 
+    /**
+     * Current score of each event asked for.
+     */
+    private final Map<String, String> scores = new ConcurrentHashMap<>();
+
+    @Value("${mock.external-api.score-change-probability:1.0}")
+    private double scoreChangeProbability;
+
+    @Value("${mock.external-api.latency.distribution:none}")
+    private MockLatency.Distribution latencyDistribution;
+
+    @Value("${mock.external-api.latency.median:0ms}")
+    private Duration latencyMedian;
+
+    @Value("${mock.external-api.latency.tail:0ms}")
+    private Duration latencyTail;
+
+    @Value("${mock.external-api.latency.tail-probability:0}")
+    private double latencyTailProbability;
+
+    @Value("${mock.external-api.stream.interval:1s}")
+    private Duration streamInterval;
+
+    private MockLatency latency = MockLatency.none();
+
+    private MockScoreStream scoreStream;
+
+    @PostConstruct
+    void init() {
+        scoreStream = new MockScoreStream(this::nextScore, this::currentScore, streamInterval);
+        latency = new MockLatency(latencyDistribution, latencyMedian, latencyTail, latencyTailProbability);
+        if (latencyDistribution != MockLatency.Distribution.NONE) {
+            log.info("Mock API: Simulating {} latency (median {}, tail {})",
+                    latencyDistribution, latencyMedian, latencyTail);
+        }
+    }
+
     /**
      * DTO for mock score response (matches the expected external API format).
      */
@@ -49,6 +103,23 @@ public class MockExternalApiController {
         private String currentScore;
     }
 
+    /**
+     * Request body of the batch score endpoint.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Event IDs to get scores for")
+    public static class MockBatchScoreRequest {
+        @Schema(description = "Event IDs", example = "[\"event-123\", \"event-456\"]")
+        private List<String> eventIds;
+    }
+
+    /**
+     * Maximum number of event IDs accepted by the batch endpoint.
+     */
+    static final int MAX_BATCH_SIZE = 500;
+
     /**
      * Mock endpoint that returns random scores for an event.
      *
@@ -58,7 +129,8 @@ public class MockExternalApiController {
     @Operation(
             summary = "Get event score (Mock)",
             description = "Mock endpoint that returns randomly generated scores for testing. " +
-                    "The score changes on each call to simulate live updates."
+                    "The score changes between calls to simulate live updates. Supports conditional " +
+                    "requests with If-None-Match."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -66,6 +138,10 @@ public class MockExternalApiController {
                     description = "Score retrieved successfully",
                     content = @Content(schema = @Schema(implementation = MockScoreResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Score unchanged since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Event not found"
@@ -74,14 +150,18 @@ public class MockExternalApiController {
     @GetMapping("/{eventId}/score")
     public ResponseEntity<MockScoreResponse> getEventScore(
             @Parameter(description = "Event ID to get score for", required = true, example = "event-123")
-            @PathVariable String eventId) {
+            @PathVariable String eventId,
+            WebRequest webRequest) {
 
         log.info("Mock API: Received request for event score: {}", eventId);
+        simulateLatency();
 
-        // Generate random scores between 0 and 5 for each team
-        int homeScore = random.nextInt(6);
-        int awayScore = random.nextInt(6);
-        String score = homeScore + ":" + awayScore;
+        String score = nextScore(eventId);
+        String etag = "\"" + Integer.toHexString(Objects.hash(eventId, score)) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            log.info("Mock API: Score for event {} not modified", eventId);
+            return null;
+        }
 
         MockScoreResponse response = MockScoreResponse.builder()
                 .eventId(eventId)
@@ -90,7 +170,121 @@ public class MockExternalApiController {
 
         log.info("Mock API: Returning score for event {}: {}", eventId, score);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    /**
+     * Mock batch endpoint that returns random scores for many events in one call.
+     *
+     * @param request the event IDs
+     * @return mock score data, one entry per requested event
+     */
+    @Operation(
+            summary = "Get scores of many events (Mock)",
+            description = "Mock batch endpoint returning randomly generated scores for up to " + MAX_BATCH_SIZE
+                    + " events in one round trip."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Scores retrieved successfully"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No event IDs, or more than the batch limit"
+            )
+    })
+    @PostMapping("/scores")
+    public ResponseEntity<List<MockScoreResponse>> getEventScores(@RequestBody MockBatchScoreRequest request) {
+        List<String> eventIds = request.getEventIds();
+        if (eventIds == null || eventIds.isEmpty() || eventIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Mock API: Received batch score request for {} events", eventIds.size());
+        simulateLatency();
+
+        List<MockScoreResponse> responses = eventIds.stream()
+                .distinct()
+                .map(eventId -> MockScoreResponse.builder()
+                        .eventId(eventId)
+                        .currentScore(nextScore(eventId))
+                        .build())
+                .toList();
+
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * Mock streaming endpoint that pushes score changes of many events as Server-Sent Events.
+     *
+     * @param request the event IDs
+     * @param lastEventId id of the last event received before a reconnect, if any
+     * @return the score stream
+     */
+    @Operation(
+            summary = "Stream event scores (Mock)",
+            description = "Mock streaming endpoint pushing a 'score' event whenever the score of one of the "
+                    + "requested events changes, and a heartbeat comment otherwise. Every event has an id; "
+                    + "reconnecting with it in Last-Event-ID replays the updates missed in between."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Score stream opened"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No event IDs"
+            )
+    })
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamScores(
+            @RequestBody MockBatchScoreRequest request,
+            @Parameter(description = "Id of the last event received")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        List<String> eventIds = request.getEventIds();
+        if (eventIds == null || eventIds.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Mock API: Received score stream request for {} events", eventIds.size());
+        return ResponseEntity.ok(scoreStream.subscribe(eventIds, lastEventId));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scoreStream.shutdown();
+    }
+
+    /**
+     * Holds the request thread for a latency drawn from the configured distribution.
+     */
+    private void simulateLatency() {
+        Duration delay = latency.sample(random);
+        if (delay.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Moves the score of an event on, or keeps it, and returns it.
+     */
+    private String nextScore(String eventId) {
+        return scores.compute(eventId, (id, current) ->
+                current == null || random.nextDouble() < scoreChangeProbability
+                        // Generate random scores between 0 and 5 for each team
+                        ? random.nextInt(6) + ":" + random.nextInt(6)
+                        : current);
+    }
+
+    private String currentScore(String eventId) {
+        return scores.computeIfAbsent(eventId, id -> random.nextInt(6) + ":" + random.nextInt(6));
     }
 
     /**
@@ -0,0 +1,74 @@
+package org.example.sporty.mock;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Response latency of the mock provider, drawn per request from a distribution.
+ *
+ * @param distribution shape of the distribution
+ * @param median typical latency
+ * @param tail latency of the tail: the 99th percentile for {@link Distribution#LOG_NORMAL},
+ *             the slow mode for {@link Distribution#BIMODAL}
+ * @param tailProbability chance of a {@link Distribution#BIMODAL} request taking {@code tail}
+ */
+public record MockLatency(Distribution distribution, Duration median, Duration tail, double tailProbability) {
+
+    /**
+     * Standard normal quantile of the 99th percentile.
+     */
+    private static final double Z_99 = 2.326;
+
+    public enum Distribution {
+
+        /**
+         * Answer at once.
+         */
+        NONE,
+
+        /**
+         * Always take the median.
+         */
+        FIXED,
+
+        /**
+         * Log-normal around the median, with the tail as 99th percentile: a long, smooth tail.
+         */
+        LOG_NORMAL,
+
+        /**
+         * The median, except that a {@code tailProbability} share of requests take the tail
+         * (e.g. a garbage collection pause or a cold cache on the provider).
+         */
+        BIMODAL
+    }
+
+    /**
+     * Creates a latency that adds no delay.
+     *
+     * @return no latency
+     */
+    public static MockLatency none() {
+        return new MockLatency(Distribution.NONE, Duration.ZERO, Duration.ZERO, 0);
+    }
+
+    /**
+     * Draws the latency of one request.
+     *
+     * @param random source of randomness
+     * @return latency of the request
+     */
+    public Duration sample(RandomGenerator random) {
+        return switch (distribution) {
+            case NONE -> Duration.ZERO;
+            case FIXED -> median;
+            case LOG_NORMAL -> {
+                double sigma = tail.compareTo(median) > 0 && !median.isZero()
+                        ? Math.log((double) tail.toNanos() / median.toNanos()) / Z_99
+                        : 0;
+                yield Duration.ofNanos((long) (median.toNanos() * Math.exp(sigma * random.nextGaussian())));
+            }
+            case BIMODAL -> random.nextDouble() < tailProbability ? tail : median;
+        };
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.sporty.mock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Score streams of the mock provider.
+ *
+ * Every {@code interval} each streamed event's score is moved on; changed scores are sent as {@code score}
+ * events to the streams subscribed to the event, and streams without a change get a heartbeat comment.
+ * Each update gets the next id of one global sequence and is kept in a bounded history. A stream opened with
+ * the {@code Last-Event-ID} of an update still in the history is first sent the updates it missed; any
+ * other stream starts with a snapshot of the current scores.
+ */
+@Slf4j
+class MockScoreStream {
+
+    /**
+     * Most updates kept for resuming streams.
+     */
+    static final int HISTORY_SIZE = 10_000;
+
+    private record Update(long id, MockExternalApiController.MockScoreResponse score) {
+    }
+
+    private record Subscriber(Set<String> eventIds, SseEmitter emitter) {
+    }
+
+    private final UnaryOperator<String> nextScore;
+    private final UnaryOperator<String> currentScore;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService ticker;
+
+    /**
+     * Updates sent, oldest first; guarded by this.
+     */
+    private final Deque<Update> history = new ArrayDeque<>();
+    private long lastId;
+
+    /**
+     * Creates the mock score streams.
+     *
+     * @param nextScore moves the score of an event on and returns it
+     * @param currentScore returns the current score of an event
+     * @param interval time between score moves
+     */
+    MockScoreStream(UnaryOperator<String> nextScore, UnaryOperator<String> currentScore, Duration interval) {
+        this.nextScore = nextScore;
+        this.currentScore = currentScore;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mock-score-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a score stream.
+     *
+     * @param eventIds the events to stream
+     * @param lastEventId id of the last update the client saw, or null
+     * @return the stream
+     */
+    synchronized SseEmitter subscribe(Collection<String> eventIds, String lastEventId) {
+        Set<String> events = Set.copyOf(eventIds);
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(events, emitter);
+
+        List<Update> initial = missedUpdates(events, lastEventId);
+        if (initial == null) {
+            initial = events.stream()
+                    .map(eventId -> new Update(lastId, new MockExternalApiController.MockScoreResponse(
+                            eventId, currentScore.apply(eventId))))
+                    .toList();
+        }
+        try {
+            for (Update update : initial) {
+                send(emitter, update);
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        log.info("Mock API: Opened score stream for {} events (resuming: {})", events.size(), lastEventId != null);
+        return emitter;
+    }
+
+    /**
+     * Gets the updates of {@code events} after {@code lastEventId}.
+     *
+     * @return the missed updates, or null if they are no longer all in the history
+     */
+    private List<Update> missedUpdates(Set<String> events, String lastEventId) {
+        if (lastEventId == null) {
+            return null;
+        }
+        long since;
+        try {
+            since = Long.parseLong(lastEventId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldest = history.isEmpty() ? lastId + 1 : history.peekFirst().id();
+        if (since < oldest - 1 || since > lastId) {
+            return null;
+        }
+        return history.stream()
+                .filter(update -> update.id() > since && events.contains(update.score().getEventId()))
+                .toList();
+    }
+
+    synchronized void tick() {
+        Set<String> streamed = new HashSet<>();
+        subscribers.forEach(subscriber -> streamed.addAll(subscriber.eventIds()));
+
+        List<Update> updates = new ArrayList<>();
+        for (String eventId : streamed) {
+            String before = currentScore.apply(eventId);
+            String after = nextScore.apply(eventId);
+            if (!Objects.equals(before, after)) {
+                Update update = new Update(++lastId, new MockExternalApiController.MockScoreResponse(eventId, after));
+                history.addLast(update);
+                if (history.size() > HISTORY_SIZE) {
+                    history.removeFirst();
+                }
+                updates.add(update);
+            }
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            try {
+                boolean sent = false;
+                for (Update update : updates) {
+                    if (subscriber.eventIds().contains(update.score().getEventId())) {
+                        send(subscriber.emitter(), update);
+                        sent = true;
+                    }
+                }
+                if (!sent) {
+                    subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client gone
+                subscribers.remove(subscriber);
+                subscriber.emitter().completeWithError(e);
+            }
+        }
+    }
+
+    private static void send(SseEmitter emitter, Update update) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(update.id()))
+                .name("score")
+                .data(update.score(), MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Closes all streams and stops moving scores.
+     */
+    void shutdown() {
+        ticker.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+}
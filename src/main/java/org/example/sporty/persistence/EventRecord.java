@@ -0,0 +1,119 @@
+package org.example.sporty.persistence;
+
+import org.example.sporty.domain.model.Event;
+import org.example.sporty.domain.model.EventStatus;
+import org.example.sporty.domain.model.PriorityTier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Persisted state of one event: what is needed to re-arm it after a restart.
+ *
+ * @param eventId the event ID
+ * @param status the event status
+ * @param sport the sport, may be null
+ * @param priority the priority tier, may be null
+ * @param lastUpdated time of the last status change, may be null
+ * @param phaseOffsetMillis offset of the event's ticks within the fetch interval, or {@link #NO_PHASE}
+ */
+public record EventRecord(
+        String eventId,
+        EventStatus status,
+        String sport,
+        PriorityTier priority,
+        Instant lastUpdated,
+        long phaseOffsetMillis) {
+
+    public static final long NO_PHASE = -1;
+
+    public static EventRecord of(Event event, long phaseOffsetMillis) {
+        return new EventRecord(event.getEventId(), event.getStatus(), event.getSport(),
+                event.getPriority(), event.getLastUpdated(), phaseOffsetMillis);
+    }
+
+    public boolean isLive() {
+        return status != null && status.isLive();
+    }
+
+    public boolean hasPhase() {
+        return phaseOffsetMillis >= 0;
+    }
+
+    /**
+     * Creates the domain event described by this record.
+     *
+     * @return a new event
+     */
+    public Event toEvent() {
+        return Event.builder()
+                .eventId(eventId)
+                .status(status)
+                .sport(sport)
+                .priority(priority)
+                .lastUpdated(lastUpdated)
+                .build();
+    }
+
+    /**
+     * Encodes the record together with its journal sequence number.
+     * The priority tier comes last, so that records written before tiers existed still decode.
+     *
+     * @param sequence journal sequence number
+     * @return buffer ready to be read
+     */
+    ByteBuffer encode(long sequence) {
+        byte[] id = eventId.getBytes(StandardCharsets.UTF_8);
+        byte[] sportBytes = sport != null ? sport.getBytes(StandardCharsets.UTF_8) : null;
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 2 + id.length + 1 + 2
+                + (sportBytes != null ? sportBytes.length : 0) + 8 + 8 + 1);
+        buffer.putLong(sequence);
+        buffer.putShort((short) id.length).put(id);
+        buffer.put(status == null ? (byte) -1 : (byte) status.ordinal());
+        if (sportBytes != null) {
+            buffer.putShort((short) sportBytes.length).put(sportBytes);
+        } else {
+            buffer.putShort((short) -1);
+        }
+        buffer.putLong(lastUpdated != null ? lastUpdated.toEpochMilli() : Long.MIN_VALUE);
+        buffer.putLong(phaseOffsetMillis);
+        buffer.put(priority == null ? (byte) -1 : (byte) priority.ordinal());
+        return buffer.flip();
+    }
+
+    /**
+     * Reads the journal sequence number of an encoded record without decoding it.
+     */
+    static long sequenceOf(ByteBuffer encoded) {
+        return encoded.getLong(encoded.position());
+    }
+
+    /**
+     * Decodes a record written by {@link #encode(long)}.
+     */
+    static EventRecord decode(ByteBuffer encoded) {
+        ByteBuffer buffer = encoded.duplicate();
+        buffer.getLong(); // sequence
+        String eventId = readString(buffer, buffer.getShort());
+        byte statusOrdinal = buffer.get();
+        short sportLength = buffer.getShort();
+        String sport = sportLength >= 0 ? readString(buffer, sportLength) : null;
+        long lastUpdatedMillis = buffer.getLong();
+        long phaseOffsetMillis = buffer.getLong();
+        byte priorityOrdinal = buffer.hasRemaining() ? buffer.get() : -1;
+        return new EventRecord(
+                eventId,
+                statusOrdinal >= 0 ? EventStatus.values()[statusOrdinal] : null,
+                sport,
+                priorityOrdinal >= 0 ? PriorityTier.values()[priorityOrdinal] : null,
+                lastUpdatedMillis != Long.MIN_VALUE ? Instant.ofEpochMilli(lastUpdatedMillis) : null,
+                phaseOffsetMillis);
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
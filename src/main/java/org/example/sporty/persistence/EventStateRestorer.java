@@ -0,0 +1,29 @@
+package org.example.sporty.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.service.EventManagementService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.util.Collection;
+
+/**
+ * Restores the saved event state once the application has started.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EventStateRestorer implements ApplicationRunner {
+
+    private final EventStateStore stateStore;
+    private final EventManagementService eventManagementService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        Collection<EventRecord> records = stateStore.loadAll();
+        int rearmed = eventManagementService.restore(records);
+        log.info("Restored {} events ({} live events re-armed) in {} ms",
+                records.size(), rearmed, (System.nanoTime() - start) / 1_000_000);
+    }
+}
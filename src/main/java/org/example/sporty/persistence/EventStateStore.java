@@ -0,0 +1,42 @@
+package org.example.sporty.persistence;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Durable store of event state, used to restore the live schedule after a restart.
+ */
+public interface EventStateStore {
+
+    /**
+     * Saves the latest state of an event, replacing any earlier state.
+     *
+     * @param record the event state
+     */
+    void save(EventRecord record);
+
+    /**
+     * Loads the latest state of every saved event.
+     *
+     * @return saved event states
+     */
+    Collection<EventRecord> loadAll();
+
+    /**
+     * Store that keeps nothing (persistence disabled).
+     *
+     * @return no-op store
+     */
+    static EventStateStore noop() {
+        return new EventStateStore() {
+            @Override
+            public void save(EventRecord record) {
+            }
+
+            @Override
+            public Collection<EventRecord> loadAll() {
+                return List.of();
+            }
+        };
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.sporty.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Event state store backed by a snapshot file plus an append-only memory-mapped journal.
+ *
+ * Every save appends one record to the journal ({@link MappedSegment}). When the journal is full
+ * it is compacted: the latest state of every event is written to a new snapshot (temp file and
+ * atomic rename) and the journal starts over. Records carry a sequence number and the snapshot
+ * stores the last sequence it covers, so journal records already folded into the snapshot are
+ * skipped on restore even if the process died between the rename and the journal reset.
+ */
+@Slf4j
+public class MappedEventStateStore implements EventStateStore, AutoCloseable {
+
+    static final String SNAPSHOT_FILE = "events.snapshot";
+    static final String JOURNAL_FILE = "events.journal";
+
+    private static final int SNAPSHOT_MAGIC = 0x53505254;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final int journalCapacity;
+    private final boolean forceOnWrite;
+    private final Map<String, EventRecord> state = new ConcurrentHashMap<>();
+
+    private MappedSegment journal;
+    private long sequence;
+
+    /**
+     * Opens the store, loading the snapshot and replaying the journal.
+     *
+     * @param directory directory holding the snapshot and journal
+     * @param journalCapacity size of the journal mapping in bytes
+     * @param forceOnWrite whether every save is flushed to the device
+     * @throws IOException if the files cannot be read or created
+     */
+    public MappedEventStateStore(Path directory, int journalCapacity, boolean forceOnWrite) throws IOException {
+        Files.createDirectories(directory);
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.journalPath = directory.resolve(JOURNAL_FILE);
+        this.journalCapacity = journalCapacity;
+        this.forceOnWrite = forceOnWrite;
+
+        long snapshotSequence = readSnapshot();
+        sequence = snapshotSequence;
+        journal = new MappedSegment(journalPath, journalCapacity, forceOnWrite);
+        journal.forEach(encoded -> {
+            long recordSequence = EventRecord.sequenceOf(encoded);
+            if (recordSequence > snapshotSequence) {
+                EventRecord record = EventRecord.decode(encoded);
+                state.put(record.eventId(), record);
+                sequence = Math.max(sequence, recordSequence);
+            }
+        });
+
+        log.info("Event state store opened at {} ({} events, {} journal records)",
+                directory, state.size(), journal.getRecordCount());
+    }
+
+    @Override
+    public synchronized void save(EventRecord record) {
+        state.put(record.eventId(), record);
+        long recordSequence = ++sequence;
+        if (!journal.append(record.encode(recordSequence))) {
+            // The snapshot covers this record as well
+            compact();
+        }
+    }
+
+    @Override
+    public Collection<EventRecord> loadAll() {
+        return List.copyOf(state.values());
+    }
+
+    /**
+     * Writes a snapshot of the current state and starts a new, empty journal.
+     */
+    public synchronized void compact() {
+        try {
+            writeSnapshot();
+            journal.delete();
+            journal = new MappedSegment(journalPath, journalCapacity, forceOnWrite);
+            log.info("Compacted event state store ({} events, sequence {})", state.size(), sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact event state store", e);
+        }
+    }
+
+    private void writeSnapshot() throws IOException {
+        Path temp = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (OutputStream file = Files.newOutputStream(temp);
+             CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16),
+                     new CRC32C());
+             DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(sequence);
+            out.writeInt(state.size());
+            for (EventRecord record : state.values()) {
+                ByteBuffer encoded = record.encode(sequence);
+                out.writeInt(encoded.remaining());
+                out.write(encoded.array(), 0, encoded.remaining());
+            }
+            out.flush();
+            out.writeInt((int) checked.getChecksum().getValue());
+        }
+        if (forceOnWrite) {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads the snapshot into the state map.
+     *
+     * @return last journal sequence covered by the snapshot, 0 if there is none
+     */
+    private long readSnapshot() throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int bodyLength = buffer.limit() - Integer.BYTES;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(0, Math.max(bodyLength, 0)));
+            if (bodyLength < 20 || buffer.getInt(0) != SNAPSHOT_MAGIC
+                    || (int) crc.getValue() != buffer.getInt(bodyLength)) {
+                log.error("Ignoring corrupt event snapshot {}", snapshotPath);
+                return 0;
+            }
+
+            buffer.position(8);
+            long snapshotSequence = buffer.getLong();
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                int length = buffer.getInt();
+                EventRecord record = EventRecord.decode(buffer.slice(buffer.position(), length));
+                state.put(record.eventId(), record);
+                buffer.position(buffer.position() + length);
+            }
+            return snapshotSequence;
+        }
+    }
+
+    public int getJournalRecordCount() {
+        return journal.getRecordCount();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        journal.force();
+        journal.close();
+    }
+}
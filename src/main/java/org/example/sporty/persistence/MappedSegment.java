@@ -0,0 +1,218 @@
+package org.example.sporty.persistence;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Fixed-size, append-only, memory-mapped record file.
+ *
+ * Records are stored as {@code [int length][int crc32c][payload]}. The length is written last,
+ * so a record torn by a crash reads as length 0 and marks the end of the segment. On open the
+ * segment is scanned up to the first empty or corrupt record, which becomes the write position.
+ *
+ * Appends go to the page cache through the mapping and survive a process crash; call
+ * {@link #force()} (or open with {@code forceOnAppend}) to survive power loss as well.
+ *
+ * {@link #delete()} unmaps the segment at once, so the disk blocks of its file are freed with the file
+ * rather than once the mapping is garbage collected; the segment cannot be used afterwards.
+ */
+public class MappedSegment implements AutoCloseable {
+
+    static final int RECORD_HEADER_BYTES = 8;
+
+    /**
+     * {@code sun.misc.Unsafe#invokeCleaner} bound to the instance, or null where it is not available: a
+     * deleted segment's mapping is then only released when its buffer is garbage collected.
+     */
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final boolean forceOnAppend;
+    private int writePosition;
+    private int recordCount;
+    private boolean unmapped;
+
+    /**
+     * Opens (or creates) a segment.
+     *
+     * @param path the segment file
+     * @param capacity size of the mapping in bytes
+     * @param forceOnAppend whether every append is flushed to the device
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public MappedSegment(Path path, int capacity, boolean forceOnAppend) throws IOException {
+        if (capacity <= RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment capacity too small: " + capacity);
+        }
+        this.path = path;
+        this.capacity = capacity;
+        this.forceOnAppend = forceOnAppend;
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        recover();
+    }
+
+    private void recover() {
+        int position = 0;
+        int count = 0;
+        CRC32C crc = new CRC32C();
+        while (position + RECORD_HEADER_BYTES <= capacity) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_BYTES + length > capacity) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(position + RECORD_HEADER_BYTES, length));
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            position += RECORD_HEADER_BYTES + length;
+            count++;
+        }
+        writePosition = position;
+        recordCount = count;
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param payload the record payload (position to limit)
+     * @return false if the segment has no room left for the record
+     */
+    public synchronized boolean append(ByteBuffer payload) {
+        checkMapped();
+        int length = payload.remaining();
+        if (length == 0) {
+            throw new IllegalArgumentException("Empty records are not supported");
+        }
+        if (writePosition + RECORD_HEADER_BYTES + length > capacity) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+
+        buffer.putInt(writePosition + 4, (int) crc.getValue());
+        buffer.put(writePosition + RECORD_HEADER_BYTES, payload, payload.position(), length);
+        buffer.putInt(writePosition, length);
+        writePosition += RECORD_HEADER_BYTES + length;
+        recordCount++;
+
+        if (forceOnAppend) {
+            buffer.force();
+        }
+        return true;
+    }
+
+    /**
+     * Visits all records in append order.
+     *
+     * @param consumer receives a read-only view of each payload, valid during the call only
+     */
+    public void forEach(Consumer<ByteBuffer> consumer) {
+        forEach(0, Integer.MAX_VALUE, consumer);
+    }
+
+    /**
+     * Visits records in append order, from a record boundary on.
+     *
+     * @param position position of the first record: 0, or a position returned by an earlier call
+     * @param maxRecords most records visited
+     * @param consumer receives a read-only view of each payload, valid during the call only
+     * @return position after the last record visited
+     */
+    public synchronized int forEach(int position, int maxRecords, Consumer<ByteBuffer> consumer) {
+        checkMapped();
+        int end = writePosition;
+        for (int visited = 0; position < end && visited < maxRecords; visited++) {
+            int length = buffer.getInt(position);
+            consumer.accept(buffer.slice(position + RECORD_HEADER_BYTES, length).asReadOnlyBuffer());
+            position += RECORD_HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    /**
+     * Flushes appended records to the storage device.
+     */
+    public synchronized void force() {
+        checkMapped();
+        buffer.force();
+    }
+
+    public synchronized int getWritePosition() {
+        return writePosition;
+    }
+
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Closes the segment, unmaps it and deletes its file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    public synchronized void delete() throws IOException {
+        close();
+        if (!unmapped && INVOKE_CLEANER != null) {
+            unmapped = true;
+            try {
+                INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+            } catch (Throwable e) {
+                throw new IOException("Failed to unmap segment " + path, e);
+            }
+        }
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The mapping stays readable and writable until the segment is deleted or garbage collected
+        channel.close();
+    }
+
+    /**
+     * Fails instead of touching an unmapped buffer, which would crash the JVM.
+     */
+    private void checkMapped() {
+        if (unmapped) {
+            throw new IllegalStateException("Segment deleted: " + path);
+        }
+    }
+
+    private static MethodHandle invokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
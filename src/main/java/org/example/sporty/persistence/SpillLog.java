@@ -0,0 +1,259 @@
+package org.example.sporty.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Bounded, disk-backed FIFO of records, as a chain of {@link MappedSegment} files.
+ *
+ * Records are appended to the newest segment; when it is full, a new one is started, up to
+ * {@code maxSegments}. Beyond that, the {@link DropPolicy} decides: refuse the new record, or delete the
+ * oldest segment with all its unread records. Records are read from the oldest segment on, in
+ * {@link #peek} batches that are only consumed by {@link #advance}; a segment is deleted once read.
+ * Heap use is the current batch only.
+ *
+ * The read position is not persisted: after a restart, the oldest segment is read again from its start,
+ * so records may be delivered twice, but not lost.
+ */
+@Slf4j
+public class SpillLog implements AutoCloseable {
+
+    static final String SEGMENT_PREFIX = "spill-";
+    static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * What to do with a record when all segments are full.
+     */
+    public enum DropPolicy {
+
+        /**
+         * Refuse the new record.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Delete the oldest segment, with its unread records, to make room.
+         */
+        DROP_OLDEST
+    }
+
+    /**
+     * Records read from the oldest segment, to pass to {@link #advance} once handled.
+     *
+     * @param records copies of the record payloads, in append order
+     * @param segment sequence of the segment read
+     * @param endPosition position after the last record read
+     */
+    public record Batch(List<byte[]> records, long segment, int endPosition) {
+
+        public boolean isEmpty() {
+            return records.isEmpty();
+        }
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final DropPolicy dropPolicy;
+    private final boolean forceOnAppend;
+
+    /**
+     * Segments by sequence, oldest first.
+     */
+    private final TreeMap<Long, MappedSegment> segments = new TreeMap<>();
+    private long nextSequence;
+    private int readPosition;
+    private int readRecords;
+    private long backlog;
+    private long dropped;
+
+    /**
+     * Opens the log, with the records left by a previous run as backlog.
+     *
+     * @param directory directory holding the segment files
+     * @param segmentSize size of each segment mapping in bytes
+     * @param maxSegments most segments on disk
+     * @param dropPolicy what to do when all segments are full
+     * @param forceOnAppend whether every append is flushed to the device
+     * @throws IOException if the directory or segments cannot be opened
+     */
+    public SpillLog(Path directory, int segmentSize, int maxSegments, DropPolicy dropPolicy,
+                    boolean forceOnAppend) throws IOException {
+        if (maxSegments < 1) {
+            throw new IllegalArgumentException("At least one segment is needed: " + maxSegments);
+        }
+        Files.createDirectories(directory);
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.dropPolicy = dropPolicy;
+        this.forceOnAppend = forceOnAppend;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long sequence = Long.parseLong(
+                        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                MappedSegment segment = new MappedSegment(file, segmentSize, forceOnAppend);
+                segments.put(sequence, segment);
+                backlog += segment.getRecordCount();
+                nextSequence = Math.max(nextSequence, sequence + 1);
+            }
+        }
+
+        log.info("Spill log opened at {} ({} segments, {} records)", directory, segments.size(), backlog);
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param payload the record payload (position to limit)
+     * @return false if the record was refused: all segments are full and the drop policy is
+     *         {@link DropPolicy#DROP_NEWEST}, or the record is larger than a segment
+     */
+    public synchronized boolean append(ByteBuffer payload) {
+        if (payload.remaining() + MappedSegment.RECORD_HEADER_BYTES > segmentSize) {
+            return false;
+        }
+        if (!segments.isEmpty() && segments.lastEntry().getValue().append(payload)) {
+            backlog++;
+            return true;
+        }
+        if (segments.size() >= maxSegments) {
+            if (dropPolicy == DropPolicy.DROP_NEWEST) {
+                dropped++;
+                return false;
+            }
+            dropOldest();
+        }
+        MappedSegment segment = newSegment();
+        segment.append(payload);
+        backlog++;
+        return true;
+    }
+
+    /**
+     * Reads the next records, from the oldest segment only, without consuming them.
+     *
+     * @param maxRecords most records read
+     * @return the records, empty if there is no backlog
+     */
+    public synchronized Batch peek(int maxRecords) {
+        if (segments.isEmpty()) {
+            return new Batch(List.of(), -1, 0);
+        }
+        var head = segments.firstEntry();
+        List<byte[]> records = new ArrayList<>();
+        int end = head.getValue().forEach(readPosition, maxRecords, payload -> {
+            byte[] copy = new byte[payload.remaining()];
+            payload.get(copy);
+            records.add(copy);
+        });
+        return new Batch(records, head.getKey(), end);
+    }
+
+    /**
+     * Consumes a batch read by {@link #peek}. Deletes the oldest segment once it is read entirely.
+     * A batch of a segment dropped meanwhile is ignored.
+     *
+     * @param batch the batch handled
+     */
+    public synchronized void advance(Batch batch) {
+        if (batch.isEmpty() || segments.isEmpty() || segments.firstKey() != batch.segment()) {
+            return;
+        }
+        MappedSegment head = segments.firstEntry().getValue();
+        readPosition = batch.endPosition();
+        readRecords += batch.records().size();
+        backlog -= batch.records().size();
+        // The newest segment is deleted too: the next append starts a new one
+        if (readPosition == head.getWritePosition()) {
+            deleteHead();
+        }
+    }
+
+    /**
+     * Gets the number of records appended and not yet consumed.
+     *
+     * @return backlog records
+     */
+    public synchronized long getBacklog() {
+        return backlog;
+    }
+
+    /**
+     * Gets the number of records dropped because all segments were full.
+     *
+     * @return dropped records (refused ones with {@link DropPolicy#DROP_NEWEST})
+     */
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Gets the disk space taken by the segments.
+     *
+     * @return bytes mapped
+     */
+    public synchronized long getSizeBytes() {
+        return (long) segments.size() * segmentSize;
+    }
+
+    public DropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    private MappedSegment newSegment() {
+        long sequence = nextSequence++;
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        try {
+            MappedSegment segment = new MappedSegment(path, segmentSize, forceOnAppend);
+            segments.put(sequence, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create spill segment " + path, e);
+        }
+    }
+
+    private void dropOldest() {
+        MappedSegment head = segments.firstEntry().getValue();
+        int unread = head.getRecordCount() - readRecords;
+        dropped += unread;
+        backlog -= unread;
+        log.warn("Spill log full ({} segments): dropping {} oldest records", segments.size(), unread);
+        deleteHead();
+    }
+
+    private void deleteHead() {
+        MappedSegment head = segments.pollFirstEntry().getValue();
+        readPosition = 0;
+        readRecords = 0;
+        try {
+            head.delete();
+        } catch (IOException e) {
+            log.warn("Failed to delete spill segment {}: {}", head.getPath(), e.toString());
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (MappedSegment segment : segments.values()) {
+            segment.force();
+            segment.close();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.sporty.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Decides the polling interval of an event from how often its score changes.
+ *
+ * While the score stays unchanged the interval is multiplied by the backoff multiplier, up to
+ * the maximum; on any change it snaps back to the minimum. Bounds can be overridden per sport
+ * and per event (per-event overrides win).
+ */
+@Slf4j
+public class AdaptiveIntervalPolicy {
+
+    /**
+     * Minimum and maximum polling interval.
+     */
+    public record Bounds(Duration min, Duration max) {
+
+        public Bounds {
+            if (min == null || max == null || min.isNegative() || min.isZero() || max.compareTo(min) < 0) {
+                throw new IllegalArgumentException("Invalid interval bounds: min=" + min + ", max=" + max);
+            }
+        }
+    }
+
+    private final boolean enabled;
+    private final Bounds defaultBounds;
+    private final double backoffMultiplier;
+    private final Map<String, Bounds> sportBounds;
+    private final Map<String, Bounds> eventBounds;
+
+    /**
+     * Creates an adaptive interval policy.
+     *
+     * @param enabled whether adaptive intervals are used at all
+     * @param defaultBounds bounds used when no override applies
+     * @param backoffMultiplier factor applied to the interval after an unchanged score
+     * @param sportBounds overrides by sport (case-insensitive)
+     * @param eventBounds overrides by event ID
+     */
+    public AdaptiveIntervalPolicy(boolean enabled, Bounds defaultBounds, double backoffMultiplier,
+                                  Map<String, Bounds> sportBounds, Map<String, Bounds> eventBounds) {
+        if (backoffMultiplier < 1.0) {
+            throw new IllegalArgumentException("Backoff multiplier must be at least 1: " + backoffMultiplier);
+        }
+        this.enabled = enabled;
+        this.defaultBounds = defaultBounds;
+        this.backoffMultiplier = backoffMultiplier;
+        this.sportBounds = Map.copyOf(sportBounds);
+        this.eventBounds = Map.copyOf(eventBounds);
+
+        if (enabled) {
+            log.info("Adaptive polling enabled (default: {}-{}, multiplier: {}, sports: {}, events: {})",
+                    defaultBounds.min(), defaultBounds.max(), backoffMultiplier,
+                    sportBounds.keySet(), eventBounds.keySet());
+        }
+    }
+
+    /**
+     * Creates a disabled policy that always polls at the given fixed interval.
+     *
+     * @param interval the fixed interval
+     * @return disabled policy
+     */
+    public static AdaptiveIntervalPolicy disabled(Duration interval) {
+        return new AdaptiveIntervalPolicy(false, new Bounds(interval, interval), 1.0, Map.of(), Map.of());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Resolves the interval bounds for an event.
+     *
+     * @param eventId the event ID
+     * @param sport the sport of the event, may be null
+     * @return per-event override, else per-sport override, else the default bounds
+     */
+    public Bounds boundsFor(String eventId, String sport) {
+        Bounds bounds = eventBounds.get(eventId);
+        if (bounds == null && sport != null) {
+            bounds = sportBounds.get(sport.toLowerCase());
+        }
+        return bounds != null ? bounds : defaultBounds;
+    }
+
+    /**
+     * Computes the interval to use after a poll.
+     *
+     * @param current the interval in use
+     * @param scoreChanged whether the poll returned a different score than the previous one
+     * @param bounds the event's bounds
+     * @return the next interval
+     */
+    public Duration nextInterval(Duration current, boolean scoreChanged, Bounds bounds) {
+        if (scoreChanged) {
+            return bounds.min();
+        }
+        long nextMillis = (long) (current.toMillis() * backoffMultiplier);
+        return nextMillis >= bounds.max().toMillis() ? bounds.max() : Duration.ofMillis(nextMillis);
+    }
+}
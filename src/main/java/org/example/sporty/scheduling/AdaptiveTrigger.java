@@ -0,0 +1,79 @@
+package org.example.sporty.scheduling;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Trigger for a single event whose interval follows an {@link AdaptiveIntervalPolicy}.
+ *
+ * The tick reports each fetched score through {@link #onScore(String)}; the next execution is
+ * planned from the previous scheduled execution plus the current interval. When ticks run on
+ * another executor (virtual mode) the score may arrive after the next execution was planned,
+ * in which case the new interval applies from the tick after.
+ */
+public class AdaptiveTrigger implements Trigger {
+
+    private final AdaptiveIntervalPolicy policy;
+    private final AdaptiveIntervalPolicy.Bounds bounds;
+    private final Instant firstFire;
+
+    private volatile Duration interval;
+    private volatile String lastScore;
+    private volatile Instant plannedExecution;
+
+    /**
+     * Creates a trigger starting at the minimum interval.
+     *
+     * @param policy the interval policy
+     * @param bounds the event's interval bounds
+     * @param firstFire time of the first execution
+     */
+    public AdaptiveTrigger(AdaptiveIntervalPolicy policy, AdaptiveIntervalPolicy.Bounds bounds, Instant firstFire) {
+        this.policy = policy;
+        this.bounds = bounds;
+        this.firstFire = firstFire;
+        this.interval = bounds.min();
+    }
+
+    /**
+     * Records the score returned by a poll and adjusts the interval.
+     * A null score (failed or empty poll) leaves the interval unchanged.
+     *
+     * @param score the fetched score, may be null
+     */
+    public synchronized void onScore(String score) {
+        if (score == null) {
+            return;
+        }
+        boolean changed = lastScore != null && !Objects.equals(lastScore, score);
+        if (lastScore != null) {
+            interval = policy.nextInterval(interval, changed, bounds);
+        }
+        lastScore = score;
+    }
+
+    @Override
+    public Instant nextExecution(TriggerContext triggerContext) {
+        Instant lastScheduled = triggerContext.lastScheduledExecution();
+        Instant next = lastScheduled == null ? firstFire : lastScheduled.plus(interval);
+        plannedExecution = next;
+        return next;
+    }
+
+    /**
+     * Gets the execution time most recently planned by this trigger.
+     *
+     * @return planned start of the upcoming (or currently firing) tick
+     */
+    public Instant getPlannedExecution() {
+        return plannedExecution != null ? plannedExecution : firstFire;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+}
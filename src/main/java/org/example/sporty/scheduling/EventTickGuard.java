@@ -0,0 +1,217 @@
+package org.example.sporty.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runnable handed to the scheduling backend for one event; guards against overlapping ticks.
+ *
+ * On every firing the guard records the drift (actual minus planned start). A tick firing a full
+ * interval or more late is a catch-up execution (fixed-rate schedules fire missed executions back
+ * to back) and is dropped as stale. A tick firing while the previous one is still running is
+ * dropped or coalesced according to the {@link OverrunPolicy}. Only accepted ticks are handed to
+ * the {@link TickExecutor}.
+ *
+ * The work of a tick is either synchronous (a {@link Runnable}, done when it returns) or
+ * asynchronous ({@link AsyncWork}, done when it signals completion), so that a non-blocking
+ * pipeline keeps the overrun protection without a thread waiting for it.
+ */
+public class EventTickGuard implements Runnable {
+
+    /**
+     * Why a tick was not executed.
+     */
+    public enum SkipReason {
+        OVERRUN,
+        COALESCED,
+        STALE
+    }
+
+    /**
+     * Work of one tick that completes asynchronously.
+     */
+    @FunctionalInterface
+    public interface AsyncWork {
+
+        /**
+         * Starts the work.
+         *
+         * @param onDone to be called exactly once when the work has finished, successfully or not
+         */
+        void start(Runnable onDone);
+    }
+
+    private final String eventId;
+    private final OverrunPolicy overrunPolicy;
+    private final TickExecutor tickExecutor;
+    private final AsyncWork work;
+    private final Supplier<Instant> plannedStart;
+    private final Supplier<Duration> interval;
+    private final TickListener listener;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong skippedOverrun = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong skippedStale = new AtomicLong();
+    private final AtomicLong maxDriftMillis = new AtomicLong();
+    private volatile long lastDriftMillis;
+
+    /**
+     * Creates a tick guard.
+     *
+     * @param eventId the event ID
+     * @param overrunPolicy what to do with ticks firing while one is running
+     * @param tickExecutor where accepted ticks run
+     * @param work the fetch-and-publish work of one tick
+     * @param plannedStart planned start of the tick that is firing, called once per firing
+     * @param interval current interval of the event
+     * @param listener receives drift and skip events
+     */
+    public EventTickGuard(String eventId, OverrunPolicy overrunPolicy, TickExecutor tickExecutor, Runnable work,
+                          Supplier<Instant> plannedStart, Supplier<Duration> interval, TickListener listener) {
+        this(eventId, overrunPolicy, tickExecutor, (AsyncWork) onDone -> {
+            try {
+                work.run();
+            } finally {
+                onDone.run();
+            }
+        }, plannedStart, interval, listener);
+    }
+
+    /**
+     * Creates a tick guard for asynchronous work: the tick counts as running until the work signals completion.
+     *
+     * @param eventId the event ID
+     * @param overrunPolicy what to do with ticks firing while one is running
+     * @param tickExecutor where accepted ticks are started
+     * @param work the fetch-and-publish work of one tick
+     * @param plannedStart planned start of the tick that is firing, called once per firing
+     * @param interval current interval of the event
+     * @param listener receives drift and skip events
+     */
+    public EventTickGuard(String eventId, OverrunPolicy overrunPolicy, TickExecutor tickExecutor, AsyncWork work,
+                          Supplier<Instant> plannedStart, Supplier<Duration> interval, TickListener listener) {
+        this.eventId = eventId;
+        this.overrunPolicy = overrunPolicy;
+        this.tickExecutor = tickExecutor;
+        this.work = work;
+        this.plannedStart = plannedStart;
+        this.interval = interval;
+        this.listener = listener;
+    }
+
+    /**
+     * Creates a planned-start supplier for a fixed-rate schedule: the n-th call returns
+     * {@code firstFire + n * period}.
+     *
+     * @param firstFire planned start of the first tick
+     * @param period the fixed period
+     * @return planned start supplier
+     */
+    public static Supplier<Instant> fixedRatePlan(Instant firstFire, Duration period) {
+        AtomicLong next = new AtomicLong(firstFire.toEpochMilli());
+        long periodMillis = period.toMillis();
+        return () -> Instant.ofEpochMilli(next.getAndAdd(periodMillis));
+    }
+
+    @Override
+    public void run() {
+        Duration drift = Duration.between(plannedStart.get(), Instant.now());
+        recordDrift(drift);
+        listener.onTickFired(eventId, drift);
+
+        if (drift.compareTo(interval.get()) >= 0) {
+            skip(skippedStale, SkipReason.STALE);
+            return;
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            if (overrunPolicy == OverrunPolicy.COALESCE) {
+                pending.set(true);
+                skip(coalesced, SkipReason.COALESCED);
+            } else {
+                skip(skippedOverrun, SkipReason.OVERRUN);
+            }
+            return;
+        }
+
+        submit();
+    }
+
+    private void submit() {
+        try {
+            tickExecutor.executeAsync(this::runExclusive);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void runExclusive(Runnable release) {
+        executed.incrementAndGet();
+        AtomicBoolean done = new AtomicBoolean();
+        Runnable onDone = () -> {
+            if (done.compareAndSet(false, true)) {
+                release.run();
+                onWorkDone();
+            }
+        };
+        try {
+            work.start(onDone);
+        } catch (RuntimeException e) {
+            // The work may have failed before it could signal completion
+            onDone.run();
+            throw e;
+        }
+    }
+
+    private void onWorkDone() {
+        if (pending.compareAndSet(true, false)) {
+            // Still holding the running flag: the coalesced tick is handed to the executor right away
+            submit();
+            return;
+        }
+        running.set(false);
+        // A tick may have been coalesced between the pending check and the release
+        if (pending.get() && running.compareAndSet(false, true)) {
+            pending.set(false);
+            submit();
+        }
+    }
+
+    private void recordDrift(Duration drift) {
+        long millis = drift.toMillis();
+        lastDriftMillis = millis;
+        maxDriftMillis.accumulateAndGet(millis, Math::max);
+    }
+
+    private void skip(AtomicLong counter, SkipReason reason) {
+        counter.incrementAndGet();
+        listener.onTickSkipped(eventId, reason);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Gets a snapshot of this event's tick accounting.
+     *
+     * @return tick statistics
+     */
+    public TickStatistics getStatistics() {
+        return new TickStatistics(
+                executed.get(),
+                skippedOverrun.get(),
+                coalesced.get(),
+                skippedStale.get(),
+                lastDriftMillis,
+                maxDriftMillis.get(),
+                running.get());
+    }
+}
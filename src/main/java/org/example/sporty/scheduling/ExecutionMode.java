@@ -0,0 +1,23 @@
+package org.example.sporty.scheduling;
+
+/**
+ * Where scheduled fetch-and-publish ticks are executed.
+ */
+public enum ExecutionMode {
+
+    /**
+     * Ticks run on the scheduler's own platform threads (pool size caps concurrency).
+     */
+    PLATFORM,
+
+    /**
+     * The scheduler only does timing; each tick runs on its own virtual thread.
+     */
+    VIRTUAL,
+
+    /**
+     * The scheduler thread only subscribes to the non-blocking fetch-and-publish pipeline;
+     * the provider call and the Kafka send complete on their own I/O threads.
+     */
+    REACTIVE
+}
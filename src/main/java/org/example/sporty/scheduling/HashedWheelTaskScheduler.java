@@ -0,0 +1,538 @@
+package org.example.sporty.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link TaskScheduler} backed by a hashed timing wheel.
+ *
+ * Timeouts are hashed into a fixed ring of buckets by their deadline, so scheduling and
+ * cancelling are O(1) regardless of how many tasks are pending. Each bucket has its own lock,
+ * so concurrent schedule/cancel calls only contend when they target the same slot, and a
+ * cancelled timeout is unlinked immediately instead of lingering until its deadline.
+ * A single ticker thread advances the wheel and hands expired tasks to a worker pool;
+ * it never runs user code itself.
+ *
+ * Deadlines are rounded up to the tick duration, so the wheel trades timing precision
+ * (one tick) for throughput. Periodic tasks follow the same semantics as
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}: an execution of a given task
+ * never overlaps with the previous one.
+ */
+@Slf4j
+public class HashedWheelTaskScheduler implements TaskScheduler {
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+
+    private final long tickNanos;
+    private final WheelBucket[] wheel;
+    private final int mask;
+    private final ExecutorService workerExecutor;
+    private final Clock clock;
+    private final Thread tickerThread;
+
+    // Field updaters instead of per-object atomics: two fewer allocations per scheduled timeout
+    private static final AtomicIntegerFieldUpdater<HashedWheelTaskScheduler.WheelTimeout> TIMEOUT_STATUS =
+            AtomicIntegerFieldUpdater.newUpdater(HashedWheelTaskScheduler.WheelTimeout.class, "status");
+    private static final AtomicIntegerFieldUpdater<HashedWheelTaskScheduler.WheelScheduledFuture> FUTURE_OUTCOME =
+            AtomicIntegerFieldUpdater.newUpdater(HashedWheelTaskScheduler.WheelScheduledFuture.class, "outcome");
+
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final LongAdder pendingCount = new LongAdder();
+
+    private final long startTime;
+
+    /**
+     * Next tick to be processed. Only advanced by the ticker thread.
+     */
+    private volatile long tick;
+
+    /**
+     * Creates a timing wheel scheduler.
+     *
+     * @param tickDuration   resolution of the wheel
+     * @param ticksPerWheel  number of buckets (rounded up to a power of two)
+     * @param workerExecutor pool that runs expired tasks; shut down together with the scheduler
+     * @param threadName     name of the ticker thread
+     */
+    public HashedWheelTaskScheduler(Duration tickDuration, int ticksPerWheel,
+                                    ExecutorService workerExecutor, String threadName) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("Ticks per wheel must be in (0, 2^30]: " + ticksPerWheel);
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = createWheel(ticksPerWheel);
+        this.mask = wheel.length - 1;
+        this.workerExecutor = workerExecutor;
+        this.clock = Clock.systemDefaultZone();
+        this.startTime = System.nanoTime();
+        this.tickerThread = new Thread(this::runTicker, threadName);
+        this.tickerThread.setDaemon(true);
+    }
+
+    private static WheelBucket[] createWheel(int ticksPerWheel) {
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        WheelBucket[] buckets = new WheelBucket[Math.max(size, 1)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new WheelBucket();
+        }
+        return buckets;
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        WheelScheduledFuture future = new WheelScheduledFuture(task, Kind.TRIGGER, 0, trigger);
+        Instant first = trigger.nextExecution(future.triggerContext);
+        if (first == null) {
+            future.complete(WheelScheduledFuture.COMPLETED, null);
+            return future;
+        }
+        future.arm(toDeadline(first));
+        return future;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        WheelScheduledFuture future = new WheelScheduledFuture(task, Kind.ONE_SHOT, 0, null);
+        future.arm(toDeadline(startTime));
+        return future;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        WheelScheduledFuture future = new WheelScheduledFuture(task, Kind.FIXED_RATE, positive(period), null);
+        future.arm(toDeadline(startTime));
+        return future;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        return scheduleAtFixedRate(task, clock.instant(), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        WheelScheduledFuture future = new WheelScheduledFuture(task, Kind.FIXED_DELAY, positive(delay), null);
+        future.arm(toDeadline(startTime));
+        return future;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        return scheduleWithFixedDelay(task, clock.instant(), delay);
+    }
+
+    /**
+     * Gets the number of timeouts currently held by the wheel (including not yet transferred ones).
+     *
+     * @return number of pending timeouts
+     */
+    public long getPendingTimeouts() {
+        return pendingCount.sum();
+    }
+
+    /**
+     * Stops the ticker thread and the worker pool. Pending timeouts are discarded.
+     */
+    public void shutdown() {
+        if (state.getAndSet(STATE_SHUTDOWN) == STATE_STARTED) {
+            tickerThread.interrupt();
+            try {
+                tickerThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workerExecutor.shutdown();
+        log.info("Timing wheel scheduler stopped ({} timeouts discarded)", pendingCount.sum());
+    }
+
+    private static long positive(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Period must be positive: " + duration);
+        }
+        return duration.toNanos();
+    }
+
+    /**
+     * Converts a wall-clock instant to a wheel-relative deadline in nanoseconds.
+     */
+    private long toDeadline(Instant instant) {
+        start();
+        long delayNanos = Math.max(0, Duration.between(clock.instant(), instant).toNanos());
+        return System.nanoTime() - startTime + delayNanos;
+    }
+
+    private void start() {
+        if (state.get() == STATE_STARTED) {
+            return;
+        }
+        if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            tickerThread.start();
+        } else if (state.get() == STATE_SHUTDOWN) {
+            throw new TaskRejectedException("Timing wheel scheduler has been shut down");
+        }
+    }
+
+    /**
+     * Links a timeout into the bucket of its target tick.
+     *
+     * The ticker advances {@link #tick} while holding the lock of the bucket it just processed,
+     * so re-checking the tick under the target bucket's lock guarantees the timeout is never
+     * added to a slot the ticker has already passed for that revolution.
+     */
+    private void insert(WheelTimeout timeout) {
+        pendingCount.increment();
+        long targetTick = timeout.deadline / tickNanos;
+        while (true) {
+            long target = Math.max(targetTick, tick);
+            WheelBucket bucket = wheel[(int) (target & mask)];
+            synchronized (bucket) {
+                if (target >= tick) {
+                    timeout.targetTick = target;
+                    bucket.add(timeout);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void runTicker() {
+        log.info("Timing wheel ticker started ({} buckets, tick {} ms)",
+                wheel.length, TimeUnit.NANOSECONDS.toMillis(tickNanos));
+        List<WheelTimeout> expired = new ArrayList<>();
+        while (state.get() == STATE_STARTED) {
+            if (!waitForNextTick()) {
+                continue;
+            }
+            long currentTick = tick;
+            WheelBucket bucket = wheel[(int) (currentTick & mask)];
+            synchronized (bucket) {
+                bucket.collectExpired(currentTick, expired);
+                tick = currentTick + 1;
+            }
+            for (WheelTimeout timeout : expired) {
+                timeout.expire();
+            }
+            expired.clear();
+        }
+    }
+
+    /**
+     * Sleeps until the end of the current tick.
+     *
+     * @return true when the tick is due, false if woken up by shutdown
+     */
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepMillis = (deadline - (System.nanoTime() - startTime) + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return true;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_SHUTDOWN) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private enum Kind {
+        ONE_SHOT, FIXED_RATE, FIXED_DELAY, TRIGGER
+    }
+
+    /**
+     * A single armed deadline in the wheel. Periodic tasks create a new timeout per execution.
+     */
+    private final class WheelTimeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final WheelScheduledFuture owner;
+        private final long deadline;
+        private volatile int status = ST_INIT;
+
+        // Guarded by the lock of the bucket the timeout is linked into
+        private long targetTick;
+        private WheelTimeout next;
+        private WheelTimeout prev;
+        private volatile WheelBucket bucket;
+
+        private WheelTimeout(WheelScheduledFuture owner, long deadline) {
+            this.owner = owner;
+            this.deadline = deadline;
+        }
+
+        private void cancel() {
+            if (!TIMEOUT_STATUS.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return;
+            }
+            pendingCount.decrement();
+            WheelBucket linked = bucket;
+            if (linked != null) {
+                synchronized (linked) {
+                    linked.remove(this);
+                }
+            }
+        }
+
+        private void expire() {
+            if (!TIMEOUT_STATUS.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            pendingCount.decrement();
+            try {
+                workerExecutor.execute(() -> owner.runAndReschedule(this));
+            } catch (RejectedExecutionException e) {
+                log.warn("Worker pool rejected timing wheel task: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Doubly-linked list of timeouts sharing a wheel slot. All access happens under the bucket's monitor.
+     */
+    private static final class WheelBucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void collectExpired(long currentTick, List<WheelTimeout> expired) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.targetTick <= currentTick) {
+                    remove(timeout);
+                    expired.add(timeout);
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    /**
+     * Handle returned to callers. Tracks the currently armed timeout of a (possibly periodic) task.
+     *
+     * Completion is tracked with a plain state field rather than a {@link java.util.concurrent.CompletableFuture}:
+     * cancelling one of those allocates a {@link CancellationException} with a full stack trace,
+     * which dominated the cost of reschedule-heavy workloads.
+     */
+    private final class WheelScheduledFuture implements ScheduledFuture<Object> {
+
+        private static final int PENDING = 0;
+        private static final int COMPLETED = 1;
+        private static final int FAILED = 2;
+        private static final int CANCELLED = 3;
+
+        private final Runnable task;
+        private final Kind kind;
+        private final long periodNanos;
+        private final Trigger trigger;
+        private final SimpleTriggerContext triggerContext;
+        private volatile int outcome = PENDING;
+
+        private volatile WheelTimeout current;
+        private volatile Throwable failure;
+
+        private WheelScheduledFuture(Runnable task, Kind kind, long periodNanos, Trigger trigger) {
+            this.task = task;
+            this.kind = kind;
+            this.periodNanos = periodNanos;
+            this.trigger = trigger;
+            this.triggerContext = trigger != null ? new SimpleTriggerContext(clock) : null;
+        }
+
+        private void arm(long deadline) {
+            WheelTimeout timeout = new WheelTimeout(this, deadline);
+            current = timeout;
+            insert(timeout);
+            if (isDone()) {
+                // Lost a race with cancel(): make sure the fresh timeout never fires
+                timeout.cancel();
+            }
+        }
+
+        private void complete(int state, Throwable ex) {
+            failure = ex;
+            if (FUTURE_OUTCOME.compareAndSet(this, PENDING, state)) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        private void runAndReschedule(WheelTimeout timeout) {
+            if (isDone()) {
+                return;
+            }
+            Instant actualStart = clock.instant();
+            try {
+                task.run();
+            } catch (Throwable ex) {
+                log.error("Unhandled error in timing wheel task: {}", ex.getMessage(), ex);
+                if (kind != Kind.TRIGGER) {
+                    // Same contract as ScheduledExecutorService: a failing periodic task is suppressed
+                    complete(FAILED, ex);
+                    return;
+                }
+            }
+            switch (kind) {
+                case ONE_SHOT -> complete(COMPLETED, null);
+                case FIXED_RATE -> arm(timeout.deadline + periodNanos);
+                case FIXED_DELAY -> arm(System.nanoTime() - startTime + periodNanos);
+                case TRIGGER -> {
+                    Instant scheduled = startInstantOf(timeout, actualStart);
+                    triggerContext.update(scheduled, actualStart, clock.instant());
+                    Instant next = trigger.nextExecution(triggerContext);
+                    if (next == null) {
+                        complete(COMPLETED, null);
+                    } else {
+                        arm(toDeadline(next));
+                    }
+                }
+            }
+        }
+
+        private Instant startInstantOf(WheelTimeout timeout, Instant actualStart) {
+            long lateNanos = (System.nanoTime() - startTime) - timeout.deadline;
+            return actualStart.minusNanos(Math.max(0, lateNanos));
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            WheelTimeout timeout = current;
+            long remaining = timeout == null ? 0 : timeout.deadline - (System.nanoTime() - startTime);
+            return unit.convert(remaining, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = FUTURE_OUTCOME.compareAndSet(this, PENDING, CANCELLED);
+            if (cancelled) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+            WheelTimeout timeout = current;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return outcome == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return outcome != PENDING;
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            synchronized (this) {
+                while (!isDone()) {
+                    wait();
+                }
+            }
+            return report();
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (this) {
+                while (!isDone()) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        throw new TimeoutException();
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                }
+            }
+            return report();
+        }
+
+        private Object report() throws ExecutionException {
+            return switch (outcome) {
+                case CANCELLED -> throw new CancellationException();
+                case FAILED -> throw new ExecutionException(failure);
+                default -> null;
+            };
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.sporty.scheduling;
+
+/**
+ * What happens to a tick that fires while the previous tick of the same event is still running.
+ */
+public enum OverrunPolicy {
+
+    /**
+     * Drop the tick; the event is polled again at its next regular tick.
+     */
+    SKIP,
+
+    /**
+     * Remember that a tick was missed and run one extra poll as soon as the running one
+     * completes; any further overdue ticks are folded into that single extra poll.
+     */
+    COALESCE
+}
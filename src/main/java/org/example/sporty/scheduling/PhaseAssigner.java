@@ -0,0 +1,165 @@
+package org.example.sporty.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Spreads periodic event tasks across the fetch interval to avoid a thundering herd.
+ *
+ * The interval is split into equal slots on an absolute epoch grid: slot {@code i} fires at
+ * {@code k * interval + i * interval / slots}. Each scheduled event is placed in one slot,
+ * according to the configured {@link PhaseStrategy}, and released when unscheduled. The number
+ * of events per slot is exposed as the {@code scheduler.phase.slot.load} gauge (tag {@code slot}).
+ */
+@Slf4j
+public class PhaseAssigner implements MeterBinder {
+
+    private final PhaseStrategy strategy;
+    private final int[] slotLoads;
+    private final Map<String, Integer> assignedSlots = new HashMap<>();
+
+    /**
+     * Creates a phase assigner.
+     *
+     * @param strategy slot placement strategy
+     * @param slots number of slots the interval is split into
+     */
+    public PhaseAssigner(PhaseStrategy strategy, int slots) {
+        if (slots <= 0) {
+            throw new IllegalArgumentException("Slot count must be positive: " + slots);
+        }
+        this.strategy = strategy;
+        this.slotLoads = new int[slots];
+
+        log.info("Phase assigner initialized (strategy: {}, slots: {})", strategy, slots);
+    }
+
+    /**
+     * Checks whether phasing is active.
+     *
+     * @return false for {@link PhaseStrategy#NONE}
+     */
+    public boolean isEnabled() {
+        return strategy != PhaseStrategy.NONE;
+    }
+
+    /**
+     * Assigns the event to a slot and computes its first fire time.
+     * An event that already holds a slot is moved to a newly chosen one.
+     *
+     * @param eventId the event ID
+     * @param interval the fetch interval
+     * @param now the current time
+     * @return next instant after {@code now} on the grid of the assigned slot
+     */
+    public synchronized Instant assign(String eventId, Duration interval, Instant now) {
+        release(eventId);
+
+        int slot = strategy == PhaseStrategy.LEAST_LOADED ? leastLoadedSlot(eventId) : hashSlot(eventId);
+        slotLoads[slot]++;
+        assignedSlots.put(eventId, slot);
+
+        log.debug("Assigned event {} to phase slot {}", eventId, slot);
+        return firstFire(slot, interval, now);
+    }
+
+    /**
+     * Records an event whose first fire time is already known (restored after a restart)
+     * in the slot that time falls into.
+     *
+     * @param eventId the event ID
+     * @param firstFire the event's first fire time
+     * @param interval the fetch interval
+     */
+    public synchronized void occupy(String eventId, Instant firstFire, Duration interval) {
+        if (!isEnabled()) {
+            return;
+        }
+        release(eventId);
+
+        long intervalMillis = interval.toMillis();
+        int slot = (int) (Math.floorMod(firstFire.toEpochMilli(), intervalMillis) * slotLoads.length / intervalMillis);
+        slotLoads[slot]++;
+        assignedSlots.put(eventId, slot);
+    }
+
+    /**
+     * Releases the slot held by an event.
+     *
+     * @param eventId the event ID
+     */
+    public synchronized void release(String eventId) {
+        Integer slot = assignedSlots.remove(eventId);
+        if (slot != null) {
+            slotLoads[slot]--;
+        }
+    }
+
+    /**
+     * Gets the number of events per slot.
+     *
+     * @return copy of the per-slot load histogram
+     */
+    public synchronized int[] getSlotLoads() {
+        return slotLoads.clone();
+    }
+
+    public synchronized int getSlotLoad(int slot) {
+        return slotLoads[slot];
+    }
+
+    public PhaseStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int slot = 0; slot < slotLoads.length; slot++) {
+            int index = slot;
+            Gauge.builder("scheduler.phase.slot.load", this, assigner -> assigner.getSlotLoad(index))
+                    .description("Number of live events whose ticks fall into the phase slot")
+                    .tag("slot", String.valueOf(slot))
+                    .register(registry);
+        }
+    }
+
+    private int hashSlot(String eventId) {
+        int hash = eventId.hashCode();
+        // Spread low-entropy hashes (sequential IDs) before reducing to a slot
+        hash ^= (hash >>> 16);
+        hash *= 0x45d9f3b;
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, slotLoads.length);
+    }
+
+    private int leastLoadedSlot(String eventId) {
+        // Start the scan at the hash slot so ties resolve deterministically per event
+        int start = hashSlot(eventId);
+        int best = start;
+        for (int i = 1; i < slotLoads.length; i++) {
+            int slot = (start + i) % slotLoads.length;
+            if (slotLoads[slot] < slotLoads[best]) {
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    private Instant firstFire(int slot, Duration interval, Instant now) {
+        long intervalMillis = interval.toMillis();
+        long offsetMillis = slot * intervalMillis / slotLoads.length;
+        long nowMillis = now.toEpochMilli();
+        long candidate = nowMillis - Math.floorMod(nowMillis, intervalMillis) + offsetMillis;
+        if (candidate <= nowMillis) {
+            candidate += intervalMillis;
+        }
+        return Instant.ofEpochMilli(candidate);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.sporty.scheduling;
+
+/**
+ * How the first-fire offset of a periodic event task is chosen within the fetch interval.
+ */
+public enum PhaseStrategy {
+
+    /**
+     * No phasing: the first tick fires immediately, so events that go live together tick together.
+     */
+    NONE,
+
+    /**
+     * Deterministic slot derived from the event ID hash; stable across restarts and nodes.
+     */
+    HASH,
+
+    /**
+     * Slot with the fewest currently scheduled events; flattest load for small event counts.
+     */
+    LEAST_LOADED
+}
@@ -0,0 +1,93 @@
+package org.example.sporty.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs ticks on a dedicated, fixed-size pool of platform threads.
+ *
+ * Used as a worker budget: ticks handed to one pool can never occupy the threads of another.
+ * Ticks over the pool size queue until a thread is free.
+ */
+@Slf4j
+public class PlatformTickExecutor implements TickExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Creates a platform tick executor.
+     *
+     * @param threads number of worker threads
+     * @param threadNamePrefix prefix of the worker thread names
+     */
+    public PlatformTickExecutor(int threads, String threadNamePrefix) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(
+                threads, new CustomizableThreadFactory(threadNamePrefix));
+
+        log.info("Platform tick executor initialized ({} threads, prefix: {})", threads, threadNamePrefix);
+    }
+
+    @Override
+    public void execute(Runnable tick) {
+        try {
+            executor.execute(() -> run(tick));
+        } catch (RejectedExecutionException e) {
+            throw new TaskRejectedException("Platform tick executor has been shut down", e);
+        }
+    }
+
+    private void run(Runnable tick) {
+        inFlight.incrementAndGet();
+        try {
+            tick.run();
+        } catch (RuntimeException e) {
+            log.error("Tick failed: {}", e.getMessage(), e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the number of ticks queued for a free thread.
+     *
+     * @return waiting tick count
+     */
+    public int getWaiting() {
+        return executor.getQueue().size();
+    }
+
+    public int getMaxConcurrency() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Stops accepting ticks and waits briefly for running ones to finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
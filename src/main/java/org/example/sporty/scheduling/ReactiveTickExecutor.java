@@ -0,0 +1,111 @@
+package org.example.sporty.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts ticks on the calling thread, with a cap on ticks whose non-blocking pipeline is still running.
+ *
+ * A reactive tick holds no thread once it has subscribed, so a thread pool cannot budget it; this executor
+ * counts a tick as executing until its work signals completion. Ticks over the cap queue, without a thread,
+ * and are started as running ones complete. The overrun guard lets at most one tick per event queue, so the
+ * queue is bounded by the number of events using the executor.
+ */
+@Slf4j
+public class ReactiveTickExecutor implements TickExecutor {
+
+    private final int maxConcurrency;
+    private final Queue<EventTickGuard.AsyncWork> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Serializes {@link #drain()}: only the thread that moved it from 0 starts ticks.
+     */
+    private final AtomicInteger drainers = new AtomicInteger();
+
+    /**
+     * Creates a reactive tick executor.
+     *
+     * @param maxConcurrency maximum number of ticks whose work is running at the same time
+     */
+    public ReactiveTickExecutor(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+
+        log.info("Reactive tick executor initialized (max concurrency: {})", maxConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable tick) {
+        executeAsync(onDone -> {
+            try {
+                tick.run();
+            } finally {
+                onDone.run();
+            }
+        });
+    }
+
+    @Override
+    public void executeAsync(EventTickGuard.AsyncWork tick) {
+        waiting.add(tick);
+        drain();
+    }
+
+    private void drain() {
+        if (drainers.getAndIncrement() != 0) {
+            return;
+        }
+        // Ticks completing while started here only re-arm the loop, so there is no recursion
+        do {
+            while (inFlight.get() < maxConcurrency) {
+                EventTickGuard.AsyncWork next = waiting.poll();
+                if (next == null) {
+                    break;
+                }
+                inFlight.incrementAndGet();
+                start(next);
+            }
+        } while (drainers.decrementAndGet() != 0);
+    }
+
+    private void start(EventTickGuard.AsyncWork tick) {
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable onDone = () -> {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                drain();
+            }
+        };
+        try {
+            tick.start(onDone);
+        } catch (RuntimeException e) {
+            log.error("Tick failed: {}", e.getMessage(), e);
+            onDone.run();
+        }
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the number of ticks waiting for a running one to complete.
+     *
+     * @return waiting tick count
+     */
+    public int getWaiting() {
+        return waiting.size();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+}
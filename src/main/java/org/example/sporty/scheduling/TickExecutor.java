@@ -0,0 +1,46 @@
+package org.example.sporty.scheduling;
+
+/**
+ * Runs the work of a single scheduled tick (fetch and publish for one event).
+ *
+ * Decouples timing from execution: the scheduling backend only decides when a tick is due
+ * and hands the tick to this executor, which decides where it runs.
+ */
+public interface TickExecutor {
+
+    /**
+     * Executes a tick.
+     *
+     * @param tick the work to run
+     */
+    void execute(Runnable tick);
+
+    /**
+     * Executes a tick whose work completes asynchronously. By default, the tick counts as executing only
+     * while it runs on the executor; executors that budget asynchronous work count it until it signals
+     * completion.
+     *
+     * @param tick starts the work, and is given the callback to run once the work has finished
+     */
+    default void executeAsync(EventTickGuard.AsyncWork tick) {
+        execute(() -> tick.start(() -> { }));
+    }
+
+    /**
+     * Gets the number of ticks currently executing.
+     *
+     * @return in-flight tick count, or -1 if not tracked
+     */
+    default int getInFlight() {
+        return -1;
+    }
+
+    /**
+     * Returns an executor that runs ticks directly on the scheduler thread that fired them.
+     *
+     * @return caller-runs tick executor
+     */
+    static TickExecutor callerRuns() {
+        return Runnable::run;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.sporty.scheduling;
+
+import java.time.Duration;
+
+/**
+ * Receives tick accounting events from {@link EventTickGuard}s.
+ */
+public interface TickListener {
+
+    /**
+     * Called when a tick fires, before any overrun decision.
+     *
+     * @param eventId the event ID
+     * @param drift actual minus planned start time
+     */
+    void onTickFired(String eventId, Duration drift);
+
+    /**
+     * Called when a tick is not executed.
+     *
+     * @param eventId the event ID
+     * @param reason why the tick was not executed
+     */
+    void onTickSkipped(String eventId, EventTickGuard.SkipReason reason);
+
+    /**
+     * Listener that ignores all events.
+     *
+     * @return no-op listener
+     */
+    static TickListener noop() {
+        return new TickListener() {
+            @Override
+            public void onTickFired(String eventId, Duration drift) {
+            }
+
+            @Override
+            public void onTickSkipped(String eventId, EventTickGuard.SkipReason reason) {
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.sporty.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Publishes tick drift and skipped ticks to Micrometer.
+ *
+ * <ul>
+ *   <li>{@code scheduler.tick.drift} - timer of actual minus planned tick start</li>
+ *   <li>{@code scheduler.tick.skipped} - counter of ticks not executed, tagged {@code reason}</li>
+ * </ul>
+ *
+ * Events are recorded only once the binder has been bound to a registry.
+ */
+public class TickMetrics implements TickListener, MeterBinder {
+
+    private volatile Timer drift;
+    private final Map<EventTickGuard.SkipReason, Counter> skipped = new EnumMap<>(EventTickGuard.SkipReason.class);
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (EventTickGuard.SkipReason reason : EventTickGuard.SkipReason.values()) {
+            skipped.put(reason, Counter.builder("scheduler.tick.skipped")
+                    .description("Scheduled ticks that were not executed")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry));
+        }
+        drift = Timer.builder("scheduler.tick.drift")
+                .description("Actual minus planned start time of scheduled ticks")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    @Override
+    public void onTickFired(String eventId, Duration tickDrift) {
+        Timer timer = drift;
+        if (timer != null && !tickDrift.isNegative()) {
+            timer.record(tickDrift);
+        }
+    }
+
+    @Override
+    public void onTickSkipped(String eventId, EventTickGuard.SkipReason reason) {
+        Counter counter = skipped.get(reason);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
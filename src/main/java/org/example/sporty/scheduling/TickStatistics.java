@@ -0,0 +1,26 @@
+package org.example.sporty.scheduling;
+
+/**
+ * Snapshot of the tick accounting of one scheduled event.
+ *
+ * @param executed ticks that ran a fetch (coalesced re-runs included)
+ * @param skippedOverrun ticks dropped because the previous tick was still running
+ * @param coalesced ticks folded into a single re-run after an overrun
+ * @param skippedStale ticks dropped because they fired a full interval or more late
+ * @param lastDriftMillis drift (actual minus planned start) of the most recent tick
+ * @param maxDriftMillis largest drift observed
+ * @param running whether a tick is executing right now
+ */
+public record TickStatistics(
+        long executed,
+        long skippedOverrun,
+        long coalesced,
+        long skippedStale,
+        long lastDriftMillis,
+        long maxDriftMillis,
+        boolean running) {
+
+    public long skipped() {
+        return skippedOverrun + coalesced + skippedStale;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.sporty.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.PriorityTier;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Polling interval and worker budget of each {@link PriorityTier}.
+ *
+ * Every tier runs its ticks on its own {@link TickExecutor}, so a surge of low-priority events
+ * saturates only the low tier's workers and its provider calls; premium ticks keep their own
+ * threads. The scheduling backend then only does timing. Ticks currently executing per tier are
+ * exposed as the {@code scheduler.tier.in-flight} gauge (tag {@code tier}).
+ *
+ * When disabled, no budget is defined and every event uses the shared tick executor and the
+ * default fetch interval.
+ */
+@Slf4j
+public class TierBudgets implements MeterBinder {
+
+    /**
+     * Polling interval and tick executor of one tier.
+     *
+     * @param interval polling interval of the tier's events
+     * @param executor where the tier's ticks run
+     */
+    public record Budget(Duration interval, TickExecutor executor) {
+    }
+
+    private final Map<PriorityTier, Budget> budgets;
+
+    /**
+     * Creates the tier budgets.
+     *
+     * @param budgets budget of every tier; empty to disable tiers
+     */
+    public TierBudgets(Map<PriorityTier, Budget> budgets) {
+        if (!budgets.isEmpty() && budgets.size() != PriorityTier.values().length) {
+            throw new IllegalArgumentException("A budget is required for every tier: " + budgets.keySet());
+        }
+        this.budgets = budgets.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(budgets));
+
+        budgets.forEach((tier, budget) -> log.info("Tier {} polls every {}", tier, budget.interval()));
+    }
+
+    /**
+     * Creates tier budgets that are not in use.
+     *
+     * @return disabled tier budgets
+     */
+    public static TierBudgets disabled() {
+        return new TierBudgets(Collections.emptyMap());
+    }
+
+    public boolean isEnabled() {
+        return !budgets.isEmpty();
+    }
+
+    /**
+     * Gets the budget of a tier.
+     *
+     * @param tier the tier, may be null for {@link PriorityTier#STANDARD}
+     * @return the tier's budget
+     * @throws IllegalStateException if tiers are disabled
+     */
+    public Budget budgetFor(PriorityTier tier) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Priority tiers are disabled");
+        }
+        return budgets.get(PriorityTier.orDefault(tier));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        budgets.forEach((tier, budget) -> Gauge.builder("scheduler.tier.in-flight", budget.executor(),
+                        TickExecutor::getInFlight)
+                .tag("tier", tier.getValue())
+                .description("Ticks of the tier currently executing")
+                .register(registry));
+    }
+
+    /**
+     * Shuts down the tiers' executors.
+     */
+    public void shutdown() {
+        budgets.values().forEach(budget -> {
+            if (budget.executor() instanceof PlatformTickExecutor platform) {
+                platform.shutdown();
+            } else if (budget.executor() instanceof VirtualThreadTickExecutor virtual) {
+                virtual.shutdown();
+            }
+        });
+    }
+}
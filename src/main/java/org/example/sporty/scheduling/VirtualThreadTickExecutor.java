@@ -0,0 +1,106 @@
+package org.example.sporty.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs each tick on its own virtual thread, with a cap on concurrently executing ticks.
+ *
+ * Ticks block on the provider call and on the Kafka acknowledgement; on a virtual thread
+ * that blocking only parks the virtual thread, so one slow provider no longer holds one of
+ * the few scheduler threads. Ticks over the cap wait (parked) for a permit.
+ */
+@Slf4j
+public class VirtualThreadTickExecutor implements TickExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Creates a virtual thread tick executor.
+     *
+     * @param maxConcurrency maximum number of ticks executing at the same time
+     * @param threadNamePrefix prefix of the virtual thread names
+     */
+    public VirtualThreadTickExecutor(int maxConcurrency, String threadNamePrefix) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+
+        log.info("Virtual thread tick executor initialized (max concurrency: {})", maxConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable tick) {
+        try {
+            executor.execute(() -> runWithPermit(tick));
+        } catch (RejectedExecutionException e) {
+            throw new TaskRejectedException("Virtual thread tick executor has been shut down", e);
+        }
+    }
+
+    private void runWithPermit(Runnable tick) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        inFlight.incrementAndGet();
+        try {
+            tick.run();
+        } catch (RuntimeException e) {
+            // Nothing above a virtual thread would report it
+            log.error("Tick failed: {}", e.getMessage(), e);
+        } finally {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the number of ticks waiting for a concurrency permit.
+     *
+     * @return waiting tick count
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Stops accepting ticks and waits briefly for running ones to finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
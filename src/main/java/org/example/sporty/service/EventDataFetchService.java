@@ -2,10 +2,15 @@ package org.example.sporty.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.PriorityTier;
 import org.example.sporty.domain.model.ScoreData;
 import org.example.sporty.integration.ExternalApiClient;
 import org.example.sporty.integration.KafkaEventPublisher;
+import org.example.sporty.integration.ProviderCallRejectedException;
+import org.example.sporty.integration.ScoreChangeDetector;
+import org.example.sporty.integration.ScoreFetchBatcher;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 
@@ -14,6 +19,12 @@ import java.time.Instant;
  * and publishing to Kafka.
  *
  * This service orchestrates the data flow from external sources to the message broker.
+ * {@link #fetchAndPublishEventData} blocks the calling thread on the provider call and, unless Kafka
+ * publishing is async, the Kafka acknowledgement; {@link #fetchAndPublishEventDataAsync} returns the same
+ * flow as a Mono that parks no thread at any step. Both go through {@link ScoreFetchBatcher} when batch
+ * fetching is enabled.
+ * The {@link ScoreChangeDetector} decides whether a fetched score is published at all; a score the
+ * provider answered 304 Not Modified for is not published again.
  */
 @Slf4j
 @Service
@@ -22,23 +33,26 @@ public class EventDataFetchService {
 
     private final ExternalApiClient externalApiClient;
     private final KafkaEventPublisher kafkaPublisher;
+    private final ScoreFetchBatcher scoreFetchBatcher;
+    private final ScoreChangeDetector scoreChangeDetector;
 
     /**
      * Fetches event data from the external API and publishes it to Kafka.
      *
      * @param eventId the event ID
+     * @return the fetched score data, published or not; null if the API returned no data or the call was rejected
      */
-    public void fetchAndPublishEventData(String eventId) {
+    public ScoreData fetchAndPublishEventData(String eventId) {
         log.debug("Fetching data for event: {}", eventId);
 
         try {
             // Fetch data from external API
-            ScoreData scoreData = externalApiClient.fetchEventScore(eventId)
+            ScoreData scoreData = fetchScore(eventId)
                     .block(); // Block to convert from Mono to synchronous call
 
             if (scoreData == null) {
                 log.warn("No data received from external API for event: {}", eventId);
-                return;
+                return null;
             }
 
             // Enrich with timestamp if not present
@@ -46,16 +60,128 @@ public class EventDataFetchService {
                 scoreData.setTimestamp(Instant.now());
             }
 
-            log.info("Fetched score data for event {}: {}", eventId, scoreData.getCurrentScore());
+            logFetched(eventId, scoreData);
 
-            // Publish to Kafka
-            kafkaPublisher.publishScoreUpdate(scoreData);
+            // Publish to Kafka, unless the publish policy skips it
+            if (!scoreChangeDetector.shouldPublish(scoreData)) {
+                return scoreData;
+            }
+            if (kafkaPublisher.isAsync()) {
+                // Not waiting for the acknowledgement; a score not published is tried again by the next tick
+                kafkaPublisher.publishScoreUpdateInBackground(scoreData,
+                        () -> scoreChangeDetector.recordPublished(scoreData));
+            } else {
+                kafkaPublisher.publishScoreUpdate(scoreData);
+                scoreChangeDetector.recordPublished(scoreData);
+            }
+            return scoreData;
 
+        } catch (ProviderCallRejectedException e) {
+            // Over the provider quota or circuit open: skip this poll, the next tick tries again
+            log.debug("Provider call for event {} rejected: {}", eventId, e.getMessage());
+            return null;
         } catch (Exception e) {
             log.error("Failed to fetch and publish data for event {}: {}",
                     eventId, e.getMessage(), e);
             throw new RuntimeException("Error processing event " + eventId, e);
         }
     }
-}
 
+    /**
+     * Fetches event data from the external API and publishes it to Kafka, without blocking.
+     *
+     * @param eventId the event ID
+     * @return Mono of the fetched score data, published or not; empty if the API returned no data
+     *         or the call was rejected
+     */
+    public Mono<ScoreData> fetchAndPublishEventDataAsync(String eventId) {
+        return fetchAndPublishEventDataAsync(eventId, false);
+    }
+
+    /**
+     * Fetches event data from the external API and publishes it to Kafka, without blocking.
+     *
+     * @param eventId the event ID
+     * @param force publish even if the publish policy would skip the score
+     * @return Mono of the fetched score data; empty if the API returned no data or the call was rejected
+     */
+    public Mono<ScoreData> fetchAndPublishEventDataAsync(String eventId, boolean force) {
+        log.debug("Fetching data for event: {}", eventId);
+
+        return fetchScore(eventId)
+                .switchIfEmpty(Mono.fromRunnable(() ->
+                        log.warn("No data received from external API for event: {}", eventId)))
+                .map(scoreData -> {
+                    if (scoreData.getTimestamp() == null) {
+                        scoreData.setTimestamp(Instant.now());
+                    }
+                    logFetched(eventId, scoreData);
+                    return scoreData;
+                })
+                .flatMap(scoreData -> publish(scoreData, force))
+                .onErrorResume(ProviderCallRejectedException.class, e -> {
+                    log.debug("Provider call for event {} rejected: {}", eventId, e.getMessage());
+                    return Mono.empty();
+                })
+                .onErrorMap(e -> new RuntimeException("Error processing event " + eventId, e));
+    }
+
+    /**
+     * Publishes a score the provider pushed (see {@link ScoreStreamService}) to Kafka, without blocking.
+     * The publish policy applies as for fetched scores.
+     *
+     * @param scoreData the pushed score data
+     * @return Mono of the score data, published or not
+     */
+    public Mono<ScoreData> publishPushedScoreAsync(ScoreData scoreData) {
+        if (scoreData.getTimestamp() == null) {
+            scoreData.setTimestamp(Instant.now());
+        }
+        log.debug("Received pushed score for event {}: {}", scoreData.getEventId(), scoreData.getCurrentScore());
+        return publish(scoreData, false)
+                .onErrorMap(e -> new RuntimeException("Error publishing event " + scoreData.getEventId(), e));
+    }
+
+    private Mono<ScoreData> publish(ScoreData scoreData, boolean force) {
+        return force || scoreChangeDetector.shouldPublish(scoreData)
+                ? kafkaPublisher.publishScoreUpdateAsync(scoreData)
+                        .doOnSuccess(result -> scoreChangeDetector.recordPublished(scoreData))
+                        .thenReturn(scoreData)
+                : Mono.just(scoreData);
+    }
+
+    /**
+     * Registers the priority tier of a tracked event; it decides how the event's fetches are routed and
+     * which share of the provider rate limit they take.
+     *
+     * @param eventId the event ID
+     * @param tier the priority tier of the event, may be null
+     */
+    public void trackEvent(String eventId, PriorityTier tier) {
+        externalApiClient.setTier(eventId, tier);
+    }
+
+    /**
+     * Forgets the publish state and cached provider response of an event that is no longer tracked.
+     *
+     * @param eventId the event ID
+     */
+    public void forgetEvent(String eventId) {
+        scoreChangeDetector.forget(eventId);
+        externalApiClient.forget(eventId);
+    }
+
+    private static void logFetched(String eventId, ScoreData scoreData) {
+        if (scoreData.isNotModified()) {
+            log.debug("Score of event {} not modified: {}", eventId, scoreData.getCurrentScore());
+        } else {
+            log.info("Fetched score data for event {}: {}", eventId, scoreData.getCurrentScore());
+        }
+    }
+
+    private Mono<ScoreData> fetchScore(String eventId) {
+        return scoreFetchBatcher.isEnabled()
+                ? scoreFetchBatcher.fetch(eventId)
+                : externalApiClient.fetchEventScore(eventId);
+    }
+}
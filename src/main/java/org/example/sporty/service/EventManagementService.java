@@ -1,21 +1,40 @@
 package org.example.sporty.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.cluster.ClusterMember;
+import org.example.sporty.cluster.EventHandoff;
+import org.example.sporty.cluster.EventOwnershipService;
 import org.example.sporty.domain.model.Event;
 import org.example.sporty.domain.model.EventStatus;
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.persistence.EventRecord;
+import org.example.sporty.persistence.EventStateStore;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Service for managing sports events and their lifecycle.
  *
  * This service maintains the in-memory state of events and coordinates
  * with the scheduler service to start/stop monitoring tasks.
+ * When events are sharded across instances, only the owning node schedules an event;
+ * updates received by other nodes are handed off to the owner. A node that polled an event keeps
+ * polling it until the new owner acknowledged the handoff. The owner also hands a copy of each event to
+ * its backup, the member that owns it next, so that an owner that crashes loses none of its events.
+ * Every change is written to the {@link EventStateStore}, from which live events are re-armed
+ * with their previous phase after a restart.
  */
 @Slf4j
 @Service
@@ -23,12 +42,26 @@ import java.util.concurrent.ConcurrentHashMap;
 public class EventManagementService {
 
     private final EventSchedulerService schedulerService;
+    private final EventOwnershipService ownershipService;
+    private final EventHandoff eventHandoff;
+    private final EventStateStore stateStore;
 
     /**
      * Thread-safe in-memory storage for events.
      */
     private final Map<String, Event> events = new ConcurrentHashMap<>();
 
+    /**
+     * Handoffs to the owner and to the backup not acknowledged yet, by event ID; a newer one replaces them.
+     */
+    private final Map<String, Disposable> pendingHandoffs = new ConcurrentHashMap<>();
+    private final Map<String, Disposable> pendingBackups = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerRebalanceListener() {
+        ownershipService.addRebalanceListener(this::rebalance);
+    }
+
     /**
      * Updates the status of an event and triggers appropriate scheduling actions.
      *
@@ -37,17 +70,55 @@ public class EventManagementService {
      * @return the updated event
      */
     public Event updateEventStatus(String eventId, EventStatus newStatus) {
+        return updateEventStatus(eventId, newStatus, null);
+    }
+
+    /**
+     * Updates the status of an event and triggers appropriate scheduling actions.
+     *
+     * @param eventId the event ID
+     * @param newStatus the new status
+     * @param sport the sport of the event; null keeps the previously known sport
+     * @return the updated event
+     */
+    public Event updateEventStatus(String eventId, EventStatus newStatus, String sport) {
+        return updateEventStatus(eventId, newStatus, sport, null);
+    }
+
+    /**
+     * Updates the status of an event and triggers appropriate scheduling actions.
+     * A live event whose priority tier changes is rescheduled in its new tier.
+     *
+     * @param eventId the event ID
+     * @param newStatus the new status
+     * @param sport the sport of the event; null keeps the previously known sport
+     * @param priority the priority tier of the event; null keeps the previously known tier
+     * @return the updated event
+     */
+    public Event updateEventStatus(String eventId, EventStatus newStatus, String sport, PriorityTier priority) {
         log.info("Updating event {} to status: {}", eventId, newStatus);
 
         Event event = events.computeIfAbsent(eventId, id -> Event.builder()
                 .eventId(id)
                 .build());
 
+        if (sport != null) {
+            event.setSport(sport);
+        }
+        PriorityTier previousPriority = event.getPriority();
+        if (priority != null) {
+            event.setPriority(priority);
+        }
+
         EventStatus previousStatus = event.getStatus();
         event.setStatus(newStatus);
         event.setLastUpdated(Instant.now());
 
-        handleStatusChange(event, previousStatus, newStatus);
+        handleStatusChange(event, previousStatus, newStatus, previousPriority);
+        persist(event);
+        if (ownershipService.isLocallyOwned(eventId)) {
+            backUp(event);
+        }
 
         return event;
     }
@@ -62,6 +133,16 @@ public class EventManagementService {
         return Optional.ofNullable(events.get(eventId));
     }
 
+    /**
+     * Fetches and publishes an event's score now, without waiting for its next tick.
+     *
+     * @param eventId the event ID
+     * @return Mono of the published score data; empty if the API returned no data or the call was shed
+     */
+    public Mono<ScoreData> refreshEvent(String eventId) {
+        return schedulerService.refreshEvent(eventId);
+    }
+
     /**
      * Gets all events currently in the system.
      *
@@ -71,16 +152,178 @@ public class EventManagementService {
         return new ConcurrentHashMap<>(events);
     }
 
+    /**
+     * Accepts an event handed off by another node, which received the update or owned the event before,
+     * or which owns the event and keeps this node as its backup.
+     *
+     * @param handedOff the event as known by the sending node
+     */
+    public void acceptHandoff(Event handedOff) {
+        String eventId = handedOff.getEventId();
+        log.info("Accepting handoff of event {} ({})", eventId, handedOff.getStatus());
+
+        Event event = events.computeIfAbsent(eventId, id -> Event.builder()
+                .eventId(id)
+                .build());
+        event.setStatus(handedOff.getStatus());
+        event.setLastUpdated(handedOff.getLastUpdated() != null ? handedOff.getLastUpdated() : Instant.now());
+        if (handedOff.getSport() != null) {
+            event.setSport(handedOff.getSport());
+        }
+        if (handedOff.getPriority() != null) {
+            event.setPriority(handedOff.getPriority());
+        }
+
+        if (ownershipService.isLocallyOwned(eventId)) {
+            cancel(pendingHandoffs, eventId);
+            reconcileSchedule(event);
+            persist(event);
+            backUp(event);
+        } else {
+            // A backup copy, or membership views disagree for a moment: never bounce back
+            log.debug("Keeping event {} owned by node {}", eventId, ownershipService.ownerOf(eventId));
+            persist(event);
+        }
+    }
+
+    /**
+     * Restores events saved before a restart and re-arms the live ones this node owns,
+     * each with the phase it had before.
+     *
+     * @param records saved event states
+     * @return number of re-armed live events
+     */
+    public int restore(Collection<EventRecord> records) {
+        int rearmed = 0;
+        for (EventRecord record : records) {
+            Event event = record.toEvent();
+            events.put(event.getEventId(), event);
+
+            if (event.isLive() && ownershipService.isLocallyOwned(event.getEventId())) {
+                if (record.hasPhase()) {
+                    schedulerService.restoreEvent(event.getEventId(), event.getSport(), event.getPriority(),
+                            record.phaseOffsetMillis());
+                } else {
+                    schedulerService.scheduleEvent(event.getEventId(), event.getSport(), event.getPriority());
+                }
+                rearmed++;
+            }
+        }
+        return rearmed;
+    }
+
+    /**
+     * Re-evaluates ownership of all known events after a membership change.
+     * Newly owned live events, including those kept as a backup of a node that left, are scheduled and
+     * backed up again; events owned elsewhere are handed off, and stopped once the new owner has them.
+     */
+    public void rebalance() {
+        events.values().forEach(event -> {
+            String eventId = event.getEventId();
+            if (ownershipService.isLocallyOwned(eventId)) {
+                cancel(pendingHandoffs, eventId);
+                reconcileSchedule(event);
+                backUp(event);
+            } else if (schedulerService.isScheduled(eventId)) {
+                log.info("Event {} moved to another node - handing it off", eventId);
+                handOff(event);
+            }
+        });
+    }
+
+    private void persist(Event event) {
+        stateStore.save(EventRecord.of(event, schedulerService.getPhaseOffset(event.getEventId())));
+    }
+
+    private void reconcileSchedule(Event event) {
+        String eventId = event.getEventId();
+        boolean scheduled = schedulerService.isScheduled(eventId);
+        if (event.isLive() && !scheduled) {
+            schedulerService.scheduleEvent(eventId, event.getSport(), event.getPriority());
+        } else if (!event.isLive() && scheduled) {
+            schedulerService.unscheduleEvent(eventId);
+        }
+    }
+
+    /**
+     * Hands an event off to its owner. Until the owner acknowledged it, this node keeps polling it if it did.
+     */
+    private void handOff(Event event) {
+        String eventId = event.getEventId();
+        ClusterMember owner = ownershipService.ownerOf(eventId);
+        if (owner == null) {
+            log.warn("No cluster member available to own event {}", eventId);
+            return;
+        }
+        send(pendingHandoffs, eventId, eventHandoff.handOff(owner, event), () -> {
+            if (!ownershipService.isLocallyOwned(eventId) && schedulerService.isScheduled(eventId)) {
+                log.info("Event {} handed off to node {} - stopping periodic updates", eventId, owner.nodeId());
+                schedulerService.unscheduleEvent(eventId);
+            }
+        }, error -> log.error("Failed to hand event {} off to node {}, polling it here meanwhile: {}",
+                eventId, owner.nodeId(), error.getMessage()));
+    }
+
+    /**
+     * Hands a copy of an owned event to its backup, if there is one.
+     */
+    private void backUp(Event event) {
+        String eventId = event.getEventId();
+        ClusterMember backup = ownershipService.backupOf(eventId);
+        if (backup == null) {
+            return;
+        }
+        send(pendingBackups, eventId, eventHandoff.handOff(backup, event), () -> {
+        }, error -> log.warn("Failed to back event {} up on node {}: {}", eventId, backup.nodeId(),
+                error.getMessage()));
+    }
+
+    /**
+     * Sends a handoff, cancelling the one still pending for the event, if any.
+     */
+    private static void send(Map<String, Disposable> pending, String eventId, Mono<Void> handoff,
+                             Runnable onAcknowledged, Consumer<Throwable> onError) {
+        // Registered before subscribing, as the handoff may be acknowledged at once
+        Disposable.Swap swap = Disposables.swap();
+        Disposable previous = pending.put(eventId, swap);
+        if (previous != null) {
+            previous.dispose();
+        }
+        swap.update(handoff
+                .doFinally(signal -> pending.remove(eventId, swap))
+                .subscribe(null, onError, onAcknowledged));
+    }
+
+    private static void cancel(Map<String, Disposable> pending, String eventId) {
+        Disposable handoff = pending.remove(eventId);
+        if (handoff != null) {
+            handoff.dispose();
+        }
+    }
+
     /**
      * Handles status transitions and triggers appropriate actions.
      */
-    private void handleStatusChange(Event event, EventStatus previousStatus, EventStatus newStatus) {
+    private void handleStatusChange(Event event, EventStatus previousStatus, EventStatus newStatus,
+                                    PriorityTier previousPriority) {
         String eventId = event.getEventId();
 
+        // Events owned by another node: that node schedules, whatever this node saw before
+        if (!ownershipService.isLocallyOwned(eventId)) {
+            log.info("Event {} is owned by another node - handing off status {}", eventId, newStatus);
+            handOff(event);
+            return;
+        }
+
         // If transitioning to live, start scheduling
         if (newStatus.isLive() && (previousStatus == null || !previousStatus.isLive())) {
             log.info("Event {} transitioning to LIVE - starting periodic updates", eventId);
-            schedulerService.scheduleEvent(eventId);
+            schedulerService.scheduleEvent(eventId, event.getSport(), event.getPriority());
+        }
+        // If staying live in another tier, move it to that tier's interval and workers
+        else if (newStatus.isLive() && previousStatus.isLive() && event.getPriority() != previousPriority) {
+            log.info("Event {} moved to priority tier {} - rescheduling", eventId, event.getPriority());
+            schedulerService.scheduleEvent(eventId, event.getSport(), event.getPriority());
         }
         // If transitioning from live to not live, stop scheduling
         else if (!newStatus.isLive() && previousStatus != null && previousStatus.isLive()) {
@@ -2,19 +2,54 @@ package org.example.sporty.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.scheduling.AdaptiveIntervalPolicy;
+import org.example.sporty.scheduling.AdaptiveTrigger;
+import org.example.sporty.scheduling.EventTickGuard;
+import org.example.sporty.scheduling.ExecutionMode;
+import org.example.sporty.scheduling.OverrunPolicy;
+import org.example.sporty.scheduling.PhaseAssigner;
+import org.example.sporty.scheduling.TickExecutor;
+import org.example.sporty.scheduling.TickListener;
+import org.example.sporty.scheduling.TickStatistics;
+import org.example.sporty.scheduling.TierBudgets;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
 
 /**
  * Service responsible for scheduling and managing periodic event update tasks.
  *
  * Uses Spring's TaskScheduler to dynamically schedule tasks for each live event.
  * Each event gets its own scheduled task that can be independently started and stopped.
+ * The concrete backend (thread pool or timing wheel) is chosen in {@code SchedulerConfig}.
+ * The backend only fires ticks; the {@link TickExecutor} decides where the fetch runs
+ * (inline on the scheduler thread, or on a virtual thread).
+ * When phasing is enabled, the {@link PhaseAssigner} picks each event's first-fire offset
+ * so that events going live together do not tick together.
+ * When adaptive polling is enabled, each event runs on an {@link AdaptiveTrigger} that backs
+ * off while its score is unchanged.
+ * Every tick passes an {@link EventTickGuard} first, which drops stale catch-up ticks and
+ * ticks that fire while the previous one is still running, and records the drift.
+ * In reactive execution mode the tick only subscribes to the non-blocking fetch-and-publish
+ * pipeline; the guard treats the tick as running until the pipeline completes.
+ * When priority tiers are enabled, the event's {@link PriorityTier} selects its interval and
+ * the executor its ticks run on, from the {@link TierBudgets}.
+ * Scheduled events are tracked by the {@link ScoreStream}; while the stream covers an event, its ticks
+ * skip the fetch, and polling resumes as soon as the stream is down.
  */
 @Slf4j
 @Service
@@ -22,13 +57,45 @@ import java.util.concurrent.ScheduledFuture;
 public class EventSchedulerService {
 
     private final EventDataFetchService dataFetchService;
-    private final ThreadPoolTaskScheduler taskScheduler;
+    private final TaskScheduler taskScheduler;
+    private final TickExecutor tickExecutor;
+    private final PhaseAssigner phaseAssigner;
+    private final AdaptiveIntervalPolicy adaptivePolicy;
+    private final TickListener tickListener;
+    private final TierBudgets tierBudgets;
+    private final ScoreStream scoreStream;
+
+    @Value("${scheduler.overrun-policy:skip}")
+    private OverrunPolicy overrunPolicy = OverrunPolicy.SKIP;
+
+    @Value("${scheduler.execution-mode:platform}")
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
 
     /**
      * Stores scheduled futures for each event to allow cancellation.
      */
     private final Map<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
 
+    /**
+     * Adaptive triggers of scheduled events (only when adaptive polling is enabled).
+     */
+    private final Map<String, AdaptiveTrigger> adaptiveTriggers = new ConcurrentHashMap<>();
+
+    /**
+     * Overrun guards (and tick accounting) of scheduled events.
+     */
+    private final Map<String, EventTickGuard> tickGuards = new ConcurrentHashMap<>();
+
+    /**
+     * Offset of each scheduled event's ticks within the fetch interval (epoch millis modulo interval).
+     */
+    private final Map<String, Long> phaseOffsets = new ConcurrentHashMap<>();
+
+    /**
+     * Priority tier of each scheduled event.
+     */
+    private final Map<String, PriorityTier> tiers = new ConcurrentHashMap<>();
+
     /**
      * Interval between successive calls to the external API (10 seconds).
      */
@@ -40,18 +107,110 @@ public class EventSchedulerService {
      * @param eventId the event ID to schedule
      */
     public void scheduleEvent(String eventId) {
+        scheduleEvent(eventId, null);
+    }
+
+    /**
+     * Schedules periodic updates for an event of a given sport.
+     * The sport selects the adaptive interval bounds, if configured.
+     *
+     * @param eventId the event ID to schedule
+     * @param sport the sport of the event, may be null
+     */
+    public void scheduleEvent(String eventId, String sport) {
+        scheduleEvent(eventId, sport, null);
+    }
+
+    /**
+     * Schedules periodic updates for an event of a given sport and priority tier.
+     *
+     * @param eventId the event ID to schedule
+     * @param sport the sport of the event, may be null
+     * @param tier the priority tier of the event, null for {@link PriorityTier#STANDARD}
+     */
+    public void scheduleEvent(String eventId, String sport, PriorityTier tier) {
         // Cancel existing task if any
         unscheduleEvent(eventId);
 
-        log.info("Scheduling periodic updates for event: {} (every {} seconds)",
-                eventId, FETCH_INTERVAL.getSeconds());
+        Instant firstFire = phaseAssigner.isEnabled()
+                ? phaseAssigner.assign(eventId, intervalOf(tier), Instant.now())
+                : null;
 
-        ScheduledFuture<?> future = taskScheduler.scheduleAtFixedRate(
-                () -> fetchAndPublishEventData(eventId),
-                FETCH_INTERVAL
-        );
+        schedule(eventId, sport, tier, firstFire, Level.INFO);
+    }
+
+    /**
+     * Re-arms an event after a restart, keeping the phase it had before.
+     * The first tick fires at the next instant with the given offset within the fetch interval.
+     *
+     * @param eventId the event ID to schedule
+     * @param sport the sport of the event, may be null
+     * @param tier the priority tier of the event, may be null
+     * @param phaseOffsetMillis offset of the event's ticks within the fetch interval
+     */
+    public void restoreEvent(String eventId, String sport, PriorityTier tier, long phaseOffsetMillis) {
+        unscheduleEvent(eventId);
+
+        Duration interval = intervalOf(tier);
+        long intervalMillis = interval.toMillis();
+        long nowMillis = Instant.now().toEpochMilli();
+        long offset = Math.floorMod(phaseOffsetMillis, intervalMillis);
+        long next = nowMillis - Math.floorMod(nowMillis, intervalMillis) + offset;
+        Instant firstFire = Instant.ofEpochMilli(next > nowMillis ? next : next + intervalMillis);
+
+        phaseAssigner.occupy(eventId, firstFire, interval);
+        // Restores come in bulk at startup; keep them out of the INFO log
+        schedule(eventId, sport, tier, firstFire, Level.DEBUG);
+    }
+
+    private void schedule(String eventId, String sport, PriorityTier tier, Instant firstFire, Level logLevel) {
+        Instant start = firstFire != null ? firstFire : Instant.now();
+        Duration interval = intervalOf(tier);
+        TickExecutor executor = tierBudgets.isEnabled() ? tierBudgets.budgetFor(tier).executor() : tickExecutor;
+        ScheduledFuture<?> future;
+        EventTickGuard guard;
+        if (adaptivePolicy.isEnabled()) {
+            AdaptiveIntervalPolicy.Bounds bounds = adaptivePolicy.boundsFor(eventId, sport);
+            if (tierBudgets.isEnabled()) {
+                // The tier decides how fast the event is polled while its score moves
+                bounds = new AdaptiveIntervalPolicy.Bounds(interval,
+                        bounds.max().compareTo(interval) > 0 ? bounds.max() : interval);
+            }
+            log.atLevel(logLevel).log("Scheduling adaptive updates for event: {} (every {}-{} seconds)",
+                    eventId, bounds.min().getSeconds(), bounds.max().getSeconds());
+
+            AdaptiveTrigger trigger = new AdaptiveTrigger(adaptivePolicy, bounds, start);
+            guard = executionMode == ExecutionMode.REACTIVE
+                    ? new EventTickGuard(eventId, overrunPolicy, executor,
+                            onDone -> subscribeFetchAndPublish(eventId, trigger::onScore, onDone),
+                            trigger::getPlannedExecution, trigger::getInterval, tickListener)
+                    : new EventTickGuard(eventId, overrunPolicy, executor,
+                            () -> trigger.onScore(currentScore(fetchAndPublishEventData(eventId))),
+                            trigger::getPlannedExecution, trigger::getInterval, tickListener);
+            future = taskScheduler.schedule(guard, trigger);
+            adaptiveTriggers.put(eventId, trigger);
+        } else {
+            log.atLevel(logLevel).log("Scheduling periodic updates for event: {} (every {} seconds)",
+                    eventId, interval.getSeconds());
+
+            guard = executionMode == ExecutionMode.REACTIVE
+                    ? new EventTickGuard(eventId, overrunPolicy, executor,
+                            onDone -> subscribeFetchAndPublish(eventId, score -> { }, onDone),
+                            EventTickGuard.fixedRatePlan(start, interval), () -> interval, tickListener)
+                    : new EventTickGuard(eventId, overrunPolicy, executor,
+                            () -> fetchAndPublishEventData(eventId),
+                            EventTickGuard.fixedRatePlan(start, interval), () -> interval, tickListener);
+            future = firstFire != null
+                    ? taskScheduler.scheduleAtFixedRate(guard, firstFire, interval)
+                    : taskScheduler.scheduleAtFixedRate(guard, interval);
+        }
+        tickGuards.put(eventId, guard);
+        phaseOffsets.put(eventId, Math.floorMod(start.toEpochMilli(), interval.toMillis()));
+        tiers.put(eventId, PriorityTier.orDefault(tier));
 
         scheduledTasks.put(eventId, future);
+        dataFetchService.trackEvent(eventId, tier);
+        scoreStream.track(eventId);
         log.debug("Scheduled task created for event: {}", eventId);
     }
 
@@ -62,6 +221,13 @@ public class EventSchedulerService {
      */
     public void unscheduleEvent(String eventId) {
         ScheduledFuture<?> future = scheduledTasks.remove(eventId);
+        adaptiveTriggers.remove(eventId);
+        tickGuards.remove(eventId);
+        phaseOffsets.remove(eventId);
+        tiers.remove(eventId);
+        phaseAssigner.release(eventId);
+        scoreStream.untrack(eventId);
+        dataFetchService.forgetEvent(eventId);
 
         if (future != null) {
             boolean cancelled = future.cancel(false);
@@ -82,20 +248,102 @@ public class EventSchedulerService {
         return future != null && !future.isCancelled() && !future.isDone();
     }
 
+    /**
+     * Fetches and publishes an event's score now, outside its schedule.
+     * The provider call joins the one in flight for the event, if a tick is fetching it already.
+     * The score is published even if unchanged: a refresh is an explicit request for an update.
+     *
+     * @param eventId the event ID
+     * @return Mono of the published score data; empty if the API returned no data or the call was shed
+     */
+    public Mono<ScoreData> refreshEvent(String eventId) {
+        log.debug("Refreshing event on demand: {}", eventId);
+        return dataFetchService.fetchAndPublishEventDataAsync(eventId, true);
+    }
+
     /**
      * Fetches data from external API and publishes to Kafka.
      * This is the task that runs periodically for each live event.
      *
      * @param eventId the event ID
+     * @return the fetched score data, or null if nothing was fetched
      */
-    private void fetchAndPublishEventData(String eventId) {
+    private ScoreData fetchAndPublishEventData(String eventId) {
+        if (scoreStream.covers(eventId)) {
+            log.debug("Skipping scheduled fetch for streamed event: {}", eventId);
+            return null;
+        }
         try {
             log.debug("Executing scheduled fetch for event: {}", eventId);
-            dataFetchService.fetchAndPublishEventData(eventId);
+            return dataFetchService.fetchAndPublishEventData(eventId);
         } catch (Exception e) {
             // Log the error but don't propagate - we want the task to continue
             log.error("Error in scheduled task for event {}: {}", eventId, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Subscribes to the non-blocking fetch-and-publish pipeline of an event.
+     * This is the task that runs periodically for each live event in reactive mode.
+     *
+     * @param eventId the event ID
+     * @param onScore receives the fetched score
+     * @param onDone called once the pipeline has completed, successfully or not
+     */
+    private void subscribeFetchAndPublish(String eventId, Consumer<String> onScore, Runnable onDone) {
+        if (scoreStream.covers(eventId)) {
+            log.debug("Skipping scheduled fetch for streamed event: {}", eventId);
+            onDone.run();
+            return;
         }
+        log.debug("Subscribing scheduled fetch for event: {}", eventId);
+        dataFetchService.fetchAndPublishEventDataAsync(eventId)
+                .doFinally(signal -> onDone.run())
+                .subscribe(
+                        scoreData -> onScore.accept(currentScore(scoreData)),
+                        // Log the error but don't propagate - we want the task to continue
+                        e -> log.error("Error in scheduled task for event {}: {}", eventId, e.getMessage(), e));
+    }
+
+    private Duration intervalOf(PriorityTier tier) {
+        return tierBudgets.isEnabled() ? tierBudgets.budgetFor(tier).interval() : FETCH_INTERVAL;
+    }
+
+    private static String currentScore(ScoreData scoreData) {
+        return scoreData != null ? scoreData.getCurrentScore() : null;
+    }
+
+    /**
+     * Gets the polling interval currently used for an event.
+     *
+     * @param eventId the event ID
+     * @return the adaptive interval, or the fixed interval of the event's tier when adaptive polling is disabled
+     */
+    public Duration getCurrentInterval(String eventId) {
+        AdaptiveTrigger trigger = adaptiveTriggers.get(eventId);
+        return trigger != null ? trigger.getInterval() : intervalOf(tiers.get(eventId));
+    }
+
+    /**
+     * Gets the priority tier a scheduled event runs in.
+     *
+     * @param eventId the event ID
+     * @return the tier, empty if the event is not scheduled
+     */
+    public Optional<PriorityTier> getTier(String eventId) {
+        return Optional.ofNullable(tiers.get(eventId));
+    }
+
+    /**
+     * Gets the number of scheduled events per priority tier.
+     *
+     * @return map of tier to scheduled event count
+     */
+    public Map<PriorityTier, Integer> getScheduledCountByTier() {
+        Map<PriorityTier, Integer> counts = new EnumMap<>(PriorityTier.class);
+        tiers.values().forEach(tier -> counts.merge(tier, 1, Integer::sum));
+        return counts;
     }
 
     /**
@@ -108,5 +356,50 @@ public class EventSchedulerService {
                 .filter(future -> !future.isCancelled() && !future.isDone())
                 .count();
     }
-}
 
+    /**
+     * Gets the phase of a scheduled event, so that it can be restored after a restart.
+     *
+     * @param eventId the event ID
+     * @return offset in milliseconds of the event's ticks within its interval, or -1 if not scheduled
+     */
+    public long getPhaseOffset(String eventId) {
+        return phaseOffsets.getOrDefault(eventId, -1L);
+    }
+
+    /**
+     * Gets the tick accounting of a scheduled event.
+     *
+     * @param eventId the event ID
+     * @return drift and skipped-tick counters, empty if the event is not scheduled
+     */
+    public Optional<TickStatistics> getTickStatistics(String eventId) {
+        return Optional.ofNullable(tickGuards.get(eventId)).map(EventTickGuard::getStatistics);
+    }
+
+    /**
+     * Gets the tick accounting of all scheduled events.
+     *
+     * @return map of event ID to tick statistics
+     */
+    public Map<String, TickStatistics> getAllTickStatistics() {
+        Map<String, TickStatistics> statistics = new LinkedHashMap<>();
+        tickGuards.forEach((eventId, guard) -> statistics.put(eventId, guard.getStatistics()));
+        return statistics;
+    }
+
+    /**
+     * Gets the number of scheduled events whose tick is executing right now.
+     *
+     * @return number of running ticks
+     */
+    public int getRunningTickCount() {
+        return (int) tickGuards.values().stream()
+                .filter(EventTickGuard::isRunning)
+                .count();
+    }
+
+    public OverrunPolicy getOverrunPolicy() {
+        return overrunPolicy;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.sporty.service;
+
+/**
+ * Push-based source of scores for scheduled events.
+ *
+ * The scheduler tells it which events are live; while the stream covers an event, the event's
+ * polling ticks are skipped. Polling takes over again as soon as the stream is down.
+ */
+public interface ScoreStream {
+
+    /**
+     * Adds an event to the stream subscription.
+     *
+     * @param eventId the event ID
+     */
+    void track(String eventId);
+
+    /**
+     * Removes an event from the stream subscription.
+     *
+     * @param eventId the event ID
+     */
+    void untrack(String eventId);
+
+    /**
+     * Checks whether the stream currently delivers the scores of an event.
+     *
+     * @param eventId the event ID
+     * @return true if polling the event can be skipped
+     */
+    boolean covers(String eventId);
+
+    /**
+     * Creates a score stream that covers no event, leaving all events to polling.
+     *
+     * @return no-op score stream
+     */
+    static ScoreStream none() {
+        return new ScoreStream() {
+            @Override
+            public void track(String eventId) {
+            }
+
+            @Override
+            public void untrack(String eventId) {
+            }
+
+            @Override
+            public boolean covers(String eventId) {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,217 @@
+package org.example.sporty.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.integration.ScoreStreamClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streaming ingestion: holds one long-lived score stream to the provider for all tracked events and
+ * publishes every pushed score through {@link EventDataFetchService}, like a polled one.
+ *
+ * Changes to the tracked events are debounced and then reopen the stream for the new set. A stream that
+ * fails, ends, or stays silent (no score and no heartbeat) for {@code stale-after} is reopened with
+ * exponential backoff, resuming from the last event id seen. While the stream is down its events are
+ * not {@link #covers(String) covered}, so their polling ticks fetch as before.
+ *
+ * <ul>
+ *   <li>{@code external.api.stream.connected} - 1 while the stream delivers, 0 otherwise</li>
+ *   <li>{@code external.api.stream.events} - number of events covered by the stream</li>
+ *   <li>{@code external.api.stream.updates} - counter of pushed scores received</li>
+ *   <li>{@code external.api.stream.reconnects} - counter of reconnects after a failed or ended stream</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ScoreStreamService implements ScoreStream, MeterBinder {
+
+    private final ScoreStreamClient streamClient;
+    private final EventDataFetchService dataFetchService;
+    private final boolean enabled;
+    private final Duration debounce;
+    private final Duration staleAfter;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+
+    private final Set<String> trackedEvents = ConcurrentHashMap.newKeySet();
+    private final Sinks.Many<Set<String>> subscriptions = Sinks.many().replay().latest();
+    private final AtomicReference<String> lastEventId = new AtomicReference<>();
+
+    /**
+     * Events of the open stream, empty while it is down.
+     */
+    private volatile Set<String> streamedEvents = Set.of();
+    private volatile long lastReceivedNanos;
+    private volatile Disposable connection;
+
+    private volatile Counter updates;
+    private volatile Counter reconnects;
+
+    public ScoreStreamService(
+            ScoreStreamClient streamClient,
+            EventDataFetchService dataFetchService,
+            @Value("${external.api.stream.enabled:false}") boolean enabled,
+            @Value("${external.api.stream.debounce:500ms}") Duration debounce,
+            @Value("${external.api.stream.stale-after:30s}") Duration staleAfter,
+            @Value("${external.api.stream.reconnect.min-backoff:1s}") Duration minBackoff,
+            @Value("${external.api.stream.reconnect.max-backoff:30s}") Duration maxBackoff) {
+        this.streamClient = streamClient;
+        this.dataFetchService = dataFetchService;
+        this.enabled = enabled;
+        this.debounce = debounce;
+        this.staleAfter = staleAfter;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+
+        if (enabled) {
+            connection = subscriptions.asFlux()
+                    .sampleTimeout(events -> Mono.delay(debounce))
+                    .switchMap(this::streamScores)
+                    .subscribe();
+            log.info("Streaming score ingestion enabled (stale after {}, reconnect backoff {}..{})",
+                    staleAfter, minBackoff, maxBackoff);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void track(String eventId) {
+        if (enabled && trackedEvents.add(eventId)) {
+            resubscribe();
+        }
+    }
+
+    @Override
+    public void untrack(String eventId) {
+        if (enabled && trackedEvents.remove(eventId)) {
+            resubscribe();
+        }
+    }
+
+    @Override
+    public boolean covers(String eventId) {
+        return isConnected() && streamedEvents.contains(eventId);
+    }
+
+    /**
+     * Checks whether the stream is open and has delivered a score or heartbeat recently.
+     *
+     * @return true if the stream delivers
+     */
+    public boolean isConnected() {
+        return !streamedEvents.isEmpty() && System.nanoTime() - lastReceivedNanos < staleAfter.toNanos();
+    }
+
+    public int getStreamedEventCount() {
+        return isConnected() ? streamedEvents.size() : 0;
+    }
+
+    private void resubscribe() {
+        subscriptions.tryEmitNext(Set.copyOf(trackedEvents));
+    }
+
+    /**
+     * Streams the scores of a set of events until the set changes, reconnecting whenever the stream breaks.
+     */
+    private Flux<ScoreData> streamScores(Set<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            log.info("No events to stream, closing score stream");
+            streamedEvents = Set.of();
+            return Flux.empty();
+        }
+        return Flux.defer(() -> streamClient.stream(eventIds, lastEventId.get()))
+                .timeout(staleAfter)
+                .doOnNext(event -> onEvent(eventIds, event))
+                .filter(event -> event.data() != null && trackedEvents.contains(event.data().getEventId()))
+                .concatMap(event -> publish(event.data()))
+                .doOnError(e -> disconnected("failed: " + e.getMessage()))
+                .doOnComplete(() -> disconnected("closed by provider"))
+                // An ended stream is reopened too, after the shortest backoff
+                .repeatWhen(completed -> completed.delayElements(minBackoff))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .transientErrors(true));
+    }
+
+    private void onEvent(Set<String> eventIds, ServerSentEvent<ScoreData> event) {
+        lastReceivedNanos = System.nanoTime();
+        if (streamedEvents != eventIds) {
+            log.info("Score stream open for {} events", eventIds.size());
+            streamedEvents = eventIds;
+        }
+        if (event.id() != null) {
+            lastEventId.set(event.id());
+        }
+        if (event.data() != null) {
+            increment(updates);
+        }
+    }
+
+    private void disconnected(String reason) {
+        if (!streamedEvents.isEmpty()) {
+            log.warn("Score stream {}, polling until it is back", reason);
+        }
+        streamedEvents = Set.of();
+        increment(reconnects);
+    }
+
+    private Mono<ScoreData> publish(ScoreData scoreData) {
+        return dataFetchService.publishPushedScoreAsync(scoreData)
+                // One failed publish must not tear down the stream
+                .onErrorResume(e -> {
+                    log.error("Failed to publish pushed score for event {}: {}",
+                            scoreData.getEventId(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        Disposable current = connection;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("external.api.stream.connected", this, stream -> stream.isConnected() ? 1 : 0)
+                .description("Whether the provider score stream is delivering")
+                .register(registry);
+        Gauge.builder("external.api.stream.events", this, ScoreStreamService::getStreamedEventCount)
+                .description("Events whose scores arrive over the provider score stream")
+                .register(registry);
+        updates = Counter.builder("external.api.stream.updates")
+                .description("Scores pushed by the provider score stream")
+                .register(registry);
+        reconnects = Counter.builder("external.api.stream.reconnects")
+                .description("Reconnects of the provider score stream after it failed or ended")
+                .register(registry);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.sporty.actuator;
+
+import org.example.sporty.integration.CircuitBreaker;
+import org.example.sporty.integration.ProviderRouter;
+import org.example.sporty.integration.ScoreProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ProviderHealthIndicator.
+ */
+class ProviderHealthIndicatorTest {
+
+    @Test
+    void health_WhenCircuitClosed_ShouldBeUp() {
+        // Given
+        CircuitBreaker breaker = breaker(CircuitBreaker.State.CLOSED, 10.0);
+
+        // When
+        Health health = indicator(provider(breaker)).health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("external-api",
+                Map.of("circuitBreaker", CircuitBreaker.State.CLOSED, "failureRate", 10.0));
+    }
+
+    @Test
+    void health_WhenCircuitOpen_ShouldBeDegraded() {
+        // Given
+        CircuitBreaker breaker = breaker(CircuitBreaker.State.OPEN, 100.0);
+
+        // When
+        Health health = indicator(provider(breaker)).health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(ProviderHealthIndicator.DEGRADED);
+    }
+
+    @Test
+    void health_WhenCircuitBreakerDisabled_ShouldBeUp() {
+        // Given
+        CircuitBreaker breaker = CircuitBreaker.disabled("external-api");
+
+        // When
+        Health health = indicator(provider(breaker)).health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("external-api", Map.of("circuitBreaker", "DISABLED"));
+    }
+
+    @Test
+    void health_WhenProviderAnswered_ShouldShowLatencyAndErrorRate() {
+        // Given
+        ScoreProvider provider = mock(ScoreProvider.class);
+        when(provider.getName()).thenReturn("mirror");
+        when(provider.getCircuitBreaker()).thenReturn(CircuitBreaker.disabled("mirror"));
+        when(provider.getLatencyMillis()).thenReturn(42.0);
+        when(provider.getErrorRate()).thenReturn(0.25);
+
+        // When
+        Health health = indicator(provider).health();
+
+        // Then
+        assertThat(health.getDetails()).containsEntry("mirror",
+                Map.of("circuitBreaker", "DISABLED", "latencyMillis", 42.0, "errorRate", 0.25));
+    }
+
+    private static ProviderHealthIndicator indicator(ScoreProvider provider) {
+        return new ProviderHealthIndicator(ProviderRouter.single(provider));
+    }
+
+    private static ScoreProvider provider(CircuitBreaker breaker) {
+        return new ScoreProvider("external-api", WebClient.create(), breaker, 0.2);
+    }
+
+    private static CircuitBreaker breaker(CircuitBreaker.State state, double failureRate) {
+        CircuitBreaker breaker = mock(CircuitBreaker.class);
+        when(breaker.getName()).thenReturn("external-api");
+        when(breaker.isEnabled()).thenReturn(true);
+        when(breaker.getState()).thenReturn(state);
+        when(breaker.getFailureRate()).thenReturn(failureRate);
+        return breaker;
+    }
+}
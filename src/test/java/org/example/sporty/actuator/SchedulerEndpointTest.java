@@ -0,0 +1,61 @@
+package org.example.sporty.actuator;
+
+import org.example.sporty.scheduling.OverrunPolicy;
+import org.example.sporty.scheduling.TickStatistics;
+import org.example.sporty.service.EventSchedulerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SchedulerEndpoint.
+ */
+@ExtendWith(MockitoExtension.class)
+class SchedulerEndpointTest {
+
+    @Mock
+    private EventSchedulerService schedulerService;
+
+    @InjectMocks
+    private SchedulerEndpoint endpoint;
+
+    @Test
+    void scheduler_ShouldSummarizeTickStatistics() {
+        // Given
+        when(schedulerService.getScheduledEventCount()).thenReturn(2);
+        when(schedulerService.getRunningTickCount()).thenReturn(1);
+        when(schedulerService.getOverrunPolicy()).thenReturn(OverrunPolicy.SKIP);
+        when(schedulerService.getAllTickStatistics()).thenReturn(Map.of(
+                "event-1", new TickStatistics(10, 2, 0, 1, 15, 12_000, true),
+                "event-2", new TickStatistics(12, 0, 0, 0, 5, 40, false)));
+
+        // When
+        Map<String, Object> summary = endpoint.scheduler();
+
+        // Then
+        assertThat(summary)
+                .containsEntry("scheduledEvents", 2)
+                .containsEntry("runningTicks", 1)
+                .containsEntry("overrunPolicy", OverrunPolicy.SKIP)
+                .containsEntry("skippedTicks", 3L)
+                .containsEntry("maxDriftMillis", 12_000L);
+        assertThat((Map<?, ?>) summary.get("events")).hasSize(2);
+    }
+
+    @Test
+    void event_WhenNotScheduled_ShouldReturnNull() {
+        // Given
+        when(schedulerService.getTickStatistics("unknown")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThat(endpoint.event("unknown")).isNull();
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.sporty.api.dto.EventStatusRequest;
 import org.example.sporty.domain.model.Event;
 import org.example.sporty.domain.model.EventStatus;
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.domain.model.ScoreData;
 import org.example.sporty.service.EventManagementService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,12 +13,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -52,7 +60,7 @@ class EventControllerTest {
                 .lastUpdated(Instant.now())
                 .build();
 
-        when(eventManagementService.updateEventStatus(eq(TEST_EVENT_ID), eq(EventStatus.LIVE)))
+        when(eventManagementService.updateEventStatus(eq(TEST_EVENT_ID), eq(EventStatus.LIVE), isNull(), isNull()))
                 .thenReturn(event);
 
         // When/Then
@@ -66,6 +74,72 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    void updateEventStatus_WithSport_ShouldPassSportToService() throws Exception {
+        // Given
+        EventStatusRequest request = EventStatusRequest.builder()
+                .eventId(TEST_EVENT_ID)
+                .status(EventStatus.LIVE)
+                .sport("football")
+                .build();
+
+        Event event = Event.builder()
+                .eventId(TEST_EVENT_ID)
+                .sport("football")
+                .status(EventStatus.LIVE)
+                .lastUpdated(Instant.now())
+                .build();
+
+        when(eventManagementService.updateEventStatus(
+                eq(TEST_EVENT_ID), eq(EventStatus.LIVE), eq("football"), isNull()))
+                .thenReturn(event);
+
+        // When/Then
+        mockMvc.perform(post("/api/events/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventId").value(TEST_EVENT_ID));
+
+        verify(eventManagementService).updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE, "football", null);
+    }
+
+    @Test
+    void updateEventStatus_WithPriority_ShouldPassPriorityToServiceAndReturnIt() throws Exception {
+        // Given
+        String requestJson = "{\"eventId\":\"" + TEST_EVENT_ID + "\",\"status\":\"live\",\"priority\":\"premium\"}";
+
+        Event event = Event.builder()
+                .eventId(TEST_EVENT_ID)
+                .status(EventStatus.LIVE)
+                .priority(PriorityTier.PREMIUM)
+                .lastUpdated(Instant.now())
+                .build();
+
+        when(eventManagementService.updateEventStatus(
+                eq(TEST_EVENT_ID), eq(EventStatus.LIVE), isNull(), eq(PriorityTier.PREMIUM)))
+                .thenReturn(event);
+
+        // When/Then
+        mockMvc.perform(post("/api/events/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priority").value("premium"));
+    }
+
+    @Test
+    void updateEventStatus_InvalidPriority_ShouldReturnBadRequest() throws Exception {
+        // Given
+        String invalidJson = "{\"eventId\":\"" + TEST_EVENT_ID + "\",\"status\":\"live\",\"priority\":\"gold\"}";
+
+        // When/Then
+        mockMvc.perform(post("/api/events/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(invalidJson))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateEventStatus_MissingEventId_ShouldReturnBadRequest() throws Exception {
         // Given
@@ -152,7 +226,7 @@ class EventControllerTest {
                 .lastUpdated(Instant.now())
                 .build();
 
-        when(eventManagementService.updateEventStatus(eq(TEST_EVENT_ID), eq(EventStatus.NOT_LIVE)))
+        when(eventManagementService.updateEventStatus(eq(TEST_EVENT_ID), eq(EventStatus.NOT_LIVE), isNull(), isNull()))
                 .thenReturn(event);
 
         // When/Then
@@ -163,5 +237,68 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.status").value("not_live"))
                 .andExpect(jsonPath("$.message").value("Event tracking stopped"));
     }
-}
 
+    @Test
+    void refreshEvent_WhenEventExists_ShouldReturnPublishedScore() throws Exception {
+        // Given
+        Event event = Event.builder()
+                .eventId(TEST_EVENT_ID)
+                .status(EventStatus.LIVE)
+                .lastUpdated(Instant.now())
+                .build();
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("2:1")
+                .build();
+
+        when(eventManagementService.getEvent(TEST_EVENT_ID)).thenReturn(Optional.of(event));
+        when(eventManagementService.refreshEvent(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/{eventId}/refresh", TEST_EVENT_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventId").value(TEST_EVENT_ID))
+                .andExpect(jsonPath("$.currentScore").value("2:1"));
+    }
+
+    @Test
+    void refreshEvent_WhenNoScoreReturned_ShouldReturnNoContent() throws Exception {
+        // Given
+        Event event = Event.builder()
+                .eventId(TEST_EVENT_ID)
+                .status(EventStatus.LIVE)
+                .build();
+
+        when(eventManagementService.getEvent(TEST_EVENT_ID)).thenReturn(Optional.of(event));
+        when(eventManagementService.refreshEvent(TEST_EVENT_ID)).thenReturn(Mono.empty());
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/{eventId}/refresh", TEST_EVENT_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void refreshEvent_WhenEventDoesNotExist_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(eventManagementService.getEvent(TEST_EVENT_ID)).thenReturn(Optional.empty());
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/{eventId}/refresh", TEST_EVENT_ID))
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+        verify(eventManagementService, never()).refreshEvent(TEST_EVENT_ID);
+    }
+}
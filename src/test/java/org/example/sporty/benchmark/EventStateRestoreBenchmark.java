@@ -0,0 +1,136 @@
+package org.example.sporty.benchmark;
+
+import org.example.sporty.cluster.EventOwnershipService;
+import org.example.sporty.cluster.InMemoryEventHandoff;
+import org.example.sporty.domain.model.EventStatus;
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.persistence.EventRecord;
+import org.example.sporty.persistence.EventStateStore;
+import org.example.sporty.persistence.MappedEventStateStore;
+import org.example.sporty.scheduling.AdaptiveIntervalPolicy;
+import org.example.sporty.scheduling.PhaseAssigner;
+import org.example.sporty.scheduling.PhaseStrategy;
+import org.example.sporty.scheduling.TickExecutor;
+import org.example.sporty.scheduling.TickListener;
+import org.example.sporty.scheduling.TierBudgets;
+import org.example.sporty.service.EventDataFetchService;
+import org.example.sporty.service.EventManagementService;
+import org.example.sporty.service.EventSchedulerService;
+import org.example.sporty.service.ScoreStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.mockito.Mockito;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to bring a node back to its pre-restart schedule.
+ *
+ * <ul>
+ *   <li>{@code load} - open the store and read the snapshot plus journal</li>
+ *   <li>{@code loadAndRearm} - load, then re-arm every live event at its phase on a
+ *       {@link ThreadPoolTaskScheduler}, as {@code EventStateRestorer} does at startup</li>
+ * </ul>
+ *
+ * Half of the stored records come from the snapshot and half from the journal.
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="EventStateRestoreBenchmark"}
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EventStateRestoreBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class StoreState {
+
+        @Param({"10000", "100000"})
+        public int events;
+
+        Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("event-state-bench");
+            try (MappedEventStateStore store = new MappedEventStateStore(directory, 64 << 20, false)) {
+                for (int i = 0; i < events; i++) {
+                    if (i == events / 2) {
+                        store.compact();
+                    }
+                    store.save(new EventRecord("event-" + i, EventStatus.LIVE, "football", PriorityTier.STANDARD,
+                            Instant.now(), (i * 37L) % 10_000));
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SchedulerState {
+
+        ThreadPoolTaskScheduler taskScheduler;
+        EventManagementService management;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            taskScheduler = new ThreadPoolTaskScheduler();
+            taskScheduler.setPoolSize(10);
+            taskScheduler.initialize();
+            EventSchedulerService scheduler = new EventSchedulerService(
+                    Mockito.mock(EventDataFetchService.class),
+                    taskScheduler,
+                    TickExecutor.callerRuns(),
+                    new PhaseAssigner(PhaseStrategy.LEAST_LOADED, 20),
+                    AdaptiveIntervalPolicy.disabled(Duration.ofSeconds(10)),
+                    TickListener.noop(),
+                    TierBudgets.disabled(),
+                    ScoreStream.none());
+            management = new EventManagementService(
+                    scheduler, EventOwnershipService.standalone(), new InMemoryEventHandoff(), EventStateStore.noop());
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            taskScheduler.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Collection<EventRecord> load(StoreState store) throws IOException {
+        try (MappedEventStateStore opened = new MappedEventStateStore(store.directory, 64 << 20, false)) {
+            return opened.loadAll();
+        }
+    }
+
+    @Benchmark
+    public int loadAndRearm(StoreState store, SchedulerState scheduler) throws IOException {
+        try (MappedEventStateStore opened = new MappedEventStateStore(store.directory, 64 << 20, false)) {
+            return scheduler.management.restore(opened.loadAll());
+        }
+    }
+}
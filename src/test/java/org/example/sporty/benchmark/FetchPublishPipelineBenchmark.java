@@ -0,0 +1,163 @@
+package org.example.sporty.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.integration.ExternalApiClient;
+import org.example.sporty.integration.InFlightWindow;
+import org.example.sporty.integration.KafkaEventPublisher;
+import org.example.sporty.integration.ScoreChangeDetector;
+import org.example.sporty.integration.ScoreDataEncoder;
+import org.example.sporty.integration.ScoreFetchBatcher;
+import org.example.sporty.integration.SpillOutbox;
+import org.example.sporty.integration.TransactionalPublishBatcher;
+import org.example.sporty.service.EventDataFetchService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Fetch-and-publish throughput of the blocking and the non-blocking pipeline as live events grow.
+ *
+ * Mocks are stub-only: recording every invocation would turn the benchmark into a GC test.
+ * Each invocation runs one round of ticks (one per live event) and waits for all of them. The
+ * provider answers after {@value #PROVIDER_LATENCY_MILLIS} ms and Kafka acknowledges after
+ * {@value #KAFKA_ACK_MILLIS} ms, both without holding a thread, as the real WebClient and producer do.
+ *
+ * <ul>
+ *   <li>{@code blocking} - {@code fetchAndPublishEventData} on 10 platform threads (the default
+ *       scheduler pool), each parked on {@code block()} and on the send future</li>
+ *   <li>{@code async-publish} - as {@code blocking}, with {@code kafka.publish.mode=async}: threads park on
+ *       {@code block()} only, and at most {@value #IN_FLIGHT_PER_PARTITION} records per partition (of 3) wait
+ *       for their acknowledgement; a tick finding its partition's window full skips its publish</li>
+ *   <li>{@code reactive} - the caller only subscribes to {@code fetchAndPublishEventDataAsync}</li>
+ * </ul>
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="FetchPublishPipelineBenchmark"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class FetchPublishPipelineBenchmark {
+
+    private static final long PROVIDER_LATENCY_MILLIS = 20;
+    private static final long KAFKA_ACK_MILLIS = 5;
+    private static final int IN_FLIGHT_PER_PARTITION = 32;
+
+    @State(Scope.Benchmark)
+    public static class PipelineState {
+
+        @Param({"blocking", "async-publish", "reactive"})
+        public String mode;
+
+        @Param({"100", "1000", "5000"})
+        public int liveEvents;
+
+        EventDataFetchService fetchService;
+        ExecutorService schedulerPool;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+            ((Logger) LoggerFactory.getLogger("org.example.sporty")).setLevel(Level.WARN);
+
+            ExternalApiClient apiClient = Mockito.mock(ExternalApiClient.class, Mockito.withSettings().stubOnly());
+            Mockito.when(apiClient.fetchEventScore(anyString())).thenAnswer(invocation -> Mono
+                    .delay(Duration.ofMillis(PROVIDER_LATENCY_MILLIS))
+                    .map(tick -> ScoreData.builder()
+                            .eventId(invocation.getArgument(0))
+                            .currentScore("1:0")
+                            .build()));
+
+            KafkaTemplate<String, byte[]> kafkaTemplate =
+                    Mockito.mock(KafkaTemplate.class, Mockito.withSettings().stubOnly());
+            Mockito.when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+                ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+                SendResult<String, byte[]> result = new SendResult<>(record,
+                        new RecordMetadata(new TopicPartition(record.topic(), 0), 0, 0, 0, 0, 0));
+                return CompletableFuture.supplyAsync(() -> result,
+                        CompletableFuture.delayedExecutor(KAFKA_ACK_MILLIS, TimeUnit.MILLISECONDS));
+            });
+
+            InFlightWindow window = "async-publish".equals(mode)
+                    ? new InFlightWindow(3, IN_FLIGHT_PER_PARTITION)
+                    : InFlightWindow.disabled();
+            KafkaEventPublisher publisher = new KafkaEventPublisher(kafkaTemplate, new ScoreDataEncoder(), window,
+                    TransactionalPublishBatcher.disabled(), SpillOutbox.disabled());
+            ReflectionTestUtils.setField(publisher, "scoreUpdatesTopic", "bench-score-updates");
+            ReflectionTestUtils.setField(publisher, "publishTimeoutMillis", 5_000L);
+
+            ScoreFetchBatcher batcher = new ScoreFetchBatcher(apiClient, false, 100, Duration.ofMillis(50), 4);
+            fetchService = new EventDataFetchService(apiClient, publisher, batcher, ScoreChangeDetector.always());
+            schedulerPool = Executors.newFixedThreadPool(10);
+        }
+
+        @TearDown
+        public void tearDown() {
+            schedulerPool.shutdownNow();
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class TickCounter {
+
+        public long ticks;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+        public void reset() {
+            ticks = 0;
+        }
+    }
+
+    @Benchmark
+    public void tickRound(PipelineState state, TickCounter counter) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(state.liveEvents);
+        for (int i = 0; i < state.liveEvents; i++) {
+            String eventId = "event-" + i;
+            if ("reactive".equals(state.mode)) {
+                state.fetchService.fetchAndPublishEventDataAsync(eventId)
+                        .doFinally(signal -> done.countDown())
+                        .subscribe();
+            } else {
+                state.schedulerPool.execute(() -> {
+                    state.fetchService.fetchAndPublishEventData(eventId);
+                    done.countDown();
+                });
+            }
+        }
+        done.await();
+        counter.ticks += state.liveEvents;
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.sporty.benchmark;
+
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.integration.CircuitBreaker;
+import org.example.sporty.integration.ExternalApiClient;
+import org.example.sporty.integration.ProviderRouter;
+import org.example.sporty.integration.RequestHedger;
+import org.example.sporty.integration.ScoreProvider;
+import org.example.sporty.mock.MockLatency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Score fetch latency against a provider with a long latency tail, with and without hedging.
+ *
+ * The provider is a local HTTP server answering after a latency drawn from {@link MockLatency}
+ * (median 5ms, tail 100ms), as the mock provider does with {@code mock.external-api.latency}:
+ * <ul>
+ *   <li>{@code LOG_NORMAL} - 100ms is the 99th percentile of a smooth tail</li>
+ *   <li>{@code BIMODAL} - 3% of requests take 100ms</li>
+ * </ul>
+ * With {@code hedging=true} the client hedges after the p95 latency with a budget of 10% extra requests.
+ * Compare the {@code p0.99} rows of the sample-time output.
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="HedgedFetchBenchmark"}
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class HedgedFetchBenchmark {
+
+    private static final Duration MEDIAN = Duration.ofMillis(5);
+    private static final Duration TAIL = Duration.ofMillis(100);
+    private static final double TAIL_PROBABILITY = 0.03;
+
+    @State(Scope.Benchmark)
+    public static class ProviderState {
+
+        @Param({"LOG_NORMAL", "BIMODAL"})
+        public MockLatency.Distribution latency;
+
+        @Param({"false", "true"})
+        public boolean hedging;
+
+        DisposableServer server;
+        ExternalApiClient client;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            MockLatency mockLatency = new MockLatency(latency, MEDIAN, TAIL, TAIL_PROBABILITY);
+            SplittableRandom random = new SplittableRandom(42);
+            server = HttpServer.create()
+                    .port(0)
+                    .route(routes -> routes.get("/events/{eventId}/score", (request, response) -> {
+                        Duration delay;
+                        synchronized (random) {
+                            delay = mockLatency.sample(random);
+                        }
+                        String body = "{\"eventId\":\"" + request.param("eventId") + "\",\"currentScore\":\"1:0\"}";
+                        return response.header("Content-Type", "application/json")
+                                .sendString(Mono.delay(delay).thenReturn(body));
+                    }))
+                    .bindNow();
+
+            RequestHedger hedger = hedging
+                    ? new RequestHedger(true, 0.95, Duration.ofMillis(10), Duration.ofSeconds(1), 0.1, 1000)
+                    : RequestHedger.disabled();
+            WebClient webClient = WebClient.create("http://localhost:" + server.port());
+            client = new ExternalApiClient(ProviderRouter.single(new ScoreProvider("external-api", webClient,
+                    CircuitBreaker.disabled("external-api"), 0.2)), hedger);
+            ReflectionTestUtils.setField(client, "timeoutMillis", 5000);
+            ReflectionTestUtils.setField(client, "maxRetries", 0);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            server.disposeNow();
+        }
+    }
+
+    @Benchmark
+    public ScoreData fetch(ProviderState state) {
+        return state.client.fetchEventScore("event-1").block();
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.sporty.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.example.sporty.config.KafkaConfig;
+import org.example.sporty.config.ProducerProfile;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.integration.ScoreDataEncoder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput, bytes on the wire and publish latency of each {@link ProducerProfile}, against an embedded
+ * single-node broker.
+ *
+ * Each invocation publishes a burst of {@value #BURST} JSON score records, as when many live events tick
+ * together, through a {@link KafkaTemplate} configured like the application's, and waits until all of them
+ * are acknowledged. {@code records} is the rate of acknowledged records, {@code wireBytes} the rate of bytes
+ * the producer sent to the broker (after compression, with request overhead). At the end of each iteration
+ * the p99 latency from send to acknowledgement and the bytes per record are printed.
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ProducerProfileBenchmark"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ProducerProfileBenchmark {
+
+    private static final String TOPIC = "bench-score-updates";
+    private static final int PARTITIONS = 3;
+    private static final int BURST = 2_000;
+    private static final int EVENTS = 500;
+
+    @State(Scope.Benchmark)
+    public static class BrokerState {
+
+        @Param({"LOW_LATENCY", "BALANCED", "MAX_THROUGHPUT"})
+        public ProducerProfile profile;
+
+        EmbeddedKafkaKraftBroker broker;
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory;
+        KafkaTemplate<String, byte[]> kafkaTemplate;
+        ProducerRecord<String, byte[]>[] records;
+
+        long[] latencies = new long[BURST * 64];
+        int latencyCount;
+        long recordsAtStart;
+        long bytesAtStart;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+            ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+            broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+            broker.afterPropertiesSet();
+            producerFactory = new DefaultKafkaProducerFactory<>(
+                    KafkaConfig.producerConfig(broker.getBrokersAsString(), profile));
+            kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+            // Scores of a few hundred events, as published during a busy round of ticks
+            ScoreDataEncoder encoder = new ScoreDataEncoder();
+            Instant now = Instant.parse("2026-10-17T12:00:00.123Z");
+            records = new ProducerRecord[BURST];
+            for (int i = 0; i < BURST; i++) {
+                String eventId = "event-" + (i % EVENTS);
+                ScoreData scoreData = ScoreData.builder()
+                        .eventId(eventId)
+                        .currentScore(i % 4 + ":" + i % 3)
+                        .timestamp(now.plusMillis(i))
+                        .build();
+                records[i] = new ProducerRecord<>(TOPIC, eventId, encoder.encodeToBytes(scoreData));
+            }
+        }
+
+        @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+        public void startIteration() {
+            latencyCount = 0;
+            recordsAtStart = producerMetric("record-send-total");
+            bytesAtStart = producerMetric("outgoing-byte-total");
+        }
+
+        @TearDown(org.openjdk.jmh.annotations.Level.Iteration)
+        public void endIteration() {
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            long sent = producerMetric("record-send-total") - recordsAtStart;
+            long bytes = producerMetric("outgoing-byte-total") - bytesAtStart;
+            System.out.printf("%n%s: p99 publish latency %.2f ms, %.1f bytes/record on the wire%n", profile,
+                    sorted.length == 0 ? 0 : sorted[(int) (sorted.length * 0.99)] / 1e6,
+                    sent == 0 ? 0 : (double) bytes / sent);
+        }
+
+        @TearDown
+        public void tearDown() {
+            producerFactory.destroy();
+            broker.destroy();
+        }
+
+        void recordLatency(long nanos) {
+            if (latencyCount == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            latencies[latencyCount++] = nanos;
+        }
+
+        private long producerMetric(String name) {
+            for (Map.Entry<MetricName, ? extends Metric> metric : kafkaTemplate.metrics().entrySet()) {
+                if (metric.getKey().name().equals(name) && metric.getKey().group().equals("producer-metrics")) {
+                    return ((Number) metric.getValue().metricValue()).longValue();
+                }
+            }
+            return 0;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class WireCounter {
+
+        public long records;
+        public long wireBytes;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+        public void reset() {
+            records = 0;
+            wireBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public void publishBurst(BrokerState state, WireCounter counter) throws InterruptedException {
+        long bytesBefore = state.producerMetric("outgoing-byte-total");
+        long[] sentAt = new long[BURST];
+        CountDownLatch acknowledged = new CountDownLatch(BURST);
+        for (int i = 0; i < BURST; i++) {
+            int index = i;
+            sentAt[i] = System.nanoTime();
+            state.kafkaTemplate.send(state.records[i]).whenComplete((result, error) -> {
+                sentAt[index] = System.nanoTime() - sentAt[index];
+                acknowledged.countDown();
+            });
+        }
+        acknowledged.await();
+        for (long latency : sentAt) {
+            state.recordLatency(latency);
+        }
+        counter.records += BURST;
+        counter.wireBytes += state.producerMetric("outgoing-byte-total") - bytesBefore;
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.sporty.benchmark;
+
+import org.example.sporty.scheduling.HashedWheelTaskScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Compares the two scheduling backends behind EventSchedulerService.
+ *
+ * <ul>
+ *   <li>{@code scheduleAndCancelAll} - arms N periodic tasks and cancels them again (a full match day)</li>
+ *   <li>{@code rescheduleUnderContention} - with N tasks resident, 4 threads cancel and re-arm random
+ *       events concurrently (status flapping, reschedules)</li>
+ * </ul>
+ *
+ * Tasks are armed one minute ahead, each at a random phase within the 10 second period (as live
+ * events are in production), so no task fires during measurement and the benchmark measures
+ * queue maintenance only. The thread pool runs with {@code removeOnCancelPolicy=true}, otherwise
+ * cancelled tasks would pile up in its delay queue between iterations.
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="SchedulerBackendBenchmark"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulerBackendBenchmark {
+
+    private static final Duration PERIOD = Duration.ofSeconds(10);
+    private static final Runnable NO_OP = () -> { };
+
+    @State(Scope.Benchmark)
+    public static class SchedulerState {
+
+        @Param({"thread-pool", "timing-wheel"})
+        public String backend;
+
+        @Param({"1000", "10000", "100000"})
+        public int events;
+
+        TaskScheduler scheduler;
+        AtomicReferenceArray<ScheduledFuture<?>> residentTasks;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            scheduler = createScheduler(backend);
+            residentTasks = new AtomicReferenceArray<>(events);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (scheduler instanceof ThreadPoolTaskScheduler threadPool) {
+                threadPool.shutdown();
+            } else if (scheduler instanceof HashedWheelTaskScheduler wheel) {
+                wheel.shutdown();
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ResidentState {
+
+        @Setup(Level.Iteration)
+        public void armAll(SchedulerState state) {
+            Instant now = Instant.now();
+            for (int i = 0; i < state.events; i++) {
+                state.residentTasks.set(i, state.scheduler.scheduleAtFixedRate(NO_OP, firstFire(now), PERIOD));
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void cancelAll(SchedulerState state) {
+            for (int i = 0; i < state.events; i++) {
+                state.residentTasks.get(i).cancel(false);
+            }
+        }
+    }
+
+    @Benchmark
+    public void scheduleAndCancelAll(SchedulerState state) {
+        Instant now = Instant.now();
+        ScheduledFuture<?>[] futures = new ScheduledFuture<?>[state.events];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = state.scheduler.scheduleAtFixedRate(NO_OP, firstFire(now), PERIOD);
+        }
+        for (ScheduledFuture<?> future : futures) {
+            future.cancel(false);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void rescheduleUnderContention(SchedulerState state, ResidentState resident) {
+        int index = ThreadLocalRandom.current().nextInt(state.events);
+        ScheduledFuture<?> next = state.scheduler.scheduleAtFixedRate(NO_OP, firstFire(Instant.now()), PERIOD);
+        ScheduledFuture<?> previous = state.residentTasks.getAndSet(index, next);
+        previous.cancel(false);
+    }
+
+    private static Instant firstFire(Instant now) {
+        return now.plusSeconds(60).plusMillis(ThreadLocalRandom.current().nextLong(PERIOD.toMillis()));
+    }
+
+    static TaskScheduler createScheduler(String backend) {
+        if ("timing-wheel".equals(backend)) {
+            return new HashedWheelTaskScheduler(
+                    Duration.ofMillis(100), 512, Executors.newFixedThreadPool(10), "bench-wheel-ticker");
+        }
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(10);
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setThreadNamePrefix("bench-scheduler-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.sporty.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.integration.ScoreDataDecoder;
+import org.example.sporty.integration.ScoreDataEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-message cost of decoding a provider response and encoding the Kafka message.
+ *
+ * Decodes a provider score body from a pooled Netty buffer, as the WebClient receives it, with the generic
+ * {@link Jackson2JsonDecoder} and with the {@link ScoreDataDecoder}; encodes the message with the
+ * {@code ObjectMapper} and with the {@link ScoreDataEncoder}, as a String and as the bytes of the record value.
+ * Run with {@code -prof gc} and compare the {@code gc.alloc.rate.norm} rows (bytes allocated per message).
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ScoreDataCodecBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreDataCodecBenchmark {
+
+    private static final ResolvableType SCORE_DATA = ResolvableType.forClass(ScoreData.class);
+
+    private static final byte[] RESPONSE = "{\"eventId\":\"event-123\",\"currentScore\":\"2:1\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Decoder<Object> jacksonDecoder = new Jackson2JsonDecoder(objectMapper);
+    private final ScoreDataDecoder scoreDataDecoder = new ScoreDataDecoder();
+    private final ScoreDataEncoder scoreDataEncoder = new ScoreDataEncoder();
+
+    private final ScoreData scoreData = ScoreData.builder()
+            .eventId("event-123")
+            .currentScore("2:1")
+            .timestamp(Instant.parse("2026-10-17T12:00:00.123Z"))
+            .build();
+
+    @Benchmark
+    public Object decodeWithJackson() {
+        return jacksonDecoder.decodeToMono(Mono.fromSupplier(this::response), SCORE_DATA,
+                MediaType.APPLICATION_JSON, null).block();
+    }
+
+    @Benchmark
+    public ScoreData decodeWithScoreDataDecoder() {
+        return scoreDataDecoder.decodeToMono(Mono.fromSupplier(this::response), SCORE_DATA,
+                MediaType.APPLICATION_JSON, null).block();
+    }
+
+    @Benchmark
+    public String encodeWithObjectMapper() throws Exception {
+        return objectMapper.writeValueAsString(scoreData);
+    }
+
+    @Benchmark
+    public String encodeWithScoreDataEncoder() {
+        return scoreDataEncoder.encode(scoreData);
+    }
+
+    @Benchmark
+    public byte[] encodeToBytesWithObjectMapper() throws Exception {
+        return objectMapper.writeValueAsBytes(scoreData);
+    }
+
+    @Benchmark
+    public byte[] encodeToBytesWithScoreDataEncoder() {
+        return scoreDataEncoder.encodeToBytes(scoreData);
+    }
+
+    private DataBuffer response() {
+        return bufferFactory.allocateBuffer(RESPONSE.length).write(RESPONSE);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.sporty.benchmark;
+
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.integration.ScoreDataBinaryCodec;
+import org.example.sporty.integration.ScoreDataDeserializer;
+import org.example.sporty.integration.ScoreDataEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost and size of a Kafka score record in each {@link org.example.sporty.integration.ScoreMessageFormat}.
+ *
+ * Encodes a record value as the publisher does (JSON with the {@link ScoreDataEncoder}, binary with the
+ * {@link ScoreDataBinaryCodec}), and decodes it as a consumer with the {@link ScoreDataDeserializer} would.
+ * The size of a record value in each format is printed at setup.
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ScoreWireFormatBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreWireFormatBenchmark {
+
+    private static final String TOPIC = "live-scores";
+
+    private final ScoreDataEncoder scoreDataEncoder = new ScoreDataEncoder();
+    private final ScoreDataDeserializer deserializer = new ScoreDataDeserializer();
+
+    private final ScoreData scoreData = ScoreData.builder()
+            .eventId("event-123")
+            .currentScore("2:1")
+            .timestamp(Instant.parse("2026-10-17T12:00:00.123Z"))
+            .build();
+
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = encodeJson();
+        binary = encodeBinary();
+        System.out.printf("%nRecord value size: json %d bytes, binary %d bytes%n", json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return scoreDataEncoder.encodeToBytes(scoreData);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return ScoreDataBinaryCodec.encode(scoreData);
+    }
+
+    @Benchmark
+    public ScoreData decodeJson() {
+        return deserializer.deserialize(TOPIC, json);
+    }
+
+    @Benchmark
+    public ScoreData decodeBinary() {
+        return deserializer.deserialize(TOPIC, binary);
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.sporty.benchmark;
+
+import org.example.sporty.scheduling.TickExecutor;
+import org.example.sporty.scheduling.VirtualThreadTickExecutor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tick throughput of the two execution modes as the number of live events grows.
+ *
+ * Each invocation fires one round of ticks (one per live event) and waits for all of them,
+ * as happens once per 10 second period in production. A tick simulates the blocking provider
+ * call plus Kafka acknowledgement with a fixed sleep. The {@code ticks} counter is reported
+ * in ticks per second.
+ *
+ * <ul>
+ *   <li>{@code platform} - ticks run on a 10-thread pool, as on the default scheduler threads</li>
+ *   <li>{@code virtual} - ticks run on {@link VirtualThreadTickExecutor} with the default cap</li>
+ * </ul>
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="TickExecutionLoadBenchmark"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class TickExecutionLoadBenchmark {
+
+    private static final long PROVIDER_LATENCY_MILLIS = 20;
+
+    @State(Scope.Benchmark)
+    public static class ExecutorState {
+
+        @Param({"platform", "virtual"})
+        public String mode;
+
+        @Param({"10", "100", "1000", "2000"})
+        public int liveEvents;
+
+        TickExecutor tickExecutor;
+        ExecutorService platformPool;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            if ("virtual".equals(mode)) {
+                tickExecutor = new VirtualThreadTickExecutor(1000, "bench-tick-");
+            } else {
+                platformPool = Executors.newFixedThreadPool(10);
+                tickExecutor = platformPool::execute;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (tickExecutor instanceof VirtualThreadTickExecutor virtual) {
+                virtual.shutdown();
+            } else {
+                platformPool.shutdownNow();
+            }
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class TickCounter {
+
+        public long ticks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ticks = 0;
+        }
+    }
+
+    @Benchmark
+    public void tickRound(ExecutorState state, TickCounter counter) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(state.liveEvents);
+        for (int i = 0; i < state.liveEvents; i++) {
+            state.tickExecutor.execute(() -> {
+                try {
+                    Thread.sleep(PROVIDER_LATENCY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        counter.ticks += state.liveEvents;
+    }
+}
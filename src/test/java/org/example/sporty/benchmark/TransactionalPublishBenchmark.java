@@ -0,0 +1,183 @@
+package org.example.sporty.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.example.sporty.config.KafkaConfig;
+import org.example.sporty.config.ProducerProfile;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.integration.ScoreDataEncoder;
+import org.example.sporty.integration.TransactionalPublishBatcher;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Score publishing record by record (idempotent producer) and in time-window transactions, against an
+ * embedded single-node broker.
+ *
+ * Each invocation publishes {@value #RECORDS} JSON score records spread over about
+ * {@value #SPREAD_MILLIS} ms, as a busy stretch of ticks of different events does, and waits until all of
+ * them are acknowledged (committed, in {@code transactional} mode, with a {@value #WINDOW_MILLIS} ms window).
+ * {@code records} is the rate of acknowledged records, {@code requests} the rate of requests the producer
+ * sent to the broker (produce requests, and in {@code transactional} mode the transaction coordination
+ * requests too).
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="TransactionalPublishBenchmark"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class TransactionalPublishBenchmark {
+
+    private static final String TOPIC = "bench-score-updates";
+    private static final int PARTITIONS = 3;
+    private static final int RECORDS = 1_000;
+    private static final long SPREAD_MILLIS = 100;
+    private static final long WINDOW_MILLIS = 20;
+
+    @State(Scope.Benchmark)
+    public static class PublisherState {
+
+        @Param({"idempotent", "transactional"})
+        public String mode;
+
+        @Param({"LOW_LATENCY", "BALANCED"})
+        public ProducerProfile profile;
+
+        EmbeddedKafkaBroker broker;
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory;
+        KafkaTemplate<String, byte[]> kafkaTemplate;
+        TransactionalPublishBatcher batcher;
+        ProducerRecord<String, byte[]>[] records;
+        /**
+         * Producers created by the factory; the template itself refuses calls outside a transaction.
+         */
+        final List<Producer<String, byte[]>> producers = new CopyOnWriteArrayList<>();
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+            ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+            broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC)
+                    // A single broker: transaction state cannot be replicated three times
+                    .brokerProperties(Map.of(
+                            "transaction.state.log.replication.factor", "1",
+                            "transaction.state.log.min.isr", "1"));
+            broker.afterPropertiesSet();
+            producerFactory = new DefaultKafkaProducerFactory<>(
+                    KafkaConfig.producerConfig(broker.getBrokersAsString(), profile));
+            producerFactory.addListener(new ProducerFactory.Listener<>() {
+                @Override
+                public void producerAdded(String id, Producer<String, byte[]> producer) {
+                    producers.add(producer);
+                }
+            });
+            boolean transactional = "transactional".equals(mode);
+            if (transactional) {
+                producerFactory.setTransactionIdPrefix("bench-tx-");
+            }
+            kafkaTemplate = new KafkaTemplate<>(producerFactory);
+            batcher = transactional
+                    ? new TransactionalPublishBatcher(kafkaTemplate, 500, Duration.ofMillis(WINDOW_MILLIS))
+                    : TransactionalPublishBatcher.disabled();
+
+            ScoreDataEncoder encoder = new ScoreDataEncoder();
+            Instant now = Instant.parse("2026-10-17T12:00:00.123Z");
+            records = new ProducerRecord[RECORDS];
+            for (int i = 0; i < RECORDS; i++) {
+                String eventId = "event-" + i;
+                ScoreData scoreData = ScoreData.builder()
+                        .eventId(eventId)
+                        .currentScore(i % 4 + ":" + i % 3)
+                        .timestamp(now.plusMillis(i))
+                        .build();
+                records[i] = new ProducerRecord<>(TOPIC, eventId, encoder.encodeToBytes(scoreData));
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            batcher.shutdown();
+            producerFactory.destroy();
+            broker.destroy();
+        }
+
+        CompletableFuture<SendResult<String, byte[]>> publish(ProducerRecord<String, byte[]> record) {
+            return batcher.isEnabled() ? batcher.submit(record) : kafkaTemplate.send(record);
+        }
+
+        long requestsSent() {
+            long total = 0;
+            for (Producer<String, byte[]> producer : producers) {
+                for (Map.Entry<MetricName, ? extends Metric> metric : producer.metrics().entrySet()) {
+                    if (metric.getKey().name().equals("request-total")
+                            && metric.getKey().group().equals("producer-metrics")) {
+                        total += ((Number) metric.getValue().metricValue()).longValue();
+                    }
+                }
+            }
+            return total;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class RequestCounter {
+
+        public long records;
+        public long requests;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+        public void reset() {
+            records = 0;
+            requests = 0;
+        }
+    }
+
+    @Benchmark
+    public void publishSpread(PublisherState state, RequestCounter counter) {
+        long requestsBefore = state.requestsSent();
+        long pause = TimeUnit.MILLISECONDS.toNanos(SPREAD_MILLIS) / RECORDS;
+        CompletableFuture<?>[] results = new CompletableFuture<?>[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            results[i] = state.publish(state.records[i]);
+            LockSupport.parkNanos(pause);
+        }
+        CompletableFuture.allOf(results).join();
+        counter.records += RECORDS;
+        counter.requests += state.requestsSent() - requestsBefore;
+    }
+}
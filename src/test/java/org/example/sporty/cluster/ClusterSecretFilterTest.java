@@ -0,0 +1,59 @@
+package org.example.sporty.cluster;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ClusterSecretFilter.
+ */
+class ClusterSecretFilterTest {
+
+    private final ClusterSecretFilter filter = new ClusterSecretFilter("s3cret");
+
+    @Test
+    void doFilter_WithSecret_ShouldPassRequestOn() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", ClusterController.HANDOFF_PATH);
+        request.addHeader(ClusterSecretFilter.SECRET_HEADER, "s3cret");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_WithoutOrWithWrongSecret_ShouldRejectRequest() throws Exception {
+        for (String secret : new String[]{null, "guess", "s3cret "}) {
+            // Given
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", ClusterController.HANDOFF_PATH);
+            if (secret != null) {
+                request.addHeader(ClusterSecretFilter.SECRET_HEADER, secret);
+            }
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // When
+            filter.doFilter(request, response, chain);
+
+            // Then
+            assertThat(chain.getRequest()).isNull();
+            assertThat(response.getStatus()).isEqualTo(401);
+        }
+    }
+
+    @Test
+    void constructor_WithoutSecret_ShouldFail() {
+        assertThatThrownBy(() -> new ClusterSecretFilter(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
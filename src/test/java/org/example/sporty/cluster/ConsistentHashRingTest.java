@@ -0,0 +1,94 @@
+package org.example.sporty.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ConsistentHashRing.
+ */
+class ConsistentHashRingTest {
+
+    private static final ClusterMember NODE_1 = new ClusterMember("node-1", "http://node-1:8080");
+    private static final ClusterMember NODE_2 = new ClusterMember("node-2", "http://node-2:8080");
+    private static final ClusterMember NODE_3 = new ClusterMember("node-3", "http://node-3:8080");
+
+    @Test
+    void ownerOf_ShouldSpreadEventsEvenly() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3), 128);
+
+        // When
+        Map<ClusterMember, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30_000; i++) {
+            counts.merge(ring.ownerOf("event-" + i), 1, Integer::sum);
+        }
+
+        // Then - within 20% of the fair share (10,000)
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(8_000, 12_000));
+    }
+
+    @Test
+    void ownerOf_WhenMemberJoins_ShouldMoveOnlyItsShare() {
+        // Given
+        ConsistentHashRing before = new ConsistentHashRing(List.of(NODE_1, NODE_2), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3), 128);
+
+        // When
+        int moved = 0;
+        for (int i = 0; i < 30_000; i++) {
+            String eventId = "event-" + i;
+            ClusterMember newOwner = after.ownerOf(eventId);
+            if (!newOwner.equals(before.ownerOf(eventId))) {
+                moved++;
+                // Events only ever move to the joining node
+                assertThat(newOwner).isEqualTo(NODE_3);
+            }
+        }
+
+        // Then - about a third moves
+        assertThat(moved).isBetween(8_000, 12_000);
+    }
+
+    @Test
+    void backupOf_ShouldBeOwnerOnceOwnerLeaves() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3), 128);
+
+        for (int i = 0; i < 3_000; i++) {
+            String eventId = "event-" + i;
+            ClusterMember owner = ring.ownerOf(eventId);
+            List<ClusterMember> others = new ArrayList<>(List.of(NODE_1, NODE_2, NODE_3));
+            others.remove(owner);
+
+            // When
+            ClusterMember backup = ring.backupOf(eventId);
+
+            // Then
+            assertThat(backup).isNotEqualTo(owner);
+            assertThat(backup).isEqualTo(new ConsistentHashRing(others, 128).ownerOf(eventId));
+        }
+        assertThat(new ConsistentHashRing(List.of(NODE_1), 128).backupOf("event-1")).isNull();
+    }
+
+    @Test
+    void ownerOf_ShouldBeIndependentOfMemberOrder() {
+        ConsistentHashRing first = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3), 64);
+        ConsistentHashRing second = new ConsistentHashRing(List.of(NODE_3, NODE_1, NODE_2), 64);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(first.ownerOf("event-" + i)).isEqualTo(second.ownerOf("event-" + i));
+        }
+    }
+
+    @Test
+    void ownerOf_WhenEmpty_ShouldReturnNull() {
+        assertThat(new ConsistentHashRing(List.of(), 16).ownerOf("event-1")).isNull();
+    }
+}
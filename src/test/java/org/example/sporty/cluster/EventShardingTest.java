@@ -0,0 +1,174 @@
+package org.example.sporty.cluster;
+
+import org.example.sporty.domain.model.EventStatus;
+import org.example.sporty.persistence.EventStateStore;
+import org.example.sporty.scheduling.AdaptiveIntervalPolicy;
+import org.example.sporty.scheduling.PhaseAssigner;
+import org.example.sporty.scheduling.PhaseStrategy;
+import org.example.sporty.scheduling.TickExecutor;
+import org.example.sporty.scheduling.TickListener;
+import org.example.sporty.scheduling.TierBudgets;
+import org.example.sporty.service.EventDataFetchService;
+import org.example.sporty.service.EventManagementService;
+import org.example.sporty.service.EventSchedulerService;
+import org.example.sporty.service.ScoreStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs several nodes in one JVM, sharing an in-memory membership source and handoff.
+ */
+class EventShardingTest {
+
+    private static final int EVENTS = 300;
+
+    private final InMemoryMembershipSource membership = new InMemoryMembershipSource(Set.of());
+    private final InMemoryEventHandoff handoff = new InMemoryEventHandoff();
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+    private final List<ThreadPoolTaskScheduler> schedulers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        addNode("node-1");
+        addNode("node-2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulers.forEach(ThreadPoolTaskScheduler::shutdown);
+    }
+
+    @Test
+    void eachLiveEvent_ShouldBeScheduledOnExactlyOneNode() {
+        // When - updates arrive at arbitrary nodes (round robin load balancer)
+        setAllLive();
+
+        // Then
+        assertEachEventScheduledOnce();
+        assertThat(nodes.get("node-1").scheduler.getScheduledEventCount()).isGreaterThan(EVENTS / 4);
+        assertThat(nodes.get("node-2").scheduler.getScheduledEventCount()).isGreaterThan(EVENTS / 4);
+    }
+
+    @Test
+    void membershipChange_ShouldHandEventsOffToNewOwners() {
+        // Given
+        setAllLive();
+
+        // When - scale out, then lose a node gracefully
+        addNode("node-3");
+        assertEachEventScheduledOnce();
+        assertThat(nodes.get("node-3").scheduler.getScheduledEventCount()).isGreaterThan(EVENTS / 6);
+
+        membership.leave("node-1");
+
+        // Then - node-1 is no longer a member and has stopped polling
+        assertThat(nodes.get("node-1").scheduler.getScheduledEventCount()).isZero();
+        assertThat(nodes.get("node-2").scheduler.getScheduledEventCount()
+                + nodes.get("node-3").scheduler.getScheduledEventCount()).isEqualTo(EVENTS);
+    }
+
+    @Test
+    void crashedNode_ShouldHaveItsEventsTakenOverByTheirBackups() {
+        // Given - every update arrives at node-1, also those of events only it owns
+        addNode("node-3");
+        Node node1 = nodes.get("node-1");
+        for (int i = 0; i < EVENTS; i++) {
+            node1.management.updateEventStatus("event-" + i, EventStatus.LIVE);
+        }
+        assertEachEventScheduledOnce();
+
+        // When - node-1 crashes, handing nothing off
+        crash("node-1");
+
+        // Then
+        assertThat(nodes.get("node-2").scheduler.getScheduledEventCount()
+                + nodes.get("node-3").scheduler.getScheduledEventCount()).isEqualTo(EVENTS);
+    }
+
+    @Test
+    void notLiveUpdate_ShouldStopPollingOnOwnerWhateverNodeReceivesIt() {
+        // Given
+        setAllLive();
+
+        // When - the stop for each event arrives at the node that did not receive the start
+        List<Node> nodeList = new ArrayList<>(nodes.values());
+        for (int i = 0; i < EVENTS; i++) {
+            nodeList.get((i + 1) % nodeList.size()).management.updateEventStatus("event-" + i, EventStatus.NOT_LIVE);
+        }
+
+        // Then
+        nodes.values().forEach(node -> assertThat(node.scheduler.getScheduledEventCount()).isZero());
+    }
+
+    private void setAllLive() {
+        List<Node> nodeList = new ArrayList<>(nodes.values());
+        for (int i = 0; i < EVENTS; i++) {
+            nodeList.get(i % nodeList.size()).management.updateEventStatus("event-" + i, EventStatus.LIVE);
+        }
+    }
+
+    private void assertEachEventScheduledOnce() {
+        for (int i = 0; i < EVENTS; i++) {
+            String eventId = "event-" + i;
+            long owners = nodes.values().stream().filter(node -> node.scheduler.isScheduled(eventId)).count();
+            assertThat(owners).as("nodes polling %s", eventId).isEqualTo(1);
+        }
+    }
+
+    private void addNode(String nodeId) {
+        // A long first delay keeps the mocked fetches out of the way; only scheduling state matters here
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix(nodeId + "-");
+        taskScheduler.initialize();
+        schedulers.add(taskScheduler);
+
+        EventSchedulerService scheduler = new EventSchedulerService(
+                mock(EventDataFetchService.class),
+                taskScheduler,
+                TickExecutor.callerRuns(),
+                new PhaseAssigner(PhaseStrategy.HASH, 20),
+                AdaptiveIntervalPolicy.disabled(Duration.ofSeconds(10)),
+                TickListener.noop(),
+                TierBudgets.disabled(),
+                ScoreStream.none());
+        // Each node sees the shared membership until it crashes
+        InMemoryMembershipSource view = new InMemoryMembershipSource(membership.getMembers());
+        AtomicBoolean running = new AtomicBoolean(true);
+        membership.addListener(members -> {
+            if (running.get()) {
+                view.setMembers(members);
+            }
+        });
+        EventOwnershipService ownership = new EventOwnershipService(true, nodeId, 128, view);
+        EventManagementService management =
+                new EventManagementService(scheduler, ownership, handoff, EventStateStore.noop());
+        ownership.addRebalanceListener(management::rebalance);
+        handoff.register(nodeId, management::acceptHandoff);
+
+        nodes.put(nodeId, new Node(scheduler, management, running));
+        membership.join(new ClusterMember(nodeId, "http://" + nodeId + ":8080"));
+    }
+
+    private void crash(String nodeId) {
+        nodes.get(nodeId).running.set(false);
+        handoff.unregister(nodeId);
+        membership.leave(nodeId);
+    }
+
+    private record Node(EventSchedulerService scheduler, EventManagementService management, AtomicBoolean running) {
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.sporty.cluster;
+
+import org.example.sporty.domain.model.Event;
+import org.example.sporty.domain.model.EventStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for HttpEventHandoff.
+ */
+class HttpEventHandoffTest {
+
+    private static final ClusterMember OWNER = new ClusterMember("node-2", "http://node-2:8080");
+    private static final Event EVENT = Event.builder().eventId("event-123").status(EventStatus.LIVE).build();
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void handOff_WhenOwnerUnreachableAtFirst_ShouldRetryUntilAcknowledged() {
+        // Given - the owner refuses connections twice while it starts
+        HttpEventHandoff handoff = handoff(request -> {
+            assertThat(request.headers().getFirst(ClusterSecretFilter.SECRET_HEADER)).isEqualTo("s3cret");
+            return attempts.incrementAndGet() <= 2
+                    ? Mono.error(new ConnectException("Connection refused"))
+                    : Mono.just(ClientResponse.create(HttpStatus.ACCEPTED).build());
+        });
+
+        // When/Then
+        StepVerifier.create(handoff.handOff(OWNER, EVENT))
+                .verifyComplete();
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    void handOff_WhenOwnerRejectsEvent_ShouldFailWithoutRetrying() {
+        // Given
+        HttpEventHandoff handoff = handoff(request -> {
+            attempts.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.UNAUTHORIZED).build());
+        });
+
+        // When/Then
+        StepVerifier.create(handoff.handOff(OWNER, EVENT))
+                .verifyError(WebClientResponseException.Unauthorized.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    private static HttpEventHandoff handoff(ExchangeFunction exchangeFunction) {
+        return new HttpEventHandoff(WebClient.builder().exchangeFunction(exchangeFunction), "s3cret",
+                Duration.ofSeconds(1), Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.sporty.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for the score provider HTTP client configured in AppConfig.
+ */
+class AppConfigTest {
+
+    private final AppConfig appConfig = new AppConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        if (server != null) {
+            server.disposeNow();
+        }
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void providerWebClientBuilder_Http1_ShouldUseHttp11() {
+        // Given
+        startServer(HttpProtocol.HTTP11);
+        ProviderHttpProperties properties = new ProviderHttpProperties();
+
+        // When
+        String version = call(properties);
+
+        // Then
+        assertThat(version).isEqualTo("HTTP/1.1");
+    }
+
+    @Test
+    void providerWebClientBuilder_H2c_ShouldUseHttp2WithPriorKnowledge() {
+        // Given
+        startServer(HttpProtocol.H2C);
+        ProviderHttpProperties properties = new ProviderHttpProperties();
+        properties.setProtocol(ProviderHttpProperties.Protocol.H2C);
+
+        // When
+        String version = call(properties);
+
+        // Then
+        assertThat(version).isEqualTo("HTTP/2");
+    }
+
+    @Test
+    void providerConnectionProvider_ShouldPublishPoolMetrics() {
+        // Given
+        startServer(HttpProtocol.HTTP11);
+        ProviderHttpProperties properties = new ProviderHttpProperties();
+        properties.setMaxConnections(7);
+
+        // When
+        call(properties);
+
+        // Then
+        Gauge maxConnections = registry.get("reactor.netty.connection.provider.max.connections")
+                .tag("name", "external-api")
+                .gauge();
+        assertThat(maxConnections.value()).isEqualTo(7.0);
+        // The connection goes back to the pool after the response has been handed out
+        await().atMost(Duration.ofSeconds(2)).until(() ->
+                registry.get("reactor.netty.connection.provider.idle.connections")
+                        .tag("name", "external-api").gauge().value() == 1.0);
+        assertThat(registry.find("reactor.netty.connection.provider.active.connections").gauge()).isNotNull();
+        assertThat(registry.find("reactor.netty.connection.provider.pending.connections").gauge()).isNotNull();
+    }
+
+    private void startServer(HttpProtocol protocol) {
+        server = HttpServer.create()
+                .port(0)
+                .protocol(protocol)
+                .handle((request, response) -> {
+                    // HTTP/2 requests arrive on a stream child channel, converted to HTTP/1.1 objects
+                    AtomicBoolean http2 = new AtomicBoolean();
+                    request.withConnection(connection -> http2.set(connection.channel() instanceof Http2StreamChannel));
+                    return response.sendString(Mono.just(http2.get() ? "HTTP/2" : request.version().text()));
+                })
+                .bindNow();
+    }
+
+    private String call(ProviderHttpProperties properties) {
+        connectionProvider = appConfig.providerConnectionProvider(properties);
+        return appConfig.providerWebClientBuilder(connectionProvider, properties)
+                .baseUrl("http://localhost:" + server.port())
+                .build()
+                .get()
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.sporty.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.example.sporty.integration.InFlightWindow;
+import org.example.sporty.integration.PublishMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the in-flight window configured in KafkaConfig.
+ */
+@ExtendWith(MockitoExtension.class)
+class KafkaConfigTest {
+
+    private static final String TOPIC = "sports-score-updates";
+
+    @Mock
+    private KafkaAdmin kafkaAdmin;
+
+    private final KafkaConfig kafkaConfig = new KafkaConfig();
+    private final NewTopic topic = TopicBuilder.name(TOPIC).partitions(3).replicas(1).build();
+    private final List<InFlightWindow> windows = new ArrayList<>();
+
+    @Test
+    void publishInFlightWindow_WhenTopicHasMorePartitions_ShouldFollowBroker() {
+        // Given - the topic was created elsewhere with 6 partitions
+        when(kafkaAdmin.describeTopics(TOPIC)).thenReturn(Map.of(TOPIC, description(6)));
+
+        // When
+        InFlightWindow window = publishInFlightWindow(PublishMode.ASYNC);
+
+        // Then
+        assertThat(window.getPartitionCount()).isEqualTo(6);
+        verify(kafkaAdmin).createOrModifyTopics(topic);
+    }
+
+    @Test
+    void publishInFlightWindow_WhenBrokerUnreachable_ShouldUseConfiguredPartitions() {
+        // Given
+        when(kafkaAdmin.describeTopics(TOPIC)).thenThrow(new KafkaException("Timed out"));
+
+        // When
+        InFlightWindow window = publishInFlightWindow(PublishMode.ASYNC);
+
+        // Then
+        assertThat(window.isEnabled()).isTrue();
+        assertThat(window.getPartitionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void publishInFlightWindow_WhenBrokerReachableLater_ShouldResize() {
+        // Given - the broker comes back with 6 partitions
+        when(kafkaAdmin.describeTopics(TOPIC))
+                .thenThrow(new KafkaException("Timed out"))
+                .thenReturn(Map.of(TOPIC, description(6)));
+
+        // When
+        InFlightWindow window = publishInFlightWindow(PublishMode.ASYNC);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> window.getPartitionCount() == 6);
+    }
+
+    @Test
+    void publishInFlightWindow_WhenSync_ShouldNotAskBroker() {
+        // When
+        InFlightWindow window = publishInFlightWindow(PublishMode.SYNC);
+
+        // Then
+        assertThat(window.isEnabled()).isFalse();
+        verifyNoInteractions(kafkaAdmin);
+    }
+
+    private InFlightWindow publishInFlightWindow(PublishMode mode) {
+        InFlightWindow window = kafkaConfig.publishInFlightWindow(kafkaAdmin, topic, mode, 8, Duration.ofMillis(10));
+        windows.add(window);
+        return window;
+    }
+
+    @AfterEach
+    void tearDown() {
+        windows.forEach(InFlightWindow::shutdown);
+    }
+
+    private static TopicDescription description(int partitions) {
+        Node broker = new Node(0, "localhost", 9092);
+        List<TopicPartitionInfo> infos = IntStream.range(0, partitions)
+                .mapToObj(i -> new TopicPartitionInfo(i, broker, List.of(broker), List.of(broker)))
+                .toList();
+        return new TopicDescription(TOPIC, false, infos);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.sporty.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the producer profiles of KafkaProducerProperties.
+ */
+class KafkaProducerPropertiesTest {
+
+    @Test
+    void forTopic_ShouldUseTopicProfileOrDefault() {
+        // Given
+        KafkaProducerProperties properties = bind(Map.of(
+                "kafka.producer.profile", "max-throughput",
+                "kafka.producer.topics.sports-score-updates", "low-latency"));
+
+        // When / Then
+        assertThat(properties.forTopic("sports-score-updates")).isEqualTo(ProducerProfile.LOW_LATENCY);
+        assertThat(properties.forTopic("score-replays")).isEqualTo(ProducerProfile.MAX_THROUGHPUT);
+    }
+
+    @Test
+    void forTopic_WithoutConfiguration_ShouldUseBalanced() {
+        // When / Then
+        assertThat(new KafkaProducerProperties().forTopic("sports-score-updates"))
+                .isEqualTo(ProducerProfile.BALANCED);
+    }
+
+    @Test
+    void producerConfig_ShouldApplyProfileAndKeepIdempotence() {
+        // When
+        Map<String, Object> config = KafkaConfig.producerConfig("localhost:9092", ProducerProfile.MAX_THROUGHPUT);
+
+        // Then
+        assertThat(config)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd")
+                .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 256 * 1024)
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 50)
+                .containsEntry(ProducerConfig.BUFFER_MEMORY_CONFIG, 64L * 1024 * 1024)
+                .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true)
+                .containsEntry(ProducerConfig.ACKS_CONFIG, "all");
+    }
+
+    private static KafkaProducerProperties bind(Map<String, String> settings) {
+        return new Binder(new MapConfigurationPropertySource(settings))
+                .bind("kafka.producer", KafkaProducerProperties.class)
+                .get();
+    }
+}
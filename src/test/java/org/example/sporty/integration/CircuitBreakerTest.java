@@ -0,0 +1,212 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CircuitBreaker.
+ */
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void protect_WhenFailureRateReachesThreshold_ShouldOpen() {
+        // Given - window of 10, at least 4 calls, opens at 50%
+        CircuitBreaker breaker = breaker();
+        succeed(breaker, 2);
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // When
+        fail(breaker, 1);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void protect_BelowMinimumCalls_ShouldStayClosed() {
+        // Given
+        CircuitBreaker breaker = breaker();
+
+        // When
+        fail(breaker, 3);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getFailureRate()).isEqualTo(-1);
+    }
+
+    @Test
+    void protect_ShouldOnlyCountCallsInSlidingWindow() {
+        // Given - 4 old failures pushed out of the window by 10 successes
+        CircuitBreaker breaker = new CircuitBreaker("test", true, 10, 4, 50, OPEN_DURATION, 2, nanos::get);
+        succeed(breaker, 2);
+        fail(breaker, 1);
+        succeed(breaker, 10);
+
+        // When
+        fail(breaker, 4);
+
+        // Then - 4 of the last 10 failed
+        assertThat(breaker.getFailureRate()).isEqualTo(40.0);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void protect_WhenOpen_ShouldFailFastWithoutSubscribingCall() {
+        // Given
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        // When
+        Mono<String> result = breaker.protect(Mono.fromCallable(() -> {
+            subscriptions.incrementAndGet();
+            return "score";
+        }));
+
+        // Then
+        StepVerifier.create(result).verifyError(CircuitOpenException.class);
+        assertThat(subscriptions.get()).isZero();
+    }
+
+    @Test
+    void protect_AfterOpenDuration_ShouldLetLimitedProbesThrough() {
+        // Given
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        nanos.addAndGet(OPEN_DURATION.toNanos());
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        // When - two probes in flight
+        breaker.protect(first.asMono()).subscribe(results::add);
+        breaker.protect(second.asMono()).subscribe(results::add);
+
+        // Then - a third call is refused until the probes succeed
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        StepVerifier.create(breaker.protect(Mono.just("c"))).verifyError(CircuitOpenException.class);
+        first.tryEmitValue("a");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        second.tryEmitValue("b");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(results).containsExactly("a", "b");
+    }
+
+    @Test
+    void protect_WhenProbeFails_ShouldReopen() {
+        // Given
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        nanos.addAndGet(OPEN_DURATION.toNanos());
+
+        // When
+        fail(breaker, 1);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        StepVerifier.create(breaker.protect(Mono.just("score"))).verifyError(CircuitOpenException.class);
+    }
+
+    @Test
+    void protect_WhenProbeCancelled_ShouldFreeProbeSlot() {
+        // Given
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        nanos.addAndGet(OPEN_DURATION.toNanos());
+
+        // When - both probes cancelled before answering
+        breaker.protect(Mono.never()).subscribe().dispose();
+        breaker.protect(Mono.never()).subscribe().dispose();
+
+        // Then
+        succeed(breaker, 2);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void protect_ShouldIgnoreClientErrorsAndRejectedCalls() {
+        // Given
+        CircuitBreaker breaker = breaker();
+        WebClientResponseException notFound = WebClientResponseException.create(
+                HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            breaker.protect(Mono.error(notFound)).onErrorResume(e -> Mono.empty()).block();
+            breaker.protect(Mono.error(new RateLimitExceededException("over quota")))
+                    .onErrorResume(e -> Mono.empty()).block();
+        }
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getFailureRate()).isEqualTo(-1);
+    }
+
+    @Test
+    void protect_WhenDisabled_ShouldNeverOpen() {
+        // Given
+        CircuitBreaker breaker = CircuitBreaker.disabled("test");
+
+        // When
+        fail(breaker, 20);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        StepVerifier.create(breaker.protect(Mono.just("score"))).expectNext("score").verifyComplete();
+    }
+
+    @Test
+    void bindTo_ShouldReportStateTransitionsAndRejections() {
+        // Given
+        CircuitBreaker breaker = breaker();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        breaker.bindTo(registry);
+
+        // When
+        fail(breaker, 4);
+        breaker.protect(Mono.just("score")).onErrorResume(e -> Mono.empty()).block();
+
+        // Then
+        assertThat(registry.get("external.api.circuit.state").tag("state", "open").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("external.api.circuit.state").tag("state", "closed").gauge().value()).isZero();
+        assertThat(registry.get("external.api.circuit.transitions").tag("state", "open").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("external.api.circuit.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker("test", true, 10, 4, 50, OPEN_DURATION, 2, nanos::get);
+    }
+
+    private static void succeed(CircuitBreaker breaker, int calls) {
+        for (int i = 0; i < calls; i++) {
+            breaker.protect(Mono.just("score")).block();
+        }
+    }
+
+    private static void fail(CircuitBreaker breaker, int calls) {
+        for (int i = 0; i < calls; i++) {
+            breaker.protect(Mono.error(new IOException("provider down"))).onErrorResume(e -> Mono.empty()).block();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.example.sporty.integration;
+
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.domain.model.ScoreData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ExternalApiClient, against a stubbed exchange function.
+ */
+class ExternalApiClientTest {
+
+    private static final String TEST_EVENT_ID = "event-123";
+    private static final String ETAG = "\"v1\"";
+    private static final Duration ANSWER_DELAY = Duration.ofMillis(10);
+
+    private final Deque<ClientResponse> responses = new ConcurrentLinkedDeque<>();
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+
+    private ExternalApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = configure(new ExternalApiClient(ProviderRouter.single(provider("provider", Duration.ZERO)),
+                RequestHedger.disabled()));
+    }
+
+    /**
+     * Creates a client routing across {@code provider} and {@code mirror}, which share the stubbed responses.
+     * Their answers arrive asynchronously, as over a network.
+     */
+    private ExternalApiClient client(boolean racePremium) {
+        ProviderRouter router = new ProviderRouter(
+                List.of(provider("provider", ANSWER_DELAY), provider("mirror", ANSWER_DELAY)),
+                TokenBucketRateLimiter.unlimited(), 0, racePremium);
+        return configure(new ExternalApiClient(router, RequestHedger.disabled()));
+    }
+
+    private ScoreProvider provider(String host, Duration answerDelay) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    Mono<ClientResponse> response = Mono.just(responses.removeFirst());
+                    return answerDelay.isZero() ? response : response.delayElement(answerDelay);
+                })
+                .baseUrl("http://" + host)
+                .build();
+        return new ScoreProvider(host, webClient, CircuitBreaker.disabled(host), 0.2);
+    }
+
+    private static ExternalApiClient configure(ExternalApiClient client) {
+        ReflectionTestUtils.setField(client, "timeoutMillis", 1000);
+        ReflectionTestUtils.setField(client, "maxRetries", 0);
+        ReflectionTestUtils.setField(client, "conditionalRequests", true);
+        return client;
+    }
+
+    @Test
+    void fetchEventScore_FirstCall_ShouldSendUnconditionalRequest() {
+        // Given
+        responses.add(score("1:0", ETAG));
+
+        // When/Then
+        StepVerifier.create(client.fetchEventScore(TEST_EVENT_ID))
+                .assertNext(scoreData -> {
+                    assertThat(scoreData.getCurrentScore()).isEqualTo("1:0");
+                    assertThat(scoreData.isNotModified()).isFalse();
+                })
+                .verifyComplete();
+        assertThat(requests.get(0).headers().getIfNoneMatch()).isEmpty();
+    }
+
+    @Test
+    void fetchEventScore_AfterETag_ShouldSendIfNoneMatchAndTurn304IntoCachedScore() {
+        // Given
+        responses.add(score("1:0", ETAG));
+        responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).header(HttpHeaders.ETAG, ETAG).build());
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // When/Then
+        StepVerifier.create(client.fetchEventScore(TEST_EVENT_ID))
+                .assertNext(scoreData -> {
+                    assertThat(scoreData.getEventId()).isEqualTo(TEST_EVENT_ID);
+                    assertThat(scoreData.getCurrentScore()).isEqualTo("1:0");
+                    assertThat(scoreData.isNotModified()).isTrue();
+                })
+                .verifyComplete();
+        assertThat(requests.get(1).headers().getIfNoneMatch()).containsExactly(ETAG);
+    }
+
+    @Test
+    void fetchEventScore_AfterLastModifiedOnly_ShouldSendIfModifiedSince() {
+        // Given
+        String lastModified = "Wed, 21 Oct 2026 07:28:00 GMT";
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.LAST_MODIFIED, lastModified)
+                .body("{\"eventId\":\"" + TEST_EVENT_ID + "\",\"currentScore\":\"0:0\"}")
+                .build());
+        responses.add(score("0:1", null));
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // When
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // Then
+        assertThat(requests.get(1).headers().getFirst(HttpHeaders.IF_MODIFIED_SINCE)).isEqualTo(lastModified);
+    }
+
+    @Test
+    void fetchEventScore_WhenScoreChanged_ShouldRememberNewETag() {
+        // Given
+        responses.add(score("1:0", ETAG));
+        responses.add(score("2:0", "\"v2\""));
+        responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+        client.fetchEventScore(TEST_EVENT_ID).block();
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // When
+        ScoreData result = client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // Then
+        assertThat(requests.get(2).headers().getIfNoneMatch()).containsExactly("\"v2\"");
+        assertThat(result.getCurrentScore()).isEqualTo("2:0");
+    }
+
+    @Test
+    void fetchEventScore_AfterForget_ShouldSendUnconditionalRequest() {
+        // Given
+        responses.add(score("1:0", ETAG));
+        responses.add(score("1:0", ETAG));
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // When
+        client.forget(TEST_EVENT_ID);
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // Then
+        assertThat(requests.get(1).headers().getIfNoneMatch()).isEmpty();
+    }
+
+    @Test
+    void fetchEventScore_WhenConditionalRequestsDisabled_ShouldNotSendValidator() {
+        // Given
+        ReflectionTestUtils.setField(client, "conditionalRequests", false);
+        responses.add(score("1:0", ETAG));
+        responses.add(score("1:0", ETAG));
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // When
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // Then
+        assertThat(requests.get(1).headers().getIfNoneMatch()).isEmpty();
+    }
+
+    @Test
+    void fetchEventScore_WhenRoutedToAnotherProvider_ShouldNotSendOtherProvidersValidator() {
+        // Given - the mirror has not answered yet, so the second call goes to it
+        client = client(false);
+        responses.add(score("1:0", ETAG));
+        responses.add(score("1:0", ETAG));
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // When
+        client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // Then
+        assertThat(requests.get(0).url().getHost()).isEqualTo("provider");
+        assertThat(requests.get(1).url().getHost()).isEqualTo("mirror");
+        assertThat(requests.get(1).headers().getIfNoneMatch()).isEmpty();
+    }
+
+    @Test
+    void fetchEventScore_ForPremiumEventInRaceMode_ShouldCallAllProviders() {
+        // Given
+        client = client(true);
+        client.setTier(TEST_EVENT_ID, PriorityTier.PREMIUM);
+        responses.add(score("1:0", ETAG));
+        responses.add(score("1:0", ETAG));
+
+        // When
+        ScoreData result = client.fetchEventScore(TEST_EVENT_ID).block();
+
+        // Then
+        assertThat(result.getCurrentScore()).isEqualTo("1:0");
+        assertThat(requests).extracting(request -> request.url().getHost()).containsExactly("provider", "mirror");
+    }
+
+    @Test
+    void fetchEventScore_ServerError_ShouldFail() {
+        // Given
+        responses.add(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+
+        // When/Then - surfaced through the exhausted retry
+        StepVerifier.create(client.fetchEventScore(TEST_EVENT_ID))
+                .verifyErrorSatisfies(error ->
+                        assertThat(error).hasCauseInstanceOf(WebClientResponseException.ServiceUnavailable.class));
+    }
+
+    private static ClientResponse score(String currentScore, String etag) {
+        ClientResponse.Builder response = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"eventId\":\"" + TEST_EVENT_ID + "\",\"currentScore\":\"" + currentScore + "\"}");
+        if (etag != null) {
+            response.header(HttpHeaders.ETAG, etag);
+        }
+        return response.build();
+    }
+}
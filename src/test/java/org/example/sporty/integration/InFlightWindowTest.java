@@ -0,0 +1,175 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for InFlightWindow.
+ */
+class InFlightWindowTest {
+
+    @Test
+    void tryAcquire_WhenWindowFull_ShouldRefuseUntilRelease() {
+        // Given
+        InFlightWindow window = new InFlightWindow(1, 2);
+        InFlightWindow.Permit first = window.tryAcquire(0);
+        InFlightWindow.Permit second = window.tryAcquire(0);
+
+        // When/Then
+        assertThat(window.tryAcquire(0)).isNull();
+        first.release();
+        assertThat(window.tryAcquire(0)).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(window.getInFlight(0)).isEqualTo(2);
+    }
+
+    @Test
+    void release_WhenCalledTwice_ShouldFreeOneSlot() {
+        // Given
+        InFlightWindow window = new InFlightWindow(1, 2);
+        InFlightWindow.Permit permit = window.tryAcquire(0);
+        window.tryAcquire(0);
+
+        // When
+        permit.release();
+        permit.release();
+
+        // Then
+        assertThat(window.getInFlight(0)).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepPartitionsApart() {
+        // Given - partition 0 full
+        InFlightWindow window = new InFlightWindow(2, 1);
+        window.tryAcquire(0);
+
+        // When/Then
+        assertThat(window.tryAcquire(0)).isNull();
+        assertThat(window.tryAcquire(1)).isNotNull();
+    }
+
+    @Test
+    void acquire_WhenWindowFull_ShouldWaitInOrder() {
+        // Given
+        InFlightWindow window = new InFlightWindow(1, 1);
+        InFlightWindow.Permit held = window.tryAcquire(0);
+        List<String> acquired = new ArrayList<>();
+        List<InFlightWindow.Permit> permits = new ArrayList<>();
+
+        // When
+        window.acquire(0).subscribe(permit -> {
+            acquired.add("first");
+            permits.add(permit);
+        });
+        window.acquire(0).subscribe(permit -> {
+            acquired.add("second");
+            permits.add(permit);
+        });
+
+        // Then - each release hands the slot on
+        assertThat(acquired).isEmpty();
+        held.release();
+        assertThat(acquired).containsExactly("first");
+        permits.get(0).release();
+        assertThat(acquired).containsExactly("first", "second");
+        assertThat(window.getInFlight(0)).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_WhenCancelledWhileWaiting_ShouldGiveUpItsPlace() {
+        // Given
+        InFlightWindow window = new InFlightWindow(1, 1);
+        InFlightWindow.Permit held = window.tryAcquire(0);
+        Disposable waiting = window.acquire(0).subscribe();
+
+        // When
+        waiting.dispose();
+        held.release();
+
+        // Then
+        assertThat(window.getInFlight(0)).isZero();
+    }
+
+    @Test
+    void partitionOf_ShouldMatchDefaultPartitioner() {
+        // Given
+        InFlightWindow window = new InFlightWindow(6, 1);
+
+        // When/Then
+        for (String key : List.of("event-1", "event-2", "match-42", "é")) {
+            int expected = Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % 6;
+            assertThat(window.partitionOf(key)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void disabled_ShouldNeverRunOutOfPermits() {
+        // Given
+        InFlightWindow window = InFlightWindow.disabled();
+
+        // When/Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(window.tryAcquire(window.partitionOf("event-" + i))).isNotNull();
+        }
+        assertThat(window.isEnabled()).isFalse();
+        assertThat(window.getInFlight(0)).isZero();
+    }
+
+    @Test
+    void constructor_WithEmptyWindow_ShouldThrow() {
+        // When/Then
+        assertThatThrownBy(() -> new InFlightWindow(3, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void refresh_WhenPartitionsAdded_ShouldResizeAndKeepPermits() {
+        // Given
+        InFlightWindow window = new InFlightWindow(1, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        window.bindTo(registry);
+        InFlightWindow.Permit permit = window.tryAcquire(0);
+
+        // When - the broker is unreachable, then reports 3 partitions
+        window.refresh(OptionalInt::empty);
+        window.refresh(() -> OptionalInt.of(3));
+
+        // Then
+        assertThat(window.getPartitionCount()).isEqualTo(3);
+        assertThat(window.tryAcquire(0)).isNull();
+        assertThat(window.tryAcquire(2)).isNotNull();
+        assertThat(registry.get("kafka.publish.in-flight").tag("partition", "2").gauge().value()).isEqualTo(1);
+        permit.release();
+        assertThat(window.getInFlight(0)).isZero();
+    }
+
+    @Test
+    void bindTo_ShouldExposeInFlightWaitingAndWindowFull() {
+        // Given
+        InFlightWindow window = new InFlightWindow(2, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        window.bindTo(registry);
+
+        // When
+        window.tryAcquire(1);
+        window.tryAcquire(1);
+        window.acquire(1).subscribe();
+
+        // Then
+        assertThat(registry.get("kafka.publish.in-flight").tag("partition", "1").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("kafka.publish.in-flight").tag("partition", "0").gauge().value()).isZero();
+        assertThat(registry.get("kafka.publish.waiting").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("kafka.publish.window.full").counter().count()).isEqualTo(2);
+    }
+}
@@ -1,19 +1,26 @@
 package org.example.sporty.integration;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.sporty.domain.model.ScoreData;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -27,20 +34,26 @@ import static org.mockito.Mockito.*;
 class KafkaEventPublisherTest {
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private ScoreDataEncoder scoreDataEncoder;
 
     @Mock
-    private SendResult<String, String> sendResult;
+    private SendResult<String, byte[]> sendResult;
 
-    @InjectMocks
     private KafkaEventPublisher kafkaPublisher;
 
     private static final String TEST_TOPIC = "test-topic";
+    private static final byte[] EMPTY_MESSAGE = "{}".getBytes(StandardCharsets.UTF_8);
     private static final String TEST_EVENT_ID = "event-123";
 
+    @BeforeEach
+    void setUp() {
+        kafkaPublisher = new KafkaEventPublisher(kafkaTemplate, scoreDataEncoder, InFlightWindow.disabled(),
+                TransactionalPublishBatcher.disabled(), SpillOutbox.disabled());
+    }
+
     @Test
     void publishScoreUpdate_Success_ShouldPublishMessage() throws Exception {
         // Given
@@ -54,28 +67,21 @@ class KafkaEventPublisherTest {
                 .build();
 
         String jsonMessage = "{\"eventId\":\"event-123\",\"currentScore\":\"2:1\"}";
-        when(objectMapper.writeValueAsString(scoreData)).thenReturn(jsonMessage);
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(jsonMessage.getBytes(StandardCharsets.UTF_8));
 
-        CompletableFuture<SendResult<String, String>> future = CompletableFuture.completedFuture(sendResult);
-        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+        CompletableFuture<SendResult<String, byte[]>> future = CompletableFuture.completedFuture(sendResult);
+        when(kafkaTemplate.send(anyRecord())).thenReturn(future);
 
         // When
         kafkaPublisher.publishScoreUpdate(scoreData);
 
         // Then
-        ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
-
-        verify(kafkaTemplate, times(1)).send(
-                topicCaptor.capture(),
-                keyCaptor.capture(),
-                messageCaptor.capture()
-        );
-
-        assertThat(topicCaptor.getValue()).isEqualTo(TEST_TOPIC);
-        assertThat(keyCaptor.getValue()).isEqualTo(TEST_EVENT_ID);
-        assertThat(messageCaptor.getValue()).isEqualTo(jsonMessage);
+        ProducerRecord<String, byte[]> record = sentRecord();
+        assertThat(record.topic()).isEqualTo(TEST_TOPIC);
+        assertThat(record.key()).isEqualTo(TEST_EVENT_ID);
+        assertThat(new String(record.value(), StandardCharsets.UTF_8)).isEqualTo(jsonMessage);
+        assertThat(record.headers().lastHeader(ScoreMessageFormat.CONTENT_TYPE_HEADER).value())
+                .isEqualTo("application/json".getBytes(StandardCharsets.UTF_8));
     }
 
     @Test
@@ -88,15 +94,15 @@ class KafkaEventPublisherTest {
                 .currentScore("2:1")
                 .build();
 
-        when(objectMapper.writeValueAsString(scoreData))
-                .thenThrow(new com.fasterxml.jackson.core.JsonProcessingException("Serialization error") {});
+        when(scoreDataEncoder.encodeToBytes(scoreData))
+                .thenThrow(new IllegalStateException("Serialization error"));
 
         // When/Then
         assertThatThrownBy(() -> kafkaPublisher.publishScoreUpdate(scoreData))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Serialization error");
 
-        verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+        verify(kafkaTemplate, never()).send(anyRecord());
     }
 
     @Test
@@ -111,17 +117,369 @@ class KafkaEventPublisherTest {
                 .build();
 
         String jsonMessage = "{\"eventId\":\"event-123\"}";
-        when(objectMapper.writeValueAsString(scoreData)).thenReturn(jsonMessage);
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(jsonMessage.getBytes(StandardCharsets.UTF_8));
 
-        CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
+        CompletableFuture<SendResult<String, byte[]>> future = new CompletableFuture<>();
         future.completeExceptionally(new RuntimeException("Kafka error"));
-        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+        when(kafkaTemplate.send(anyRecord())).thenReturn(future);
 
         // When/Then
         assertThatThrownBy(() -> kafkaPublisher.publishScoreUpdate(scoreData))
                 .isInstanceOf(RuntimeException.class);
 
-        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), anyString());
+        verify(kafkaTemplate, times(1)).send(anyRecord());
+    }
+
+    @Test
+    void publishScoreUpdateAsync_Success_ShouldCompleteWithSendResult() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(kafkaPublisher, "scoreUpdatesTopic", TEST_TOPIC);
+        ReflectionTestUtils.setField(kafkaPublisher, "publishTimeoutMillis", 5000L);
+
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("2:1")
+                .build();
+
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        CompletableFuture<SendResult<String, byte[]>> future = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyRecord())).thenReturn(future);
+        when(sendResult.getRecordMetadata()).thenReturn(
+                new RecordMetadata(new TopicPartition(TEST_TOPIC, 0), 0, 0, 0, 0, 0));
+
+        // When
+        Mono<SendResult<String, byte[]>> publish = kafkaPublisher.publishScoreUpdateAsync(scoreData);
+
+        // Then - nothing is sent until subscribed, and completion follows the acknowledgement
+        verify(kafkaTemplate, never()).send(anyRecord());
+        StepVerifier.create(publish)
+                .then(() -> future.complete(sendResult))
+                .expectNext(sendResult)
+                .verifyComplete();
+    }
+
+    @Test
+    void publishScoreUpdateAsync_WhenKafkaFails_ShouldError() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(kafkaPublisher, "scoreUpdatesTopic", TEST_TOPIC);
+        ReflectionTestUtils.setField(kafkaPublisher, "publishTimeoutMillis", 1000L);
+
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("2:1")
+                .build();
+
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        when(kafkaTemplate.send(anyRecord()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+
+        // When/Then
+        StepVerifier.create(kafkaPublisher.publishScoreUpdateAsync(scoreData))
+                .expectErrorMessage("Kafka error")
+                .verify();
+    }
+
+    @Test
+    void publishScoreUpdateInBackground_ShouldReturnBeforeAcknowledgement() {
+        // Given
+        KafkaEventPublisher publisher = asyncPublisher(new InFlightWindow(1, 2));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        publisher.bindTo(registry);
+        ScoreData scoreData = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:1").build();
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        CompletableFuture<SendResult<String, byte[]>> future = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyRecord())).thenReturn(future);
+        when(sendResult.getRecordMetadata()).thenReturn(
+                new RecordMetadata(new TopicPartition(TEST_TOPIC, 0), 0, 0, 0, 0, 0));
+        AtomicBoolean acknowledged = new AtomicBoolean();
+
+        // When
+        boolean sent = publisher.publishScoreUpdateInBackground(scoreData, () -> acknowledged.set(true));
+
+        // Then - the callback waits for the broker
+        assertThat(sent).isTrue();
+        assertThat(acknowledged).isFalse();
+        future.complete(sendResult);
+        assertThat(acknowledged).isTrue();
+        assertThat(registry.get("kafka.publish.acknowledged").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publishScoreUpdateInBackground_WhenWindowFull_ShouldNotSend() {
+        // Given - one record in flight on the only partition
+        InFlightWindow window = new InFlightWindow(1, 1);
+        KafkaEventPublisher publisher = asyncPublisher(window);
+        ScoreData scoreData = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:1").build();
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        CompletableFuture<SendResult<String, byte[]>> future = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyRecord())).thenReturn(future);
+        publisher.publishScoreUpdateInBackground(scoreData, () -> { });
+
+        // When
+        boolean sent = publisher.publishScoreUpdateInBackground(scoreData, () -> { });
+
+        // Then - until the broker answers
+        assertThat(sent).isFalse();
+        verify(kafkaTemplate, times(1)).send(anyRecord());
+        future.completeExceptionally(new RuntimeException("Kafka error"));
+        assertThat(window.getInFlight(0)).isZero();
+    }
+
+    @Test
+    void publishScoreUpdateInBackground_WhenKafkaFails_ShouldCountFailureWithoutThrowing() {
+        // Given
+        KafkaEventPublisher publisher = asyncPublisher(new InFlightWindow(1, 1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        publisher.bindTo(registry);
+        ScoreData scoreData = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:1").build();
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        when(kafkaTemplate.send(anyRecord()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")))
+                .thenThrow(new IllegalStateException("Producer closed"));
+        AtomicBoolean acknowledged = new AtomicBoolean();
+
+        // When
+        boolean first = publisher.publishScoreUpdateInBackground(scoreData, () -> acknowledged.set(true));
+        boolean second = publisher.publishScoreUpdateInBackground(scoreData, () -> acknowledged.set(true));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(acknowledged).isFalse();
+        assertThat(registry.get("kafka.publish.failed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void publishScoreUpdateAsync_WhenWindowFull_ShouldWaitForAcknowledgement() {
+        // Given
+        KafkaEventPublisher publisher = asyncPublisher(new InFlightWindow(1, 1));
+        ScoreData scoreData = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:1").build();
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        CompletableFuture<SendResult<String, byte[]>> first = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyRecord()))
+                .thenReturn(first)
+                .thenReturn(CompletableFuture.completedFuture(sendResult));
+        when(sendResult.getRecordMetadata()).thenReturn(
+                new RecordMetadata(new TopicPartition(TEST_TOPIC, 0), 0, 0, 0, 0, 0));
+        publisher.publishScoreUpdateAsync(scoreData).subscribe();
+
+        // When/Then - the second record is only sent once the first is acknowledged
+        StepVerifier.create(publisher.publishScoreUpdateAsync(scoreData))
+                .then(() -> verify(kafkaTemplate, times(1)).send(anyRecord()))
+                .then(() -> first.complete(sendResult))
+                .expectNext(sendResult)
+                .verifyComplete();
+        verify(kafkaTemplate, times(2)).send(anyRecord());
+    }
+
+    @Test
+    void publishScoreUpdate_WithBinaryFormat_ShouldSendBinaryRecordWithContentType() {
+        // Given
+        ReflectionTestUtils.setField(kafkaPublisher, "scoreUpdatesTopic", TEST_TOPIC);
+        ReflectionTestUtils.setField(kafkaPublisher, "messageFormat", ScoreMessageFormat.BINARY);
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("2:1")
+                .timestamp(Instant.parse("2026-10-17T12:00:00Z"))
+                .build();
+        when(kafkaTemplate.send(anyRecord())).thenReturn(CompletableFuture.completedFuture(sendResult));
+        when(sendResult.getRecordMetadata()).thenReturn(
+                new RecordMetadata(new TopicPartition(TEST_TOPIC, 0), 0, 0, 0, 0, 0));
+
+        // When
+        kafkaPublisher.publishScoreUpdate(scoreData);
+
+        // Then - the JSON encoder is not involved
+        ProducerRecord<String, byte[]> record = sentRecord();
+        assertThat(new ScoreDataDeserializer().deserialize(TEST_TOPIC, record.headers(), record.value()))
+                .isEqualTo(scoreData);
+        assertThat(record.headers().lastHeader(ScoreMessageFormat.CONTENT_TYPE_HEADER).value())
+                .isEqualTo(ScoreDataBinaryCodec.CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+        verifyNoInteractions(scoreDataEncoder);
     }
-}
 
+    @Test
+    void publishScoreUpdateInBackground_WhenTransactional_ShouldQueueRecordForTransaction() {
+        // Given
+        TransactionalPublishBatcher batcher = mock(TransactionalPublishBatcher.class);
+        when(batcher.isEnabled()).thenReturn(true);
+        CompletableFuture<SendResult<String, byte[]>> committed = new CompletableFuture<>();
+        when(batcher.submit(anyRecord())).thenReturn(committed);
+        KafkaEventPublisher publisher = new KafkaEventPublisher(kafkaTemplate, scoreDataEncoder,
+                new InFlightWindow(1, 2), batcher, SpillOutbox.disabled());
+        ReflectionTestUtils.setField(publisher, "scoreUpdatesTopic", TEST_TOPIC);
+        ScoreData scoreData = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:1").build();
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        when(sendResult.getRecordMetadata()).thenReturn(
+                new RecordMetadata(new TopicPartition(TEST_TOPIC, 0), 0, 0, 0, 0, 0));
+        AtomicBoolean acknowledged = new AtomicBoolean();
+
+        // When
+        boolean sent = publisher.publishScoreUpdateInBackground(scoreData, () -> acknowledged.set(true));
+
+        // Then - acknowledged once the transaction committed
+        assertThat(sent).isTrue();
+        verify(kafkaTemplate, never()).send(anyRecord());
+        assertThat(acknowledged).isFalse();
+        committed.complete(sendResult);
+        assertThat(acknowledged).isTrue();
+    }
+
+    @Test
+    void publishScoreUpdate_WhenKafkaFailsAndSpillEnabled_ShouldSpillWithoutThrowing() {
+        // Given
+        SpillOutbox spillOutbox = enabledSpillOutbox();
+        KafkaEventPublisher publisher = spillingPublisher(InFlightWindow.disabled(), spillOutbox);
+        ScoreData scoreData = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:1").build();
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        when(kafkaTemplate.send(anyRecord()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+        when(spillOutbox.spill(scoreData)).thenReturn(true);
+
+        // When
+        publisher.publishScoreUpdate(scoreData);
+
+        // Then
+        verify(spillOutbox).spill(scoreData);
+    }
+
+    @Test
+    void publishScoreUpdateInBackground_WhenWindowFullAndSpillEnabled_ShouldSpillRecord() {
+        // Given - one record in flight on the only partition
+        SpillOutbox spillOutbox = enabledSpillOutbox();
+        KafkaEventPublisher publisher = spillingPublisher(new InFlightWindow(1, 1), spillOutbox);
+        ScoreData scoreData = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:1").build();
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        when(kafkaTemplate.send(anyRecord())).thenReturn(new CompletableFuture<>());
+        when(spillOutbox.spill(scoreData)).thenReturn(true);
+        publisher.publishScoreUpdateInBackground(scoreData, () -> { });
+        AtomicBoolean acknowledged = new AtomicBoolean();
+
+        // When
+        boolean sent = publisher.publishScoreUpdateInBackground(scoreData, () -> acknowledged.set(true));
+
+        // Then - a spilled record counts as published
+        assertThat(sent).isTrue();
+        assertThat(acknowledged).isTrue();
+        verify(kafkaTemplate, times(1)).send(anyRecord());
+        verify(spillOutbox).spill(scoreData);
+    }
+
+    @Test
+    void publishScoreUpdateAsync_WhenSpillBacklog_ShouldSpillBehindIt() {
+        // Given - spilled records still waiting to be replayed
+        SpillOutbox spillOutbox = enabledSpillOutbox();
+        KafkaEventPublisher publisher = spillingPublisher(new InFlightWindow(1, 2), spillOutbox);
+        ScoreData scoreData = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:1").build();
+        when(spillOutbox.hasBacklog()).thenReturn(true);
+        when(spillOutbox.spill(scoreData)).thenReturn(true);
+
+        // When/Then - not sent ahead of the older records
+        StepVerifier.create(publisher.publishScoreUpdateAsync(scoreData)).verifyComplete();
+        verify(spillOutbox).spill(scoreData);
+        verify(kafkaTemplate, never()).send(anyRecord());
+    }
+
+    @Test
+    void publishScoreUpdateInBackground_WhenFailingAfterNewerWasSpilled_ShouldNotSpillOlderRecord() {
+        // Given - a record in flight, then a newer one of the event spilled behind a backlog
+        SpillOutbox spillOutbox = enabledSpillOutbox();
+        KafkaEventPublisher publisher = spillingPublisher(new InFlightWindow(1, 2), spillOutbox);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        publisher.bindTo(registry);
+        ScoreData older = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("1:0").build();
+        ScoreData newer = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:0").build();
+        when(scoreDataEncoder.encodeToBytes(older)).thenReturn(EMPTY_MESSAGE);
+        CompletableFuture<SendResult<String, byte[]>> inFlight = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyRecord())).thenReturn(inFlight);
+        when(spillOutbox.hasBacklog()).thenReturn(false, true);
+        when(spillOutbox.spill(newer)).thenReturn(true);
+        AtomicBoolean olderAcknowledged = new AtomicBoolean();
+        publisher.publishScoreUpdateInBackground(older, () -> olderAcknowledged.set(true));
+        publisher.publishScoreUpdateInBackground(newer, () -> { });
+
+        // When
+        inFlight.completeExceptionally(new RuntimeException("Kafka error"));
+
+        // Then - replaying the older score would put it after the newer one
+        verify(spillOutbox).spill(newer);
+        verify(spillOutbox, never()).spill(older);
+        assertThat(olderAcknowledged).isFalse();
+        assertThat(registry.get("kafka.publish.superseded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publishScoreUpdateInBackground_WhenFailingAfterNewerWasAcknowledged_ShouldNotSpillOlderRecord() {
+        // Given - a record in flight, then a newer one of the event acknowledged
+        SpillOutbox spillOutbox = enabledSpillOutbox();
+        KafkaEventPublisher publisher = spillingPublisher(new InFlightWindow(1, 2), spillOutbox);
+        ScoreData older = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("1:0").build();
+        ScoreData newer = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("2:0").build();
+        when(scoreDataEncoder.encodeToBytes(any(ScoreData.class))).thenReturn(EMPTY_MESSAGE);
+        when(sendResult.getRecordMetadata()).thenReturn(
+                new RecordMetadata(new TopicPartition(TEST_TOPIC, 0), 0, 0, 0, 0, 0));
+        CompletableFuture<SendResult<String, byte[]>> inFlight = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyRecord()))
+                .thenReturn(inFlight)
+                .thenReturn(CompletableFuture.completedFuture(sendResult));
+        publisher.publishScoreUpdateInBackground(older, () -> { });
+        publisher.publishScoreUpdateInBackground(newer, () -> { });
+
+        // When
+        inFlight.completeExceptionally(new RuntimeException("Kafka error"));
+
+        // Then
+        verify(spillOutbox, never()).spill(any());
+    }
+
+    @Test
+    void publishScoreUpdateInBackground_WhenNewestRecordFails_ShouldSpillIt() {
+        // Given
+        SpillOutbox spillOutbox = enabledSpillOutbox();
+        KafkaEventPublisher publisher = spillingPublisher(new InFlightWindow(1, 2), spillOutbox);
+        ScoreData scoreData = ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("1:0").build();
+        when(scoreDataEncoder.encodeToBytes(scoreData)).thenReturn(EMPTY_MESSAGE);
+        CompletableFuture<SendResult<String, byte[]>> inFlight = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyRecord())).thenReturn(inFlight);
+        when(spillOutbox.spill(scoreData)).thenReturn(true);
+        AtomicBoolean acknowledged = new AtomicBoolean();
+        publisher.publishScoreUpdateInBackground(scoreData, () -> acknowledged.set(true));
+
+        // When
+        inFlight.completeExceptionally(new RuntimeException("Kafka error"));
+
+        // Then
+        verify(spillOutbox).spill(scoreData);
+        assertThat(acknowledged).isTrue();
+    }
+
+    private static SpillOutbox enabledSpillOutbox() {
+        SpillOutbox spillOutbox = mock(SpillOutbox.class);
+        when(spillOutbox.isEnabled()).thenReturn(true);
+        return spillOutbox;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProducerRecord<String, byte[]> anyRecord() {
+        return any(ProducerRecord.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, byte[]> sentRecord() {
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private KafkaEventPublisher asyncPublisher(InFlightWindow window) {
+        return spillingPublisher(window, SpillOutbox.disabled());
+    }
+
+    private KafkaEventPublisher spillingPublisher(InFlightWindow window, SpillOutbox spillOutbox) {
+        KafkaEventPublisher publisher = new KafkaEventPublisher(kafkaTemplate, scoreDataEncoder, window,
+                TransactionalPublishBatcher.disabled(), spillOutbox);
+        ReflectionTestUtils.setField(publisher, "scoreUpdatesTopic", TEST_TOPIC);
+        ReflectionTestUtils.setField(publisher, "publishTimeoutMillis", 5000L);
+        return publisher;
+    }
+}
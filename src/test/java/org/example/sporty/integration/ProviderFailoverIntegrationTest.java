@@ -0,0 +1,120 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.mock.MockProviderApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing across providers, against mock providers running on their own ports.
+ */
+class ProviderFailoverIntegrationTest {
+
+    private static ConfigurableApplicationContext fastProvider;
+    private static ConfigurableApplicationContext slowProvider;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void startProviders() {
+        fastProvider = MockProviderApplication.start();
+        slowProvider = MockProviderApplication.start(
+                "mock.external-api.latency.distribution=fixed",
+                "mock.external-api.latency.median=1s");
+    }
+
+    @AfterAll
+    static void stopProviders() {
+        fastProvider.close();
+        slowProvider.close();
+    }
+
+    @Test
+    void fetchEventScore_ShouldSettleOnFasterProvider() {
+        // Given - both providers are tried once, the slow one first
+        ExternalApiClient client = client(false, provider("slow", slowProvider), provider("fast", fastProvider));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(client.fetchEventScore("event-" + i).block()).isNotNull();
+        }
+
+        // Then
+        assertThat(requests("slow")).isEqualTo(1);
+        assertThat(requests("fast")).isEqualTo(9);
+    }
+
+    @Test
+    void fetchEventScore_WhenProviderStops_ShouldFailOver() {
+        // Given
+        ConfigurableApplicationContext stoppingProvider = MockProviderApplication.start();
+        ScoreProvider stopping = provider("stopping", stoppingProvider);
+        ScoreProvider slow = provider("slow", slowProvider);
+        slow.record(Duration.ofSeconds(1).toNanos(), false);
+        ExternalApiClient client = client(false, stopping, slow);
+        client.fetchEventScore("event-1").block();
+
+        // When
+        stoppingProvider.close();
+        ScoreData scoreData = client.fetchEventScore("event-2").block();
+
+        // Then
+        assertThat(scoreData.getEventId()).isEqualTo("event-2");
+        assertThat(requests("slow")).isEqualTo(1);
+        assertThat(stopping.getErrorRate()).isGreaterThan(0);
+        assertThat(registry.get("external.api.provider.failovers").tag("provider", "stopping").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void fetchEventScore_ForPremiumEvent_ShouldTakeFirstAnswerOfAllProviders() {
+        // Given
+        ExternalApiClient client = client(true, provider("slow", slowProvider), provider("fast", fastProvider));
+        client.setTier("event-1", PriorityTier.PREMIUM);
+
+        // When
+        long start = System.nanoTime();
+        ScoreData scoreData = client.fetchEventScore("event-1").block();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertThat(scoreData.getEventId()).isEqualTo("event-1");
+        assertThat(requests("slow")).isEqualTo(1);
+        assertThat(requests("fast")).isEqualTo(1);
+        assertThat(elapsed).isLessThan(Duration.ofMillis(800));
+    }
+
+    private ExternalApiClient client(boolean racePremium, ScoreProvider... providers) {
+        ProviderRouter router = new ProviderRouter(List.of(providers), TokenBucketRateLimiter.unlimited(),
+                0, racePremium);
+        router.bindTo(registry);
+        ExternalApiClient client = new ExternalApiClient(router, RequestHedger.disabled());
+        ReflectionTestUtils.setField(client, "timeoutMillis", 3000);
+        ReflectionTestUtils.setField(client, "maxRetries", 0);
+        ReflectionTestUtils.setField(client, "conditionalRequests", true);
+        return client;
+    }
+
+    private static ScoreProvider provider(String name, ConfigurableApplicationContext provider) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(MockProviderApplication.baseUrl(provider))
+                .codecs(codecs -> codecs.customCodecs().register(new ScoreDataDecoder()))
+                .build();
+        return new ScoreProvider(name, webClient, CircuitBreaker.disabled(name), 0.2);
+    }
+
+    private double requests(String provider) {
+        return registry.get("external.api.provider.requests").tag("provider", provider).counter().count();
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ProviderRouter.
+ */
+class ProviderRouterTest {
+
+    private final ScoreProvider primary = provider("primary", CircuitBreaker.disabled("primary"));
+    private final ScoreProvider mirror = provider("mirror", CircuitBreaker.disabled("mirror"));
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    void route_ShouldPreferProviderWithLowestLatency() {
+        // Given
+        primary.record(Duration.ofMillis(100).toNanos(), false);
+        mirror.record(Duration.ofMillis(10).toNanos(), false);
+        ProviderRouter router = router(primary, mirror);
+
+        // When/Then
+        StepVerifier.create(router.route(answer(Map.of())))
+                .expectNext("mirror")
+                .verifyComplete();
+    }
+
+    @Test
+    void route_ShouldWeighLatencyByErrorRate() {
+        // Given - the mirror is faster, but fails nine calls in ten
+        primary.record(Duration.ofMillis(50).toNanos(), false);
+        mirror.record(Duration.ofMillis(10).toNanos(), false);
+        for (int i = 0; i < 20; i++) {
+            mirror.record(Duration.ofMillis(10).toNanos(), i % 10 != 0);
+        }
+        ProviderRouter router = router(primary, mirror);
+
+        // When/Then
+        StepVerifier.create(router.route(answer(Map.of())))
+                .expectNext("primary")
+                .verifyComplete();
+    }
+
+    @Test
+    void route_WhenBestProviderFails_ShouldFailOverToNext() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ProviderRouter router = router(primary, mirror);
+        router.bindTo(registry);
+
+        // When/Then
+        StepVerifier.create(router.route(answer(Map.of("primary", new IOException("connection reset")))))
+                .expectNext("mirror")
+                .verifyComplete();
+        assertThat(calls).containsExactly("primary", "mirror");
+        assertThat(primary.getErrorRate()).isGreaterThan(0);
+        assertThat(registry.get("external.api.provider.failovers").tag("provider", "primary").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("external.api.provider.requests").tag("provider", "mirror").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void route_WhenProviderAnswers4xx_ShouldNotFailOver() {
+        // Given
+        ProviderRouter router = router(primary, mirror);
+        WebClientResponseException notFound = WebClientResponseException.create(
+                HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null);
+
+        // When/Then
+        StepVerifier.create(router.route(answer(Map.of("primary", notFound))))
+                .verifyError(WebClientResponseException.NotFound.class);
+        assertThat(calls).containsExactly("primary");
+    }
+
+    @Test
+    void route_WhenAllProvidersFail_ShouldReportProviderFailureOverOpenCircuit() {
+        // Given - the mirror's circuit is open
+        ScoreProvider openMirror = provider("mirror", openCircuitBreaker("mirror"));
+        ProviderRouter router = router(primary, openMirror);
+
+        // When/Then
+        StepVerifier.create(router.route(answer(Map.of("primary", new IOException("connection reset")))))
+                .verifyError(IOException.class);
+        assertThat(calls).containsExactly("primary");
+    }
+
+    @Test
+    void route_ShouldRankProviderWithOpenCircuitLast() {
+        // Given - the open provider never answered, so it would otherwise cost nothing
+        ScoreProvider openPrimary = provider("primary", openCircuitBreaker("primary"));
+        mirror.record(Duration.ofMillis(100).toNanos(), false);
+        ProviderRouter router = router(openPrimary, mirror);
+
+        // When
+        List<ScoreProvider> ranked = router.rank();
+
+        // Then
+        assertThat(ranked).containsExactly(mirror, openPrimary);
+    }
+
+    @Test
+    void route_WithSkip_ShouldStartAtNextProvider() {
+        // Given
+        primary.record(Duration.ofMillis(10).toNanos(), false);
+        mirror.record(Duration.ofMillis(100).toNanos(), false);
+        ProviderRouter router = router(primary, mirror);
+
+        // When/Then
+        StepVerifier.create(router.route(answer(Map.of()), 1))
+                .expectNext("mirror")
+                .verifyComplete();
+    }
+
+    @Test
+    void race_ShouldTakeFirstValidAnswerAndCancelOthers() {
+        // Given - the primary never answers, the mirror answers at once
+        ProviderRouter router = new ProviderRouter(List.of(primary, mirror), TokenBucketRateLimiter.unlimited(),
+                0, true);
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        Function<ScoreProvider, Mono<String>> call = provider -> provider == primary
+                ? Mono.<String>never().doOnCancel(() -> primaryCancelled.set(true))
+                : Mono.just(provider.getName());
+
+        // When/Then
+        StepVerifier.create(router.race(call))
+                .expectNext("mirror")
+                .verifyComplete();
+        assertThat(primaryCancelled).isTrue();
+        assertThat(router.isRacePremium()).isTrue();
+    }
+
+    @Test
+    void race_ShouldIgnoreFailedProvider() {
+        // Given
+        ProviderRouter router = router(primary, mirror);
+
+        // When/Then
+        StepVerifier.create(router.race(answer(Map.of("primary", new IOException("connection reset")))))
+                .expectNext("mirror")
+                .verifyComplete();
+    }
+
+    @Test
+    void race_WhenAllProvidersFail_ShouldFail() {
+        // Given
+        ProviderRouter router = router(primary, mirror);
+        IOException failure = new IOException("connection reset");
+
+        // When/Then
+        StepVerifier.create(router.race(answer(Map.of("primary", failure, "mirror", failure))))
+                .verifyError(IOException.class);
+    }
+
+    @Test
+    void isRacePremium_WithSingleProvider_ShouldBeFalse() {
+        // Given
+        ProviderRouter router = new ProviderRouter(List.of(primary), TokenBucketRateLimiter.unlimited(), 0, true);
+
+        // When/Then
+        assertThat(router.isRacePremium()).isFalse();
+    }
+
+    private ProviderRouter router(ScoreProvider... providers) {
+        return new ProviderRouter(List.of(providers), TokenBucketRateLimiter.unlimited(), 0, false);
+    }
+
+    /**
+     * Answers with the provider's name, or fails with the provider's error, if any.
+     */
+    private Function<ScoreProvider, Mono<String>> answer(Map<String, Throwable> errors) {
+        return provider -> {
+            calls.add(provider.getName());
+            Throwable error = errors.get(provider.getName());
+            return error != null ? Mono.error(error) : Mono.just(provider.getName());
+        };
+    }
+
+    private static ScoreProvider provider(String name, CircuitBreaker circuitBreaker) {
+        return new ScoreProvider(name, WebClient.create(), circuitBreaker, 0.2);
+    }
+
+    private static CircuitBreaker openCircuitBreaker(String name) {
+        CircuitBreaker breaker = new CircuitBreaker(name, true, 1, 1, 100, Duration.ofMinutes(1), 1);
+        breaker.protect(Mono.error(new IOException("connection refused"))).onErrorResume(e -> Mono.empty()).block();
+        return breaker;
+    }
+}
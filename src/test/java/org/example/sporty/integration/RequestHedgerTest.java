@@ -0,0 +1,226 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RequestHedger.
+ */
+class RequestHedgerTest {
+
+    private static final Duration MAX_DELAY = Duration.ofMillis(200);
+
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void hedge_WhenCallSlowerThanDelay_ShouldTakeFirstAnswer() {
+        // Given - the original attempt takes 500ms, the hedge 10ms
+        RequestHedger hedger = hedger(1.0);
+        AtomicReference<String> result = new AtomicReference<>();
+
+        // When
+        hedger.hedge(attempt(Duration.ofMillis(500), Duration.ofMillis(10))).subscribe(result::set);
+        scheduler.advanceTimeBy(MAX_DELAY);
+
+        // Then
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(result.get()).isNull();
+        scheduler.advanceTimeBy(Duration.ofMillis(10));
+        assertThat(result.get()).isEqualTo("attempt-2");
+    }
+
+    @Test
+    void hedge_WhenCallFasterThanDelay_ShouldNotHedge() {
+        // Given
+        RequestHedger hedger = hedger(1.0);
+        AtomicReference<String> result = new AtomicReference<>();
+
+        // When
+        hedger.hedge(attempt(Duration.ofMillis(50), Duration.ofMillis(10))).subscribe(result::set);
+        scheduler.advanceTimeBy(Duration.ofSeconds(1));
+
+        // Then
+        assertThat(result.get()).isEqualTo("attempt-1");
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void hedge_WhenBudgetUsedUp_ShouldWaitForOriginalAttempt() {
+        // Given - one hedge per ten calls, none earned yet
+        RequestHedger hedger = hedger(0.1);
+        AtomicReference<String> result = new AtomicReference<>();
+
+        // When
+        hedger.hedge(attempt(Duration.ofMillis(500), Duration.ofMillis(10))).subscribe(result::set);
+        scheduler.advanceTimeBy(Duration.ofMillis(500));
+
+        // Then
+        assertThat(result.get()).isEqualTo("attempt-1");
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void hedge_WithHedgeCall_ShouldSendHedgeCallAfterDelay() {
+        // Given - e.g. the same call routed to another provider
+        RequestHedger hedger = hedger(1.0);
+        AtomicReference<String> result = new AtomicReference<>();
+        Mono<String> original = Mono.delay(Duration.ofMillis(500), scheduler).thenReturn("provider-a");
+        Mono<String> hedgeCall = Mono.delay(Duration.ofMillis(10), scheduler).thenReturn("provider-b");
+
+        // When
+        hedger.hedge(original, hedgeCall).subscribe(result::set);
+        scheduler.advanceTimeBy(MAX_DELAY.plusMillis(10));
+
+        // Then
+        assertThat(result.get()).isEqualTo("provider-b");
+    }
+
+    @Test
+    void hedge_WhenHedgeFails_ShouldWaitForOriginalAttempt() {
+        // Given
+        RequestHedger hedger = hedger(1.0);
+        AtomicReference<String> result = new AtomicReference<>();
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(500), scheduler).thenReturn("original")
+                : Mono.error(new IOException("connection reset")));
+
+        // When
+        hedger.hedge(call).subscribe(result::set);
+        scheduler.advanceTimeBy(Duration.ofMillis(500));
+
+        // Then
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(result.get()).isEqualTo("original");
+    }
+
+    @Test
+    void hedge_WhenOriginalAttemptFails_ShouldFailWithoutHedging() {
+        // Given
+        RequestHedger hedger = hedger(1.0);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        // When
+        hedger.hedge(Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.<String>error(new IOException("connection refused"));
+        })).subscribe(result -> { }, error::set);
+        scheduler.advanceTimeBy(Duration.ofSeconds(1));
+
+        // Then
+        assertThat(error.get()).isInstanceOf(IOException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void hedge_WhenCallWaitsForToken_ShouldDelayHedgeAndLatencyFromToken() {
+        // Given - the original attempt waits 300ms for its token, then takes 150ms
+        RequestHedger hedger = hedger(1.0);
+        AtomicReference<String> result = new AtomicReference<>();
+        Mono<String> call = Mono.deferContextual(context -> {
+            RequestHedger.Attempt attempt = context.get(RequestHedger.Attempt.class);
+            attempt.waitForToken();
+            return Mono.delay(Duration.ofMillis(300), scheduler)
+                    .doOnNext(tick -> attempt.sent())
+                    .then(Mono.delay(Duration.ofMillis(150), scheduler))
+                    .thenReturn("attempt-" + attempts.incrementAndGet());
+        });
+
+        // When
+        hedger.hedge(call).subscribe(result::set);
+        scheduler.advanceTimeBy(Duration.ofMillis(450));
+
+        // Then - not hedged: the hedge delay only started when the token was granted
+        assertThat(result.get()).isEqualTo("attempt-1");
+        assertThat(attempts.get()).isEqualTo(1);
+        // and its latency, p90 among these, was 150ms rather than 450ms
+        for (int i = 4; i <= RequestHedger.MIN_SAMPLES; i++) {
+            hedger.recordLatency(Duration.ofMillis(100).toNanos());
+        }
+        hedger.recordLatency(Duration.ofSeconds(1).toNanos());
+        hedger.recordLatency(Duration.ofSeconds(1).toNanos());
+        assertThat(hedger.getDelay()).isEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    void recordLatency_ShouldSetDelayToPercentileWithinBounds() {
+        // Given - p90 of 1..100ms
+        RequestHedger hedger = hedger(1.0);
+
+        // When
+        for (int millis = 1; millis <= 100; millis++) {
+            hedger.recordLatency(Duration.ofMillis(millis).toNanos());
+        }
+
+        // Then
+        assertThat(hedger.getDelay()).isEqualTo(Duration.ofMillis(90));
+    }
+
+    @Test
+    void recordLatency_ShouldKeepDelayAboveMinimum() {
+        // Given
+        RequestHedger hedger = hedger(1.0);
+
+        // When
+        for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+            hedger.recordLatency(Duration.ofMillis(1).toNanos());
+        }
+
+        // Then
+        assertThat(hedger.getDelay()).isEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    void hedge_WhenDisabled_ShouldSubscribeOnce() {
+        // Given
+        RequestHedger hedger = RequestHedger.disabled();
+        AtomicReference<String> result = new AtomicReference<>();
+
+        // When
+        hedger.hedge(Mono.fromCallable(() -> "attempt-" + attempts.incrementAndGet())).subscribe(result::set);
+
+        // Then
+        assertThat(result.get()).isEqualTo("attempt-1");
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void bindTo_ShouldCountHedgesSentAndWon() {
+        // Given
+        RequestHedger hedger = hedger(1.0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        hedger.bindTo(registry);
+
+        // When
+        hedger.hedge(attempt(Duration.ofMillis(500), Duration.ofMillis(10))).subscribe();
+        scheduler.advanceTimeBy(Duration.ofMillis(500));
+
+        // Then
+        assertThat(registry.get("external.api.hedge.sent").counter().count()).isEqualTo(1);
+        assertThat(registry.get("external.api.hedge.won").counter().count()).isEqualTo(1);
+        assertThat(registry.get("external.api.hedge.delay").timeGauge().value()).isPositive();
+    }
+
+    private RequestHedger hedger(double budgetRatio) {
+        return new RequestHedger(true, 0.9, Duration.ofMillis(20), MAX_DELAY, budgetRatio, 100, scheduler);
+    }
+
+    /**
+     * A call whose first attempt takes {@code first} and later attempts take {@code others}.
+     */
+    private Mono<String> attempt(Duration first, Duration others) {
+        return Mono.defer(() -> {
+            int attempt = attempts.incrementAndGet();
+            return Mono.delay(attempt == 1 ? first : others, scheduler).thenReturn("attempt-" + attempt);
+        });
+    }
+}
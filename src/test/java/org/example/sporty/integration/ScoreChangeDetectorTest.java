@@ -0,0 +1,185 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporty.domain.model.ScoreData;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ScoreChangeDetector.
+ */
+class ScoreChangeDetectorTest {
+
+    private static final Duration HEARTBEAT = Duration.ofSeconds(60);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void shouldPublish_Always_ShouldPublishUnchangedScore() {
+        // Given
+        ScoreChangeDetector detector = detector(PublishPolicy.ALWAYS);
+        publish(detector, score("event-1", "1:0"));
+
+        // When/Then
+        assertThat(detector.shouldPublish(score("event-1", "1:0"))).isTrue();
+    }
+
+    @Test
+    void shouldPublish_Always_ShouldNotPublishNotModifiedScore() {
+        // Given
+        ScoreChangeDetector detector = detector(PublishPolicy.ALWAYS);
+        publish(detector, score("event-1", "1:0"));
+
+        // When/Then
+        assertThat(detector.shouldPublish(notModified("event-1", "1:0"))).isFalse();
+    }
+
+    @Test
+    void shouldPublish_NotModifiedScoreNeverPublished_ShouldPublish() {
+        // Given - the 200 that carried the score was fetched, but its publish failed
+        ScoreChangeDetector detector = detector(PublishPolicy.ALWAYS);
+        publish(detector, score("event-1", "1:0"));
+
+        // When/Then
+        assertThat(detector.shouldPublish(notModified("event-1", "2:0"))).isTrue();
+    }
+
+    @Test
+    void shouldPublish_OnChangeHeartbeat_ShouldRepublishNotModifiedScoreAfterHeartbeat() {
+        // Given
+        ScoreChangeDetector detector = detector(PublishPolicy.ON_CHANGE_HEARTBEAT);
+        publish(detector, score("event-1", "0:0"));
+
+        // When
+        nanoTime.addAndGet(HEARTBEAT.toNanos());
+
+        // Then
+        assertThat(detector.shouldPublish(notModified("event-1", "0:0"))).isTrue();
+    }
+
+    @Test
+    void shouldPublish_OnChange_ShouldPublishFirstAndChangedScoresOnly() {
+        // Given
+        ScoreChangeDetector detector = detector(PublishPolicy.ON_CHANGE);
+
+        // When/Then
+        assertThat(publish(detector, score("event-1", "0:0"))).isTrue();
+        assertThat(publish(detector, score("event-1", "0:0"))).isFalse();
+        assertThat(publish(detector, score("event-1", "1:0"))).isTrue();
+        assertThat(publish(detector, score("event-2", "1:0"))).isTrue();
+    }
+
+    @Test
+    void shouldPublish_OnChange_ShouldNeverRepublishUnchangedScore() {
+        // Given
+        ScoreChangeDetector detector = detector(PublishPolicy.ON_CHANGE);
+        publish(detector, score("event-1", "0:0"));
+
+        // When
+        nanoTime.addAndGet(HEARTBEAT.multipliedBy(10).toNanos());
+
+        // Then
+        assertThat(detector.shouldPublish(score("event-1", "0:0"))).isFalse();
+    }
+
+    @Test
+    void shouldPublish_WhenPreviousPublishNotRecorded_ShouldPublishAgain() {
+        // Given - the first publish failed, so it was never recorded
+        ScoreChangeDetector detector = detector(PublishPolicy.ON_CHANGE);
+        assertThat(detector.shouldPublish(score("event-1", "2:2"))).isTrue();
+
+        // When/Then
+        assertThat(detector.shouldPublish(score("event-1", "2:2"))).isTrue();
+    }
+
+    @Test
+    void shouldPublish_OnChangeHeartbeat_ShouldRepublishUnchangedScoreAfterHeartbeat() {
+        // Given
+        ScoreChangeDetector detector = detector(PublishPolicy.ON_CHANGE_HEARTBEAT);
+        publish(detector, score("event-1", "0:0"));
+
+        // When/Then
+        nanoTime.addAndGet(HEARTBEAT.minusSeconds(1).toNanos());
+        assertThat(publish(detector, score("event-1", "0:0"))).isFalse();
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(publish(detector, score("event-1", "0:0"))).isTrue();
+
+        // The heartbeat restarts from the last publish
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(publish(detector, score("event-1", "0:0"))).isFalse();
+    }
+
+    @Test
+    void forget_ShouldPublishNextScoreOfEvent() {
+        // Given
+        ScoreChangeDetector detector = detector(PublishPolicy.ON_CHANGE);
+        publish(detector, score("event-1", "3:1"));
+
+        // When
+        detector.forget("event-1");
+
+        // Then
+        assertThat(detector.getTrackedEventCount()).isZero();
+        assertThat(detector.shouldPublish(score("event-1", "3:1"))).isTrue();
+    }
+
+    @Test
+    void bindTo_ShouldCountPublishedAndSkippedScores() {
+        // Given
+        ScoreChangeDetector detector = detector(PublishPolicy.ON_CHANGE);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        detector.bindTo(registry);
+
+        // When
+        publish(detector, score("event-1", "0:0"));
+        publish(detector, score("event-1", "0:0"));
+        publish(detector, score("event-1", "0:0"));
+        publish(detector, score("event-1", "1:0"));
+
+        // Then
+        assertThat(registry.get("score.publish.published").tag("policy", "on_change").counter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("score.publish.skipped").tag("policy", "on_change").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void constructor_NonPositiveHeartbeat_ShouldThrow() {
+        assertThatThrownBy(() -> new ScoreChangeDetector(PublishPolicy.ON_CHANGE_HEARTBEAT, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ScoreChangeDetector detector(PublishPolicy policy) {
+        return new ScoreChangeDetector(policy, HEARTBEAT, nanoTime::get);
+    }
+
+    /**
+     * Runs the detector as the fetch service does: check, then record once published.
+     */
+    private static boolean publish(ScoreChangeDetector detector, ScoreData scoreData) {
+        boolean publish = detector.shouldPublish(scoreData);
+        if (publish) {
+            detector.recordPublished(scoreData);
+        }
+        return publish;
+    }
+
+    private static ScoreData notModified(String eventId, String currentScore) {
+        ScoreData scoreData = score(eventId, currentScore);
+        scoreData.setNotModified(true);
+        return scoreData;
+    }
+
+    private static ScoreData score(String eventId, String currentScore) {
+        return ScoreData.builder()
+                .eventId(eventId)
+                .currentScore(currentScore)
+                .build();
+    }
+}
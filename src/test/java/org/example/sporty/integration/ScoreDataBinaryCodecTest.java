@@ -0,0 +1,132 @@
+package org.example.sporty.integration;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.example.sporty.domain.model.ScoreData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ScoreDataBinaryCodec.
+ */
+class ScoreDataBinaryCodecTest {
+
+    private final ScoreDataEncoder jsonEncoder = new ScoreDataEncoder();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0:0", "2:1", "123456789:0", "01:2", "-1:0", "1:", "1234567890:1", "HT 1-0", "",
+            "1:2:3", "né:1"})
+    void encode_ShouldDecodeToSameScore(String score) {
+        // Given
+        ScoreData scoreData = scoreData("event-123", score, Instant.parse("2026-10-17T12:00:00.123Z"));
+
+        // When
+        ScoreData decoded = ScoreDataBinaryCodec.decode(ScoreDataBinaryCodec.encode(scoreData));
+
+        // Then
+        assertThat(decoded).isEqualTo(scoreData);
+    }
+
+    @Test
+    void encode_WithNullFields_ShouldDecodeNullFields() {
+        // Given
+        ScoreData scoreData = scoreData(null, null, null);
+
+        // When
+        byte[] encoded = ScoreDataBinaryCodec.encode(scoreData);
+
+        // Then
+        assertThat(encoded).hasSize(3);
+        assertThat(ScoreDataBinaryCodec.decode(encoded)).isEqualTo(scoreData);
+    }
+
+    @Test
+    void encode_WithTimestampBeforeEpoch_ShouldDecodeSameTimestamp() {
+        // Given
+        ScoreData scoreData = scoreData("event-123", "1:0", Instant.parse("1969-12-31T23:59:59.999Z"));
+
+        // When
+        ScoreData decoded = ScoreDataBinaryCodec.decode(ScoreDataBinaryCodec.encode(scoreData));
+
+        // Then
+        assertThat(decoded.getTimestamp()).isEqualTo(scoreData.getTimestamp());
+    }
+
+    @Test
+    void encode_ShouldTruncateTimestampToMillis() {
+        // Given
+        ScoreData scoreData = scoreData("event-123", "1:0", Instant.parse("2026-10-17T12:00:00.123456789Z"));
+
+        // When
+        ScoreData decoded = ScoreDataBinaryCodec.decode(ScoreDataBinaryCodec.encode(scoreData));
+
+        // Then
+        assertThat(decoded.getTimestamp()).isEqualTo(Instant.parse("2026-10-17T12:00:00.123Z"));
+    }
+
+    @Test
+    void encode_ShouldBeMuchSmallerThanJson() {
+        // Given
+        ScoreData scoreData = scoreData("event-123", "2:1", Instant.parse("2026-10-17T12:00:00.123Z"));
+
+        // When
+        byte[] binary = ScoreDataBinaryCodec.encode(scoreData);
+        byte[] json = jsonEncoder.encode(scoreData).getBytes(StandardCharsets.UTF_8);
+
+        // Then - 3 header, 10 event id, 2 score, 6 timestamp bytes
+        assertThat(binary).hasSize(21);
+        assertThat(binary.length * 3).isLessThan(json.length);
+        assertThat(ScoreDataBinaryCodec.isBinary(binary)).isTrue();
+        assertThat(ScoreDataBinaryCodec.isBinary(json)).isFalse();
+    }
+
+    @Test
+    void decode_WithUnknownVersion_ShouldThrow() {
+        // Given
+        byte[] encoded = ScoreDataBinaryCodec.encode(scoreData("event-123", "2:1", Instant.now()));
+        encoded[1] = 2;
+
+        // When / Then
+        assertThatThrownBy(() -> ScoreDataBinaryCodec.decode(encoded))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    void decode_WithTruncatedRecord_ShouldThrow() {
+        // Given
+        byte[] encoded = ScoreDataBinaryCodec.encode(scoreData("event-123", "2:1", Instant.now()));
+
+        // When / Then
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThatThrownBy(() -> ScoreDataBinaryCodec.decode(truncated))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @Test
+    void decode_WithJson_ShouldThrow() {
+        // Given
+        byte[] json = "{\"eventId\":\"event-123\"}".getBytes(StandardCharsets.UTF_8);
+
+        // When / Then
+        assertThatThrownBy(() -> ScoreDataBinaryCodec.decode(json))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private static ScoreData scoreData(String eventId, String score, Instant timestamp) {
+        return ScoreData.builder()
+                .eventId(eventId)
+                .currentScore(score)
+                .timestamp(timestamp)
+                .build();
+    }
+}
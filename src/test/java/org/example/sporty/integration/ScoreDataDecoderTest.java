@@ -0,0 +1,219 @@
+package org.example.sporty.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.example.sporty.domain.model.ScoreData;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ScoreDataDecoder, on Netty buffers.
+ */
+class ScoreDataDecoderTest {
+
+    private static final ResolvableType SCORE_DATA = ResolvableType.forClass(ScoreData.class);
+
+    private final ScoreDataDecoder decoder = new ScoreDataDecoder();
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+    private final List<ByteBuf> allocated = new ArrayList<>();
+
+    @Test
+    void canDecode_ShouldOnlyAcceptScoreDataAsJson() {
+        // When/Then
+        assertThat(decoder.canDecode(SCORE_DATA, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(decoder.canDecode(SCORE_DATA, MediaType.TEXT_PLAIN)).isFalse();
+        assertThat(decoder.canDecode(ResolvableType.forClass(String.class), MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void decodeToMono_ShouldReadScoreFieldsAndSkipOthers() {
+        // Given
+        String json = "{\"eventId\":\"event-123\",\"extra\":{\"eventId\":\"nested\",\"list\":[1,\"a\"]},"
+                + "\"currentScore\":\"2:1\",\"live\":true,\"timestamp\":\"2026-10-17T12:00:00.5Z\"}";
+
+        // When/Then
+        StepVerifier.create(decoder.decodeToMono(buffers(json, json.length()), SCORE_DATA, null, null))
+                .assertNext(scoreData -> {
+                    assertThat(scoreData.getEventId()).isEqualTo("event-123");
+                    assertThat(scoreData.getCurrentScore()).isEqualTo("2:1");
+                    assertThat(scoreData.getTimestamp()).isEqualTo(Instant.parse("2026-10-17T12:00:00.5Z"));
+                })
+                .verifyComplete();
+        assertReleased();
+    }
+
+    @Test
+    void decodeToMono_WhenSplitAcrossBuffers_ShouldDecodeAtEverySplit() {
+        // Given - escapes and a multi-byte character, which a split may cut through
+        String json = "{\"eventId\":\"café \\\"A\\\"\",\"currentScore\":\"1:0\"}";
+        int length = json.getBytes(StandardCharsets.UTF_8).length;
+
+        for (int chunk = 1; chunk < length; chunk++) {
+            // When/Then
+            StepVerifier.create(decoder.decodeToMono(buffers(json, chunk), SCORE_DATA, null, null))
+                    .assertNext(scoreData -> {
+                        assertThat(scoreData.getEventId()).isEqualTo("café \"A\"");
+                        assertThat(scoreData.getCurrentScore()).isEqualTo("1:0");
+                    })
+                    .verifyComplete();
+        }
+        assertReleased();
+    }
+
+    @Test
+    void decode_WithArray_ShouldEmitEachElement() {
+        // Given
+        String json = "[{\"eventId\":\"a\",\"currentScore\":\"0:0\"},{\"eventId\":\"b\",\"currentScore\":null}]";
+
+        // When/Then
+        StepVerifier.create(decoder.decode(buffers(json, 7), SCORE_DATA, null, null))
+                .assertNext(scoreData -> assertThat(scoreData.getEventId()).isEqualTo("a"))
+                .assertNext(scoreData -> {
+                    assertThat(scoreData.getEventId()).isEqualTo("b");
+                    assertThat(scoreData.getCurrentScore()).isNull();
+                })
+                .verifyComplete();
+        assertReleased();
+    }
+
+    @Test
+    void decodeToMono_WithEmptyBody_ShouldBeEmpty() {
+        // When/Then
+        StepVerifier.create(decoder.decodeToMono(Flux.empty(), SCORE_DATA, null, null))
+                .verifyComplete();
+    }
+
+    @Test
+    void decodeToMono_WithTruncatedBody_ShouldFail() {
+        // Given
+        String json = "{\"eventId\":\"event-123\",\"currentScore\":\"2:";
+
+        // When/Then
+        StepVerifier.create(decoder.decodeToMono(buffers(json, 8), SCORE_DATA, null, null))
+                .verifyError(DecodingException.class);
+        assertReleased();
+    }
+
+    @Test
+    void decodeToMono_WithMalformedBody_ShouldFailAndReleaseBuffers() {
+        // Given
+        String json = "{\"eventId\" \"event-123\"} trailing";
+
+        // When/Then
+        StepVerifier.create(decoder.decodeToMono(buffers(json, 4), SCORE_DATA, null, null))
+                .verifyError(DecodingException.class);
+        assertReleased();
+    }
+
+    @Test
+    void decodeToMono_WithScalarFields_ShouldKeepTheirText() {
+        // Given - as Jackson binds scalars to String fields
+        String json = "{\"eventId\":123,\"currentScore\":1.5e2,\"timestamp\":null,\"ignored\":[true,false,-0]}";
+
+        // When/Then
+        StepVerifier.create(decoder.decodeToMono(buffers(json, 5), SCORE_DATA, null, null))
+                .assertNext(scoreData -> {
+                    assertThat(scoreData.getEventId()).isEqualTo("123");
+                    assertThat(scoreData.getCurrentScore()).isEqualTo("1.5e2");
+                    assertThat(scoreData.getTimestamp()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void decodeToMono_WithNumericTimestamp_ShouldReadEpochSecondsAsJacksonDid() throws Exception {
+        // Given - Jackson's JavaTimeModule reads numbers and digit strings as epoch seconds
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        List<String> timestamps = List.of("1700000000", "1700000000.5", "-1.5", "1.7e9", "0",
+                "\"1700000000\"", "\"1700000000.25\"", "\"2024-01-15T10:30:00Z\"");
+
+        for (String timestamp : timestamps) {
+            String json = "{\"eventId\":\"event-123\",\"timestamp\":" + timestamp + "}";
+            Instant expected = objectMapper.readValue(json, ScoreData.class).getTimestamp();
+
+            // When/Then
+            StepVerifier.create(decoder.decodeToMono(buffers(json, 3), SCORE_DATA, null, null))
+                    .assertNext(scoreData -> assertThat(scoreData.getTimestamp()).as(timestamp).isEqualTo(expected))
+                    .verifyComplete();
+        }
+        assertReleased();
+    }
+
+    @Test
+    void decodeToMono_WithInvalidTimestamp_ShouldFail() {
+        // Given - Jackson rejects these too
+        List<String> timestamps = List.of("true", "99999999999999999999", "\"1.2.3\"", "\"yesterday\"");
+
+        // When/Then
+        for (String timestamp : timestamps) {
+            StepVerifier.create(decoder.decodeToMono(buffers("{\"timestamp\":" + timestamp + "}", 4),
+                            SCORE_DATA, null, null))
+                    .verifyError(DecodingException.class);
+        }
+        assertReleased();
+    }
+
+    @Test
+    void decodeToMono_WithSupplementaryCharacter_ShouldDecodeRawAndEscapedForms() {
+        // Given - U+26BD (3 bytes) raw, U+1F3C6 (4 bytes) raw and as an escaped surrogate pair
+        String json = "{\"eventId\":\"⚽ 🏆 \\ud83c\\udfc6\"}";
+
+        // When/Then
+        StepVerifier.create(decoder.decodeToMono(buffers(json, 1), SCORE_DATA, null, null))
+                .assertNext(scoreData -> assertThat(scoreData.getEventId()).isEqualTo("⚽ 🏆 🏆"))
+                .verifyComplete();
+    }
+
+    @Test
+    void decodeToMono_WithInvalidInput_ShouldFail() {
+        // Given - a top-level scalar, a bad literal, an array element that is no object, invalid UTF-8
+        List<Flux<DataBuffer>> bodies = List.of(
+                buffers("\"event-123\"", 4),
+                buffers("{\"eventId\":nul}", 4),
+                buffers("{\"currentScore\":01}", 4),
+                buffers("[{\"eventId\":\"a\"},1]", 4),
+                Flux.just(bufferFactory.wrap(Unpooled.wrappedBuffer(new byte[]{'{', '"', (byte) 0xC0, (byte) 0x80,
+                        '"', ':', '1', '}'}))));
+
+        // When/Then
+        for (Flux<DataBuffer> body : bodies) {
+            StepVerifier.create(decoder.decodeToMono(body, SCORE_DATA, null, null))
+                    .verifyError(DecodingException.class);
+        }
+        assertReleased();
+    }
+
+    private Flux<DataBuffer> buffers(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += chunkSize) {
+            NettyDataBuffer buffer = bufferFactory.wrap(Unpooled.wrappedBuffer(
+                    Arrays.copyOfRange(bytes, start, Math.min(bytes.length, start + chunkSize))));
+            allocated.add(buffer.getNativeBuffer());
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private void assertReleased() {
+        assertThat(allocated).allSatisfy(buffer -> assertThat(buffer.refCnt()).isZero());
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.sporty.integration;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.example.sporty.domain.model.ScoreData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ScoreDataDeserializer.
+ */
+class ScoreDataDeserializerTest {
+
+    private static final String TOPIC = "live-scores";
+
+    private final ScoreDataDeserializer deserializer = new ScoreDataDeserializer();
+    private final ScoreData scoreData = ScoreData.builder()
+            .eventId("event-123")
+            .currentScore("2:1")
+            .timestamp(Instant.parse("2026-10-17T12:00:00.123Z"))
+            .build();
+
+    @Test
+    void deserialize_WithBinaryContentType_ShouldDecodeBinary() {
+        // Given
+        RecordHeaders headers = headers(ScoreMessageFormat.BINARY);
+
+        // When
+        ScoreData result = deserializer.deserialize(TOPIC, headers, ScoreDataBinaryCodec.encode(scoreData));
+
+        // Then
+        assertThat(result).isEqualTo(scoreData);
+    }
+
+    @Test
+    void deserialize_WithJsonContentType_ShouldDecodeJson() {
+        // Given
+        RecordHeaders headers = headers(ScoreMessageFormat.JSON);
+
+        // When
+        ScoreData result = deserializer.deserialize(TOPIC, headers, json());
+
+        // Then
+        assertThat(result).isEqualTo(scoreData);
+    }
+
+    @Test
+    void deserialize_WithoutContentType_ShouldTellFormatsApart() {
+        // When
+        ScoreData fromJson = deserializer.deserialize(TOPIC, new RecordHeaders(), json());
+        ScoreData fromBinary = deserializer.deserialize(TOPIC, ScoreDataBinaryCodec.encode(scoreData));
+
+        // Then
+        assertThat(fromJson).isEqualTo(scoreData);
+        assertThat(fromBinary).isEqualTo(scoreData);
+    }
+
+    @Test
+    void deserialize_WithUnknownContentType_ShouldThrow() {
+        // Given
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(ScoreMessageFormat.CONTENT_TYPE_HEADER, "application/avro".getBytes(StandardCharsets.UTF_8));
+
+        // When / Then
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers, json()))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("application/avro");
+    }
+
+    @Test
+    void deserialize_WithInvalidJson_ShouldThrow() {
+        // Given
+        byte[] invalid = "{\"eventId\":".getBytes(StandardCharsets.UTF_8);
+
+        // When / Then
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers(ScoreMessageFormat.JSON), invalid))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void deserialize_WithNullValue_ShouldReturnNull() {
+        // When / Then
+        assertThat(deserializer.deserialize(TOPIC, headers(ScoreMessageFormat.BINARY), (byte[]) null)).isNull();
+    }
+
+    private byte[] json() {
+        return new ScoreDataEncoder().encode(scoreData).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static RecordHeaders headers(ScoreMessageFormat format) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(ScoreMessageFormat.CONTENT_TYPE_HEADER, format.getContentType().getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+}
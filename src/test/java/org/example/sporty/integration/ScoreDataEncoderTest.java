@@ -0,0 +1,78 @@
+package org.example.sporty.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.sporty.domain.model.ScoreData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ScoreDataEncoder: its output must stay what the ObjectMapper writes.
+ */
+class ScoreDataEncoderTest {
+
+    private final ScoreDataEncoder encoder = new ScoreDataEncoder();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    static Stream<ScoreData> scores() {
+        return Stream.of(
+                ScoreData.builder().eventId("event-123").currentScore("2:1")
+                        .timestamp(Instant.parse("2026-10-17T12:00:00Z")).build(),
+                ScoreData.builder().eventId("event-123").currentScore("0:0")
+                        .timestamp(Instant.parse("2026-10-17T12:00:00.123456789Z")).build(),
+                ScoreData.builder().eventId("event-123").notModified(true).build(),
+                ScoreData.builder().eventId("event-123")
+                        .timestamp(Instant.parse("1969-12-31T23:59:59.000001Z")).build(),
+                ScoreData.builder().eventId("event-123").timestamp(Instant.ofEpochSecond(0, 1)).build(),
+                ScoreData.builder().eventId("event-123")
+                        .timestamp(Instant.parse("+10000-01-01T00:00:00.120Z")).build(),
+                ScoreData.builder().build(),
+                ScoreData.builder().eventId("quote \" backslash \\ tab \t nul \u0000 café ⚽")
+                        .currentScore("1:0").timestamp(Instant.EPOCH).build(),
+                ScoreData.builder().eventId("\b\f\n\r \u001f \u007f / ß € \uD83C\uDFC6")
+                        .currentScore("1:0").timestamp(Instant.EPOCH).build());
+    }
+
+    @ParameterizedTest
+    @MethodSource("scores")
+    void encode_ShouldWriteSameJsonAsObjectMapper(ScoreData scoreData) throws Exception {
+        // When
+        String json = encoder.encode(scoreData);
+
+        // Then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(scoreData));
+    }
+
+    @ParameterizedTest
+    @MethodSource("scores")
+    void encodeToBytes_ShouldWriteUtf8OfObjectMapperJson(ScoreData scoreData) throws Exception {
+        // When
+        byte[] json = encoder.encodeToBytes(scoreData);
+
+        // Then - the UTF-8 of the ObjectMapper's String; its byte writer escapes characters outside the BMP
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(scoreData).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void encodeToBytes_UnpairedSurrogate_ShouldReplaceItAsStringDoes() {
+        // Given
+        ScoreData scoreData = ScoreData.builder().eventId("event-\uD83C").build();
+
+        // When
+        byte[] json = encoder.encodeToBytes(scoreData);
+
+        // Then
+        assertThat(json).isEqualTo(encoder.encode(scoreData).getBytes(StandardCharsets.UTF_8));
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("\"event-?\"");
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporty.domain.model.ScoreData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScoreFetchBatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+class ScoreFetchBatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    @Mock
+    private ExternalApiClient externalApiClient;
+
+    private ScoreFetchBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    void fetch_WhenDisabled_ShouldCallSingleEventEndpoint() {
+        // Given
+        batcher = new ScoreFetchBatcher(externalApiClient, false, 10, Duration.ofMillis(20), 2);
+        ScoreData scoreData = score("event-1");
+        when(externalApiClient.fetchEventScore("event-1")).thenReturn(Mono.just(scoreData));
+
+        // When/Then
+        StepVerifier.create(batcher.fetch("event-1"))
+                .expectNext(scoreData)
+                .verifyComplete();
+        verify(externalApiClient, never()).fetchEventScores(anyCollection());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fetch_ConcurrentEvents_ShouldShareOneBatchCall() {
+        // Given
+        batcher = new ScoreFetchBatcher(externalApiClient, true, 10, Duration.ofMillis(50), 2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        batcher.bindTo(registry);
+        when(externalApiClient.fetchEventScores(anyCollection()))
+                .thenAnswer(invocation -> echo(invocation.getArgument(0)));
+
+        // When
+        List<ScoreData> results = Flux
+                .merge(batcher.fetch("event-1"), batcher.fetch("event-2"), batcher.fetch("event-3"))
+                .collectList()
+                .block(TIMEOUT);
+
+        // Then
+        assertThat(results).extracting(ScoreData::getEventId)
+                .containsExactlyInAnyOrder("event-1", "event-2", "event-3");
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(externalApiClient, times(1)).fetchEventScores(ids.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder("event-1", "event-2", "event-3");
+        verify(externalApiClient, never()).fetchEventScore(any());
+        assertThat(registry.get("external.api.batch.size").summary().max()).isEqualTo(3.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fetch_DuplicateEvent_ShouldRequestItOnce() {
+        // Given
+        batcher = new ScoreFetchBatcher(externalApiClient, true, 10, Duration.ofMillis(50), 2);
+        when(externalApiClient.fetchEventScores(anyCollection()))
+                .thenAnswer(invocation -> echo(invocation.getArgument(0)));
+
+        // When
+        List<ScoreData> results = Flux.merge(batcher.fetch("event-1"), batcher.fetch("event-1"))
+                .collectList()
+                .block(TIMEOUT);
+
+        // Then
+        assertThat(results).extracting(ScoreData::getEventId).containsExactly("event-1", "event-1");
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(externalApiClient).fetchEventScores(ids.capture());
+        assertThat(ids.getValue()).containsExactly("event-1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fetch_MoreEventsThanMaxSize_ShouldSplitIntoBoundedBatches() {
+        // Given
+        batcher = new ScoreFetchBatcher(externalApiClient, true, 4, Duration.ofMillis(50), 2);
+        when(externalApiClient.fetchEventScores(anyCollection()))
+                .thenAnswer(invocation -> echo(invocation.getArgument(0)));
+
+        // When
+        List<ScoreData> results = Flux.merge(IntStream.range(0, 10)
+                        .mapToObj(i -> batcher.fetch("event-" + i))
+                        .toList())
+                .collectList()
+                .block(TIMEOUT);
+
+        // Then
+        assertThat(results).hasSize(10);
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(externalApiClient, times(3)).fetchEventScores(ids.capture());
+        assertThat(ids.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(4));
+    }
+
+    @Test
+    void fetch_EventMissingFromResponse_ShouldCompleteEmpty() {
+        // Given
+        batcher = new ScoreFetchBatcher(externalApiClient, true, 10, Duration.ofMillis(20), 2);
+        when(externalApiClient.fetchEventScores(anyCollection())).thenReturn(Flux.just(score("event-1")));
+
+        // When
+        Mono<ScoreData> known = batcher.fetch("event-1").cache();
+        Mono<ScoreData> missing = batcher.fetch("event-unknown").cache();
+        Flux.merge(known, missing).collectList().block(TIMEOUT);
+
+        // Then
+        StepVerifier.create(known).expectNextCount(1).verifyComplete();
+        StepVerifier.create(missing).verifyComplete();
+    }
+
+    @Test
+    void fetch_WhenBatchCallFails_ShouldFailEveryFetchInBatch() {
+        // Given
+        batcher = new ScoreFetchBatcher(externalApiClient, true, 10, Duration.ofMillis(20), 2);
+        when(externalApiClient.fetchEventScores(anyCollection()))
+                .thenReturn(Flux.error(new RateLimitExceededException("over quota")));
+
+        // When
+        Mono<ScoreData> first = batcher.fetch("event-1").cache();
+        Mono<ScoreData> second = batcher.fetch("event-2").cache();
+        Flux.mergeDelayError(2, first, second).onErrorResume(e -> Flux.empty()).blockLast(TIMEOUT);
+
+        // Then
+        StepVerifier.create(first).verifyError(RateLimitExceededException.class);
+        StepVerifier.create(second).verifyError(RateLimitExceededException.class);
+    }
+
+    @Test
+    void fetch_AfterFailedBatch_ShouldKeepBatching() {
+        // Given
+        batcher = new ScoreFetchBatcher(externalApiClient, true, 10, Duration.ofMillis(20), 2);
+        when(externalApiClient.fetchEventScores(anyCollection()))
+                .thenReturn(Flux.error(new IllegalStateException("provider down")))
+                .thenReturn(Flux.just(score("event-1")));
+        batcher.fetch("event-1").onErrorResume(e -> Mono.empty()).block(TIMEOUT);
+
+        // When/Then
+        StepVerifier.create(batcher.fetch("event-1"))
+                .expectNextMatches(scoreData -> "event-1".equals(scoreData.getEventId()))
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fetch_WhenTimerFiresWithAllBatchSlotsBusy_ShouldKeepBatching() throws InterruptedException {
+        // Given - the only batch slot held by a call that has not answered
+        batcher = new ScoreFetchBatcher(externalApiClient, true, 2, Duration.ofMillis(20), 1);
+        Sinks.One<ScoreData> slowCall = Sinks.one();
+        when(externalApiClient.fetchEventScores(anyCollection()))
+                .thenReturn(slowCall.asMono().flux())
+                .thenAnswer(invocation -> echo(invocation.getArgument(0)));
+        Mono<ScoreData> first = batcher.fetch("event-1").cache();
+        first.subscribe();
+        verify(externalApiClient, timeout(TIMEOUT.toMillis())).fetchEventScores(anyCollection());
+
+        // When - the window of the next batch closes while the slot is still busy
+        Mono<ScoreData> second = batcher.fetch("event-2").cache();
+        second.subscribe();
+        Thread.sleep(100);
+        Mono<ScoreData> third = batcher.fetch("event-3").cache();
+        third.subscribe();
+        slowCall.tryEmitValue(score("event-1"));
+
+        // Then
+        StepVerifier.create(first).expectNextCount(1).expectComplete().verify(TIMEOUT);
+        StepVerifier.create(second).expectNextCount(1).expectComplete().verify(TIMEOUT);
+        StepVerifier.create(third).expectNextCount(1).expectComplete().verify(TIMEOUT);
+    }
+
+    @Test
+    void fetch_AfterShutdown_ShouldFail() {
+        // Given
+        batcher = new ScoreFetchBatcher(externalApiClient, true, 10, Duration.ofMillis(20), 2);
+        batcher.shutdown();
+
+        // When/Then
+        StepVerifier.create(batcher.fetch("event-1"))
+                .expectError(IllegalStateException.class)
+                .verify(TIMEOUT);
+    }
+
+    private static Flux<ScoreData> echo(Collection<String> eventIds) {
+        return Flux.fromIterable(Set.copyOf(eventIds)).map(ScoreFetchBatcherTest::score);
+    }
+
+    private static ScoreData score(String eventId) {
+        return ScoreData.builder()
+                .eventId(eventId)
+                .currentScore("1:0")
+                .build();
+    }
+}
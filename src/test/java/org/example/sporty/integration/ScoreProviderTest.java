@@ -0,0 +1,69 @@
+package org.example.sporty.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for ScoreProvider.
+ */
+class ScoreProviderTest {
+
+    private final ScoreProvider provider =
+            new ScoreProvider("external-api", WebClient.create(), CircuitBreaker.disabled("external-api"), 0.5);
+
+    @Test
+    void record_ShouldMoveAveragesTowardsEachOutcome() {
+        // When
+        provider.record(Duration.ofMillis(100).toNanos(), false);
+        provider.record(Duration.ofMillis(200).toNanos(), true);
+
+        // Then - the first answer sets the latency, the next ones move it by alpha
+        assertThat(provider.getLatencyMillis()).isCloseTo(150, within(0.001));
+        assertThat(provider.getErrorRate()).isCloseTo(0.5, within(0.001));
+    }
+
+    @Test
+    void getLatencyMillis_BeforeFirstAnswer_ShouldBeUnknown() {
+        // When/Then
+        assertThat(provider.getLatencyMillis()).isEqualTo(-1);
+        assertThat(provider.cost()).isZero();
+    }
+
+    @Test
+    void cost_ShouldStretchLatencyByErrorRate() {
+        // Given
+        provider.record(Duration.ofMillis(100).toNanos(), false);
+        provider.record(Duration.ofMillis(100).toNanos(), true);
+
+        // When/Then - half of the calls fail, so a valid answer takes two calls
+        assertThat(provider.cost()).isCloseTo(Duration.ofMillis(200).toNanos(), within(1.0));
+    }
+
+    @Test
+    void track_ShouldCountServerErrorsButNotClientErrorsOrRejections() {
+        // When
+        provider.track(Mono.error(WebClientResponseException.create(
+                HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null))).onErrorResume(e -> Mono.empty()).block();
+        provider.track(Mono.error(new RateLimitExceededException("rate limited")))
+                .onErrorResume(e -> Mono.empty()).block();
+
+        // Then
+        assertThat(provider.getErrorRate()).isZero();
+        assertThat(provider.getLatencyMillis()).isGreaterThanOrEqualTo(0);
+
+        // When
+        provider.track(Mono.error(new IOException("connection reset"))).onErrorResume(e -> Mono.empty()).block();
+
+        // Then
+        assertThat(provider.getErrorRate()).isEqualTo(0.5);
+    }
+}
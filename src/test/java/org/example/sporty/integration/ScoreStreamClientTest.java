@@ -0,0 +1,81 @@
+package org.example.sporty.integration;
+
+import org.example.sporty.domain.model.ScoreData;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ScoreStreamClient, against a stubbed exchange function.
+ */
+class ScoreStreamClientTest {
+
+    private static final String STREAM = """
+            id:41
+            event:score
+            data:{"eventId":"event-123","currentScore":"1:0"}
+
+            :heartbeat
+
+            id:42
+            event:score
+            data:{"eventId":"event-456","currentScore":"0:2"}
+
+            """;
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    private final ScoreStreamClient client = new ScoreStreamClient(
+            WebClient.builder().exchangeFunction(request -> {
+                requests.add(request);
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .body(STREAM)
+                        .build());
+            }),
+            "http://provider");
+
+    @Test
+    void stream_ShouldDecodeScoreEventsAndHeartbeats() {
+        // When/Then
+        StepVerifier.create(client.stream(List.of("event-123", "event-456"), null))
+                .assertNext(event -> {
+                    assertThat(event.id()).isEqualTo("41");
+                    assertThat(event.event()).isEqualTo("score");
+                    assertThat(event.data()).extracting(ScoreData::getCurrentScore).isEqualTo("1:0");
+                })
+                .assertNext(event -> {
+                    assertThat(event.comment()).isEqualTo("heartbeat");
+                    assertThat(event.data()).isNull();
+                })
+                .assertNext(event -> assertThat(event.data().getEventId()).isEqualTo("event-456"))
+                .verifyComplete();
+
+        ClientRequest request = requests.get(0);
+        assertThat(request.method()).isEqualTo(HttpMethod.POST);
+        assertThat(request.url().toString()).isEqualTo("http://provider/events/stream");
+        assertThat(request.headers().getAccept()).containsExactly(MediaType.TEXT_EVENT_STREAM);
+        assertThat(request.headers().containsKey(ScoreStreamClient.LAST_EVENT_ID)).isFalse();
+    }
+
+    @Test
+    void stream_WithLastEventId_ShouldSendItForResume() {
+        // When
+        client.stream(List.of("event-123"), "41").blockLast();
+
+        // Then
+        assertThat(requests.get(0).headers().getFirst(ScoreStreamClient.LAST_EVENT_ID)).isEqualTo("41");
+    }
+}
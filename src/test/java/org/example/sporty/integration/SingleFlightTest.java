@@ -0,0 +1,150 @@
+package org.example.sporty.integration;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SingleFlight.
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_ConcurrentCallsForSameKey_ShouldShareOneCall() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+
+        // When
+        Mono<String> first = singleFlight.execute("event-1", key -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        });
+        Mono<String> second = singleFlight.execute("event-1", key -> {
+            calls.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        // Then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> {
+                    assertThat(singleFlight.size()).isEqualTo(1);
+                    response.tryEmitValue("2:1");
+                })
+                .assertNext(results -> {
+                    assertThat(results.getT1()).isEqualTo("2:1");
+                    assertThat(results.getT2()).isEqualTo("2:1");
+                })
+                .verifyComplete();
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    @Test
+    void execute_DifferentKeys_ShouldNotShareCalls() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String first = singleFlight.execute("event-1", key -> {
+            calls.incrementAndGet();
+            return Mono.just(key);
+        }).block();
+        String second = singleFlight.execute("event-2", key -> {
+            calls.incrementAndGet();
+            return Mono.just(key);
+        }).block();
+
+        // Then
+        assertThat(first).isEqualTo("event-1");
+        assertThat(second).isEqualTo("event-2");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_AfterCallCompleted_ShouldStartNewCall() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        singleFlight.execute("event-1", key -> Mono.fromCallable(() -> "call-" + calls.incrementAndGet())).block();
+
+        // When
+        String result = singleFlight
+                .execute("event-1", key -> Mono.fromCallable(() -> "call-" + calls.incrementAndGet()))
+                .block();
+
+        // Then
+        assertThat(result).isEqualTo("call-2");
+    }
+
+    @Test
+    void execute_WhenCallFails_ShouldFailAllCallersAndForgetCall() {
+        // Given
+        Sinks.One<String> response = Sinks.one();
+        Mono<String> first = singleFlight.execute("event-1", key -> response.asMono());
+        Mono<String> second = singleFlight.execute("event-1", key -> response.asMono());
+
+        // When/Then
+        StepVerifier.create(Mono.zipDelayError(first, second))
+                .then(() -> response.tryEmitError(new IllegalStateException("provider down")))
+                .verifyError();
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    @Test
+    void execute_CalledFromResultOfFailedCall_ShouldStartNewCall() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> retried = singleFlight
+                .execute("event-1", key -> Mono.error(new IllegalStateException("call-" + calls.incrementAndGet())))
+                .onErrorResume(e -> singleFlight.execute("event-1",
+                        key -> Mono.just("call-" + calls.incrementAndGet())));
+
+        // When/Then
+        StepVerifier.create(retried)
+                .expectNext("call-2")
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_WhenOneCallerCancels_ShouldKeepCallForOthers() {
+        // Given
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Sinks.One<String> response = Sinks.one();
+        Mono<String> call = response.asMono().doOnCancel(() -> cancelled.set(true));
+
+        Disposable first = singleFlight.execute("event-1", key -> call).subscribe();
+        Mono<String> second = singleFlight.execute("event-1", key -> call);
+
+        // When/Then
+        StepVerifier.create(second)
+                .then(first::dispose)
+                .then(() -> response.tryEmitValue("0:0"))
+                .expectNext("0:0")
+                .verifyComplete();
+        assertThat(cancelled.get()).isFalse();
+    }
+
+    @Test
+    void execute_WhenAllCallersCancel_ShouldCancelCallAndForgetIt() {
+        // Given
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> call = Mono.<String>never().doOnCancel(() -> cancelled.set(true));
+        Disposable subscription = singleFlight.execute("event-1", key -> call).subscribe();
+
+        // When
+        subscription.dispose();
+
+        // Then
+        assertThat(cancelled.get()).isTrue();
+        assertThat(singleFlight.size()).isZero();
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.persistence.SpillLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for SpillOutbox.
+ */
+class SpillOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    private SpillOutbox outbox;
+
+    @AfterEach
+    void tearDown() {
+        if (outbox != null) {
+            outbox.shutdown();
+        }
+    }
+
+    @Test
+    void startDraining_ShouldReplaySpilledRecordsInOrder() throws IOException {
+        // Given
+        outbox = outbox(10);
+        for (int i = 0; i < 5; i++) {
+            assertThat(outbox.spill(scoreData(i))).isTrue();
+        }
+        List<ScoreData> replayed = new CopyOnWriteArrayList<>();
+
+        // When
+        outbox.startDraining(scoreData -> {
+            replayed.add(scoreData);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> !outbox.hasBacklog());
+        assertThat(replayed).extracting(ScoreData::getCurrentScore)
+                .containsExactly("0:0", "1:0", "2:0", "3:0", "4:0");
+        assertThat(replayed.get(0)).isEqualTo(scoreData(0));
+    }
+
+    @Test
+    void drain_WhenKafkaFails_ShouldKeepRecordsAndRetryOneAtATime() throws IOException {
+        // Given
+        outbox = outbox(10);
+        for (int i = 0; i < 3; i++) {
+            outbox.spill(scoreData(i));
+        }
+        List<Integer> batchSizes = new ArrayList<>();
+        List<ScoreData> sent = new ArrayList<>();
+        Function<ScoreData, CompletableFuture<?>> down = scoreData -> {
+            sent.add(scoreData);
+            return CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+        };
+
+        // When
+        int replayedWhileDown = outbox.drain(down);
+        batchSizes.add(sent.size());
+        sent.clear();
+        outbox.drain(down);
+        batchSizes.add(sent.size());
+
+        // Then - nothing consumed, and the retry only probed with one record
+        assertThat(replayedWhileDown).isZero();
+        assertThat(batchSizes).containsExactly(3, 1);
+        assertThat(outbox.hasBacklog()).isTrue();
+    }
+
+    @Test
+    void drain_WhenKafkaRecovers_ShouldReplayEverything() throws IOException {
+        // Given - one failed drain
+        outbox = outbox(2);
+        for (int i = 0; i < 5; i++) {
+            outbox.spill(scoreData(i));
+        }
+        List<ScoreData> acknowledged = new ArrayList<>();
+        outbox.drain(scoreData -> CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // When
+        int replayed = outbox.drain(scoreData -> {
+            acknowledged.add(scoreData);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // Then
+        assertThat(replayed).isEqualTo(5);
+        assertThat(acknowledged).extracting(ScoreData::getCurrentScore)
+                .containsExactly("0:0", "1:0", "2:0", "3:0", "4:0");
+        assertThat(outbox.hasBacklog()).isFalse();
+    }
+
+    @Test
+    void bindTo_ShouldExposeBacklogAndCounters() throws IOException {
+        // Given
+        outbox = outbox(10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        outbox.bindTo(registry);
+        outbox.spill(scoreData(0));
+        outbox.spill(scoreData(1));
+        assertThat(registry.get("kafka.spill.backlog").gauge().value()).isEqualTo(2);
+
+        // When
+        outbox.drain(scoreData -> CompletableFuture.completedFuture(null));
+
+        // Then
+        assertThat(registry.get("kafka.spill.spilled").counter().count()).isEqualTo(2);
+        assertThat(registry.get("kafka.spill.drained").counter().count()).isEqualTo(2);
+        assertThat(registry.get("kafka.spill.backlog").gauge().value()).isZero();
+        assertThat(registry.get("kafka.spill.dropped").functionCounter().count()).isZero();
+    }
+
+    @Test
+    void spill_WhenDisabled_ShouldRefuseRecord() {
+        // Given
+        SpillOutbox disabled = SpillOutbox.disabled();
+
+        // When
+        boolean spilled = disabled.spill(scoreData(0));
+
+        // Then
+        assertThat(spilled).isFalse();
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.hasBacklog()).isFalse();
+    }
+
+    private SpillOutbox outbox(int drainBatchSize) throws IOException {
+        SpillLog spillLog = new SpillLog(directory, 4096, 4, SpillLog.DropPolicy.DROP_OLDEST, false);
+        return new SpillOutbox(spillLog, drainBatchSize, Duration.ofMillis(50), Duration.ofSeconds(1));
+    }
+
+    private static ScoreData scoreData(int goals) {
+        return ScoreData.builder()
+                .eventId("event-" + goals)
+                .currentScore(goals + ":0")
+                .timestamp(Instant.parse("2026-10-17T12:00:00Z"))
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporty.domain.model.PriorityTier;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenBucketRateLimiter.
+ */
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void reserve_ShouldAllowBurstThenSpaceCallsAtRate() {
+        // Given - 10 calls per second, burst of 3
+        TokenBucketRateLimiter limiter = limiter(RateLimitPolicy.DELAY, Duration.ofSeconds(1));
+
+        // When/Then
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(100).toNanos());
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(200).toNanos());
+    }
+
+    @Test
+    void reserve_AfterIdlePeriod_ShouldRefillUpToBurst() {
+        // Given
+        TokenBucketRateLimiter limiter = limiter(RateLimitPolicy.DELAY, Duration.ofSeconds(1));
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve();
+        }
+
+        // When - idle for a long time
+        nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Then - only the burst is free again
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isPositive();
+    }
+
+    @Test
+    void reserve_WhenWaitExceedsMaxWait_ShouldDrop() {
+        // Given
+        TokenBucketRateLimiter limiter = limiter(RateLimitPolicy.DELAY, Duration.ofMillis(150));
+        for (int i = 0; i < 4; i++) {
+            limiter.reserve();
+        }
+
+        // When/Then - the next token is 200ms away
+        assertThat(limiter.reserve()).isEqualTo(-1);
+        nanos.addAndGet(Duration.ofMillis(100).toNanos());
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(100).toNanos());
+    }
+
+    @Test
+    void throttle_WhenShedding_ShouldFailCallsOverBudgetAndCountThem() {
+        // Given
+        TokenBucketRateLimiter limiter = limiter(RateLimitPolicy.SHED, Duration.ofSeconds(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> call = Mono.fromCallable(() -> "score-" + calls.incrementAndGet());
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(limiter.throttle(call)).expectNextCount(1).verifyComplete();
+        }
+
+        // Then
+        StepVerifier.create(limiter.throttle(call))
+                .expectError(RateLimitExceededException.class)
+                .verify();
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(registry.get("external.api.rate-limit.tokens").counter().count()).isEqualTo(3);
+        assertThat(registry.get("external.api.rate-limit.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void throttle_WhenDelaying_ShouldSubscribeAfterWait() {
+        // Given
+        TokenBucketRateLimiter limiter = limiter(RateLimitPolicy.DELAY, Duration.ofSeconds(1));
+        for (int i = 0; i < 3; i++) {
+            limiter.reserve();
+        }
+
+        // When/Then - the fourth call waits one emission interval
+        StepVerifier.withVirtualTime(() -> limiter.throttle(Mono.just("score")))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(99))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("score")
+                .verifyComplete();
+    }
+
+    @Test
+    void throttle_WhenDisabled_ShouldReturnCallUnchanged() {
+        // Given
+        Mono<String> call = Mono.just("score");
+
+        // When/Then
+        assertThat(TokenBucketRateLimiter.unlimited().throttle(call)).isSameAs(call);
+    }
+
+    @Test
+    void reserve_WhenLowTierFloods_ShouldNotDelayPremiumCalls() {
+        // Given - 10 calls per second, burst of 10; low-tier calls capped to 20% of it
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(true, 10, 10, RateLimitPolicy.DELAY,
+                Duration.ofSeconds(1), Map.of(PriorityTier.LOW, 0.2), nanos::get);
+
+        // When - a flood of low-tier calls
+        int admitted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (limiter.reserve(PriorityTier.LOW) >= 0) {
+                admitted++;
+            }
+        }
+
+        // Then - the flood got its share (burst of 2, then 2 per second up to the 1s max wait) and premium
+        // calls still find tokens right away
+        assertThat(admitted).isEqualTo(4);
+        for (int i = 0; i < 6; i++) {
+            assertThat(limiter.reserve(PriorityTier.PREMIUM)).isZero();
+        }
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(limiter.reserve(PriorityTier.PREMIUM)).isZero();
+    }
+
+    @Test
+    void reserve_WhenSharedBucketDropsTierCall_ShouldKeepTierShare() {
+        // Given - 10 calls per second, burst of 10, shed; low-tier calls capped to 20% (burst of 2)
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(true, 10, 10, RateLimitPolicy.SHED,
+                Duration.ZERO, Map.of(PriorityTier.LOW, 0.2), nanos::get);
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.reserve(PriorityTier.PREMIUM)).isZero();
+        }
+
+        // When - low-tier calls while the shared bucket is empty
+        long whileSaturated = limiter.reserve(PriorityTier.LOW) + limiter.reserve(PriorityTier.LOW);
+
+        // Then - once the shared bucket refilled, the low tier still has its whole burst
+        assertThat(whileSaturated).isEqualTo(-2);
+        nanos.addAndGet(Duration.ofMillis(200).toNanos());
+        assertThat(limiter.reserve(PriorityTier.LOW)).isZero();
+        assertThat(limiter.reserve(PriorityTier.LOW)).isZero();
+    }
+
+    @Test
+    void reserve_WithoutTierShares_ShouldLetLowTierTakeWholeBurst() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(true, 10, 10, RateLimitPolicy.DELAY,
+                Duration.ofSeconds(1), nanos::get);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.reserve(PriorityTier.LOW);
+        }
+
+        // Then
+        assertThat(limiter.reserve(PriorityTier.PREMIUM)).isEqualTo(-1);
+    }
+
+    @Test
+    void throttle_ForTier_ShouldTakeFromTierShare() {
+        // Given - a share of one token, already taken
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(true, 10, 3, RateLimitPolicy.SHED,
+                Duration.ZERO, Map.of(PriorityTier.LOW, 0.3), nanos::get);
+        limiter.reserve(PriorityTier.LOW);
+        Mono<String> call = Mono.just("score");
+
+        // When/Then
+        StepVerifier.create(TokenBucketRateLimiter.forTier(limiter.throttle(call), PriorityTier.LOW))
+                .expectError(RateLimitExceededException.class)
+                .verify();
+        StepVerifier.create(TokenBucketRateLimiter.forTier(limiter.throttle(call), PriorityTier.PREMIUM))
+                .expectNext("score")
+                .verifyComplete();
+    }
+
+    private TokenBucketRateLimiter limiter(RateLimitPolicy policy, Duration maxWait) {
+        return new TokenBucketRateLimiter(true, 10, 3, policy, maxWait, nanos::get);
+    }
+}
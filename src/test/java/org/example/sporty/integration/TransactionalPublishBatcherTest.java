@@ -0,0 +1,170 @@
+package org.example.sporty.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for TransactionalPublishBatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionalPublishBatcherTest {
+
+    private static final String TOPIC = "test-topic";
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private KafkaOperations<String, byte[]> operations;
+
+    /**
+     * Keys of the records sent in each transaction, in order; transactions run one at a time.
+     */
+    private final List<List<String>> transactions = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(operations.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+            transactions.get(transactions.size() - 1).add(record.key());
+            return CompletableFuture.completedFuture(new SendResult<>(record, null));
+        });
+        lenient().when(kafkaTemplate.executeInTransaction(any())).thenAnswer(invocation -> {
+            transactions.add(new ArrayList<>());
+            return invocation.getArgument(0, KafkaOperations.OperationsCallback.class).doInOperations(operations);
+        });
+    }
+
+    @Test
+    void submit_ShouldCommitRecordsOfWindowInOneTransaction() {
+        // Given
+        TransactionalPublishBatcher batcher = new TransactionalPublishBatcher(kafkaTemplate, 100,
+                Duration.ofMillis(100));
+
+        // When
+        CompletableFuture<SendResult<String, byte[]>> first = batcher.submit(record("event-1"));
+        CompletableFuture<SendResult<String, byte[]>> second = batcher.submit(record("event-2"));
+
+        // Then
+        assertThat(first).succeedsWithin(Duration.ofSeconds(5))
+                .extracting(result -> result.getProducerRecord().key())
+                .isEqualTo("event-1");
+        assertThat(second).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(transactions).containsExactly(List.of("event-1", "event-2"));
+    }
+
+    @Test
+    void submit_WhenMaxRecordsReached_ShouldStartNextTransaction() {
+        // Given
+        TransactionalPublishBatcher batcher = new TransactionalPublishBatcher(kafkaTemplate, 2,
+                Duration.ofMillis(100));
+
+        // When
+        List<CompletableFuture<SendResult<String, byte[]>>> results = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            results.add(batcher.submit(record("event-" + i)));
+        }
+
+        // Then
+        results.forEach(result -> assertThat(result).succeedsWithin(Duration.ofSeconds(5)));
+        assertThat(transactions).hasSizeGreaterThanOrEqualTo(3)
+                .allSatisfy(keys -> assertThat(keys).hasSizeLessThanOrEqualTo(2));
+        assertThat(transactions.stream().flatMap(List::stream))
+                .containsExactly("event-1", "event-2", "event-3", "event-4", "event-5");
+    }
+
+    @Test
+    void submit_WhenTransactionAborts_ShouldFailAllItsRecords() {
+        // Given
+        doThrow(new KafkaException("Producer fenced")).when(kafkaTemplate).executeInTransaction(any());
+        TransactionalPublishBatcher batcher = new TransactionalPublishBatcher(kafkaTemplate, 100,
+                Duration.ofMillis(50));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        batcher.bindTo(registry);
+
+        // When
+        CompletableFuture<SendResult<String, byte[]>> first = batcher.submit(record("event-1"));
+        CompletableFuture<SendResult<String, byte[]>> second = batcher.submit(record("event-2"));
+
+        // Then
+        assertThat(first).failsWithin(Duration.ofSeconds(5));
+        assertThat(second).failsWithin(Duration.ofSeconds(5));
+        await().untilAsserted(() ->
+                assertThat(registry.get("kafka.publish.transaction.aborted").counter().count()).isEqualTo(1));
+    }
+
+    @Test
+    void bindTo_ShouldRecordTransactionSizes() {
+        // Given
+        TransactionalPublishBatcher batcher = new TransactionalPublishBatcher(kafkaTemplate, 100,
+                Duration.ofMillis(50));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        batcher.bindTo(registry);
+
+        // When
+        batcher.submit(record("event-1"));
+        batcher.submit(record("event-2")).join();
+
+        // Then
+        await().untilAsserted(() -> {
+            assertThat(registry.get("kafka.publish.transaction.size").summary().count()).isEqualTo(1);
+            assertThat(registry.get("kafka.publish.transaction.size").summary().totalAmount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shutdown_ShouldCommitQueuedRecordsThenRefuseNewOnes() {
+        // Given - a window longer than the test
+        TransactionalPublishBatcher batcher = new TransactionalPublishBatcher(kafkaTemplate, 100,
+                Duration.ofMinutes(1));
+        CompletableFuture<SendResult<String, byte[]>> queued = batcher.submit(record("event-1"));
+
+        // When
+        batcher.shutdown();
+
+        // Then
+        assertThat(queued).isCompleted();
+        assertThat(transactions).containsExactly(List.of("event-1"));
+        assertThat(batcher.submit(record("event-2"))).isCompletedExceptionally();
+    }
+
+    @Test
+    void submit_WhenDisabled_ShouldThrow() {
+        // Given
+        TransactionalPublishBatcher batcher = TransactionalPublishBatcher.disabled();
+
+        // When / Then
+        assertThat(batcher.isEnabled()).isFalse();
+        assertThatThrownBy(() -> batcher.submit(record("event-1"))).isInstanceOf(IllegalStateException.class);
+        verify(kafkaTemplate, never()).executeInTransaction(any());
+    }
+
+    private static ProducerRecord<String, byte[]> record(String eventId) {
+        return new ProducerRecord<>(TOPIC, eventId, "{}".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.sporty.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for MockExternalApiController, with scores that never change between calls.
+ */
+@WebMvcTest(MockExternalApiController.class)
+@TestPropertySource(properties = {
+        "mock.external-api.score-change-probability=0",
+        "mock.external-api.stream.interval=1h"
+})
+class MockExternalApiControllerTest {
+
+    private static final String TEST_EVENT_ID = "event-123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getEventScore_ShouldReturnScoreWithETag() throws Exception {
+        mockMvc.perform(get("/events/{eventId}/score", TEST_EVENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.eventId").value(TEST_EVENT_ID))
+                .andExpect(jsonPath("$.currentScore").exists());
+    }
+
+    @Test
+    void getEventScore_WithMatchingIfNoneMatch_ShouldReturnNotModified() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/events/{eventId}/score", TEST_EVENT_ID))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then
+        mockMvc.perform(get("/events/{eventId}/score", TEST_EVENT_ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getEventScore_WithStaleIfNoneMatch_ShouldReturnScore() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/events/{eventId}/score", TEST_EVENT_ID))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then
+        mockMvc.perform(get("/events/{eventId}/score", TEST_EVENT_ID).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void getEventScores_ShouldReturnSameScoresAsSingleEndpoint() throws Exception {
+        // Given
+        String single = mockMvc.perform(get("/events/{eventId}/score", TEST_EVENT_ID))
+                .andReturn().getResponse().getContentAsString();
+
+        // When
+        String batch = mockMvc.perform(post("/events/scores")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventIds\":[\"" + TEST_EVENT_ID + "\",\"" + TEST_EVENT_ID + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(batch).isEqualTo("[" + single + "]");
+    }
+
+    @Test
+    void getEventScores_EmptyIdList_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/events/scores")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventIds\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamScores_ShouldStartWithSnapshotOfCurrentScores() throws Exception {
+        // Given
+        String score = mockMvc.perform(get("/events/{eventId}/score", TEST_EVENT_ID))
+                .andReturn().getResponse().getContentAsString();
+
+        // When
+        MvcResult result = mockMvc.perform(post("/events/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventIds\":[\"" + TEST_EVENT_ID + "\"]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(result.getResponse().getContentAsString())
+                .isEqualTo("id:0\nevent:score\ndata:" + score + "\n\n");
+    }
+
+    @Test
+    void streamScores_WithUpToDateLastEventId_ShouldSendNoSnapshot() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(post("/events/stream")
+                        .header("Last-Event-ID", "0")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventIds\":[\"" + TEST_EVENT_ID + "\"]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then - nothing missed, so nothing replayed
+        assertThat(result.getResponse().getContentAsString()).isEmpty();
+    }
+
+    @Test
+    void streamScores_EmptyIdList_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/events/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventIds\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+}
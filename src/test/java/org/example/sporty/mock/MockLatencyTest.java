@@ -0,0 +1,57 @@
+package org.example.sporty.mock;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for MockLatency.
+ */
+class MockLatencyTest {
+
+    private static final Duration MEDIAN = Duration.ofMillis(20);
+    private static final Duration TAIL = Duration.ofMillis(500);
+
+    private final Random random = new Random(42);
+
+    @Test
+    void sample_None_ShouldBeZero() {
+        assertThat(MockLatency.none().sample(random)).isZero();
+    }
+
+    @Test
+    void sample_LogNormal_ShouldHaveMedianAndTailAsPercentiles() {
+        // Given
+        MockLatency latency = new MockLatency(MockLatency.Distribution.LOG_NORMAL, MEDIAN, TAIL, 0);
+
+        // When
+        long[] samples = IntStream.range(0, 100_000)
+                .mapToLong(i -> latency.sample(random).toMillis())
+                .sorted()
+                .toArray();
+
+        // Then
+        assertThat((double) samples[50_000]).isCloseTo(20, within(1.0));
+        assertThat((double) samples[99_000]).isCloseTo(500, within(50.0));
+    }
+
+    @Test
+    void sample_Bimodal_ShouldTakeTailWithTailProbability() {
+        // Given
+        MockLatency latency = new MockLatency(MockLatency.Distribution.BIMODAL, MEDIAN, TAIL, 0.05);
+
+        // When
+        Duration[] samples = IntStream.range(0, 10_000).mapToObj(i -> latency.sample(random)).toArray(Duration[]::new);
+
+        // Then
+        long tails = Arrays.stream(samples).filter(TAIL::equals).count();
+        assertThat(Arrays.stream(samples)).allMatch(sample -> sample.equals(MEDIAN) || sample.equals(TAIL));
+        assertThat((double) tails).isCloseTo(500, within(100.0));
+    }
+}
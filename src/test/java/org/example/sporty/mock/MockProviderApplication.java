@@ -0,0 +1,61 @@
+package org.example.sporty.mock;
+
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a {@link MockExternalApiController} on its own, on a random port, as a stand-in score provider.
+ * Several can run side by side, e.g. a provider and its mirrors, each with its own latency settings.
+ *
+ * Deliberately not a {@code @Configuration}: the application's component scan must not pick it up.
+ */
+@ImportAutoConfiguration({
+        PropertyPlaceholderAutoConfiguration.class,
+        ServletWebServerFactoryAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebMvcAutoConfiguration.class,
+        HttpMessageConvertersAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+})
+@Import(MockExternalApiController.class)
+public class MockProviderApplication {
+
+    /**
+     * Starts a stand-in provider.
+     *
+     * @param properties extra properties, as {@code name=value}, e.g. {@code mock.external-api.latency.*}
+     * @return the running application; close it to stop the provider
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--mock.external-api.stream.interval=1h"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(MockProviderApplication.class).run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Gets the base URL of a running stand-in provider.
+     *
+     * @param provider the running application
+     * @return base URL of its mock API
+     */
+    public static String baseUrl(ConfigurableApplicationContext provider) {
+        return "http://localhost:" + ((WebServerApplicationContext) provider).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.sporty.persistence;
+
+import org.example.sporty.domain.model.EventStatus;
+import org.example.sporty.domain.model.PriorityTier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for MappedEventStateStore.
+ */
+class MappedEventStateStoreTest {
+
+    private static final int JOURNAL_CAPACITY = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void save_ShouldBeRestoredAfterReopen() throws IOException {
+        // Given
+        EventRecord record = live("event-1", "football", 3_000L);
+        try (MappedEventStateStore store = new MappedEventStateStore(directory, JOURNAL_CAPACITY, false)) {
+            store.save(record);
+        }
+
+        // When
+        try (MappedEventStateStore reopened = new MappedEventStateStore(directory, JOURNAL_CAPACITY, false)) {
+
+            // Then
+            assertThat(reopened.loadAll()).containsExactly(record);
+        }
+    }
+
+    @Test
+    void save_ShouldKeepLatestRecordPerEvent() throws IOException {
+        // Given
+        try (MappedEventStateStore store = new MappedEventStateStore(directory, JOURNAL_CAPACITY, false)) {
+            store.save(live("event-1", null, 1_000L));
+            store.save(new EventRecord("event-1", EventStatus.NOT_LIVE, null, null, now(), EventRecord.NO_PHASE));
+        }
+
+        // When
+        try (MappedEventStateStore reopened = new MappedEventStateStore(directory, JOURNAL_CAPACITY, false)) {
+
+            // Then
+            assertThat(reopened.loadAll())
+                    .singleElement()
+                    .satisfies(record -> {
+                        assertThat(record.isLive()).isFalse();
+                        assertThat(record.hasPhase()).isFalse();
+                    });
+        }
+    }
+
+    @Test
+    void save_WhenJournalIsFull_ShouldCompactIntoSnapshot() throws IOException {
+        // Given
+        try (MappedEventStateStore store = new MappedEventStateStore(directory, 512, false)) {
+
+            // When
+            for (int i = 0; i < 100; i++) {
+                store.save(live("event-" + i, "tennis", i * 100L));
+            }
+
+            // Then
+            assertThat(Files.exists(directory.resolve(MappedEventStateStore.SNAPSHOT_FILE))).isTrue();
+            assertThat(store.getJournalRecordCount()).isLessThan(100);
+        }
+        try (MappedEventStateStore reopened = new MappedEventStateStore(directory, 512, false)) {
+            assertThat(reopened.loadAll()).hasSize(100);
+        }
+    }
+
+    @Test
+    void open_WhenJournalOlderThanSnapshot_ShouldNotReplayStaleRecords() throws IOException {
+        // Given - a crash between writing the snapshot and resetting the journal
+        Path journalCopy = directory.resolve("journal.copy");
+        try (MappedEventStateStore store = new MappedEventStateStore(directory, JOURNAL_CAPACITY, false)) {
+            store.save(live("event-1", null, 1_000L));
+            Files.copy(directory.resolve(MappedEventStateStore.JOURNAL_FILE), journalCopy);
+            store.save(new EventRecord("event-1", EventStatus.NOT_LIVE, null, null, now(), EventRecord.NO_PHASE));
+            store.compact();
+        }
+        Files.copy(journalCopy, directory.resolve(MappedEventStateStore.JOURNAL_FILE),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        // When
+        try (MappedEventStateStore reopened = new MappedEventStateStore(directory, JOURNAL_CAPACITY, false)) {
+
+            // Then
+            assertThat(reopened.loadAll()).singleElement().satisfies(record ->
+                    assertThat(record.isLive()).isFalse());
+        }
+    }
+
+    @Test
+    void open_WhenSnapshotIsCorrupt_ShouldIgnoreIt() throws IOException {
+        // Given
+        try (MappedEventStateStore store = new MappedEventStateStore(directory, JOURNAL_CAPACITY, false)) {
+            store.save(live("event-1", null, 1_000L));
+            store.compact();
+            store.save(live("event-2", null, 2_000L));
+        }
+        Path snapshot = directory.resolve(MappedEventStateStore.SNAPSHOT_FILE);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x7F;
+        Files.write(snapshot, bytes);
+
+        // When
+        try (MappedEventStateStore reopened = new MappedEventStateStore(directory, JOURNAL_CAPACITY, false)) {
+
+            // Then
+            assertThat(reopened.loadAll()).extracting(EventRecord::eventId).containsExactly("event-2");
+        }
+    }
+
+    private static EventRecord live(String eventId, String sport, long phaseOffsetMillis) {
+        return new EventRecord(eventId, EventStatus.LIVE, sport, PriorityTier.PREMIUM, now(), phaseOffsetMillis);
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+}
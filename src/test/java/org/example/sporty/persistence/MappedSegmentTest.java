@@ -0,0 +1,145 @@
+package org.example.sporty.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for MappedSegment.
+ */
+class MappedSegmentTest {
+
+    private static final int CAPACITY = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_ShouldSurviveReopen() throws IOException {
+        // Given
+        Path path = directory.resolve("segment");
+        try (MappedSegment segment = new MappedSegment(path, CAPACITY, false)) {
+            segment.append(utf8("first"));
+            segment.append(utf8("second"));
+        }
+
+        // When
+        try (MappedSegment reopened = new MappedSegment(path, CAPACITY, false)) {
+
+            // Then
+            assertThat(readAll(reopened)).containsExactly("first", "second");
+            assertThat(reopened.getRecordCount()).isEqualTo(2);
+            assertThat(reopened.getWritePosition())
+                    .isEqualTo(2 * MappedSegment.RECORD_HEADER_BYTES + "first".length() + "second".length());
+        }
+    }
+
+    @Test
+    void open_WhenTailIsCorrupt_ShouldStopAtLastValidRecord() throws IOException {
+        // Given
+        Path path = directory.resolve("segment");
+        int secondRecordStart;
+        try (MappedSegment segment = new MappedSegment(path, CAPACITY, false)) {
+            segment.append(utf8("first"));
+            secondRecordStart = segment.getWritePosition();
+            segment.append(utf8("second"));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), secondRecordStart + MappedSegment.RECORD_HEADER_BYTES);
+        }
+
+        // When
+        try (MappedSegment reopened = new MappedSegment(path, CAPACITY, false)) {
+
+            // Then
+            assertThat(readAll(reopened)).containsExactly("first");
+            assertThat(reopened.getWritePosition()).isEqualTo(secondRecordStart);
+            reopened.append(utf8("third"));
+            assertThat(readAll(reopened)).containsExactly("first", "third");
+        }
+    }
+
+    @Test
+    void append_WhenFull_ShouldReturnFalse() throws IOException {
+        // Given
+        try (MappedSegment segment = new MappedSegment(directory.resolve("segment"), 32, false)) {
+            assertThat(segment.append(utf8("0123456789"))).isTrue();
+
+            // When
+            boolean appended = segment.append(utf8("0123456789ABCDEF"));
+
+            // Then
+            assertThat(appended).isFalse();
+            assertThat(segment.getRecordCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void forEach_FromPosition_ShouldResumeAfterLastRecordVisited() throws IOException {
+        // Given
+        try (MappedSegment segment = new MappedSegment(directory.resolve("segment"), CAPACITY, false)) {
+            for (String value : List.of("first", "second", "third")) {
+                segment.append(utf8(value));
+            }
+            List<String> records = new ArrayList<>();
+
+            // When
+            int position = segment.forEach(0, 2, payload -> records.add(utf8(payload)));
+            int end = segment.forEach(position, 2, payload -> records.add(utf8(payload)));
+
+            // Then
+            assertThat(records).containsExactly("first", "second", "third");
+            assertThat(position).isEqualTo(2 * MappedSegment.RECORD_HEADER_BYTES + "firstsecond".length());
+            assertThat(end).isEqualTo(segment.getWritePosition());
+            assertThat(segment.forEach(end, 2, payload -> records.add(utf8(payload)))).isEqualTo(end);
+        }
+    }
+
+    @Test
+    void delete_ShouldUnmapSegment() throws IOException {
+        // Given
+        Path path = directory.resolve("segment");
+        MappedSegment segment = new MappedSegment(path, CAPACITY, false);
+        segment.append(utf8("first"));
+
+        // When
+        segment.delete();
+
+        // Then - the mapping no longer holds the deleted file's blocks, and the segment refuses use
+        assertThat(path).doesNotExist();
+        Path maps = Path.of("/proc/self/maps");
+        if (Files.isReadable(maps)) {
+            assertThat(Files.readString(maps)).doesNotContain(path.toString());
+        }
+        assertThatThrownBy(() -> segment.append(utf8("second"))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> readAll(segment)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ByteBuffer utf8(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String utf8(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readAll(MappedSegment segment) {
+        List<String> records = new ArrayList<>();
+        segment.forEach(payload -> records.add(utf8(payload)));
+        return records;
+    }
+}
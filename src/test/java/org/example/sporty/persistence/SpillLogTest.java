@@ -0,0 +1,183 @@
+package org.example.sporty.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SpillLog.
+ */
+class SpillLogTest {
+
+    /**
+     * Four records of {@code record-N} (8 bytes, plus the 8-byte header) per segment.
+     */
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void peekAndAdvance_ShouldReadRecordsInAppendOrder() throws IOException {
+        // Given
+        try (SpillLog spillLog = spillLog(4, SpillLog.DropPolicy.DROP_OLDEST)) {
+            append(spillLog, 0, 3);
+
+            // When
+            SpillLog.Batch first = spillLog.peek(2);
+            SpillLog.Batch again = spillLog.peek(2);
+            spillLog.advance(first);
+            SpillLog.Batch second = spillLog.peek(2);
+
+            // Then - a batch is only consumed once advanced
+            assertThat(read(first)).containsExactly("record-0", "record-1");
+            assertThat(read(again)).containsExactly("record-0", "record-1");
+            assertThat(read(second)).containsExactly("record-2");
+            assertThat(spillLog.getBacklog()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void append_WhenSegmentFull_ShouldStartNewSegmentAndReadAcrossIt() throws IOException {
+        // Given
+        try (SpillLog spillLog = spillLog(4, SpillLog.DropPolicy.DROP_OLDEST)) {
+
+            // When
+            append(spillLog, 0, 6);
+
+            // Then - a batch stops at the end of the oldest segment
+            assertThat(spillLog.getSegmentCount()).isEqualTo(2);
+            SpillLog.Batch first = spillLog.peek(10);
+            assertThat(read(first)).containsExactly("record-0", "record-1", "record-2", "record-3");
+            spillLog.advance(first);
+            assertThat(spillLog.getSegmentCount()).isEqualTo(1);
+            assertThat(read(spillLog.peek(10))).containsExactly("record-4", "record-5");
+        }
+    }
+
+    @Test
+    void advance_WhenAllRead_ShouldDeleteSegmentFiles() throws IOException {
+        // Given
+        try (SpillLog spillLog = spillLog(4, SpillLog.DropPolicy.DROP_OLDEST)) {
+            append(spillLog, 0, 2);
+
+            // When
+            spillLog.advance(spillLog.peek(10));
+
+            // Then
+            assertThat(spillLog.getBacklog()).isZero();
+            assertThat(spillLog.getSegmentCount()).isZero();
+            assertThat(segmentFiles()).isEmpty();
+            assertThat(spillLog.peek(10).isEmpty()).isTrue();
+            append(spillLog, 2, 1);
+            assertThat(read(spillLog.peek(10))).containsExactly("record-2");
+        }
+    }
+
+    @Test
+    void open_ShouldKeepRecordsOfPreviousRunAsBacklog() throws IOException {
+        // Given
+        try (SpillLog spillLog = spillLog(4, SpillLog.DropPolicy.DROP_OLDEST)) {
+            append(spillLog, 0, 6);
+        }
+
+        // When
+        try (SpillLog reopened = spillLog(4, SpillLog.DropPolicy.DROP_OLDEST)) {
+
+            // Then
+            assertThat(reopened.getBacklog()).isEqualTo(6);
+            assertThat(reopened.getSegmentCount()).isEqualTo(2);
+            append(reopened, 6, 1);
+            SpillLog.Batch first = reopened.peek(10);
+            reopened.advance(first);
+            assertThat(read(first)).containsExactly("record-0", "record-1", "record-2", "record-3");
+            assertThat(read(reopened.peek(10))).containsExactly("record-4", "record-5", "record-6");
+        }
+    }
+
+    @Test
+    void append_WhenFullAndDroppingNewest_ShouldRefuseRecord() throws IOException {
+        // Given
+        try (SpillLog spillLog = spillLog(2, SpillLog.DropPolicy.DROP_NEWEST)) {
+            append(spillLog, 0, 8);
+
+            // When
+            boolean appended = spillLog.append(utf8("record-8"));
+
+            // Then
+            assertThat(appended).isFalse();
+            assertThat(spillLog.getDropped()).isEqualTo(1);
+            assertThat(spillLog.getBacklog()).isEqualTo(8);
+            assertThat(read(spillLog.peek(1))).containsExactly("record-0");
+        }
+    }
+
+    @Test
+    void append_WhenFullAndDroppingOldest_ShouldDeleteOldestSegment() throws IOException {
+        // Given - the first record of the oldest segment already read
+        try (SpillLog spillLog = spillLog(2, SpillLog.DropPolicy.DROP_OLDEST)) {
+            append(spillLog, 0, 8);
+            SpillLog.Batch stale = spillLog.peek(1);
+            spillLog.advance(stale);
+            SpillLog.Batch inFlight = spillLog.peek(2);
+
+            // When
+            boolean appended = spillLog.append(utf8("record-8"));
+
+            // Then - the three unread records are dropped, and a batch of the dropped segment is ignored
+            assertThat(appended).isTrue();
+            assertThat(spillLog.getDropped()).isEqualTo(3);
+            assertThat(spillLog.getBacklog()).isEqualTo(5);
+            assertThat(spillLog.getSegmentCount()).isEqualTo(2);
+            spillLog.advance(inFlight);
+            assertThat(read(spillLog.peek(10))).containsExactly("record-4", "record-5", "record-6", "record-7");
+        }
+    }
+
+    @Test
+    void append_WhenLargerThanSegment_ShouldRefuseRecord() throws IOException {
+        // Given
+        try (SpillLog spillLog = spillLog(2, SpillLog.DropPolicy.DROP_OLDEST)) {
+
+            // When
+            boolean appended = spillLog.append(ByteBuffer.allocate(SEGMENT_SIZE));
+
+            // Then
+            assertThat(appended).isFalse();
+            assertThat(spillLog.getSegmentCount()).isZero();
+        }
+    }
+
+    private SpillLog spillLog(int maxSegments, SpillLog.DropPolicy dropPolicy) throws IOException {
+        return new SpillLog(directory, SEGMENT_SIZE, maxSegments, dropPolicy, false);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private static void append(SpillLog spillLog, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            assertThat(spillLog.append(utf8("record-" + i))).isTrue();
+        }
+    }
+
+    private static ByteBuffer utf8(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> read(SpillLog.Batch batch) {
+        return batch.records().stream().map(bytes -> new String(bytes, StandardCharsets.UTF_8)).toList();
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.sporty.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for AdaptiveIntervalPolicy.
+ */
+class AdaptiveIntervalPolicyTest {
+
+    private static final AdaptiveIntervalPolicy.Bounds DEFAULT_BOUNDS =
+            new AdaptiveIntervalPolicy.Bounds(Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+    private final AdaptiveIntervalPolicy policy = new AdaptiveIntervalPolicy(
+            true,
+            DEFAULT_BOUNDS,
+            2.0,
+            Map.of("tennis", new AdaptiveIntervalPolicy.Bounds(Duration.ofSeconds(5), Duration.ofSeconds(20))),
+            Map.of("final-1", new AdaptiveIntervalPolicy.Bounds(Duration.ofSeconds(2), Duration.ofSeconds(4))));
+
+    @Test
+    void nextInterval_WhenUnchanged_ShouldBackOffUpToMax() {
+        Duration interval = DEFAULT_BOUNDS.min();
+
+        interval = policy.nextInterval(interval, false, DEFAULT_BOUNDS);
+        assertThat(interval).isEqualTo(Duration.ofSeconds(20));
+        interval = policy.nextInterval(interval, false, DEFAULT_BOUNDS);
+        assertThat(interval).isEqualTo(Duration.ofSeconds(40));
+        interval = policy.nextInterval(interval, false, DEFAULT_BOUNDS);
+        assertThat(interval).isEqualTo(Duration.ofSeconds(60));
+        interval = policy.nextInterval(interval, false, DEFAULT_BOUNDS);
+        assertThat(interval).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void nextInterval_WhenChanged_ShouldSnapBackToMin() {
+        assertThat(policy.nextInterval(Duration.ofSeconds(60), true, DEFAULT_BOUNDS))
+                .isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void boundsFor_ShouldPreferEventThenSportOverride() {
+        assertThat(policy.boundsFor("final-1", "tennis").min()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(policy.boundsFor("match-7", "Tennis").min()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(policy.boundsFor("match-7", "football")).isEqualTo(DEFAULT_BOUNDS);
+        assertThat(policy.boundsFor("match-7", null)).isEqualTo(DEFAULT_BOUNDS);
+    }
+
+    @Test
+    void disabled_ShouldNotBeEnabled() {
+        assertThat(AdaptiveIntervalPolicy.disabled(Duration.ofSeconds(10)).isEnabled()).isFalse();
+    }
+
+    @Test
+    void bounds_WithMaxBelowMin_ShouldThrow() {
+        assertThatThrownBy(() -> new AdaptiveIntervalPolicy.Bounds(Duration.ofSeconds(10), Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.sporty.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AdaptiveTrigger.
+ */
+class AdaptiveTriggerTest {
+
+    private static final AdaptiveIntervalPolicy.Bounds BOUNDS =
+            new AdaptiveIntervalPolicy.Bounds(Duration.ofSeconds(10), Duration.ofSeconds(60));
+    private static final AdaptiveIntervalPolicy POLICY =
+            new AdaptiveIntervalPolicy(true, BOUNDS, 2.0, Map.of(), Map.of());
+    private static final Instant FIRST_FIRE = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Test
+    void nextExecution_ShouldStartAtFirstFireThenFollowInterval() {
+        // Given
+        AdaptiveTrigger trigger = new AdaptiveTrigger(POLICY, BOUNDS, FIRST_FIRE);
+
+        // When/Then
+        assertThat(trigger.nextExecution(new SimpleTriggerContext())).isEqualTo(FIRST_FIRE);
+        SimpleTriggerContext context = new SimpleTriggerContext(FIRST_FIRE, FIRST_FIRE, FIRST_FIRE);
+        assertThat(trigger.nextExecution(context)).isEqualTo(FIRST_FIRE.plusSeconds(10));
+    }
+
+    @Test
+    void onScore_ShouldBackOffWhileUnchangedAndSnapBackOnChange() {
+        // Given
+        AdaptiveTrigger trigger = new AdaptiveTrigger(POLICY, BOUNDS, FIRST_FIRE);
+
+        // When/Then
+        trigger.onScore("0:0");
+        assertThat(trigger.getInterval()).isEqualTo(Duration.ofSeconds(10));
+        trigger.onScore("0:0");
+        trigger.onScore("0:0");
+        assertThat(trigger.getInterval()).isEqualTo(Duration.ofSeconds(40));
+        trigger.onScore("1:0");
+        assertThat(trigger.getInterval()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void onScore_WhenNull_ShouldKeepInterval() {
+        // Given
+        AdaptiveTrigger trigger = new AdaptiveTrigger(POLICY, BOUNDS, FIRST_FIRE);
+        trigger.onScore("0:0");
+        trigger.onScore("0:0");
+
+        // When
+        trigger.onScore(null);
+
+        // Then
+        assertThat(trigger.getInterval()).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void quietMatch_ShouldNeedLessThanHalfThePolls() {
+        // Given - 90 minutes with 3 score changes, polled by the trigger
+        AdaptiveTrigger trigger = new AdaptiveTrigger(POLICY, BOUNDS, FIRST_FIRE);
+        Instant end = FIRST_FIRE.plus(Duration.ofMinutes(90));
+        Instant next = FIRST_FIRE;
+        int polls = 0;
+
+        // When
+        while (next.isBefore(end)) {
+            long minute = Duration.between(FIRST_FIRE, next).toMinutes();
+            int goals = (minute >= 20 ? 1 : 0) + (minute >= 55 ? 1 : 0) + (minute >= 80 ? 1 : 0);
+            trigger.onScore(goals + ":0");
+            polls++;
+            next = trigger.nextExecution(new SimpleTriggerContext(next, next, next));
+        }
+
+        // Then - fixed 10s polling would need 540
+        assertThat(polls).isLessThan(270);
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.sporty.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for EventTickGuard.
+ */
+class EventTickGuardTest {
+
+    private static final String EVENT_ID = "event-123";
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+    private final TickExecutor asyncExecutor = pool::execute;
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Runnable blockingWork = () -> {
+        executions.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdownNow();
+    }
+
+    @Test
+    void run_WhenOnTime_ShouldExecuteAndRecordDrift() {
+        // Given
+        EventTickGuard guard = new EventTickGuard(EVENT_ID, OverrunPolicy.SKIP, TickExecutor.callerRuns(),
+                executions::incrementAndGet, () -> Instant.now().minusMillis(250), () -> INTERVAL,
+                TickListener.noop());
+
+        // When
+        guard.run();
+
+        // Then
+        TickStatistics statistics = guard.getStatistics();
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(statistics.executed()).isEqualTo(1);
+        assertThat(statistics.lastDriftMillis()).isBetween(250L, 1_000L);
+        assertThat(statistics.maxDriftMillis()).isEqualTo(statistics.lastDriftMillis());
+        assertThat(statistics.skipped()).isZero();
+    }
+
+    @Test
+    void run_WithSkipPolicy_ShouldDropTicksWhileRunning() {
+        // Given
+        EventTickGuard guard = guard(OverrunPolicy.SKIP);
+        guard.run();
+        await().atMost(Duration.ofSeconds(2)).until(() -> executions.get() == 1);
+
+        // When
+        guard.run();
+        guard.run();
+        release.countDown();
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).until(() -> !guard.isRunning());
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(guard.getStatistics().skippedOverrun()).isEqualTo(2);
+    }
+
+    @Test
+    void run_WithCoalescePolicy_ShouldRunOnceMoreAfterOverrun() {
+        // Given
+        EventTickGuard guard = guard(OverrunPolicy.COALESCE);
+        guard.run();
+        await().atMost(Duration.ofSeconds(2)).until(() -> executions.get() == 1);
+
+        // When - two overdue ticks fold into a single extra run
+        guard.run();
+        guard.run();
+        release.countDown();
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).until(() -> executions.get() == 2 && !guard.isRunning());
+        assertThat(guard.getStatistics().coalesced()).isEqualTo(2);
+        assertThat(guard.getStatistics().executed()).isEqualTo(2);
+    }
+
+    @Test
+    void run_WhenAFullIntervalLate_ShouldDropAsStale() {
+        // Given
+        TickListener listener = mock(TickListener.class);
+        EventTickGuard guard = new EventTickGuard(EVENT_ID, OverrunPolicy.SKIP, TickExecutor.callerRuns(),
+                executions::incrementAndGet, () -> Instant.now().minus(INTERVAL), () -> INTERVAL, listener);
+
+        // When
+        guard.run();
+
+        // Then
+        assertThat(executions.get()).isZero();
+        assertThat(guard.getStatistics().skippedStale()).isEqualTo(1);
+        verify(listener).onTickSkipped(EVENT_ID, EventTickGuard.SkipReason.STALE);
+    }
+
+    @Test
+    void fixedRatePlan_ShouldAdvanceByPeriod() {
+        // Given
+        Instant start = Instant.parse("2025-01-01T12:00:00Z");
+        var plan = EventTickGuard.fixedRatePlan(start, INTERVAL);
+
+        // When/Then
+        assertThat(plan.get()).isEqualTo(start);
+        assertThat(plan.get()).isEqualTo(start.plus(INTERVAL));
+        assertThat(plan.get()).isEqualTo(start.plus(INTERVAL.multipliedBy(2)));
+    }
+
+    private EventTickGuard guard(OverrunPolicy policy) {
+        return new EventTickGuard(EVENT_ID, policy, asyncExecutor, blockingWork,
+                Instant::now, () -> INTERVAL, TickListener.noop());
+    }
+
+    @Test
+    void run_WithAsyncWork_ShouldHoldRunningUntilWorkSignalsCompletion() {
+        // Given
+        AtomicReference<Runnable> pendingDone = new AtomicReference<>();
+        EventTickGuard guard = new EventTickGuard(EVENT_ID, OverrunPolicy.COALESCE, TickExecutor.callerRuns(),
+                onDone -> {
+                    executions.incrementAndGet();
+                    pendingDone.set(onDone);
+                },
+                Instant::now, () -> INTERVAL, TickListener.noop());
+
+        // When - a second tick fires before the first one's work completed
+        guard.run();
+        guard.run();
+
+        // Then - the coalesced tick starts as soon as the first completes
+        assertThat(guard.isRunning()).isTrue();
+        assertThat(executions.get()).isEqualTo(1);
+        pendingDone.get().run();
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(guard.isRunning()).isTrue();
+        pendingDone.get().run();
+        assertThat(guard.isRunning()).isFalse();
+        assertThat(guard.getStatistics().coalesced()).isEqualTo(1);
+    }
+
+    @Test
+    void run_WhenAsyncWorkSignalsTwice_ShouldCountCompletionOnce() {
+        // Given
+        EventTickGuard guard = new EventTickGuard(EVENT_ID, OverrunPolicy.SKIP, TickExecutor.callerRuns(),
+                onDone -> {
+                    executions.incrementAndGet();
+                    onDone.run();
+                    onDone.run();
+                },
+                Instant::now, () -> INTERVAL, TickListener.noop());
+
+        // When
+        guard.run();
+        guard.run();
+
+        // Then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(guard.isRunning()).isFalse();
+    }
+}
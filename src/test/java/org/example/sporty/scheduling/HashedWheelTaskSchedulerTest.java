@@ -0,0 +1,147 @@
+package org.example.sporty.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.PeriodicTrigger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for HashedWheelTaskScheduler.
+ */
+class HashedWheelTaskSchedulerTest {
+
+    private HashedWheelTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new HashedWheelTaskScheduler(
+                Duration.ofMillis(10),
+                64,
+                Executors.newFixedThreadPool(2),
+                "test-wheel-ticker");
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void schedule_ShouldRunOneShotTaskOnce() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        ScheduledFuture<?> future = scheduler.schedule(executions::incrementAndGet, Instant.now().plusMillis(50));
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).until(future::isDone);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(future.isCancelled()).isFalse();
+        assertThat(scheduler.getPendingTimeouts()).isZero();
+    }
+
+    @Test
+    void scheduleAtFixedRate_ShouldRunRepeatedly() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(executions::incrementAndGet, Duration.ofMillis(30));
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).until(() -> executions.get() >= 3);
+        assertThat(future.isDone()).isFalse();
+
+        future.cancel(false);
+    }
+
+    @Test
+    void scheduleAtFixedRate_WhenDeadlineSpansSeveralRounds_ShouldFireAfterDeadline() {
+        // Given - 64 buckets of 10ms make a 640ms wheel; 1s needs more than one revolution
+        AtomicInteger executions = new AtomicInteger();
+        Instant start = Instant.now();
+
+        // When
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(
+                executions::incrementAndGet, start.plusSeconds(1), Duration.ofSeconds(10));
+
+        // Then
+        await().atMost(Duration.ofSeconds(3)).until(() -> executions.get() == 1);
+        assertThat(Duration.between(start, Instant.now())).isGreaterThanOrEqualTo(Duration.ofMillis(990));
+
+        future.cancel(false);
+    }
+
+    @Test
+    void cancel_ShouldPreventExecution() throws Exception {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(
+                executions::incrementAndGet, Instant.now().plusMillis(100), Duration.ofMillis(100));
+
+        // When
+        boolean cancelled = future.cancel(false);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(future.isDone()).isTrue();
+        assertThat(scheduler.getPendingTimeouts()).isZero();
+
+        Thread.sleep(300);
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    void cancel_WhilePeriodicTaskIsRunning_ShouldStopFurtherExecutions() throws Exception {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(executions::incrementAndGet, Duration.ofMillis(20));
+        await().atMost(Duration.ofSeconds(2)).until(() -> executions.get() >= 2);
+
+        // When
+        future.cancel(false);
+        Thread.sleep(50); // Let an in-flight execution finish
+        int executionsAfterCancel = executions.get();
+
+        // Then
+        Thread.sleep(200);
+        assertThat(executions.get()).isEqualTo(executionsAfterCancel);
+    }
+
+    @Test
+    void schedule_WithTrigger_ShouldRescheduleUsingTrigger() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        ScheduledFuture<?> future = scheduler.schedule(executions::incrementAndGet,
+                new PeriodicTrigger(Duration.ofMillis(30)));
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).until(() -> executions.get() >= 3);
+
+        future.cancel(false);
+    }
+
+    @Test
+    void scheduleAtFixedRate_ManyTasks_ShouldTrackPendingTimeouts() {
+        // When
+        for (int i = 0; i < 1000; i++) {
+            scheduler.scheduleAtFixedRate(() -> { }, Instant.now().plusSeconds(60), Duration.ofSeconds(10));
+        }
+
+        // Then
+        assertThat(scheduler.getPendingTimeouts()).isEqualTo(1000);
+    }
+}
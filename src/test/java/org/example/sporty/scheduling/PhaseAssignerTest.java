@@ -0,0 +1,114 @@
+package org.example.sporty.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PhaseAssigner.
+ */
+class PhaseAssignerTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+    private static final Instant NOW = Instant.ofEpochMilli(1_700_000_003_250L);
+
+    @Test
+    void assign_WithHashStrategy_ShouldBeDeterministic() {
+        // Given
+        PhaseAssigner first = new PhaseAssigner(PhaseStrategy.HASH, 20);
+        PhaseAssigner second = new PhaseAssigner(PhaseStrategy.HASH, 20);
+
+        // When/Then
+        assertThat(first.assign("event-42", INTERVAL, NOW))
+                .isEqualTo(second.assign("event-42", INTERVAL, NOW));
+    }
+
+    @Test
+    void assign_ShouldReturnSlotOnEpochGridWithinOneInterval() {
+        // Given
+        PhaseAssigner assigner = new PhaseAssigner(PhaseStrategy.HASH, 20);
+
+        // When
+        Instant firstFire = assigner.assign("event-1", INTERVAL, NOW);
+
+        // Then
+        assertThat(firstFire).isAfter(NOW);
+        assertThat(firstFire).isBeforeOrEqualTo(NOW.plus(INTERVAL));
+        assertThat(firstFire.toEpochMilli() % 500).isZero(); // 10s / 20 slots
+    }
+
+    @Test
+    void assign_WithLeastLoadedStrategy_ShouldKeepLoadFlat() {
+        // Given
+        PhaseAssigner assigner = new PhaseAssigner(PhaseStrategy.LEAST_LOADED, 20);
+
+        // When - a batch of events goes live at the same instant
+        for (int i = 0; i < 1000; i++) {
+            assigner.assign("event-" + i, INTERVAL, NOW);
+        }
+
+        // Then
+        assertThat(assigner.getSlotLoads()).containsOnly(50);
+    }
+
+    @Test
+    void assign_WithHashStrategy_ShouldSpreadSequentialIds() {
+        // Given
+        PhaseAssigner assigner = new PhaseAssigner(PhaseStrategy.HASH, 20);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            assigner.assign("event-" + i, INTERVAL, NOW);
+        }
+
+        // Then - within 20% of the mean (500 per slot)
+        int[] loads = assigner.getSlotLoads();
+        assertThat(Arrays.stream(loads).min().getAsInt()).isGreaterThan(400);
+        assertThat(Arrays.stream(loads).max().getAsInt()).isLessThan(600);
+    }
+
+    @Test
+    void release_ShouldFreeSlot() {
+        // Given
+        PhaseAssigner assigner = new PhaseAssigner(PhaseStrategy.LEAST_LOADED, 4);
+        assigner.assign("event-1", INTERVAL, NOW);
+        assigner.assign("event-1", INTERVAL, NOW); // re-assignment must not leak
+
+        // When
+        assigner.release("event-1");
+        assigner.release("event-1");
+
+        // Then
+        assertThat(assigner.getSlotLoads()).containsOnly(0);
+    }
+
+    @Test
+    void bindTo_ShouldRegisterGaugePerSlot() {
+        // Given
+        PhaseAssigner assigner = new PhaseAssigner(PhaseStrategy.LEAST_LOADED, 4);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        assigner.bindTo(registry);
+
+        // When
+        assigner.assign("event-1", INTERVAL, NOW);
+
+        // Then
+        assertThat(registry.find("scheduler.phase.slot.load").gauges()).hasSize(4);
+        double total = registry.find("scheduler.phase.slot.load").gauges().stream()
+                .mapToDouble(gauge -> gauge.value())
+                .sum();
+        assertThat(total).isEqualTo(1.0);
+    }
+
+    @Test
+    void constructor_WithNonPositiveSlots_ShouldThrow() {
+        assertThatThrownBy(() -> new PhaseAssigner(PhaseStrategy.HASH, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
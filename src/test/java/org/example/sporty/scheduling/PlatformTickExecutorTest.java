@@ -0,0 +1,89 @@
+package org.example.sporty.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for PlatformTickExecutor.
+ */
+class PlatformTickExecutorTest {
+
+    private static final int THREADS = 2;
+
+    private PlatformTickExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PlatformTickExecutor(THREADS, "test-platform-");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_ShouldQueueTicksOverThreadCount() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                completed.incrementAndGet();
+            });
+        }
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).until(() -> executor.getInFlight() == THREADS);
+        assertThat(executor.getWaiting()).isEqualTo(3);
+        release.countDown();
+        await().atMost(Duration.ofSeconds(2)).until(() -> completed.get() == 5);
+        assertThat(executor.getMaxConcurrency()).isEqualTo(THREADS);
+    }
+
+    @Test
+    void execute_WhenTickFails_ShouldKeepWorkerAvailable() {
+        // Given
+        for (int i = 0; i < THREADS; i++) {
+            executor.execute(() -> {
+                throw new IllegalStateException("provider down");
+            });
+        }
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // When
+        executor.execute(() -> ran.set(true));
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).untilTrue(ran);
+    }
+
+    @Test
+    void execute_AfterShutdown_ShouldReject() {
+        // Given
+        executor.shutdown();
+
+        // When/Then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+}
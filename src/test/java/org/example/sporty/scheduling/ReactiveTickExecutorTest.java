@@ -0,0 +1,81 @@
+package org.example.sporty.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReactiveTickExecutor.
+ */
+class ReactiveTickExecutorTest {
+
+    private final ReactiveTickExecutor executor = new ReactiveTickExecutor(2);
+
+    @Test
+    void executeAsync_ShouldQueueTicksOverCapUntilRunningOnesComplete() {
+        // Given - work that completes only when told to
+        List<Runnable> running = new ArrayList<>();
+        AtomicInteger started = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            executor.executeAsync(onDone -> {
+                started.incrementAndGet();
+                running.add(onDone);
+            });
+        }
+
+        // Then - no thread holds the queued ticks; each completion starts the next one
+        assertThat(started.get()).isEqualTo(2);
+        assertThat(executor.getInFlight()).isEqualTo(2);
+        assertThat(executor.getWaiting()).isEqualTo(3);
+        running.get(0).run();
+        running.get(0).run();
+        assertThat(started.get()).isEqualTo(3);
+        assertThat(executor.getInFlight()).isEqualTo(2);
+        // Completing a tick appends the next one started
+        for (int i = 1; i < running.size(); i++) {
+            running.get(i).run();
+        }
+        assertThat(started.get()).isEqualTo(5);
+        assertThat(executor.getInFlight()).isZero();
+        assertThat(executor.getWaiting()).isZero();
+    }
+
+    @Test
+    void executeAsync_WhenWorkCompletesInline_ShouldStartAllQueuedTicks() {
+        // Given - one running tick holding the only other slot
+        ReactiveTickExecutor single = new ReactiveTickExecutor(1);
+        List<Runnable> running = new ArrayList<>();
+        single.executeAsync(running::add);
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 10_000; i++) {
+            single.executeAsync(onDone -> {
+                completed.incrementAndGet();
+                onDone.run();
+            });
+        }
+
+        // When
+        running.get(0).run();
+
+        // Then - started one after the other, without recursing
+        assertThat(completed.get()).isEqualTo(10_000);
+        assertThat(single.getInFlight()).isZero();
+    }
+
+    @Test
+    void execute_WhenTickFails_ShouldReleaseItsSlot() {
+        // When
+        executor.execute(() -> {
+            throw new IllegalStateException("Tick failed");
+        });
+
+        // Then
+        assertThat(executor.getInFlight()).isZero();
+    }
+}
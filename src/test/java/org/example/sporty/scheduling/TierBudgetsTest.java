@@ -0,0 +1,96 @@
+package org.example.sporty.scheduling;
+
+import org.example.sporty.domain.model.PriorityTier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for TierBudgets.
+ */
+class TierBudgetsTest {
+
+    private TierBudgets budgets;
+
+    @AfterEach
+    void tearDown() {
+        if (budgets != null) {
+            budgets.shutdown();
+        }
+    }
+
+    @Test
+    void budgetFor_WithoutTier_ShouldUseStandardBudget() {
+        // Given
+        budgets = newBudgets(1, 1);
+
+        // When/Then
+        assertThat(budgets.isEnabled()).isTrue();
+        assertThat(budgets.budgetFor(null).interval()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(budgets.budgetFor(PriorityTier.PREMIUM).interval()).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void budgetFor_WhenDisabled_ShouldThrow() {
+        // Given
+        TierBudgets disabled = TierBudgets.disabled();
+
+        // When/Then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThatThrownBy(() -> disabled.budgetFor(PriorityTier.PREMIUM))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void constructor_WhenTierMissing_ShouldThrow() {
+        assertThatThrownBy(() -> new TierBudgets(Map.of(
+                PriorityTier.PREMIUM, new TierBudgets.Budget(Duration.ofSeconds(2), TickExecutor.callerRuns()))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lowTierSurge_ShouldNotDelayPremiumTicks() {
+        // Given - every low tier worker is busy and more low ticks are queued
+        budgets = newBudgets(2, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        TickExecutor low = budgets.budgetFor(PriorityTier.LOW).executor();
+        for (int i = 0; i < 50; i++) {
+            low.execute(() -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        await().atMost(Duration.ofSeconds(2)).until(() -> low.getInFlight() == 1);
+        AtomicBoolean premiumRan = new AtomicBoolean();
+
+        // When
+        budgets.budgetFor(PriorityTier.PREMIUM).executor().execute(() -> premiumRan.set(true));
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).untilTrue(premiumRan);
+        assertThat(((PlatformTickExecutor) low).getWaiting()).isEqualTo(49);
+        release.countDown();
+    }
+
+    private static TierBudgets newBudgets(int premiumThreads, int lowThreads) {
+        return new TierBudgets(Map.of(
+                PriorityTier.PREMIUM, new TierBudgets.Budget(Duration.ofSeconds(2),
+                        new PlatformTickExecutor(premiumThreads, "test-premium-")),
+                PriorityTier.STANDARD, new TierBudgets.Budget(Duration.ofSeconds(10),
+                        new PlatformTickExecutor(1, "test-standard-")),
+                PriorityTier.LOW, new TierBudgets.Budget(Duration.ofSeconds(30),
+                        new PlatformTickExecutor(lowThreads, "test-low-"))));
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.sporty.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for VirtualThreadTickExecutor.
+ */
+class VirtualThreadTickExecutorTest {
+
+    private static final int MAX_CONCURRENCY = 3;
+
+    private VirtualThreadTickExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new VirtualThreadTickExecutor(MAX_CONCURRENCY, "test-tick-");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_ShouldRunTickOnVirtualThread() {
+        // Given
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // When
+        executor.execute(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).until(() -> done.getCount() == 0);
+        assertThat(virtual.get()).isTrue();
+    }
+
+    @Test
+    void execute_ShouldNotExceedMaxConcurrency() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                completed.incrementAndGet();
+            });
+        }
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).until(() -> executor.getInFlight() == MAX_CONCURRENCY);
+        await().atMost(Duration.ofSeconds(2)).until(() -> executor.getWaiting() == 7);
+        release.countDown();
+        await().atMost(Duration.ofSeconds(2)).until(() -> completed.get() == 10);
+        assertThat(maxRunning.get()).isEqualTo(MAX_CONCURRENCY);
+        assertThat(executor.getInFlight()).isZero();
+    }
+
+    @Test
+    void execute_WhenTickFails_ShouldReleasePermit() {
+        // Given
+        for (int i = 0; i < MAX_CONCURRENCY; i++) {
+            executor.execute(() -> {
+                throw new IllegalStateException("provider down");
+            });
+        }
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // When
+        executor.execute(() -> ran.set(true));
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).untilTrue(ran);
+        await().atMost(Duration.ofSeconds(2)).until(() -> executor.getInFlight() == 0);
+    }
+
+    @Test
+    void execute_AfterShutdown_ShouldReject() {
+        // Given
+        executor.shutdown();
+
+        // When/Then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+}
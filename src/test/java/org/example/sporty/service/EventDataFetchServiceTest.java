@@ -1,22 +1,32 @@
 package org.example.sporty.service;
 
+import org.example.sporty.domain.model.PriorityTier;
 import org.example.sporty.domain.model.ScoreData;
 import org.example.sporty.integration.ExternalApiClient;
 import org.example.sporty.integration.KafkaEventPublisher;
+import org.example.sporty.integration.PublishPolicy;
+import org.example.sporty.integration.CircuitOpenException;
+import org.example.sporty.integration.RateLimitExceededException;
+import org.example.sporty.integration.ScoreChangeDetector;
+import org.example.sporty.integration.ScoreFetchBatcher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,6 +41,13 @@ class EventDataFetchServiceTest {
     @Mock
     private KafkaEventPublisher kafkaPublisher;
 
+    @Mock
+    private ScoreFetchBatcher scoreFetchBatcher;
+
+    @Spy
+    private ScoreChangeDetector scoreChangeDetector =
+            new ScoreChangeDetector(PublishPolicy.ON_CHANGE, Duration.ofSeconds(60));
+
     @InjectMocks
     private EventDataFetchService dataFetchService;
 
@@ -48,9 +65,10 @@ class EventDataFetchServiceTest {
                 .thenReturn(Mono.just(scoreData));
 
         // When
-        dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+        ScoreData result = dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
 
         // Then
+        assertThat(result).isSameAs(scoreData);
         verify(externalApiClient, times(1)).fetchEventScore(TEST_EVENT_ID);
 
         ArgumentCaptor<ScoreData> captor = ArgumentCaptor.forClass(ScoreData.class);
@@ -135,5 +153,309 @@ class EventDataFetchServiceTest {
         verify(externalApiClient, times(1)).fetchEventScore(TEST_EVENT_ID);
         verify(kafkaPublisher, times(1)).publishScoreUpdate(any());
     }
-}
 
+    @Test
+    void fetchAndPublishEventData_WhenRateLimited_ShouldSkipWithoutError() {
+        // Given
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID))
+                .thenReturn(Mono.error(new RateLimitExceededException("Provider rate limit exceeded")));
+
+        // When
+        ScoreData result = dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // Then
+        assertThat(result).isNull();
+        verify(kafkaPublisher, never()).publishScoreUpdate(any());
+    }
+
+    @Test
+    void fetchAndPublishEventData_WhenCircuitOpen_ShouldSkipWithoutError() {
+        // Given
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID))
+                .thenReturn(Mono.error(new CircuitOpenException("external-api")));
+
+        // When
+        ScoreData result = dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // Then
+        assertThat(result).isNull();
+        verify(kafkaPublisher, never()).publishScoreUpdate(any());
+    }
+
+    @Test
+    void fetchAndPublishEventDataAsync_Success_ShouldPublishWithoutBlocking() {
+        // Given
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("2:1")
+                .build();
+
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+        when(kafkaPublisher.publishScoreUpdateAsync(scoreData)).thenReturn(Mono.empty());
+
+        // When/Then
+        StepVerifier.create(dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID))
+                .assertNext(published -> {
+                    assertThat(published).isSameAs(scoreData);
+                    assertThat(published.getTimestamp()).isNotNull();
+                })
+                .verifyComplete();
+        verify(kafkaPublisher, never()).publishScoreUpdate(any());
+    }
+
+    @Test
+    void fetchAndPublishEventDataAsync_WhenApiReturnsNothing_ShouldCompleteEmpty() {
+        // Given
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID)).thenReturn(Mono.empty());
+
+        // When/Then
+        StepVerifier.create(dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID))
+                .verifyComplete();
+        verify(kafkaPublisher, never()).publishScoreUpdateAsync(any());
+    }
+
+    @Test
+    void fetchAndPublishEventDataAsync_WhenPublishFails_ShouldError() {
+        // Given
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("1:1")
+                .build();
+
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+        when(kafkaPublisher.publishScoreUpdateAsync(scoreData))
+                .thenReturn(Mono.error(new RuntimeException("Kafka error")));
+
+        // When/Then
+        StepVerifier.create(dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID))
+                .expectErrorMessage("Error processing event " + TEST_EVENT_ID)
+                .verify();
+    }
+
+    @Test
+    void fetchAndPublishEventDataAsync_WhenRateLimited_ShouldCompleteEmpty() {
+        // Given
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID))
+                .thenReturn(Mono.error(new RateLimitExceededException("Provider rate limit exceeded")));
+
+        // When/Then
+        StepVerifier.create(dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID))
+                .verifyComplete();
+    }
+
+    @Test
+    void fetchAndPublishEventDataAsync_WhenCircuitOpen_ShouldCompleteEmpty() {
+        // Given
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID))
+                .thenReturn(Mono.error(new CircuitOpenException("external-api")));
+
+        // When/Then
+        StepVerifier.create(dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID))
+                .verifyComplete();
+        verify(kafkaPublisher, never()).publishScoreUpdateAsync(any());
+    }
+
+    @Test
+    void fetchAndPublishEventData_WhenBatchingEnabled_ShouldFetchThroughBatcher() {
+        // Given
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("0:0")
+                .build();
+
+        when(scoreFetchBatcher.isEnabled()).thenReturn(true);
+        when(scoreFetchBatcher.fetch(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+
+        // When
+        ScoreData result = dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // Then
+        assertThat(result).isSameAs(scoreData);
+        verify(externalApiClient, never()).fetchEventScore(any());
+        verify(kafkaPublisher).publishScoreUpdate(scoreData);
+    }
+
+    @Test
+    void fetchAndPublishEventDataAsync_WhenBatchingEnabled_ShouldFetchThroughBatcher() {
+        // Given
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("0:0")
+                .build();
+
+        when(scoreFetchBatcher.isEnabled()).thenReturn(true);
+        when(scoreFetchBatcher.fetch(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+        when(kafkaPublisher.publishScoreUpdateAsync(scoreData)).thenReturn(Mono.empty());
+
+        // When/Then
+        StepVerifier.create(dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID))
+                .expectNext(scoreData)
+                .verifyComplete();
+        verify(externalApiClient, never()).fetchEventScore(any());
+    }
+
+    @Test
+    void fetchAndPublishEventData_UnchangedScore_ShouldNotPublishAgain() {
+        // Given
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID))
+                .thenReturn(Mono.fromCallable(() -> ScoreData.builder()
+                        .eventId(TEST_EVENT_ID)
+                        .currentScore("1:1")
+                        .build()));
+        dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // When
+        ScoreData result = dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // Then - the fetched score is still returned, for adaptive polling
+        assertThat(result.getCurrentScore()).isEqualTo("1:1");
+        verify(kafkaPublisher, times(1)).publishScoreUpdate(any());
+    }
+
+    @Test
+    void fetchAndPublishEventData_WhenPublishFails_ShouldPublishUnchangedScoreNextTime() {
+        // Given
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("1:1")
+                .build();
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+        doThrow(new RuntimeException("broker down")).doNothing().when(kafkaPublisher).publishScoreUpdate(scoreData);
+        assertThrows(RuntimeException.class, () -> dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID));
+
+        // When
+        dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // Then
+        verify(kafkaPublisher, times(2)).publishScoreUpdate(scoreData);
+    }
+
+    @Test
+    void fetchAndPublishEventData_WhenPublishingAsync_ShouldRecordPublishOnAcknowledgement() {
+        // Given - the broker has not acknowledged the first publish yet
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("1:1")
+                .build();
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+        when(kafkaPublisher.isAsync()).thenReturn(true);
+        ArgumentCaptor<Runnable> onAcknowledged = ArgumentCaptor.forClass(Runnable.class);
+        when(kafkaPublisher.publishScoreUpdateInBackground(eq(scoreData), onAcknowledged.capture()))
+                .thenReturn(true);
+        dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // When - the unchanged score is published again until then, and not after
+        dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+        onAcknowledged.getValue().run();
+        dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // Then
+        verify(kafkaPublisher, times(2)).publishScoreUpdateInBackground(eq(scoreData), any());
+        verify(kafkaPublisher, never()).publishScoreUpdate(any());
+    }
+
+    @Test
+    void fetchAndPublishEventData_WhenPublishRefused_ShouldStillReturnScore() {
+        // Given - the partition's in-flight window is full
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("1:1")
+                .build();
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+        when(kafkaPublisher.isAsync()).thenReturn(true);
+        when(kafkaPublisher.publishScoreUpdateInBackground(eq(scoreData), any())).thenReturn(false);
+
+        // When
+        ScoreData result = dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // Then
+        assertThat(result).isSameAs(scoreData);
+        verify(scoreChangeDetector, never()).recordPublished(any());
+    }
+
+    @Test
+    void fetchAndPublishEventDataAsync_UnchangedScore_ShouldEmitScoreWithoutPublishing() {
+        // Given
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("0:1")
+                .build();
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+        when(kafkaPublisher.publishScoreUpdateAsync(scoreData)).thenReturn(Mono.empty());
+        dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID).block();
+
+        // When/Then
+        StepVerifier.create(dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID))
+                .expectNext(scoreData)
+                .verifyComplete();
+        verify(kafkaPublisher, times(1)).publishScoreUpdateAsync(scoreData);
+    }
+
+    @Test
+    void fetchAndPublishEventDataAsync_Forced_ShouldPublishUnchangedScore() {
+        // Given
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("0:1")
+                .build();
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+        when(kafkaPublisher.publishScoreUpdateAsync(scoreData)).thenReturn(Mono.empty());
+        dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID).block();
+
+        // When
+        dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID, true).block();
+
+        // Then
+        verify(kafkaPublisher, times(2)).publishScoreUpdateAsync(scoreData);
+    }
+
+    @Test
+    void publishPushedScoreAsync_ShouldApplyPublishPolicyWithoutFetching() {
+        // Given
+        ScoreData pushed = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("2:2")
+                .build();
+        when(kafkaPublisher.publishScoreUpdateAsync(pushed)).thenReturn(Mono.empty());
+
+        // When
+        dataFetchService.publishPushedScoreAsync(pushed).block();
+        StepVerifier.create(dataFetchService.publishPushedScoreAsync(pushed))
+                .expectNext(pushed)
+                .verifyComplete();
+
+        // Then - the unchanged second push is not published again
+        assertThat(pushed.getTimestamp()).isNotNull();
+        verify(kafkaPublisher, times(1)).publishScoreUpdateAsync(pushed);
+        verify(externalApiClient, never()).fetchEventScore(anyString());
+    }
+
+    @Test
+    void trackEvent_ShouldPassTierToClient() {
+        // When
+        dataFetchService.trackEvent(TEST_EVENT_ID, PriorityTier.PREMIUM);
+        dataFetchService.trackEvent("event-456", PriorityTier.STANDARD);
+
+        // Then
+        verify(externalApiClient).setTier(TEST_EVENT_ID, PriorityTier.PREMIUM);
+        verify(externalApiClient).setTier("event-456", PriorityTier.STANDARD);
+    }
+
+    @Test
+    void forgetEvent_ShouldPublishUnchangedScoreAgain() {
+        // Given
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("4:4")
+                .build();
+        when(externalApiClient.fetchEventScore(TEST_EVENT_ID)).thenReturn(Mono.just(scoreData));
+        dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // When
+        dataFetchService.forgetEvent(TEST_EVENT_ID);
+        dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID);
+
+        // Then
+        verify(kafkaPublisher, times(2)).publishScoreUpdate(scoreData);
+    }
+}
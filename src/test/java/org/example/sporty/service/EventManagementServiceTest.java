@@ -1,14 +1,25 @@
 package org.example.sporty.service;
 
+import org.example.sporty.cluster.ClusterMember;
+import org.example.sporty.cluster.EventHandoff;
+import org.example.sporty.cluster.EventOwnershipService;
 import org.example.sporty.domain.model.Event;
 import org.example.sporty.domain.model.EventStatus;
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.persistence.EventRecord;
+import org.example.sporty.persistence.EventStateStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+import java.net.ConnectException;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +35,15 @@ class EventManagementServiceTest {
     @Mock
     private EventSchedulerService schedulerService;
 
+    @Mock
+    private EventOwnershipService ownershipService;
+
+    @Mock
+    private EventHandoff eventHandoff;
+
+    @Mock
+    private EventStateStore stateStore;
+
     @InjectMocks
     private EventManagementService eventManagementService;
 
@@ -31,7 +51,8 @@ class EventManagementServiceTest {
 
     @BeforeEach
     void setUp() {
-        // Clear any previous state
+        // Single node: every event is owned locally
+        lenient().when(ownershipService.isLocallyOwned(anyString())).thenReturn(true);
     }
 
     @Test
@@ -49,10 +70,202 @@ class EventManagementServiceTest {
         assertThat(result.getLastUpdated()).isNotNull();
         assertThat(result.isLive()).isTrue();
 
-        verify(schedulerService, times(1)).scheduleEvent(TEST_EVENT_ID);
+        verify(schedulerService, times(1)).scheduleEvent(TEST_EVENT_ID, null, null);
         verify(schedulerService, never()).unscheduleEvent(anyString());
     }
 
+    @Test
+    void updateEventStatus_WithSport_ShouldStoreSportAndScheduleWithIt() {
+        // When
+        Event result = eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE, "tennis");
+
+        // Then
+        assertThat(result.getSport()).isEqualTo("tennis");
+        verify(schedulerService, times(1)).scheduleEvent(TEST_EVENT_ID, "tennis", null);
+    }
+
+    @Test
+    void updateEventStatus_WithoutSport_ShouldKeepKnownSport() {
+        // Given
+        eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.NOT_LIVE, "tennis");
+
+        // When
+        Event result = eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE);
+
+        // Then
+        assertThat(result.getSport()).isEqualTo("tennis");
+        verify(schedulerService, times(1)).scheduleEvent(TEST_EVENT_ID, "tennis", null);
+    }
+
+    @Test
+    void updateEventStatus_WhenOwnedByAnotherNode_ShouldHandOffInsteadOfScheduling() {
+        // Given
+        ClusterMember owner = new ClusterMember("node-2", "http://node-2:8080");
+        when(ownershipService.isLocallyOwned(TEST_EVENT_ID)).thenReturn(false);
+        when(ownershipService.ownerOf(TEST_EVENT_ID)).thenReturn(owner);
+        when(eventHandoff.handOff(eq(owner), any(Event.class))).thenReturn(Mono.empty());
+
+        // When
+        Event result = eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE);
+
+        // Then
+        verify(schedulerService, never()).scheduleEvent(anyString(), any(), any());
+        verify(eventHandoff).handOff(owner, result);
+    }
+
+    @Test
+    void acceptHandoff_WhenOwned_ShouldScheduleLiveEvent() {
+        // Given
+        Event handedOff = Event.builder()
+                .eventId(TEST_EVENT_ID)
+                .sport("football")
+                .status(EventStatus.LIVE)
+                .build();
+
+        // When
+        eventManagementService.acceptHandoff(handedOff);
+
+        // Then
+        verify(schedulerService).scheduleEvent(TEST_EVENT_ID, "football", null);
+        assertThat(eventManagementService.getEvent(TEST_EVENT_ID)).get()
+                .extracting(Event::getStatus).isEqualTo(EventStatus.LIVE);
+    }
+
+    @Test
+    void rebalance_WhenEventMovedAway_ShouldUnscheduleAndHandOff() {
+        // Given
+        eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE);
+        ClusterMember owner = new ClusterMember("node-2", "http://node-2:8080");
+        when(schedulerService.isScheduled(TEST_EVENT_ID)).thenReturn(true);
+        when(ownershipService.isLocallyOwned(TEST_EVENT_ID)).thenReturn(false);
+        when(ownershipService.ownerOf(TEST_EVENT_ID)).thenReturn(owner);
+        when(eventHandoff.handOff(eq(owner), any(Event.class))).thenReturn(Mono.empty());
+
+        // When
+        eventManagementService.rebalance();
+
+        // Then
+        verify(schedulerService).unscheduleEvent(TEST_EVENT_ID);
+        verify(eventHandoff).handOff(eq(owner), any(Event.class));
+    }
+
+    @Test
+    void rebalance_WhenNewOwnerUnreachable_ShouldKeepPollingUntilAcknowledged() {
+        // Given - the new owner is still starting
+        eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE);
+        ClusterMember owner = new ClusterMember("node-2", "http://node-2:8080");
+        Sinks.Empty<Void> acknowledgement = Sinks.empty();
+        when(schedulerService.isScheduled(TEST_EVENT_ID)).thenReturn(true);
+        when(ownershipService.isLocallyOwned(TEST_EVENT_ID)).thenReturn(false);
+        when(ownershipService.ownerOf(TEST_EVENT_ID)).thenReturn(owner);
+        when(eventHandoff.handOff(eq(owner), any(Event.class))).thenReturn(acknowledgement.asMono());
+
+        // When
+        eventManagementService.rebalance();
+
+        // Then - polled here until the owner has it
+        verify(schedulerService, never()).unscheduleEvent(TEST_EVENT_ID);
+        acknowledgement.tryEmitEmpty();
+        verify(schedulerService).unscheduleEvent(TEST_EVENT_ID);
+    }
+
+    @Test
+    void rebalance_WhenHandoffFails_ShouldKeepPolling() {
+        // Given
+        eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE);
+        ClusterMember owner = new ClusterMember("node-2", "http://node-2:8080");
+        lenient().when(schedulerService.isScheduled(TEST_EVENT_ID)).thenReturn(true);
+        when(ownershipService.isLocallyOwned(TEST_EVENT_ID)).thenReturn(false);
+        when(ownershipService.ownerOf(TEST_EVENT_ID)).thenReturn(owner);
+        when(eventHandoff.handOff(eq(owner), any(Event.class)))
+                .thenReturn(Mono.error(new ConnectException("Connection refused")));
+
+        // When
+        eventManagementService.rebalance();
+
+        // Then
+        verify(schedulerService, never()).unscheduleEvent(TEST_EVENT_ID);
+    }
+
+    @Test
+    void updateEventStatus_WhenOwned_ShouldBackEventUp() {
+        // Given
+        ClusterMember backup = new ClusterMember("node-2", "http://node-2:8080");
+        when(ownershipService.backupOf(TEST_EVENT_ID)).thenReturn(backup);
+        when(eventHandoff.handOff(eq(backup), any(Event.class))).thenReturn(Mono.empty());
+
+        // When
+        Event result = eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE);
+
+        // Then
+        verify(schedulerService).scheduleEvent(TEST_EVENT_ID, null, null);
+        verify(eventHandoff).handOff(backup, result);
+    }
+
+    @Test
+    void updateEventStatus_ShouldPersistEventWithPhase() {
+        // Given
+        when(schedulerService.getPhaseOffset(TEST_EVENT_ID)).thenReturn(4_500L);
+
+        // When
+        eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE, "football");
+
+        // Then
+        verify(stateStore).save(argThat(record -> record.eventId().equals(TEST_EVENT_ID)
+                && record.isLive()
+                && "football".equals(record.sport())
+                && record.phaseOffsetMillis() == 4_500L));
+    }
+
+    @Test
+    void restore_ShouldRearmLiveEventsWithTheirPhase() {
+        // Given
+        List<EventRecord> records = List.of(
+                new EventRecord("event-1", EventStatus.LIVE, "tennis", PriorityTier.PREMIUM, Instant.now(), 2_500L),
+                new EventRecord("event-2", EventStatus.NOT_LIVE, null, null, Instant.now(), EventRecord.NO_PHASE),
+                new EventRecord("event-3", EventStatus.LIVE, null, null, Instant.now(), EventRecord.NO_PHASE));
+
+        // When
+        int rearmed = eventManagementService.restore(records);
+
+        // Then
+        assertThat(rearmed).isEqualTo(2);
+        assertThat(eventManagementService.getAllEvents()).hasSize(3);
+        verify(schedulerService).restoreEvent("event-1", "tennis", PriorityTier.PREMIUM, 2_500L);
+        verify(schedulerService).scheduleEvent("event-3", null, null);
+        verify(schedulerService, never()).restoreEvent(eq("event-2"), any(), any(), anyLong());
+        verify(stateStore, never()).save(any());
+    }
+
+    @Test
+    void updateEventStatus_WhenLiveEventChangesTier_ShouldRescheduleInNewTier() {
+        // Given
+        eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE, null, PriorityTier.LOW);
+
+        // When
+        Event event = eventManagementService.updateEventStatus(
+                TEST_EVENT_ID, EventStatus.LIVE, null, PriorityTier.PREMIUM);
+
+        // Then
+        assertThat(event.getPriority()).isEqualTo(PriorityTier.PREMIUM);
+        verify(schedulerService).scheduleEvent(TEST_EVENT_ID, null, PriorityTier.LOW);
+        verify(schedulerService).scheduleEvent(TEST_EVENT_ID, null, PriorityTier.PREMIUM);
+    }
+
+    @Test
+    void updateEventStatus_WhenLiveEventKeepsTier_ShouldNotReschedule() {
+        // Given
+        eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE, null, PriorityTier.PREMIUM);
+
+        // When
+        eventManagementService.updateEventStatus(TEST_EVENT_ID, EventStatus.LIVE);
+
+        // Then
+        assertThat(eventManagementService.getEvent(TEST_EVENT_ID).orElseThrow().getPriority())
+                .isEqualTo(PriorityTier.PREMIUM);
+        verify(schedulerService, times(1)).scheduleEvent(TEST_EVENT_ID, null, PriorityTier.PREMIUM);
+    }
+
     @Test
     void updateEventStatus_WhenEventSetToNotLive_ShouldUnscheduleEvent() {
         // Given - First set to live
@@ -67,7 +280,7 @@ class EventManagementServiceTest {
         assertThat(result.isLive()).isFalse();
 
         verify(schedulerService, times(1)).unscheduleEvent(TEST_EVENT_ID);
-        verify(schedulerService, never()).scheduleEvent(anyString());
+        verify(schedulerService, never()).scheduleEvent(anyString(), any(), any());
     }
 
     @Test
@@ -83,7 +296,7 @@ class EventManagementServiceTest {
         assertThat(result.getStatus()).isEqualTo(EventStatus.LIVE);
 
         // Should not trigger any scheduling changes
-        verify(schedulerService, never()).scheduleEvent(anyString());
+        verify(schedulerService, never()).scheduleEvent(anyString(), any(), any());
         verify(schedulerService, never()).unscheduleEvent(anyString());
     }
 
@@ -136,7 +349,7 @@ class EventManagementServiceTest {
 
         // Then
         assertThat(result.getStatus()).isEqualTo(EventStatus.LIVE);
-        verify(schedulerService, times(1)).scheduleEvent(TEST_EVENT_ID);
+        verify(schedulerService, times(1)).scheduleEvent(TEST_EVENT_ID, null, null);
     }
 }
 
@@ -1,15 +1,37 @@
 package org.example.sporty.service;
 
+import org.example.sporty.domain.model.PriorityTier;
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.scheduling.AdaptiveIntervalPolicy;
+import org.example.sporty.scheduling.ExecutionMode;
+import org.example.sporty.scheduling.AdaptiveTrigger;
+import org.example.sporty.scheduling.EventTickGuard;
+import org.example.sporty.scheduling.PhaseAssigner;
+import org.example.sporty.scheduling.PhaseStrategy;
+import org.example.sporty.scheduling.TickExecutor;
+import org.example.sporty.scheduling.TickListener;
+import org.example.sporty.scheduling.TierBudgets;
+import org.example.sporty.scheduling.VirtualThreadTickExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -32,6 +54,24 @@ class EventSchedulerServiceTest {
     @Mock
     private ScheduledFuture<?> scheduledFuture;
 
+    @Mock
+    private TickExecutor tickExecutor;
+
+    @Mock
+    private PhaseAssigner phaseAssigner;
+
+    @Mock
+    private AdaptiveIntervalPolicy adaptivePolicy;
+
+    @Mock
+    private TickListener tickListener;
+
+    @Mock
+    private TierBudgets tierBudgets;
+
+    @Mock
+    private ScoreStream scoreStream;
+
     @InjectMocks
     private EventSchedulerService schedulerService;
 
@@ -59,6 +99,225 @@ class EventSchedulerServiceTest {
         assertThat(schedulerService.isScheduled(TEST_EVENT_ID)).isTrue();
     }
 
+    @Test
+    void scheduleEvent_WithPhasing_ShouldScheduleAtAssignedFirstFire() {
+        // Given
+        Instant firstFire = Instant.now().plusSeconds(3);
+        when(phaseAssigner.isEnabled()).thenReturn(true);
+        when(phaseAssigner.assign(eq(TEST_EVENT_ID), eq(Duration.ofSeconds(10)), any(Instant.class)))
+                .thenReturn(firstFire);
+        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class)))
+                .thenAnswer(invocation -> scheduledFuture);
+
+        // When
+        schedulerService.scheduleEvent(TEST_EVENT_ID);
+
+        // Then
+        verify(taskScheduler).scheduleAtFixedRate(any(Runnable.class), eq(firstFire), eq(Duration.ofSeconds(10)));
+        verify(taskScheduler, never()).scheduleAtFixedRate(any(Runnable.class), any(Duration.class));
+        assertThat(schedulerService.isScheduled(TEST_EVENT_ID)).isTrue();
+    }
+
+    @Test
+    void scheduleEvent_WithAdaptivePolicy_ShouldScheduleWithAdaptiveTrigger() {
+        // Given
+        AdaptiveIntervalPolicy.Bounds bounds =
+                new AdaptiveIntervalPolicy.Bounds(Duration.ofSeconds(5), Duration.ofSeconds(30));
+        when(adaptivePolicy.isEnabled()).thenReturn(true);
+        when(adaptivePolicy.boundsFor(TEST_EVENT_ID, "tennis")).thenReturn(bounds);
+        when(taskScheduler.schedule(any(Runnable.class), any(AdaptiveTrigger.class)))
+                .thenAnswer(invocation -> scheduledFuture);
+
+        // When
+        schedulerService.scheduleEvent(TEST_EVENT_ID, "tennis");
+
+        // Then
+        verify(taskScheduler).schedule(any(Runnable.class), any(AdaptiveTrigger.class));
+        verify(taskScheduler, never()).scheduleAtFixedRate(any(Runnable.class), any(Duration.class));
+        assertThat(schedulerService.getCurrentInterval(TEST_EVENT_ID)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void getTickStatistics_ShouldTrackScheduledEventsOnly() {
+        // Given
+        schedulerService.scheduleEvent(TEST_EVENT_ID);
+
+        // When/Then
+        assertThat(schedulerService.getTickStatistics(TEST_EVENT_ID)).isPresent();
+        assertThat(schedulerService.getAllTickStatistics()).containsOnlyKeys(TEST_EVENT_ID);
+        assertThat(schedulerService.getRunningTickCount()).isZero();
+
+        schedulerService.unscheduleEvent(TEST_EVENT_ID);
+        assertThat(schedulerService.getTickStatistics(TEST_EVENT_ID)).isEmpty();
+    }
+
+    @Test
+    void scheduleEvent_ShouldTrackEventInScoreStreamUntilUnscheduled() {
+        // When
+        schedulerService.scheduleEvent(TEST_EVENT_ID);
+        schedulerService.unscheduleEvent(TEST_EVENT_ID);
+
+        // Then
+        InOrder inOrder = inOrder(scoreStream);
+        inOrder.verify(scoreStream).track(TEST_EVENT_ID);
+        inOrder.verify(scoreStream).untrack(TEST_EVENT_ID);
+    }
+
+    @Test
+    void scheduledTask_WhenScoreStreamCoversEvent_ShouldSkipFetchUntilStreamIsDown() {
+        // Given
+        ArgumentCaptor<Runnable> tick = ArgumentCaptor.forClass(Runnable.class);
+        EventSchedulerService streamingService = new EventSchedulerService(
+                dataFetchService,
+                taskScheduler,
+                TickExecutor.callerRuns(),
+                new PhaseAssigner(PhaseStrategy.NONE, 1),
+                AdaptiveIntervalPolicy.disabled(Duration.ofSeconds(10)),
+                TickListener.noop(),
+                TierBudgets.disabled(),
+                scoreStream
+        );
+        streamingService.scheduleEvent(TEST_EVENT_ID);
+        verify(taskScheduler).scheduleAtFixedRate(tick.capture(), any(Duration.class));
+        when(scoreStream.covers(TEST_EVENT_ID)).thenReturn(true, false);
+
+        // When - one tick while the stream delivers, one after it went down
+        tick.getValue().run();
+        verify(dataFetchService, never()).fetchAndPublishEventData(TEST_EVENT_ID);
+        tick.getValue().run();
+
+        // Then
+        verify(dataFetchService, times(1)).fetchAndPublishEventData(TEST_EVENT_ID);
+    }
+
+    @Test
+    void scheduledTask_WhenTickOverruns_ShouldSkipOverlappingTicks() throws InterruptedException {
+        // Given - a fetch that outlasts several periods of the scheduler
+        CountDownLatch release = new CountDownLatch(1);
+        when(dataFetchService.fetchAndPublishEventData(TEST_EVENT_ID)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        ArgumentCaptor<Runnable> tick = ArgumentCaptor.forClass(Runnable.class);
+        VirtualThreadTickExecutor virtualExecutor = new VirtualThreadTickExecutor(10, "test-tick-");
+        EventSchedulerService guardedService = new EventSchedulerService(
+                dataFetchService,
+                taskScheduler,
+                virtualExecutor,
+                new PhaseAssigner(PhaseStrategy.NONE, 1),
+                AdaptiveIntervalPolicy.disabled(Duration.ofSeconds(10)),
+                TickListener.noop(),
+                TierBudgets.disabled(),
+                ScoreStream.none()
+        );
+        guardedService.scheduleEvent(TEST_EVENT_ID);
+        verify(taskScheduler).scheduleAtFixedRate(tick.capture(), any(Duration.class));
+
+        // When - the backend fires three times while the first fetch is still running
+        tick.getValue().run();
+        await().atMost(Duration.ofSeconds(2)).until(() -> guardedService.getRunningTickCount() == 1);
+        tick.getValue().run();
+        tick.getValue().run();
+        release.countDown();
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).until(() -> guardedService.getRunningTickCount() == 0);
+        verify(dataFetchService, times(1)).fetchAndPublishEventData(TEST_EVENT_ID);
+        assertThat(guardedService.getTickStatistics(TEST_EVENT_ID).orElseThrow().skippedOverrun()).isEqualTo(2);
+        virtualExecutor.shutdown();
+    }
+
+    @Test
+    void scheduledTask_InReactiveMode_ShouldOnlySubscribeAndHoldGuardUntilPipelineCompletes() {
+        // Given
+        Sinks.One<ScoreData> pipeline = Sinks.one();
+        when(dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID)).thenReturn(pipeline.asMono());
+        ArgumentCaptor<Runnable> tick = ArgumentCaptor.forClass(Runnable.class);
+        EventSchedulerService reactiveService = new EventSchedulerService(
+                dataFetchService,
+                taskScheduler,
+                TickExecutor.callerRuns(),
+                new PhaseAssigner(PhaseStrategy.NONE, 1),
+                AdaptiveIntervalPolicy.disabled(Duration.ofSeconds(10)),
+                TickListener.noop(),
+                TierBudgets.disabled(),
+                ScoreStream.none()
+        );
+        ReflectionTestUtils.setField(reactiveService, "executionMode", ExecutionMode.REACTIVE);
+        reactiveService.scheduleEvent(TEST_EVENT_ID);
+        verify(taskScheduler).scheduleAtFixedRate(tick.capture(), any(Duration.class));
+
+        // When - the tick returns at once while the pipeline is still pending
+        tick.getValue().run();
+        tick.getValue().run();
+
+        // Then
+        assertThat(reactiveService.getRunningTickCount()).isEqualTo(1);
+        assertThat(reactiveService.getTickStatistics(TEST_EVENT_ID).orElseThrow().skippedOverrun()).isEqualTo(1);
+        verify(dataFetchService, never()).fetchAndPublishEventData(anyString());
+
+        pipeline.tryEmitValue(ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("1:0").build());
+        assertThat(reactiveService.getRunningTickCount()).isZero();
+        verify(dataFetchService, times(1)).fetchAndPublishEventDataAsync(TEST_EVENT_ID);
+    }
+
+    @Test
+    void restoreEvent_ShouldScheduleAtNextInstantWithSamePhase() {
+        // Given
+        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class)))
+                .thenAnswer(invocation -> scheduledFuture);
+        ArgumentCaptor<Instant> firstFire = ArgumentCaptor.forClass(Instant.class);
+        Instant before = Instant.now();
+
+        // When
+        schedulerService.restoreEvent(TEST_EVENT_ID, null, null, 7_250L);
+
+        // Then
+        verify(taskScheduler).scheduleAtFixedRate(any(Runnable.class), firstFire.capture(), eq(Duration.ofSeconds(10)));
+        assertThat(firstFire.getValue().toEpochMilli() % 10_000).isEqualTo(7_250L);
+        assertThat(firstFire.getValue()).isAfter(before).isBefore(before.plusSeconds(10).plusMillis(1));
+        assertThat(schedulerService.getPhaseOffset(TEST_EVENT_ID)).isEqualTo(7_250L);
+        verify(phaseAssigner).occupy(TEST_EVENT_ID, firstFire.getValue(), Duration.ofSeconds(10));
+    }
+
+    @Test
+    void getPhaseOffset_WhenNotScheduled_ShouldReturnMinusOne() {
+        assertThat(schedulerService.getPhaseOffset("unknown")).isEqualTo(-1L);
+    }
+
+    @Test
+    void unscheduleEvent_ShouldReleasePhaseSlot() {
+        // Given
+        schedulerService.scheduleEvent(TEST_EVENT_ID);
+
+        // When
+        schedulerService.unscheduleEvent(TEST_EVENT_ID);
+
+        // Then
+        verify(phaseAssigner, atLeastOnce()).release(TEST_EVENT_ID);
+    }
+
+    @Test
+    void scheduleEvent_ShouldRegisterEventTierWithFetchService() {
+        // When
+        schedulerService.scheduleEvent(TEST_EVENT_ID, null, PriorityTier.PREMIUM);
+
+        // Then
+        verify(dataFetchService).trackEvent(TEST_EVENT_ID, PriorityTier.PREMIUM);
+    }
+
+    @Test
+    void unscheduleEvent_ShouldForgetLastPublishedScore() {
+        // Given
+        schedulerService.scheduleEvent(TEST_EVENT_ID);
+
+        // When
+        schedulerService.unscheduleEvent(TEST_EVENT_ID);
+
+        // Then
+        verify(dataFetchService, atLeastOnce()).forgetEvent(TEST_EVENT_ID);
+    }
+
     @Test
     void scheduleEvent_WhenAlreadyScheduled_ShouldCancelPreviousTask() {
         // Given
@@ -128,11 +387,54 @@ class EventSchedulerServiceTest {
         assertThat(schedulerService.getScheduledEventCount()).isEqualTo(3);
     }
 
+    @Test
+    void scheduleEvent_WithTier_ShouldUseTierIntervalAndExecutor() {
+        // Given
+        TickExecutor premiumExecutor = mock(TickExecutor.class);
+        TickExecutor lowExecutor = mock(TickExecutor.class);
+        TierBudgets budgets = new TierBudgets(Map.of(
+                PriorityTier.PREMIUM, new TierBudgets.Budget(Duration.ofSeconds(2), premiumExecutor),
+                PriorityTier.STANDARD, new TierBudgets.Budget(Duration.ofSeconds(10), tickExecutor),
+                PriorityTier.LOW, new TierBudgets.Budget(Duration.ofSeconds(30), lowExecutor)));
+        EventSchedulerService tieredService = new EventSchedulerService(
+                dataFetchService,
+                taskScheduler,
+                TickExecutor.callerRuns(),
+                new PhaseAssigner(PhaseStrategy.NONE, 1),
+                AdaptiveIntervalPolicy.disabled(Duration.ofSeconds(10)),
+                TickListener.noop(),
+                budgets,
+                ScoreStream.none()
+        );
+        ArgumentCaptor<Runnable> tick = ArgumentCaptor.forClass(Runnable.class);
+
+        // When
+        tieredService.scheduleEvent(TEST_EVENT_ID, null, PriorityTier.PREMIUM);
+        tieredService.scheduleEvent("low-event", null, PriorityTier.LOW);
+        tieredService.scheduleEvent("default-event", null, null);
+
+        // Then
+        verify(taskScheduler).scheduleAtFixedRate(tick.capture(), eq(Duration.ofSeconds(2)));
+        verify(taskScheduler).scheduleAtFixedRate(any(Runnable.class), eq(Duration.ofSeconds(30)));
+        verify(taskScheduler).scheduleAtFixedRate(any(Runnable.class), eq(Duration.ofSeconds(10)));
+        assertThat(tieredService.getCurrentInterval(TEST_EVENT_ID)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(tieredService.getTier("default-event")).contains(PriorityTier.STANDARD);
+        assertThat(tieredService.getScheduledCountByTier())
+                .containsEntry(PriorityTier.PREMIUM, 1)
+                .containsEntry(PriorityTier.STANDARD, 1)
+                .containsEntry(PriorityTier.LOW, 1);
+
+        tick.getValue().run();
+        verify(premiumExecutor).executeAsync(any(EventTickGuard.AsyncWork.class));
+        verifyNoInteractions(lowExecutor);
+    }
+
     @Test
     void scheduledTask_WhenExecuted_ShouldCallDataFetchService() {
         // This test verifies the actual task execution would work
         // In a real scheduler, we would use integration tests
-        doNothing().when(dataFetchService).fetchAndPublishEventData(anyString());
+        when(dataFetchService.fetchAndPublishEventData(anyString()))
+                .thenReturn(ScoreData.builder().eventId(TEST_EVENT_ID).currentScore("0:0").build());
 
         // Create a real scheduler for this test
         ThreadPoolTaskScheduler realScheduler = new ThreadPoolTaskScheduler();
@@ -142,7 +444,13 @@ class EventSchedulerServiceTest {
 
         EventSchedulerService realSchedulerService = new EventSchedulerService(
                 dataFetchService,
-                realScheduler
+                realScheduler,
+                TickExecutor.callerRuns(),
+                new PhaseAssigner(PhaseStrategy.NONE, 1),
+                AdaptiveIntervalPolicy.disabled(Duration.ofSeconds(10)),
+                TickListener.noop(),
+                TierBudgets.disabled(),
+                ScoreStream.none()
         );
 
         // When
@@ -157,5 +465,61 @@ class EventSchedulerServiceTest {
         realSchedulerService.unscheduleEvent(TEST_EVENT_ID);
         realScheduler.shutdown();
     }
-}
 
+    @Test
+    void scheduledTask_InVirtualMode_ShouldRunFetchOnVirtualThread() {
+        // Given
+        AtomicBoolean ranOnVirtualThread = new AtomicBoolean();
+        doAnswer(invocation -> {
+            ranOnVirtualThread.set(Thread.currentThread().isVirtual());
+            return null;
+        }).when(dataFetchService).fetchAndPublishEventData(TEST_EVENT_ID);
+
+        ThreadPoolTaskScheduler realScheduler = new ThreadPoolTaskScheduler();
+        realScheduler.setPoolSize(1);
+        realScheduler.setThreadNamePrefix("test-");
+        realScheduler.initialize();
+        VirtualThreadTickExecutor virtualExecutor = new VirtualThreadTickExecutor(10, "test-tick-");
+
+        EventSchedulerService virtualSchedulerService = new EventSchedulerService(
+                dataFetchService,
+                realScheduler,
+                virtualExecutor,
+                new PhaseAssigner(PhaseStrategy.NONE, 1),
+                AdaptiveIntervalPolicy.disabled(Duration.ofSeconds(10)),
+                TickListener.noop(),
+                TierBudgets.disabled(),
+                ScoreStream.none()
+        );
+
+        // When
+        virtualSchedulerService.scheduleEvent(TEST_EVENT_ID);
+
+        // Then
+        await().atMost(Duration.ofSeconds(12))
+                .untilAsserted(() -> assertThat(ranOnVirtualThread).isTrue());
+
+        // Cleanup
+        virtualSchedulerService.unscheduleEvent(TEST_EVENT_ID);
+        realScheduler.shutdown();
+        virtualExecutor.shutdown();
+    }
+
+    @Test
+    void refreshEvent_ShouldForcePublishWithoutScheduling() {
+        // Given
+        ScoreData scoreData = ScoreData.builder()
+                .eventId(TEST_EVENT_ID)
+                .currentScore("1:1")
+                .build();
+        when(dataFetchService.fetchAndPublishEventDataAsync(TEST_EVENT_ID, true)).thenReturn(Mono.just(scoreData));
+
+        // When
+        ScoreData result = schedulerService.refreshEvent(TEST_EVENT_ID).block();
+
+        // Then
+        assertThat(result).isSameAs(scoreData);
+        verifyNoInteractions(taskScheduler);
+        assertThat(schedulerService.isScheduled(TEST_EVENT_ID)).isFalse();
+    }
+}
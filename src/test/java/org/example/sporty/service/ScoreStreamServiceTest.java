@@ -0,0 +1,134 @@
+package org.example.sporty.service;
+
+import org.example.sporty.domain.model.ScoreData;
+import org.example.sporty.integration.ScoreStreamClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScoreStreamService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ScoreStreamServiceTest {
+
+    private static final String TEST_EVENT_ID = "event-123";
+
+    @Mock
+    private ScoreStreamClient streamClient;
+
+    @Mock
+    private EventDataFetchService dataFetchService;
+
+    private ScoreStreamService streamService;
+
+    @AfterEach
+    void tearDown() {
+        if (streamService != null) {
+            streamService.shutdown();
+        }
+    }
+
+    @Test
+    void track_ShouldOpenStreamAndPublishPushedScores() {
+        // Given
+        Sinks.Many<ServerSentEvent<ScoreData>> stream = Sinks.many().unicast().onBackpressureBuffer();
+        when(streamClient.stream(Set.of(TEST_EVENT_ID), null)).thenReturn(stream.asFlux());
+        when(dataFetchService.publishPushedScoreAsync(any())).thenAnswer(invocation ->
+                Mono.just(invocation.getArgument(0)));
+        streamService = streamService(true);
+
+        // When
+        streamService.track(TEST_EVENT_ID);
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                verify(streamClient).stream(Set.of(TEST_EVENT_ID), null));
+        stream.tryEmitNext(score("1", TEST_EVENT_ID, "1:0"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(dataFetchService)
+                .publishPushedScoreAsync(argThat(scoreData -> "1:0".equals(scoreData.getCurrentScore()))));
+        assertThat(streamService.covers(TEST_EVENT_ID)).isTrue();
+        assertThat(streamService.covers("event-456")).isFalse();
+    }
+
+    @Test
+    void stream_WhenBroken_ShouldStopCoveringAndResumeFromLastEventId() {
+        // Given - the first connection delivers one score and fails
+        when(streamClient.stream(Set.of(TEST_EVENT_ID), null)).thenReturn(
+                Flux.just(score("7", TEST_EVENT_ID, "2:1")).concatWith(Flux.error(new IOException("reset"))));
+        when(streamClient.stream(Set.of(TEST_EVENT_ID), "7")).thenReturn(Flux.never());
+        when(dataFetchService.publishPushedScoreAsync(any())).thenAnswer(invocation ->
+                Mono.just(invocation.getArgument(0)));
+        streamService = streamService(true);
+
+        // When
+        streamService.track(TEST_EVENT_ID);
+
+        // Then - reconnected, and polled until the new stream delivers
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                verify(streamClient).stream(Set.of(TEST_EVENT_ID), "7"));
+        assertThat(streamService.covers(TEST_EVENT_ID)).isFalse();
+    }
+
+    @Test
+    void stream_ShouldIgnoreScoresOfUntrackedEvents() {
+        // Given
+        when(streamClient.stream(Set.of(TEST_EVENT_ID), null)).thenReturn(Flux.concat(
+                Flux.just(score("1", "event-456", "0:0"), score("2", TEST_EVENT_ID, "3:0")),
+                Flux.never()));
+        when(dataFetchService.publishPushedScoreAsync(any())).thenAnswer(invocation ->
+                Mono.just(invocation.getArgument(0)));
+        streamService = streamService(true);
+
+        // When
+        streamService.track(TEST_EVENT_ID);
+
+        // Then
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(dataFetchService)
+                .publishPushedScoreAsync(argThat(scoreData -> TEST_EVENT_ID.equals(scoreData.getEventId()))));
+        verify(dataFetchService, never())
+                .publishPushedScoreAsync(argThat(scoreData -> "event-456".equals(scoreData.getEventId())));
+    }
+
+    @Test
+    void track_WhenDisabled_ShouldNotOpenStream() throws InterruptedException {
+        // Given
+        streamService = streamService(false);
+
+        // When
+        streamService.track(TEST_EVENT_ID);
+        Thread.sleep(100);
+
+        // Then
+        verifyNoInteractions(streamClient);
+        assertThat(streamService.covers(TEST_EVENT_ID)).isFalse();
+    }
+
+    private ScoreStreamService streamService(boolean enabled) {
+        return new ScoreStreamService(streamClient, dataFetchService, enabled,
+                Duration.ofMillis(10), Duration.ofSeconds(5), Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    private static ServerSentEvent<ScoreData> score(String id, String eventId, String score) {
+        return ServerSentEvent.<ScoreData>builder()
+                .id(id)
+                .event("score")
+                .data(ScoreData.builder().eventId(eventId).currentScore(score).build())
+                .build();
+    }
+}